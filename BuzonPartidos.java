@@ -0,0 +1,346 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buzón de salida de los partidos de un campeonato: un fichero al que el campeonato añade
+ * cada partido al final y del que cada medio lee a su ritmo, desde su propia posición
+ * (ConsumidorBuzon). Un medio lento, o uno que se para y vuelve a arrancar, no pierde
+ * partidos ni retrasa al campeonato: al volver lee los que le faltan a la velocidad del
+ * disco.
+ *
+ * El fichero se escribe y se lee proyectado en memoria, en regiones de tamaño fijo. Tras
+ * una cabecera, cada partido es un registro con su longitud, la ronda, el ranking y los
+ * puntos de los dos tenistas y sus nombres. Un registro no cruza el final de una región:
+ * si no cabe, se marca un salto y se escribe al principio de la siguiente. La longitud se
+ * escribe la última, y una longitud 0 marca el final de los partidos, así que si el
+ * programa se interrumpe el buzón termina en el último partido completo. Al abrir un
+ * buzón que ya existe se busca ese final y se sigue escribiendo a continuación.
+ *
+ * La posición de un partido es su desplazamiento en el fichero. Solo un hilo escribe a la
+ * vez; los lectores de la misma máquina ven los partidos escritos hasta getFin. Lo escrito
+ * sobrevive a la caída del programa; para que sobreviva a la del sistema hay que llamar a
+ * forzar o a cerrar.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class BuzonPartidos
+{
+    static final int MAGICO = 0x544E4255;
+    static final short VERSION = 1;
+    /** Posición del primer partido */
+    public static final long INICIO = 16;
+    /** Tamaño de las regiones de un buzón nuevo */
+    public static final int TAMAÑO_REGION = 16 * 1024 * 1024;
+
+    /** Longitud que indica que el siguiente partido está al principio de la región siguiente */
+    private static final int SALTO = -1;
+    /** Longitud de un registro sin los nombres: ronda, rankings, puntos y longitud de los nombres */
+    private static final int LONGITUD_FIJA = 4 + 4 + 4 + 8 + 8 + 2 + 2;
+
+    private final Path fichero;
+    private final Campeonato campeonato;
+    private final FileChannel canal;
+    private final int tamañoRegion;
+    private MappedByteBuffer region;
+    private long inicioRegion;
+    private volatile long fin;
+    private volatile boolean cerrado;
+
+    /**
+     * Lector de los partidos de un buzón desde una posición. Cada lector proyecta sus
+     * propias regiones, así que varios lectores pueden leer a la vez que se escribe
+     */
+    public final class Lector
+    {
+        private long posicion;
+        private long inicioLeida;
+        private ByteBuffer leida;
+
+        private Lector(long posicion)
+        {
+            this.posicion = posicion;
+            this.inicioLeida = -1;
+        }
+
+        /**
+         * Lee el siguiente partido escrito en el buzón
+         * @return el partido, o null si el lector ya ha leído todos los escritos
+         * @throws IOException si no se puede leer el fichero o el registro está dañado
+         */
+        public EventoPartido siguiente() throws IOException
+        {
+            return siguiente(fin);
+        }
+
+        /**
+         * Devuelve la posición del siguiente partido que leerá el lector
+         * @return la posición en el fichero
+         */
+        public long getPosicion()
+        {
+            return posicion;
+        }
+
+        private EventoPartido siguiente(long limite) throws IOException
+        {
+            while (posicion < limite){
+                long inicio = posicion - posicion % tamañoRegion;
+                if (inicio != inicioLeida){
+                    leida = canal.map(FileChannel.MapMode.READ_ONLY, inicio, Math.min(tamañoRegion, canal.size() - inicio));
+                    inicioLeida = inicio;
+                }
+                int desplazamiento = (int) (posicion - inicio);
+                if (leida.capacity() - desplazamiento < 4){
+                    posicion = inicio + tamañoRegion;
+                    continue;
+                }
+                int longitud = leida.getInt(desplazamiento);
+                if (longitud == SALTO){
+                    posicion = inicio + tamañoRegion;
+                    continue;
+                }
+                if (longitud == 0){
+                    return null;
+                }
+                if (longitud < LONGITUD_FIJA || longitud > leida.capacity() - desplazamiento - 4){
+                    throw new IOException("Buzón dañado en la posición " + posicion + ": " + fichero);
+                }
+                EventoPartido evento = leer(leida, desplazamiento + 4, longitud);
+                posicion += 4 + longitud;
+                return evento;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Constructor de la clase BuzonPartidos. Abre el buzón de un fichero, o lo crea si no
+     * existe, y se coloca después del último partido completo
+     * @param fichero el fichero del buzón
+     * @param campeonato el campeonato de los partidos que se leen del buzón, o null
+     * @throws IOException si no se puede abrir el fichero o no es un buzón válido
+     */
+    public BuzonPartidos(Path fichero, Campeonato campeonato) throws IOException
+    {
+        this(fichero, campeonato, TAMAÑO_REGION);
+    }
+
+    /**
+     * Constructor de la clase BuzonPartidos con el tamaño de las regiones, que solo se usa
+     * si el buzón es nuevo
+     */
+    BuzonPartidos(Path fichero, Campeonato campeonato, int tamañoRegion) throws IOException
+    {
+        this.fichero = fichero;
+        this.campeonato = campeonato;
+        this.canal = FileChannel.open(fichero, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                      StandardOpenOption.WRITE);
+        try{
+            if (canal.size() == 0){
+                this.tamañoRegion = tamañoRegion;
+                mapearRegion(0);
+                region.putInt(MAGICO);
+                region.putShort(VERSION);
+                region.putShort((short) 0);
+                region.putInt(tamañoRegion);
+                fin = INICIO;
+            }
+            else{
+                ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(INICIO, canal.size()));
+                if (cabecera.capacity() < INICIO || cabecera.getInt() != MAGICO || cabecera.getShort() != VERSION){
+                    throw new IOException("El fichero no es un buzón de partidos: " + fichero);
+                }
+                cabecera.getShort();
+                this.tamañoRegion = cabecera.getInt();
+                if (this.tamañoRegion < INICIO){
+                    throw new IOException("El fichero no es un buzón de partidos: " + fichero);
+                }
+                Lector lector = new Lector(INICIO);
+                while (lector.siguiente(canal.size()) != null){
+                    // Se busca el final de los partidos
+                }
+                fin = lector.getPosicion();
+                mapearRegion(fin - fin % this.tamañoRegion);
+            }
+        }
+        catch(IOException | RuntimeException e){
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Añade un partido al final del buzón. Si el fichero no se puede ampliar, se avisa por
+     * la salida de error y el partido se pierde
+     * @param ganador el tenista ganador
+     * @param perdedor el tenista perdedor
+     * @param ronda la ronda del partido
+     * @throws IllegalStateException si el buzón está cerrado
+     * @throws IllegalArgumentException si los nombres no caben en una región
+     */
+    public synchronized void publicar(Tenista ganador, Tenista perdedor, int ronda)
+    {
+        if (cerrado){
+            throw new IllegalStateException("El buzón está cerrado: " + fichero);
+        }
+        String nombreGanador = ganador.getNombre();
+        String nombrePerdedor = perdedor.getNombre();
+        int longitud = LONGITUD_FIJA + 2 * (nombreGanador.length() + nombrePerdedor.length());
+        if (INICIO + 4 + longitud > tamañoRegion || nombreGanador.length() > Short.MAX_VALUE
+            || nombrePerdedor.length() > Short.MAX_VALUE){
+            throw new IllegalArgumentException("Los nombres del partido no caben en el buzón: " + nombreGanador + ", "
+                                               + nombrePerdedor);
+        }
+        int d = (int) (fin - inicioRegion);
+        if (d + 4 + longitud > tamañoRegion){
+            try{
+                mapearRegion(inicioRegion + tamañoRegion);
+            }
+            catch(IOException e){
+                System.err.println("Error al ampliar el buzón " + fichero + ": " + e);
+                return;
+            }
+            d = 0;
+        }
+        int p = d + 4;
+        region.putInt(p, ronda);
+        region.putInt(p + 4, ganador.getRanking());
+        region.putInt(p + 8, perdedor.getRanking());
+        region.putDouble(p + 12, ganador.getPuntosAcumulados());
+        region.putDouble(p + 20, perdedor.getPuntosAcumulados());
+        p = escribirNombre(p + 28, nombreGanador);
+        escribirNombre(p, nombrePerdedor);
+        region.putInt(d, longitud);
+        fin = inicioRegion + d + 4 + longitud;
+    }
+
+    /**
+     * Crea un lector que empieza en una posición
+     * @param posicion la posición de un partido, normalmente INICIO o una que haya devuelto
+     * otro lector
+     * @return el lector
+     * @throws IllegalArgumentException si la posición está fuera de los partidos escritos
+     */
+    public Lector lector(long posicion)
+    {
+        if (posicion < INICIO || posicion > fin){
+            throw new IllegalArgumentException("La posición " + posicion + " está fuera del buzón " + fichero);
+        }
+        return new Lector(posicion);
+    }
+
+    /**
+     * Devuelve la posición siguiente al último partido escrito
+     * @return el final de los partidos
+     */
+    public long getFin()
+    {
+        return fin;
+    }
+
+    /**
+     * Devuelve el fichero del buzón
+     * @return el fichero
+     */
+    public Path getFichero()
+    {
+        return fichero;
+    }
+
+    /**
+     * Devuelve el campeonato de los partidos que se leen del buzón
+     * @return el campeonato, o null
+     */
+    public Campeonato getCampeonato()
+    {
+        return campeonato;
+    }
+
+    /**
+     * Fuerza la escritura en disco de la región en la que se está escribiendo
+     */
+    public synchronized void forzar()
+    {
+        if (!cerrado){
+            region.force();
+        }
+    }
+
+    /**
+     * Fuerza la escritura en disco y cierra el fichero. Los lectores deben haber terminado
+     */
+    public synchronized void cerrar()
+    {
+        if (cerrado){
+            return;
+        }
+        region.force();
+        cerrado = true;
+        try{
+            canal.close();
+        }
+        catch(IOException e){
+            System.err.println("Error al cerrar el buzón " + fichero + ": " + e);
+        }
+    }
+
+    /**
+     * Pasa a escribir en la región que empieza en una posición. La marca de salto de la
+     * región anterior solo se escribe cuando la nueva ya existe
+     */
+    private void mapearRegion(long inicio) throws IOException
+    {
+        MappedByteBuffer nueva = canal.map(FileChannel.MapMode.READ_WRITE, inicio, tamañoRegion);
+        if (region != null){
+            int d = (int) (fin - inicioRegion);
+            if (tamañoRegion - d >= 4){
+                region.putInt(d, SALTO);
+            }
+        }
+        region = nueva;
+        inicioRegion = inicio;
+    }
+
+    private int escribirNombre(int p, String nombre)
+    {
+        region.putShort(p, (short) nombre.length());
+        p += 2;
+        for (int i = 0; i < nombre.length(); i++){
+            region.putChar(p, nombre.charAt(i));
+            p += 2;
+        }
+        return p;
+    }
+
+    private EventoPartido leer(ByteBuffer buffer, int p, int longitud) throws IOException
+    {
+        int ronda = buffer.getInt(p);
+        int rankingGanador = buffer.getInt(p + 4);
+        int rankingPerdedor = buffer.getInt(p + 8);
+        double puntosGanador = buffer.getDouble(p + 12);
+        double puntosPerdedor = buffer.getDouble(p + 20);
+        int n = buffer.getShort(p + 28);
+        int m = n < 0 || LONGITUD_FIJA + 2 * n > longitud ? -1 : buffer.getShort(p + 30 + 2 * n);
+        if (n < 0 || m < 0 || LONGITUD_FIJA + 2 * (n + m) != longitud){
+            throw new IOException("Buzón dañado: " + fichero);
+        }
+        return new EventoPartido(campeonato, ronda, leerNombre(buffer, p + 30, n), leerNombre(buffer, p + 32 + 2 * n, m),
+                                 rankingGanador, rankingPerdedor, puntosGanador, puntosPerdedor);
+    }
+
+    private static String leerNombre(ByteBuffer buffer, int p, int n)
+    {
+        char[] letras = new char[n];
+        for (int i = 0; i < n; i++){
+            letras[i] = buffer.getChar(p + 2 * i);
+        }
+        return new String(letras);
+    }
+}
@@ -0,0 +1,192 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Pruebas del buzón de partidos y de los medios que lo leen
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class BuzonPartidosTest
+{
+    @TempDir
+    Path directorio;
+
+    private Zapatilla z;
+    private List<String> recibidos;
+
+    /**
+     * Default constructor for test class BuzonPartidosTest
+     */
+    public BuzonPartidosTest()
+    {
+    }
+
+    @BeforeEach
+    public void setUp()
+    {
+        z = new ZapatillasConAgarre("Court Lite", 39, 3);
+        recibidos = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Los partidos se leen en orden y con sus datos aunque salten de región, y al volver a
+     * abrir el buzón se sigue escribiendo después del último
+     */
+    @Test
+    public void publicarLeerTest() throws IOException
+    {
+        Path fichero = directorio.resolve("buzon.bin");
+        BuzonPartidos buzon = new BuzonPartidos(fichero, null, 256);
+        for (int i = 0; i < 100; i++){
+            buzon.publicar(tenista("Ganador " + i, i, i + 0.5), tenista("Perdedor ñ" + i, 2 * i, i), 1 + i % 7);
+        }
+        long fin = buzon.getFin();
+        buzon.cerrar();
+
+        buzon = new BuzonPartidos(fichero, null);
+        assertEquals(fin, buzon.getFin());
+        for (int i = 100; i < 150; i++){
+            buzon.publicar(tenista("Ganador " + i, i, i + 0.5), tenista("Perdedor ñ" + i, 2 * i, i), 1 + i % 7);
+        }
+        BuzonPartidos.Lector lector = buzon.lector(BuzonPartidos.INICIO);
+        for (int i = 0; i < 150; i++){
+            EventoPartido evento = lector.siguiente();
+            assertEquals("Ganador " + i, evento.getNombreGanador());
+            assertEquals("Perdedor ñ" + i, evento.getNombrePerdedor());
+            assertEquals(i, evento.getRankingGanador());
+            assertEquals(2 * i, evento.getRankingPerdedor());
+            assertEquals(i + 0.5, evento.getPuntosGanador());
+            assertEquals(i, evento.getPuntosPerdedor());
+            assertEquals(1 + i % 7, evento.getRonda());
+            assertNull(evento.getGanador());
+        }
+        assertNull(lector.siguiente());
+        assertEquals(buzon.getFin(), lector.getPosicion());
+        buzon.cerrar();
+
+        Files.writeString(directorio.resolve("otro.bin"), "no es un buzón");
+        assertThrows(IOException.class, () -> new BuzonPartidos(directorio.resolve("otro.bin"), null));
+    }
+
+    /**
+     * Un medio que lee el buzón recibe los partidos que le interesan; si se para, al volver
+     * con el mismo fichero de posición recibe los que se perdió y ninguno de los anteriores
+     */
+    @Test
+    public void reanudarMedioTest() throws IOException
+    {
+        Comunicacion comunicacion = new Comunicacion();
+        BuzonPartidos buzon = new BuzonPartidos(directorio.resolve("buzon.bin"), null, 1024);
+        comunicacion.setBuzon(buzon);
+        Path posicion = directorio.resolve("medio.pos");
+        ConsumidorBuzon consumidor = comunicacion.añadirMedio(medio("Lento"), posicion);
+        for (int i = 1; i <= 50; i++){
+            comunicacion.notificar(tenista("G" + i, i, 10), tenista("P" + i, 100, 5), 1);
+        }
+        comunicacion.esperarMedios();
+        assertEquals(10, recibidos.size());
+        assertEquals(50, consumidor.getLeidos());
+        assertTrue(comunicacion.quitarMedio(consumidor.getMedio()));
+        assertEquals(buzon.getFin(), consumidor.getPosicionConfirmada());
+
+        for (int i = 51; i <= 60; i++){
+            comunicacion.notificar(tenista("G" + i, i % 5, 10), tenista("P" + i, 100, 5), 2);
+        }
+        recibidos.clear();
+        consumidor = comunicacion.añadirMedio(medio("Lento"), posicion);
+        comunicacion.esperarMedios();
+        assertEquals(List.of("G51 2", "G52 2", "G53 2", "G54 2", "G56 2", "G57 2", "G58 2", "G59 2"), recibidos);
+
+        recibidos.clear();
+        ConsumidorBuzon tardio = comunicacion.añadirMedio(medio("Tardío"), directorio.resolve("tardio.pos"));
+        comunicacion.cerrarMedios();
+        assertEquals(18, recibidos.size());
+        assertEquals(60, tardio.getLeidos());
+        assertEquals(0, tardio.getPendientes());
+        buzon.cerrar();
+    }
+
+    /**
+     * Un medio que falla al recibir un partido para su consumidor sin confirmar ese
+     * partido, y un consumidor nuevo empieza por él. Un medio que no recibe los partidos
+     * con actualizar(EventoPartido) no se puede añadir
+     */
+    @Test
+    public void errorMedioTest() throws IOException
+    {
+        Comunicacion comunicacion = new Comunicacion();
+        BuzonPartidos buzon = new BuzonPartidos(directorio.resolve("buzon.bin"), null, 1024);
+        comunicacion.setBuzon(buzon);
+        for (int i = 1; i <= 10; i++){
+            comunicacion.notificar(tenista("G" + i, i, 10), tenista("P" + i, 100, 5), 1);
+        }
+        Path posicion = directorio.resolve("medio.pos");
+        ConsumidorBuzon consumidor = comunicacion.añadirMedio(new MedioGenerico("Frágil"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                fail("Los partidos del buzón no tienen los tenistas");
+            }
+
+            public void actualizar(EventoPartido evento){
+                if (evento.getNombreGanador().equals("G4")){
+                    throw new IllegalStateException("Fallo con " + evento.getNombreGanador());
+                }
+                recibidos.add(evento.getNombreGanador());
+            }
+        }, posicion);
+        comunicacion.esperarMedios();
+        assertEquals(List.of("G1", "G2", "G3"), recibidos);
+        assertEquals(3, consumidor.getEntregados());
+        assertTrue(consumidor.getError() instanceof IllegalStateException);
+        assertTrue(consumidor.getPosicionConfirmada() < buzon.getFin());
+        comunicacion.quitarMedio(consumidor.getMedio());
+
+        recibidos.clear();
+        comunicacion.añadirMedio(medio("Sano"), posicion);
+        comunicacion.cerrarMedios();
+        assertEquals(List.of("G4 1", "G5 1", "G6 1", "G7 1", "G8 1", "G9 1", "G10 1"), recibidos);
+
+        MedioGenerico soloTenistas = new MedioGenerico("Solo tenistas"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                recibidos.add(ganador.getNombre());
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> comunicacion.añadirMedio(soloTenistas, directorio.resolve("otro.pos")));
+        assertFalse(Files.exists(directorio.resolve("otro.pos")));
+        buzon.cerrar();
+    }
+
+    private Tenista tenista(String nombre, int ranking, double puntos)
+    {
+        Tenista t = new Golpeadores(nombre, z, 80, 80, ranking, "España", 39);
+        t.setPuntosAcumulados(puntos);
+        return t;
+    }
+
+    private MedioGenerico medio(String nombre)
+    {
+        return new MedioGenerico(nombre){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                fail("Los partidos del buzón no tienen los tenistas");
+            }
+
+            public void actualizar(EventoPartido evento){
+                recibidos.add(evento.getNombreGanador() + " " + evento.getRonda());
+            }
+
+            public List<InteresMedio> getIntereses(){
+                return List.of(InteresMedio.todos().conGanador(1, 10));
+            }
+        };
+    }
+}
@@ -2,13 +2,32 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.*;
 import java.util.Iterator;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * La clase Campeonato representa el torneo que se va a disputar entre los distintos 
  * tenistas que participan.
  * 
+ * Los competidores, las raquetas, las zapatillas y los subscriptores tienen cada uno su
+ * propio cerrojo, y el campeonato en curso tiene otro, de forma que mientras se disputa
+ * se pueden consultar los competidores y seguir añadiendo material y subscriptores. Los
+ * tenistas que se inscriben durante el campeonato entran en el cuadro del siguiente.
+ * 
+ * El estado del campeonato se puede guardar en una InstantaneaCampeonato y restaurar
+ * después; un campeonato restaurado desde una instantánea tomada entre dos rondas
+ * continúa en la ronda siguiente. Con un punto de control, el campeonato guarda además una
+ * instantánea al terminar cada ronda, sin detener la siguiente, y un campeonato
+ * interrumpido se puede reanudar desde la última ronda completa.
+ * 
+ * Con un buzón, cada partido se escribe también en un fichero del que los medios
+ * subscritos con un fichero de posición leen a su ritmo (BuzonPartidos, ConsumidorBuzon).
+ * 
  * @author Antonio Javier Hidalgo
  * @author Juan Francisco García
  * @author David Bonilla
@@ -18,92 +37,285 @@ import java.io.IOException;
 
 public class Campeonato extends Comunicacion
 {
-    private String nombre;
-    private ArrayList <Tenista> competidores;
+    private final String nombre;
+    private Cuadro competidores;
     private ArrayList <Tenista> eliminados;
-    private ArrayList <Zapatilla> zapatillasCampeonato;
-    private TreeSet <Raqueta> raquetasCampeonato;
-    private static Campeonato singletonCampeonato;
-    private FileWriter writer;
+    private ArrayList <Tenista> inscritosPendientes;
+    private boolean enCurso;
+    private ReservaZapatillas zapatillasCampeonato;
+    private ReservaRaquetas raquetasCampeonato;
+    private volatile Salida salida;
+    private volatile boolean rondasParalelas;
+    private volatile RegistroEventos eventos;
+    private int rondaActual;
+    private int rondaReanudacion;
+    private volatile PuntoControl puntoControl;
+    private final ReentrantLock cerrojoTorneo;
+    private final ReentrantLock cerrojoRonda;
+    private final ReentrantReadWriteLock cerrojoCompetidores;
     
     /**
      * Constructor parametrizado de la clase Campeonato
-     * Crea un nuevo objeto de la clase Campeonato 
+     * Crea un nuevo objeto de la clase Campeonato que escribe su salida por pantalla y en
+     * el fichero indicado. Los campeonatos se crean a través de RegistroCampeonatos.
+     * @param nombre nombre del campeonato
+     * @param fichero fichero de salida del campeonato, o null si no se escribe en fichero
      */ 
-    private Campeonato(String nombre)
+    Campeonato(String nombre, String fichero)
     {
         this.nombre = nombre;
-        competidores = new ArrayList <Tenista>();
+        competidores = new Cuadro(16);
         eliminados = new ArrayList <Tenista>();
-        zapatillasCampeonato = new ArrayList <Zapatilla>();
-        raquetasCampeonato = new TreeSet <Raqueta> (new PotenciaComparator());
+        inscritosPendientes = new ArrayList <Tenista>();
+        zapatillasCampeonato = new ReservaZapatillas();
+        raquetasCampeonato = new ReservaRaquetas();
+        salida = new SalidaAsincrona(fichero, true);
+        cerrojoTorneo = new ReentrantLock();
+        cerrojoRonda = new ReentrantLock(true);
+        cerrojoCompetidores = new ReentrantReadWriteLock();
+    }
+    
+    /**
+     * Devuelve el campeonato con el nombre indicado, creándolo en el registro de
+     * campeonatos si todavía no existe
+     * @param nombre nombre del campeonato
+     */
+    public static Campeonato getInstance(String nombre)
+    {
+        return RegistroCampeonatos.getInstance().getCampeonato(nombre);
+    }
+    
+    /**
+     * Método que inscribe a un Tenista al campeonato, añadiendolo a la lista de competidores.
+     * Si el campeonato se está disputando, el tenista queda inscrito para el siguiente
+     * @param t1 un tenista
+     */
+    public void inscripcionCompetidores (Tenista t1)
+    {
+        cerrojoCompetidores.writeLock().lock();
         try{
-            writer = new FileWriter("salida.txt");
+            if (enCurso){
+                inscritosPendientes.add(t1);
+            }
+            else{
+                competidores.inscribir(t1);
+            }
+            t1.setCampeonato(this);
         }
-        catch(IOException e)
-        {
-            System.err.println("Hubo un error abriendo en el fichero");
+        finally{
+            cerrojoCompetidores.writeLock().unlock();
         }
     }
     
     /**
-     * Método que impide crear mas de un campeonato con el mismo nombre 
-     * @param nombre nombre del campeonato
+     * Método que inscribe a varios tenistas al campeonato, en el orden de la colección.
+     * El cerrojo de los competidores se toma una sola vez y el cuadro crece una sola vez
+     * para todos. Si el campeonato se está disputando, quedan inscritos para el siguiente
+     * @param tenistas los tenistas
      */
-    public static synchronized Campeonato getInstance(String nombre)
+    public void inscripcionCompetidores (Collection<? extends Tenista> tenistas)
     {
-        if(singletonCampeonato == null){
-            singletonCampeonato = new Campeonato(nombre);
+        cerrojoCompetidores.writeLock().lock();
+        try{
+            if (enCurso){
+                inscritosPendientes.addAll(tenistas);
+            }
+            else{
+                competidores.inscribirTodos(tenistas);
+            }
+            for (Tenista t: tenistas){
+                t.setCampeonato(this);
+            }
+        }
+        finally{
+            cerrojoCompetidores.writeLock().unlock();
         }
-        return singletonCampeonato;
     }
     
     /**
-     * Método que inscribe a un Tenista al campeonato, añadiendolo a la lista de competidores
-     * @param t1 un tenista
+     * Método que inscribe al campeonato a los tenistas de un stream, en su orden
+     * @param tenistas los tenistas
      */
-    public synchronized void inscripcionCompetidores (Tenista t1)
+    public void inscripcionCompetidores (Stream<? extends Tenista> tenistas)
     {
-        competidores.add(t1);
+        inscripcionCompetidores(tenistas.collect(Collectors.toList()));
     }
     
     /**
      * Método que añade una zapatilla a la lista zapatillas
      * @param z1 una zapatilla
      */
-    public synchronized void añadirZapatilla (Zapatilla z1)
+    public void añadirZapatilla (Zapatilla z1)
+    {
+        zapatillasCampeonato.añadir(z1);
+    }
+    
+    /**
+     * Método que añade varias unidades de una zapatilla a la reserva del campeonato
+     * @param z1 una zapatilla
+     * @param unidades el número de unidades
+     */
+    public void añadirZapatilla (Zapatilla z1, int unidades)
+    {
+        zapatillasCampeonato.añadir(z1, unidades);
+    }
+    
+    /**
+     * Método que añade un lote de zapatillas a la reserva del campeonato, una unidad de
+     * cada una y en el orden de la colección
+     * @param zapatillas las zapatillas
+     */
+    public void añadirZapatillas (Collection<? extends Zapatilla> zapatillas)
+    {
+        zapatillasCampeonato.añadirTodas(new ArrayList<>(zapatillas), null);
+    }
+    
+    /**
+     * Método que añade a la reserva del campeonato las zapatillas de un stream, en su orden
+     * @param zapatillas las zapatillas
+     */
+    public void añadirZapatillas (Stream<? extends Zapatilla> zapatillas)
     {
-        zapatillasCampeonato.add(z1);
+        zapatillasCampeonato.añadirTodas(zapatillas.collect(Collectors.toList()), null);
+    }
+    
+    /**
+     * Método que añade un lote de zapatillas a la reserva del campeonato, con las unidades
+     * de cada una
+     * @param zapatillas las zapatillas
+     * @param unidades las unidades de cada zapatilla, o null para una de cada una
+     */
+    public void añadirZapatillas (List<? extends Zapatilla> zapatillas, int[] unidades)
+    {
+        zapatillasCampeonato.añadirTodas(zapatillas, unidades);
     }
     
     /**
      * Método que añade una raqueta al arbol de raquetas
      * @param una raqueta
      */
-    public synchronized void añadirRaquetas (Raqueta r1)
+    public void añadirRaquetas (Raqueta r1)
     {
-        raquetasCampeonato.add(r1);
+        raquetasCampeonato.añadir(r1);
     }
     
-    public synchronized void añadirSubscriptor(MedioGenerico medio){
+    /**
+     * Método que añade varias unidades de una raqueta a la reserva del campeonato
+     * @param r1 una raqueta
+     * @param unidades el número de unidades
+     */
+    public void añadirRaquetas (Raqueta r1, int unidades)
+    {
+        raquetasCampeonato.añadir(r1, unidades);
+    }
+    
+    /**
+     * Método que añade un lote de raquetas a la reserva del campeonato, una unidad de cada
+     * una. Si la reserva está vacía, se construye a partir del lote ordenado
+     * @param raquetas las raquetas
+     */
+    public void añadirRaquetas (Collection<? extends Raqueta> raquetas)
+    {
+        raquetasCampeonato.añadirTodas(raquetas);
+    }
+    
+    /**
+     * Método que añade a la reserva del campeonato las raquetas de un stream
+     * @param raquetas las raquetas
+     */
+    public void añadirRaquetas (Stream<? extends Raqueta> raquetas)
+    {
+        raquetasCampeonato.añadirTodas(raquetas.collect(Collectors.toList()), null);
+    }
+    
+    /**
+     * Método que añade un lote de raquetas a la reserva del campeonato, con las unidades
+     * de cada una
+     * @param raquetas las raquetas
+     * @param unidades las unidades de cada raqueta, o null para una de cada una
+     */
+    public void añadirRaquetas (List<? extends Raqueta> raquetas, int[] unidades)
+    {
+        raquetasCampeonato.añadirTodas(raquetas, unidades);
+    }
+    
+    public void añadirSubscriptor(MedioGenerico medio){
         añadirMedio(medio);
     }
     
+    /**
+     * Subscribe un medio que recibe los partidos uno a uno, o en un resumen al terminar
+     * cada ronda o el campeonato
+     * @param medio el medio
+     * @param modo cómo recibe el medio los partidos
+     */
+    public void añadirSubscriptor(MedioGenerico medio, ModoEntrega modo){
+        añadirMedio(medio, modo);
+    }
+    
+    /**
+     * Subscribe un medio que recibe los partidos desde su propio hilo, de forma que el 
+     * campeonato no espera a que los procese. Lo que el medio escribe en la salida puede
+     * quedar detrás de partidos posteriores; el campeonato espera a todos los medios antes
+     * de mostrar el ganador
+     * @param medio el medio
+     * @param politica qué hacer cuando la cola del medio está llena
+     * @param capacidad el número de partidos que caben en la cola del medio
+     * @return la entrega del medio, para consultar su retraso
+     */
+    public EntregaAsincrona añadirSubscriptor(MedioGenerico medio, PoliticaEntrega politica, int capacidad){
+        return añadirMedio(medio, politica, capacidad);
+    }
+
+    /**
+     * Subscribe un medio que lee los partidos del buzón del campeonato desde su propio hilo.
+     * Si el fichero de posición ya existe, el medio sigue desde la última posición que
+     * confirmó y recibe los partidos que se perdió
+     * @param medio el medio
+     * @param ficheroPosicion el fichero en el que se confirma la posición del medio
+     * @return el consumidor del medio, para consultar su posición
+     * @throws IOException si no se puede abrir el fichero de posición
+     * @throws IllegalArgumentException si el medio no redefine actualizar(EventoPartido)
+     * @throws IllegalStateException si el campeonato no tiene buzón
+     * @see #setBuzon(Path)
+     */
+    public ConsumidorBuzon añadirSubscriptor(MedioGenerico medio, Path ficheroPosicion) throws IOException{
+        return añadirMedio(medio, ficheroPosicion);
+    }
+
+    /**
+     * Quita un medio de los subscriptores. Se puede llamar mientras se disputa el
+     * campeonato, incluso desde el propio medio; el partido que se está notificando puede
+     * llegarle todavía
+     * @param medio el medio
+     * @return true si el medio estaba subscrito
+     */
+    public boolean quitarSubscriptor(MedioGenerico medio){
+        return quitarMedio(medio);
+    }
+
      /**
      * Metodo encargado de asignar las raquetas a los competidores
      * @return verdadero si se ha asignado una raqueta y falso en caso contrario
      */
-    public synchronized boolean asignarRaquetas (){
+    public boolean asignarRaquetas (){
         boolean bandera=false;
-        escribirFicheroPantalla("***** Asignando raquetas a tenistas *****");
-        if (raquetasCampeonato.size()>=competidores.size()){
-            bandera=true;
-                for (int i = 0; i<competidores.size(); i++){
-                        Tenista t = competidores.get(i);
-                        t.setRaqueta(raquetasCampeonato.first());
-                        raquetasCampeonato.remove(raquetasCampeonato.first());
+        cerrojoRonda.lock();
+        cerrojoCompetidores.readLock().lock();
+        try{
+            escribirTexto("***** Asignando raquetas a tenistas *****");
+            if (raquetasCampeonato.getTamaño()>=competidores.getTamaño()){
+                bandera=true;
+                    for (int i = 0; i<competidores.getTamaño(); i++){
+                            Tenista t = competidores.get(i);
+                            t.setRaqueta(raquetasCampeonato.tomarMejor());
+                    }
                 }
-            }
+        }
+        finally{
+            cerrojoCompetidores.readLock().unlock();
+            cerrojoRonda.unlock();
+        }
         
         return bandera;
     }
@@ -112,35 +324,112 @@ public class Campeonato extends Comunicacion
      * Método que muestra por pantalla el avance de los partidos, las rondas, 
      * quién ha ganado y el listado de eliminados
      */
-    public synchronized void controlDeCampeonato() throws ExcepcionRaquetas
-    {
-        escribirFicheroPantalla("***** Inicio del campeonato: "+nombre+" *****\n");
-        if (asignarRaquetas()){
-            mostrarRaquetas();
-            int i = 1;
-            escribirFicheroPantalla("***** Listado de competidores: ");
-            listaTenistas_competidores();
-            escribirFicheroPantalla("***** Listado de raquetas disponibles: ");
-            raquetasDisponibles();
-            while(competidores.size() != 1){
+    public void controlDeCampeonato() throws ExcepcionRaquetas
+    {
+        cerrojoTorneo.lock();
+        try{
+            empezarTorneo();
+            try{
+                disputarTorneo();
+            }
+            finally{
+                terminarTorneo();
+            }
+        }
+        finally{
+            cerrojoTorneo.unlock();
+        }
+    }
+    
+    /**
+     * Marca el campeonato como en curso y pasa al cuadro a los tenistas que se 
+     * inscribieron mientras se disputaba el anterior
+     */
+    private void empezarTorneo()
+    {
+        cerrojoCompetidores.writeLock().lock();
+        try{
+            enCurso = true;
+            if (rondaReanudacion == 0){
+                competidores.inscribirTodos(inscritosPendientes);
+                inscritosPendientes.clear();
+            }
+        }
+        finally{
+            cerrojoCompetidores.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Marca el campeonato como terminado, de forma que las nuevas inscripciones vuelven
+     * a entrar directamente en el cuadro
+     */
+    private void terminarTorneo()
+    {
+        cerrojoCompetidores.writeLock().lock();
+        try{
+            enCurso = false;
+            rondaActual = 0;
+            rondaReanudacion = 0;
+        }
+        finally{
+            cerrojoCompetidores.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Disputa el campeonato completo, desde la asignación de raquetas hasta la final
+     */
+    private void disputarTorneo() throws ExcepcionRaquetas
+    {
+        boolean reanudar = rondaReanudacion > 0;
+        int i = rondaReanudacion + 1;
+        if (reanudar){
+            escribirTexto("***** Reanudación del campeonato: "+nombre+" en la ronda "+i+" *****\n");
+        }
+        else{
+            escribirTexto("***** Inicio del campeonato: "+nombre+" *****\n");
+        }
+        if (reanudar || asignarRaquetas()){
+            if (!reanudar){
+                mostrarRaquetas();
+                escribirTexto("***** Listado de competidores: ");
+                listaTenistas_competidores();
+                escribirTexto("***** Listado de raquetas disponibles: ");
+                raquetasDisponibles();
+            }
+            while(competidores.getTamaño() > 1){
                escribirFicheroPantalla("\n"); 
                escribirFicheroPantalla("***** Ronda---->>>: "+i);
+               if (eventos != null){
+                   eventos.ronda(i);
+               }
                partidos(i);
                i++;
             }
+            esperarMedios();
+            notificarTorneo();
             
             Tenista ganador = competidores.get(0);
             mostrarganadorTorneo(ganador);
-            escribirFicheroPantalla("***** Listado de eliminados: ");
-            Collections.sort(eliminados, Collections.reverseOrder(new PosicionComparator()));
+            escribirTexto("***** Listado de eliminados: ");
+            cerrojoCompetidores.writeLock().lock();
+            try{
+                Collections.sort(eliminados, Collections.reverseOrder(new PosicionComparator()));
+            }
+            finally{
+                cerrojoCompetidores.writeLock().unlock();
+            }
             listaTenistas_eliminados();
-            try
-            {
-                writer.close();
+            if (eventos != null){
+                eventos.campeon(ganador);
+                eventos.cerrar();
             }
-            catch (IOException ioe)
-            {
-                ioe.printStackTrace();
+            salida.cerrar();
+            PuntoControl punto = puntoControl;
+            if (punto != null){
+                puntoControl = null;
+                punto.borrar();
             }
         }
         else{
@@ -151,20 +440,120 @@ public class Campeonato extends Comunicacion
     
     /**
      * Método que gestiona la puntuacion de los tenistas tras los partidos y muestra por 
-     * pantalla quién ha ganado y quién ha perdido
+     * pantalla quién ha ganado y quién ha perdido. Si hay punto de control y quedan rondas
+     * por disputar, al terminar pide que se guarde una instantánea
      */
-    public synchronized void partidos(int ronda)
+    public void partidos(int ronda)
     {   
+        cerrojoTorneo.lock();
+        cerrojoRonda.lock();
+        try{
+            disputarRonda(ronda);
+            PuntoControl punto = puntoControl;
+            if (punto != null && competidores.getTamaño() > 1){
+                punto.guardar(crearInstantanea(), salida.marcar());
+            }
+        }
+        finally{
+            cerrojoRonda.unlock();
+            cerrojoTorneo.unlock();
+        }
+    }
+    
+    /**
+     * Disputa los partidos de una ronda, de uno en uno o en paralelo
+     * @param ronda la ronda que se disputa
+     */
+    private void disputarRonda(int ronda)
+    {
+        rondaActual = ronda;
+        if (rondasParalelas){
+            partidosParalelos(ronda);
+            return;
+        }
         Tenista t1;
         Tenista t2;
-        Tenista ganador;
-        Tenista perdedor;
-        for(int i = 0; i<competidores.size(); i++){
-           t1 = competidores.get(i);
-           t2 = competidores.get(competidores.size()-1);
+        for(int i = 0; i<competidores.getNumeroPartidos(); i++){
+           t1 = competidores.getPrimero(i);
+           t2 = competidores.getSegundo(i);
            
-           escribirFicheroPantalla("  #### Juego ------------>>>: "+i);
+           comienzoPartido(i, t1, t2);
            juego(t1, t2);
+           resultadoPartido(t1, t2, i, ronda);
+        }
+        cerrarRonda();
+    }
+    
+    /**
+     * Disputa los partidos de una ronda en paralelo. Los emparejamientos y el material de 
+     * cada tenista se deciden primero en el orden de los partidos, después se juegan todos
+     * los partidos a la vez y por último se muestran y se aplican los resultados en orden,
+     * de forma que el resultado es el mismo que el de la ronda secuencial
+     * @param ronda la ronda que se disputa
+     */
+    private void partidosParalelos(int ronda)
+    {
+        Partido[] partidos = new Partido[competidores.getNumeroPartidos()];
+        for(int i = 0; i<partidos.length; i++){
+            partidos[i] = new Partido(i, competidores.getPrimero(i), competidores.getSegundo(i));
+            partidos[i].prepararMaterial();
+        }
+        
+        Arrays.stream(partidos).parallel().forEach(Partido::jugar);
+        
+        for(Partido partido: partidos){
+            Tenista t1 = partido.getT1();
+            Tenista t2 = partido.getT2();
+            comienzoPartido(partido.getIndice(), t1, t2);
+            mostrarTenista(1, t1);
+            if (partido.cambiaZapatillaT1()){
+                mostrarZapatilla(t1);
+            }
+            mostrarTenista(2, t2);
+            if (partido.cambiaZapatillaT2()){
+                mostrarZapatilla(t2);
+            }
+            t1.mostrarCambioRaqueta(partido.getRaquetaT1());
+            t2.mostrarCambioRaqueta(partido.getRaquetaT2());
+            resultadoPartido(t1, t2, partido.getIndice(), ronda);
+        }
+        cerrarRonda();
+    }
+    
+    /**
+     * Termina la ronda en el cuadro. Si el número de tenistas era impar, muestra el 
+     * tenista que pasa de ronda sin jugar. Al final entrega el resumen de la ronda a los
+     * medios que lo reciben
+     */
+    private void cerrarRonda()
+    {
+        if (competidores.hayDescanso()){
+            if (eventos != null){
+                eventos.descanso(rondaActual, competidores.getDescanso());
+            }
+            escribirFicheroPantalla("  #### Pasa de ronda sin jugar ------------>>>: "
+                +competidores.getDescanso().getNombre()+"\n");
+        }
+        cerrojoCompetidores.writeLock().lock();
+        try{
+            competidores.cerrarRonda();
+        }
+        finally{
+            cerrojoCompetidores.writeLock().unlock();
+        }
+        notificarRonda();
+    }
+    
+    /**
+     * Notifica a los medios el resultado de un partido ya jugado y actualiza la lista de 
+     * competidores y de eliminados
+     * @param t1 el primer tenista del partido
+     * @param t2 el segundo tenista del partido
+     * @param i la posición del partido en la ronda
+     * @param ronda la ronda que se disputa
+     */
+    private void resultadoPartido(Tenista t1, Tenista t2, int i, int ronda)
+    {
            //LLAMADA A LOS MEDIOS 
            if(t1.getPuntosAcumulados() > t2.getPuntosAcumulados()){
                notificar(t1,t2,ronda);
@@ -176,20 +565,19 @@ public class Campeonato extends Comunicacion
            if(t1.getPuntosAcumulados()==t2.getPuntosAcumulados())
            {
                if((t1.getSaque()+t1.getResto())<(t2.getSaque()+t2.getResto())){
-                    ganaPrimero(t1,t2);                  
+                    ganaPrimero(t1,t2,i);                  
                }
                else{
                     ganaUltimo(t2,t1,i);                  
                }
            }
            else if(t1.getPuntosAcumulados() > t2.getPuntosAcumulados()){
-                    ganaPrimero(t1,t2);
+                    ganaPrimero(t1,t2,i);
            }
            
            else{
                     ganaUltimo(t2,t1,i);                    
            }  
-        }
     }
     
     /**
@@ -197,80 +585,121 @@ public class Campeonato extends Comunicacion
      * @param t1 un tenista
      * @param t2 un tenista
      */  
-    private synchronized void juego(Tenista t1, Tenista t2)
+    private void juego(Tenista t1, Tenista t2)
     {
-        escribirFicheroPantalla("    ## Tenista1 ("+t1.getClass().getName()+") ---->>>: "+t1.getNombre());
+        mostrarTenista(1, t1);
         comprobacionMostrarZapatilla(t1);
-        escribirFicheroPantalla("    ## Tenista2 ("+t2.getClass().getName()+") ---->>>: "+t2.getNombre());
+        mostrarTenista(2, t2);
         comprobacionMostrarZapatilla(t2);
         t1.jugar(t2);
         t2.jugar(t1);
     }
     
+    /**
+     * Muestra y registra el comienzo de un partido
+     * @param i la posición del partido en la ronda
+     * @param t1 el primer tenista
+     * @param t2 el segundo tenista
+     */
+    private void comienzoPartido(int i, Tenista t1, Tenista t2)
+    {
+        if (eventos != null){
+            eventos.partido(rondaActual, i, t1, t2);
+        }
+        if (isSalidaActiva()){
+            escribirFicheroPantalla("  #### Juego ------------>>>: "+i);
+        }
+    }
+    
+    /**
+     * Muestra uno de los tenistas de un partido
+     * @param numero 1 para el primer tenista y 2 para el segundo
+     * @param t el tenista
+     */
+    private void mostrarTenista(int numero, Tenista t)
+    {
+        if (isSalidaActiva()){
+            escribirFicheroPantalla("    ## Tenista"+numero+" ("+t.getClass().getName()+") ---->>>: "+t.getNombre());
+        }
+    }
+    
     /**
      * Método que muestra el ganador y perdedor en el caso de que gane el primer tenista 
-     * situado en la lista
+     * del partido, que conserva su plaza en el cuadro
      */
-    private synchronized void ganaPrimero(Tenista ganador, Tenista perdedor)
+    private void ganaPrimero(Tenista ganador, Tenista perdedor, int indice)
     {
-       añadirEliminado(perdedor);        
-       borrarUltimoymostrar(ganador, perdedor);
+       cerrojoCompetidores.writeLock().lock();
+       try{
+           añadirEliminado(perdedor);
+       }
+       finally{
+           cerrojoCompetidores.writeLock().unlock();
+       }
+       mostrarGanadoryPerdedor(ganador, perdedor, indice);
     }
     
     /**
      * Metodo que añade a la lista de eliminados al tenista perdedor 
-     * eliminandolo del campeonato, añade a la lista de competidores al ganador y 
+     * eliminandolo del campeonato, coloca al ganador en la plaza del partido y 
      * muestra llamando a GanadorYperdedor
      * @param ganador El Tenista que gana el partido
      * @param perdedor El Tenista que pierde el partido
-     * @param indice La posicion del tenista que se va a borrar.
+     * @param indice El partido cuya plaza ocupa el ganador.
      */
-    private synchronized void ganaUltimo(Tenista ganador, Tenista perdedor, int indice)
+    private void ganaUltimo(Tenista ganador, Tenista perdedor, int indice)
     {
-       añadirEliminado(perdedor);
-       competidores.remove(indice);
-       competidores.add(indice, ganador);
-       borrarUltimoymostrar(ganador, perdedor);       
+       cerrojoCompetidores.writeLock().lock();
+       try{
+           añadirEliminado(perdedor);
+           competidores.ganador(indice, ganador);
+       }
+       finally{
+           cerrojoCompetidores.writeLock().unlock();
+       }
+       mostrarGanadoryPerdedor(ganador, perdedor, indice);       
     }
     
     /**
      * Método que muestra el ganador del torneo
      * @param ganador El tenista ganador
      */
-    private synchronized void mostrarganadorTorneo (Tenista ganador)
+    private void mostrarganadorTorneo (Tenista ganador)
     {
-        escribirFicheroPantalla("\n");
-        escribirFicheroPantalla("---->>>>  Gana la competición:"+ganador.toString()+"  <<<<----\n");  
+        escribirTexto("\n");
+        escribirTexto("---->>>>  Gana la competición:"+ganador.toString()+"  <<<<----\n");  
     }
     
     /**
      * Método que muestra las nuevas zapatillas del Tenista en caso de que cambie las suyas
      * @param t1 un Tenista
      */
-    private synchronized void comprobacionMostrarZapatilla (Tenista t1){
+    private void comprobacionMostrarZapatilla (Tenista t1){
        if (t1.elegirZapatillaTenista()){
-            escribirFicheroPantalla("       Zapatillas asignadas: "+t1.getZapatilla().toString());
+            mostrarZapatilla(t1);
         }        
     }
     
     /**
-     * Método que añade un Tenista a la lista de eliminados
-     * @param perdedor un tenista que ha perdido
+     * Muestra y registra las zapatillas que se acaban de asignar a un Tenista
+     * @param t1 un Tenista
      */
-    private synchronized void añadirEliminado(Tenista perdedor){
-       eliminados.add(perdedor);
-       perdedor.setposEliminado(eliminados.size());        
+    private void mostrarZapatilla (Tenista t1){
+        if (eventos != null){
+            eventos.cambioZapatilla(t1);
+        }
+        if (isSalidaActiva()){
+            escribirFicheroPantalla("       Zapatillas asignadas: "+t1.getZapatilla().toString());
+        }
     }
     
     /**
-     * Método que borra el último jugador de la lista de competidores y muestra el
-     * ganador y perdedor de cada partido
-     * @param un Tenista ganador
-     * @param un Tenista perdedor
+     * Método que añade un Tenista a la lista de eliminados
+     * @param perdedor un tenista que ha perdido
      */
-    private synchronized void borrarUltimoymostrar (Tenista ganador, Tenista perdedor){
-       competidores.remove(competidores.size()-1);
-       mostrarGanadoryPerdedor(ganador, perdedor);        
+    private void añadirEliminado(Tenista perdedor){
+       eliminados.add(perdedor);
+       perdedor.setposEliminado(eliminados.size());        
     }
     
     /**
@@ -278,25 +707,31 @@ public class Campeonato extends Comunicacion
      * al perdedor siendo esta , el nombre y los puntos acumulados
      * @param ganador hace referencia al Tenista que gana el partido
      * @param perdedor hace referencia al Tenista que pierde el partido
+     * @param indice la posición del partido en la ronda
      */
-    private synchronized void mostrarGanadoryPerdedor(Tenista ganador, Tenista perdedor)
+    private void mostrarGanadoryPerdedor(Tenista ganador, Tenista perdedor, int indice)
     {
-       escribirFicheroPantalla("    ## Gana este juego: "+ganador.getNombre()+" con: "
-       +ganador.getPuntosAcumulados()+" puntos acumulados.");
-    
-       escribirFicheroPantalla("    ## Se elimina: "+perdedor.getNombre()+" con: "
-       +perdedor.getPuntosAcumulados()+" puntos acumulados. Tenista eliminado num: "
-       +eliminados.size() + "\n");
+       if (eventos != null){
+           eventos.resultado(rondaActual, indice, ganador, perdedor);
+       }
+       if (isSalidaActiva()){
+           escribirFicheroPantalla("    ## Gana este juego: "+ganador.getNombre()+" con: "
+           +ganador.getPuntosAcumulados()+" puntos acumulados.");
+        
+           escribirFicheroPantalla("    ## Se elimina: "+perdedor.getNombre()+" con: "
+           +perdedor.getPuntosAcumulados()+" puntos acumulados. Tenista eliminado num: "
+           +eliminados.size() + "\n");
+       }
        ganador.resetPuntosAcumulados();        
     }
     
     /**
      * Método encargado de mostrar las raquetas asignadas a tenistas
      */
-    public synchronized void mostrarRaquetas(){
+    public void mostrarRaquetas(){
         for(Tenista tenistas: competidores)
         {
-            escribirFicheroPantalla("   **     "+tenistas.getRaqueta().toString()+ 
+            escribirTexto("   **     "+tenistas.getRaqueta().toString()+ 
                                " asignada a -->> "+tenistas.getNombre());
         }        
     }
@@ -304,112 +739,441 @@ public class Campeonato extends Comunicacion
     /**
      * Método encargado de mostrar la lista de tenistas que compiten en el campeonato
      */
-    private synchronized void listaTenistas_competidores ()
+    private void listaTenistas_competidores ()
     {
         for(Tenista tenistas: competidores)
         {
-             escribirFicheroPantalla(tenistas.toString());
+             escribirTexto(tenistas.toString());
         }
     }
     
     /**
      * Método encargado de mostrar las raquetas disponibles del campeonato
      */
-    private synchronized void raquetasDisponibles(){
+    private void raquetasDisponibles(){
         for(Raqueta raqueta: raquetasCampeonato)
         {
-             escribirFicheroPantalla("      "+raqueta.toString());
+             int unidades = raquetasCampeonato.getUnidades(raqueta);
+             escribirTexto("      "+raqueta.toString()+(unidades > 1 ? " x"+unidades : ""));
         }  
     }
     
     /**
      * Método encargado de mostrar la lista de tenistas eliminados en el campeonato
      */
-    private synchronized void listaTenistas_eliminados ()
+    private void listaTenistas_eliminados ()
     {
         for(Tenista tenistas: eliminados)
         {
-             escribirFicheroPantalla(tenistas.toString());
+             escribirTexto(tenistas.toString());
         }
     }
     
     /**
      * Método encargado de borrar una Zapatilla de la lista de zapatillas
      */
-    public synchronized void borrarZapatilla(Zapatilla z)
+    public void borrarZapatilla(Zapatilla z)
     {
-        zapatillasCampeonato.remove(z);
+        zapatillasCampeonato.quitar(z);
     }
     
     /**
      * Método encargado de borrar una Raqueta del treeset de raquetas
      */
-    public synchronized void borrarRaqueta(Raqueta r)
+    public void borrarRaqueta(Raqueta r)
     {
-        raquetasCampeonato.remove(r);
+        raquetasCampeonato.quitar(r);
     }
     
     /**
      * Método que realiza una copia de la lista de competidores
      */
-    public synchronized ArrayList<Tenista> getCompetidores()
+    public ArrayList<Tenista> getCompetidores()
     {
-        ArrayList <Tenista> copiaCompetidores = new ArrayList<Tenista>(competidores);
-        return copiaCompetidores;
+        cerrojoCompetidores.readLock().lock();
+        try{
+            return competidores.toList();
+        }
+        finally{
+            cerrojoCompetidores.readLock().unlock();
+        }
     }
     
     /**
      * Método que realiza una copia de la lista de zapatillas
      */
-    public synchronized ArrayList<Zapatilla> getZapatillasCampeonato()
+    public ArrayList<Zapatilla> getZapatillasCampeonato()
+    {
+        return zapatillasCampeonato.copia();
+    }
+    
+    /**
+     * Devuelve la reserva de zapatillas del campeonato, de la que los tenistas toman
+     * directamente sus zapatillas nuevas
+     * @return la reserva de zapatillas
+     */
+    public ReservaZapatillas getReservaZapatillas()
     {
-        ArrayList <Zapatilla> copiaZapatillas = new ArrayList<Zapatilla>(zapatillasCampeonato);
-        return copiaZapatillas;
+        return zapatillasCampeonato;
+    }
+    
+    /**
+     * Devuelve la reserva de raquetas del campeonato, de la que los tenistas toman
+     * directamente sus raquetas nuevas
+     * @return la reserva de raquetas
+     */
+    public ReservaRaquetas getReservaRaquetas()
+    {
+        return raquetasCampeonato;
     }
     
     /**
      * Método que hace una copia del treeset de raquetas
      */
-    public synchronized TreeSet<Raqueta> getRaquetasCampeonato()
+    public TreeSet<Raqueta> getRaquetasCampeonato()
+    {
+        return raquetasCampeonato.copia();
+    }
+    
+    /**
+     * Método que realiza una copia de la lista de eliminados
+     */
+    public ArrayList<Tenista> getEliminados()
+    {
+        cerrojoCompetidores.readLock().lock();
+        try{
+            return new ArrayList<Tenista>(eliminados);
+        }
+        finally{
+            cerrojoCompetidores.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Indica si el campeonato se está disputando
+     * @return true si el campeonato está en curso
+     */
+    public boolean isEnCurso()
+    {
+        cerrojoCompetidores.readLock().lock();
+        try{
+            return enCurso;
+        }
+        finally{
+            cerrojoCompetidores.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Indica si los partidos de cada ronda se disputan en paralelo
+     * @return true si las rondas son paralelas
+     */
+    public boolean isRondasParalelas()
+    {
+        return rondasParalelas;
+    }
+    
+    /**
+     * Permite que los partidos de cada ronda se disputen en paralelo. El resultado del
+     * campeonato es el mismo que disputándolos uno detrás de otro
+     * @param rondasParalelas true para disputar las rondas en paralelo
+     */
+    public void setRondasParalelas(boolean rondasParalelas)
+    {
+        this.rondasParalelas = rondasParalelas;
+    }
+    
+    /**
+     * Guarda el estado del campeonato en una instantánea binaria. Si se está disputando un
+     * campeonato, solo espera a que termine la ronda en curso o la asignación de raquetas,
+     * no el campeonato entero, y el campeonato restaurado continuará en la ronda siguiente
+     * @param fichero el fichero de la instantánea
+     * @throws IOException si no se puede escribir la instantánea
+     */
+    public void guardarInstantanea(Path fichero) throws IOException
+    {
+        cerrojoRonda.lock();
+        try{
+            crearInstantanea().conPosicionSalida(salida.marcar().join()).guardar(fichero);
+        }
+        finally{
+            cerrojoRonda.unlock();
+        }
+    }
+    
+    /**
+     * Recoge el estado del campeonato en una instantánea, sin la marca de la salida. Los
+     * tenistas y el material no se copian, pero sí los datos de los tenistas que cambian
+     * durante el campeonato, así que la instantánea se puede guardar desde otro hilo
+     * mientras se disputa la ronda siguiente
+     * @return la instantánea
+     */
+    InstantaneaCampeonato crearInstantanea()
+    {
+        List<Zapatilla> zapatillas = new ArrayList<>();
+        ArrayList<Integer> unidadesZapatillas = new ArrayList<>();
+        zapatillasCampeonato.recorrer((z, n) -> {
+            zapatillas.add(z);
+            unidadesZapatillas.add(n);
+        });
+        List<Raqueta> raquetas = new ArrayList<>();
+        ArrayList<Integer> unidadesRaquetas = new ArrayList<>();
+        raquetasCampeonato.recorrer((r, n) -> {
+            raquetas.add(r);
+            unidadesRaquetas.add(n);
+        });
+        cerrojoCompetidores.readLock().lock();
+        try{
+            return new InstantaneaCampeonato(nombre, competidores.toList(), new ArrayList<>(inscritosPendientes),
+                                             new ArrayList<>(eliminados), zapatillas,
+                                             unidadesZapatillas.stream().mapToInt(Integer::intValue).toArray(),
+                                             raquetas, unidadesRaquetas.stream().mapToInt(Integer::intValue).toArray(),
+                                             getSubscriptores(), rondaActual, rondasParalelas, -1);
+        }
+        finally{
+            cerrojoCompetidores.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Restaura el estado del campeonato desde una instantánea binaria
+     * @param fichero el fichero de la instantánea
+     * @throws IOException si no se puede leer la instantánea
+     * @see #restaurar(InstantaneaCampeonato)
+     */
+    public void restaurarInstantanea(Path fichero) throws IOException
+    {
+        restaurar(InstantaneaCampeonato.leer(fichero));
+    }
+    
+    /**
+     * Activa el punto de control del campeonato: al terminar cada ronda se guarda una
+     * instantánea en el fichero, desde otro hilo, y al terminar el campeonato se borra y
+     * se desactiva. El punto de control anterior se cierra
+     * @param fichero el fichero del punto de control, o null para desactivarlo
+     */
+    public void setPuntoControl(Path fichero)
     {
-        TreeSet <Raqueta> copiaRaquetas = new TreeSet<Raqueta>(raquetasCampeonato);
-        return copiaRaquetas;
+        PuntoControl anterior = puntoControl;
+        puntoControl = fichero == null ? null : new PuntoControl(fichero);
+        if (anterior != null){
+            anterior.cerrar();
+        }
+    }
+    
+    /**
+     * Abre el buzón en el que el campeonato escribe todos los partidos, o lo crea si no
+     * existe. Los partidos se añaden al final de los que ya tenga el buzón. El buzón
+     * anterior se cierra, así que sus medios deben haber terminado
+     * @param fichero el fichero del buzón, o null para no escribir los partidos
+     * @throws IOException si no se puede abrir el fichero o no es un buzón
+     */
+    public void setBuzon(Path fichero) throws IOException
+    {
+        BuzonPartidos anterior = getBuzon();
+        setBuzon(fichero == null ? null : new BuzonPartidos(fichero, this));
+        if (anterior != null){
+            anterior.cerrar();
+        }
+    }
+    
+    /**
+     * Devuelve el punto de control del campeonato
+     * @return el punto de control, o null si no hay
+     */
+    public PuntoControl getPuntoControl()
+    {
+        return puntoControl;
+    }
+    
+    /**
+     * Restaura el campeonato desde el fichero de un punto de control, si existe, y continúa
+     * el fichero de salida desde la marca guardada, descartando lo que se escribió después
+     * de la última ronda completa. La salida no debe haber escrito nada todavía
+     * @param fichero el fichero del punto de control
+     * @return true si había punto de control y se ha restaurado
+     * @throws IOException si no se puede leer el punto de control o el fichero de salida
+     * no llega a la marca
+     * @throws IllegalStateException si el campeonato se está disputando
+     * @see #restaurar(InstantaneaCampeonato)
+     */
+    public boolean restaurarPuntoControl(Path fichero) throws IOException
+    {
+        if (!Files.exists(fichero)){
+            return false;
+        }
+        InstantaneaCampeonato instantanea = InstantaneaCampeonato.leer(fichero);
+        cerrojoRonda.lock();
+        try{
+            if (isEnCurso()){
+                throw new IllegalStateException("No se puede restaurar el campeonato " + nombre + " mientras se disputa");
+            }
+            if (instantanea.getPosicionSalida() >= 0){
+                salida.continuarEn(instantanea.getPosicionSalida());
+            }
+            restaurar(instantanea);
+        }
+        finally{
+            cerrojoRonda.unlock();
+        }
+        return true;
+    }
+    
+    /**
+     * Sustituye el cuadro, los inscritos pendientes, los eliminados y las reservas del
+     * campeonato por los de una instantánea, y le añade sus medios. Si la instantánea se
+     * tomó entre dos rondas, el siguiente controlDeCampeonato continúa en la ronda
+     * siguiente, sin volver a asignar las raquetas. Se puede llamar desde otro hilo
+     * mientras se disputa un campeonato: espera a que termine la ronda en curso y falla
+     * @param instantanea la instantánea
+     * @throws IllegalStateException si el campeonato se está disputando
+     */
+    public void restaurar(InstantaneaCampeonato instantanea)
+    {
+        cerrojoRonda.lock();
+        try{
+            ReservaZapatillas zapatillas = new ReservaZapatillas();
+            zapatillas.añadirTodas(instantanea.getZapatillas(), instantanea.getUnidadesZapatillas());
+            ReservaRaquetas raquetas = new ReservaRaquetas();
+            raquetas.añadirTodas(instantanea.getRaquetas(), instantanea.getUnidadesRaquetas());
+            cerrojoCompetidores.writeLock().lock();
+            try{
+                if (enCurso){
+                    throw new IllegalStateException("No se puede restaurar el campeonato " + nombre + " mientras se disputa");
+                }
+                competidores = new Cuadro(instantanea.getCuadro().size());
+                competidores.inscribirTodos(instantanea.getCuadro());
+                inscritosPendientes = new ArrayList<>(instantanea.getPendientes());
+                eliminados = new ArrayList<>(instantanea.getEliminados());
+                for (List<Tenista> lista: List.of(instantanea.getCuadro(), instantanea.getPendientes(), instantanea.getEliminados())){
+                    for (Tenista t: lista){
+                        t.setCampeonato(this);
+                    }
+                }
+                zapatillasCampeonato = zapatillas;
+                raquetasCampeonato = raquetas;
+                rondaActual = instantanea.getRonda();
+                rondaReanudacion = rondaActual > 0 && competidores.getTamaño() > 1 ? rondaActual : 0;
+                rondasParalelas = instantanea.isRondasParalelas();
+            }
+            finally{
+                cerrojoCompetidores.writeLock().unlock();
+            }
+            for (MedioGenerico medio: instantanea.getMedios()){
+                añadirMedio(medio);
+            }
+        }
+        finally{
+            cerrojoRonda.unlock();
+        }
     }
     
     /**
      * Devuelve el nombre de un Campeonato
      * @return el nombre de un campeonato
      */
-    public synchronized String getNombre(){
+    public String getNombre(){
         return this.nombre;
     }
     
     /**
-     * Método que hace un reset de todas las listas y treeset del campeonato y 
-     * finaliza la instancia campeonato
+     * Método que finaliza la instancia campeonato, retirándola del registro de campeonatos,
+     * terminando los hilos de sus medios asíncronos y cerrando su buzón y su fichero de
+     * salida
      */
     
-    public synchronized void reset () 
+    public void reset () 
     {
-        singletonCampeonato=null;
+        RegistroCampeonatos.getInstance().eliminarCampeonato(this);
+        cerrarMedios();
+        BuzonPartidos buzon = getBuzon();
+        if (buzon != null){
+            buzon.cerrar();
+        }
+        salida.cerrar();
     }
     
-    public void escribirFichero(String texto)
+    /**
+     * Devuelve la salida en la que escribe el campeonato
+     * @return la salida del campeonato
+     */
+    public Salida getSalida()
     {
-        try
-        {
-            writer.write(texto);
-        }
-        catch(IOException e)
-        {
-            System.err.println("Error al escribir en fichero");
-        }
+        return salida;
     }
     
+    /**
+     * Permite cambiar la salida en la que escribe el campeonato. La salida anterior se 
+     * vacía, pero no se cierra
+     * @param salida la nueva salida del campeonato
+     */
+    public void setSalida(Salida salida)
+    {
+        this.salida.vaciar();
+        this.salida = salida;
+    }
+    
+    /**
+     * Devuelve el registro binario de eventos del campeonato
+     * @return el registro de eventos, o null si no se registran eventos
+     */
+    public RegistroEventos getRegistroEventos()
+    {
+        return eventos;
+    }
+    
+    /**
+     * Permite registrar los eventos del campeonato en un registro binario. El registro
+     * se cierra al terminar el campeonato
+     * @param eventos el registro de eventos, o null para no registrarlos
+     */
+    public void setRegistroEventos(RegistroEventos eventos)
+    {
+        this.eventos = eventos;
+    }
+    
+    /**
+     * Indica si las líneas que se escriben en la salida llegan a algún destino. Si no
+     * llegan, el campeonato no se molesta en darles formato
+     * @return true si la salida está activa
+     */
+    public boolean isSalidaActiva()
+    {
+        return salida.isActiva();
+    }
+    
+    /**
+     * Escribe una línea en la salida del campeonato, que la muestra por pantalla y la 
+     * escribe en el fichero
+     * @param texto el texto de la línea
+     */
     public void escribirFicheroPantalla(String texto)
     {
-        escribirFichero(texto);
-        escribirFichero("\n");
-        System.out.println(texto);
+        salida.escribirLinea(texto);
+    }
+    
+    /**
+     * Escribe en la salida del campeonato una línea compuesta en un buffer, que se puede
+     * reutilizar en cuanto el método vuelve
+     * @param texto el texto de la línea
+     */
+    public void escribirFicheroPantalla(CharSequence texto)
+    {
+        salida.escribirLinea(texto);
+    }
+    
+    /**
+     * Escribe una línea que no pertenece a ningún partido, como la cabecera, los listados
+     * o el ganador, y la guarda también en el registro de eventos, si lo hay, para que al
+     * reproducirlo salga igual
+     * @param texto el texto de la línea
+     */
+    private void escribirTexto(String texto)
+    {
+        escribirFicheroPantalla(texto);
+        RegistroEventos registro = eventos;
+        if (registro != null){
+            registro.texto(texto);
+        }
     }
 }
\ No newline at end of file
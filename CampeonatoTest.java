@@ -80,10 +80,10 @@ public class CampeonatoTest
          t4 = new Voleadores ("Karolina Pliskova", z5, 67, 68.5, 3, "Rep Checa", 39);
          campeonato = Campeonato.getInstance("Campeonato de NigeriaTest");
         
-        t1.realizarInscripcion();
-        t2.realizarInscripcion();
-        t3.realizarInscripcion();
-        t4.realizarInscripcion();
+        t1.realizarInscripcion(campeonato);
+        t2.realizarInscripcion(campeonato);
+        t3.realizarInscripcion(campeonato);
+        t4.realizarInscripcion(campeonato);
         
         campeonato.añadirRaquetas(r1);
         campeonato.añadirRaquetas(r2);
@@ -142,4 +142,52 @@ public class CampeonatoTest
         assertEquals(true, r1.equals(t.getRaqueta()));
         
     }
+    /**
+     * Se disputan dos campeonatos con los mismos datos, uno con las rondas en paralelo, y
+     * se comprueba que el ganador y el orden de eliminados coinciden
+     */
+    @Test
+    public void rondasParalelasTest() throws ExcepcionRaquetas
+    {
+        Campeonato secuencial = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de MaliTest", null);
+        Campeonato paralelo = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de GhanaTest", null);
+        new InitTennisData(secuencial);
+        new InitTennisData(paralelo);
+        paralelo.setRondasParalelas(true);
+        secuencial.controlDeCampeonato();
+        paralelo.controlDeCampeonato();
+        
+        assertEquals(secuencial.getCompetidores().get(0).getNombre(), paralelo.getCompetidores().get(0).getNombre());
+        assertEquals(secuencial.getEliminados().size(), paralelo.getEliminados().size());
+        for (int i = 0; i < secuencial.getEliminados().size(); i++){
+            assertEquals(secuencial.getEliminados().get(i).getNombre(), paralelo.getEliminados().get(i).getNombre());
+        }
+        assertEquals(secuencial.getRaquetasCampeonato().size(), paralelo.getRaquetasCampeonato().size());
+        secuencial.reset();
+        paralelo.reset();
+    }
+    /**
+     * Un medio inscribe a un tenista mientras se disputa el campeonato; el campeonato
+     * termina con el cuadro original y el nuevo tenista queda para el siguiente
+     */
+    @Test
+    public void inscripcionDuranteCampeonatoTest() throws ExcepcionRaquetas
+    {
+        Tenista t5 = new Golpeadores ("Rafael Nadal", z9, 85, 85, 2, "España", 40);
+        campeonato.añadirSubscriptor(new MedioGenerico("Radio Test"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                if (t5.getCampeonato() == null){
+                    assertTrue(campeonato.isEnCurso());
+                    t5.realizarInscripcion(campeonato);
+                    assertEquals(4, campeonato.getCompetidores().size() + campeonato.getEliminados().size());
+                }
+            }
+        });
+        campeonato.setSalida(new SalidaAsincrona(null, false));
+        campeonato.controlDeCampeonato();
+        assertFalse(campeonato.isEnCurso());
+        assertEquals(3, campeonato.getEliminados().size());
+        assertFalse(campeonato.getEliminados().contains(t5));
+        assertSame(campeonato, t5.getCampeonato());
+    }
 }
@@ -0,0 +1,681 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Carga los tenistas, las zapatillas y las raquetas de un campeonato desde un fichero CSV
+ * o JSONL, en lugar de escribirlos en InitTennisData.
+ *
+ * El fichero se lee como un flujo: las líneas se agrupan en bloques que analizan varios
+ * hilos a la vez, y los bloques analizados se registran en el campeonato en el orden del
+ * fichero, de forma que la carga da el mismo resultado que leerlo de principio a fin. Nunca
+ * hay más de dos bloques por hilo en memoria, así que un fichero de millones de filas se
+ * carga con memoria acotada. Al terminar se devuelve un InformeCarga con las filas por
+ * segundo.
+ *
+ * Los tenistas y las zapatillas de cada bloque se registran de una vez, con un solo paso
+ * por el cerrojo de los competidores y por la cola de cada número. Las raquetas, en
+ * cambio, se guardan hasta el final del fichero y se añaden todas en un solo lote: así,
+ * si la reserva del campeonato está vacía, se construye a partir del lote ordenado en
+ * lugar de insertar las raquetas una a una. Guardarlas no cambia la memoria necesaria,
+ * porque la reserva las va a tener todas igualmente.
+ *
+ * Cada fila del CSV empieza por su tipo, seguido de la clase y de los parámetros de su
+ * constructor; las líneas vacías y las que empiezan por # se ignoran, y los campos pueden
+ * ir entre comillas dobles:
+ *
+ *     tenista,Golpeadores,Novak Djokovic,90,80,1,Serbia,42,ZapatillasAmortiguadas,Air Zoom Vapor Pro,42,5
+ *     zapatilla,ZapatillasConAgarre,Joma Slam,40,3[,unidades]
+ *     raqueta,RaquetaPotente,Head Radical,260,680,680,ABIERTO[,unidades]
+ *     raqueta,RaquetaEquilibrada,Class 100L,320,680,720,ABIERTO,8,1[,unidades]
+ *
+ * En JSONL cada línea es un objeto con los mismos datos por nombre; las zapatillas del
+ * tenista son un objeto anidado:
+ *
+ *     {"tipo":"tenista","clase":"Voleadores","nombre":"Daniil Medvedev","saque":79,"resto":68,
+ *      "ranking":2,"pais":"Rusia","pie":42,"zapatilla":{"clase":"ZapatillasAmortiguadas",
+ *      "modelo":"Vapor Lite","numero":42,"valor":3}}
+ *     {"tipo":"raqueta","clase":"RaquetaEquilibrada","modelo":"Class 100L","peso":320,
+ *      "longitud":680,"cabeza":720,"encordado":"ABIERTO","potencia":8,"control":1,"unidades":5}
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class CargadorDatos
+{
+    /**
+     * Formato del fichero de datos
+     */
+    public enum Formato
+    {
+        /** Una fila por línea con los campos separados por comas */
+        CSV,
+        /** Un objeto JSON por línea */
+        JSONL;
+
+        /**
+         * Deduce el formato de un fichero por su extensión
+         * @param fichero el fichero
+         * @return JSONL si el fichero acaba en .jsonl o .json, y CSV en otro caso
+         */
+        public static Formato de(Path fichero)
+        {
+            String nombre = fichero.getFileName().toString().toLowerCase(Locale.ROOT);
+            return nombre.endsWith(".jsonl") || nombre.endsWith(".json") ? JSONL : CSV;
+        }
+    }
+
+    private static final int FILAS_POR_BLOQUE = 8192;
+
+    private final int filasPorBloque;
+    private final int hilos;
+    private Consumer<InformeCarga> progreso;
+
+    /**
+     * Constructor de la clase CargadorDatos, con un hilo de análisis por procesador
+     */
+    public CargadorDatos()
+    {
+        this(FILAS_POR_BLOQUE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor de la clase CargadorDatos
+     * @param filasPorBloque número de líneas de cada bloque que se analiza de una vez
+     * @param hilos número de hilos que analizan los bloques
+     */
+    public CargadorDatos(int filasPorBloque, int hilos)
+    {
+        if (filasPorBloque <= 0 || hilos <= 0){
+            throw new IllegalArgumentException("El tamaño de bloque y el número de hilos deben ser positivos");
+        }
+        this.filasPorBloque = filasPorBloque;
+        this.hilos = hilos;
+    }
+
+    /**
+     * Indica a quién avisar del avance de la carga. Se le avisa después de registrar cada
+     * bloque, desde el hilo que llama a cargar
+     * @param progreso recibe el informe de lo cargado hasta el momento, o null para no avisar
+     */
+    public void setProgreso(Consumer<InformeCarga> progreso)
+    {
+        this.progreso = progreso;
+    }
+
+    /**
+     * Carga un fichero de datos en un campeonato. El formato se deduce de la extensión
+     * @param fichero el fichero, en UTF-8
+     * @param campeonato el campeonato en el que se registran los datos
+     * @return el informe de la carga
+     * @throws IOException si no se puede leer el fichero o alguna fila no es válida; los
+     * tenistas y las zapatillas anteriores a la fila errónea pueden haberse registrado ya,
+     * pero las raquetas no
+     */
+    public InformeCarga cargar(Path fichero, Campeonato campeonato) throws IOException
+    {
+        try (BufferedReader lector = Files.newBufferedReader(fichero, StandardCharsets.UTF_8)){
+            return cargar(lector, Formato.de(fichero), fichero.toString(), campeonato);
+        }
+    }
+
+    /**
+     * Carga unos datos en un campeonato
+     * @param lector de donde se leen los datos. No se cierra
+     * @param formato el formato de los datos
+     * @param origen nombre de los datos para los mensajes de error y el informe
+     * @param campeonato el campeonato en el que se registran los datos
+     * @return el informe de la carga
+     * @throws IOException si no se pueden leer los datos o alguna fila no es válida; los
+     * tenistas y las zapatillas anteriores a la fila errónea pueden haberse registrado ya,
+     * pero las raquetas no
+     */
+    public InformeCarga cargar(BufferedReader lector, Formato formato, String origen, Campeonato campeonato)
+        throws IOException
+    {
+        long inicio = System.nanoTime();
+        long[] totales = new long[4];
+        Raquetas raquetas = new Raquetas();
+        ArrayDeque<Future<Bloque>> pendientes = new ArrayDeque<>();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos, r -> {
+            Thread hilo = new Thread(r, "CargadorDatos");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        try{
+            String[] lineas = new String[filasPorBloque];
+            int leidas = 0;
+            long numeroLinea = 0;
+            String linea;
+            while ((linea = lector.readLine()) != null){
+                lineas[leidas++] = linea;
+                numeroLinea++;
+                if (leidas == filasPorBloque){
+                    if (pendientes.size() == 2 * hilos){
+                        registrar(esperar(pendientes.poll()), campeonato, raquetas, totales, origen, inicio);
+                    }
+                    pendientes.add(enviar(ejecutor, lineas, leidas, numeroLinea - leidas + 1, formato, origen));
+                    lineas = new String[filasPorBloque];
+                    leidas = 0;
+                }
+            }
+            if (leidas > 0){
+                pendientes.add(enviar(ejecutor, lineas, leidas, numeroLinea - leidas + 1, formato, origen));
+            }
+            while (!pendientes.isEmpty()){
+                registrar(esperar(pendientes.poll()), campeonato, raquetas, totales, origen, inicio);
+            }
+            campeonato.añadirRaquetas(raquetas.raquetas, raquetas.unidades);
+        }
+        finally{
+            for (Future<Bloque> f: pendientes){
+                f.cancel(true);
+            }
+            ejecutor.shutdownNow();
+        }
+        return new InformeCarga(origen, totales[0], totales[1], totales[2], totales[3], System.nanoTime() - inicio);
+    }
+
+    /**
+     * Carga un fichero de datos en un campeonato nuevo y muestra el informe de la carga
+     * @param args el fichero de datos
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 1){
+            System.err.println("Uso: java CargadorDatos fichero.csv|fichero.jsonl");
+            System.exit(2);
+        }
+        Path fichero = Paths.get(args[0]);
+        Campeonato campeonato = RegistroCampeonatos.getInstance().crearCampeonato(fichero.getFileName().toString(), null);
+        campeonato.setSalida(new SalidaAsincrona(null, false));
+        CargadorDatos cargador = new CargadorDatos();
+        cargador.setProgreso(informe -> System.err.println(informe));
+        System.out.println(cargador.cargar(fichero, campeonato));
+    }
+
+    /**
+     * Filas analizadas de un bloque, separadas por tipo y en el orden del fichero
+     */
+    private static final class Bloque
+    {
+        private final ArrayList<Tenista> tenistas = new ArrayList<>();
+        private final ArrayList<Zapatilla> zapatillas = new ArrayList<>();
+        private final ArrayList<Raqueta> raquetas = new ArrayList<>();
+        private final int[] unidadesZapatillas;
+        private final int[] unidadesRaquetas;
+        private int filas;
+
+        private Bloque(int lineas)
+        {
+            unidadesZapatillas = new int[lineas];
+            unidadesRaquetas = new int[lineas];
+        }
+    }
+
+    private static Future<Bloque> enviar(ExecutorService ejecutor, String[] lineas, int leidas, long primeraLinea,
+                                         Formato formato, String origen)
+    {
+        return ejecutor.submit(() -> analizar(lineas, leidas, primeraLinea, formato, origen));
+    }
+
+    private static Bloque esperar(Future<Bloque> bloque) throws IOException
+    {
+        try{
+            return bloque.get();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Carga interrumpida", e);
+        }
+        catch(ExecutionException e){
+            if (e.getCause() instanceof IOException){
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void registrar(Bloque bloque, Campeonato campeonato, Raquetas raquetas, long[] totales, String origen,
+                           long inicio)
+    {
+        campeonato.inscripcionCompetidores(bloque.tenistas);
+        campeonato.añadirZapatillas(bloque.zapatillas, bloque.unidadesZapatillas);
+        for (int i = 0; i < bloque.zapatillas.size(); i++){
+            totales[2] += bloque.unidadesZapatillas[i];
+        }
+        for (int i = 0; i < bloque.raquetas.size(); i++){
+            raquetas.añadir(bloque.raquetas.get(i), bloque.unidadesRaquetas[i]);
+            totales[3] += bloque.unidadesRaquetas[i];
+        }
+        totales[0] += bloque.filas;
+        totales[1] += bloque.tenistas.size();
+        Consumer<InformeCarga> p = progreso;
+        if (p != null){
+            p.accept(new InformeCarga(origen, totales[0], totales[1], totales[2], totales[3], System.nanoTime() - inicio));
+        }
+    }
+
+    /**
+     * Raquetas leídas del fichero que todavía no se han añadido al campeonato, con sus
+     * unidades
+     */
+    private static final class Raquetas
+    {
+        private final ArrayList<Raqueta> raquetas = new ArrayList<>();
+        private int[] unidades = new int[16];
+
+        private void añadir(Raqueta r, int cantidad)
+        {
+            if (raquetas.size() == unidades.length){
+                unidades = Arrays.copyOf(unidades, unidades.length * 2);
+            }
+            unidades[raquetas.size()] = cantidad;
+            raquetas.add(r);
+        }
+    }
+
+    /**
+     * Analiza las líneas de un bloque. Se ejecuta en los hilos del cargador
+     */
+    private static Bloque analizar(String[] lineas, int leidas, long primeraLinea, Formato formato, String origen)
+        throws IOException
+    {
+        Bloque bloque = new Bloque(leidas);
+        for (int i = 0; i < leidas; i++){
+            String linea = lineas[i].trim();
+            if (linea.isEmpty() || (formato == Formato.CSV && linea.startsWith("#"))){
+                continue;
+            }
+            try{
+                String[] campos = formato == Formato.CSV ? separarCsv(linea) : camposJson(linea);
+                crearFila(campos, bloque);
+            }
+            catch(IllegalArgumentException e){
+                throw new IOException(origen + ":" + (primeraLinea + i) + ": " + e.getMessage(), e);
+            }
+            bloque.filas++;
+        }
+        return bloque;
+    }
+
+    /**
+     * Crea el tenista, las zapatillas o la raqueta de una fila y lo añade al bloque
+     */
+    private static void crearFila(String[] c, Bloque bloque)
+    {
+        String tipo = c[0].toLowerCase(Locale.ROOT);
+        if (tipo.equals("tenista")){
+            comprobarCampos(c, 12, 12);
+            Zapatilla z = crearZapatilla(c[8], c[9], c[10], c[11]);
+            if (c[1].equals("Golpeadores")){
+                bloque.tenistas.add(new Golpeadores(c[2], z, numero(c[3]), numero(c[4]), entero(c[5]), c[6], numero(c[7])));
+            }
+            else if (c[1].equals("Voleadores")){
+                bloque.tenistas.add(new Voleadores(c[2], z, numero(c[3]), numero(c[4]), entero(c[5]), c[6], numero(c[7])));
+            }
+            else{
+                throw new IllegalArgumentException("clase de tenista desconocida: " + c[1]);
+            }
+        }
+        else if (tipo.equals("zapatilla")){
+            comprobarCampos(c, 5, 6);
+            bloque.unidadesZapatillas[bloque.zapatillas.size()] = c.length == 6 ? unidades(c[5]) : 1;
+            bloque.zapatillas.add(crearZapatilla(c[1], c[2], c[3], c[4]));
+        }
+        else if (tipo.equals("raqueta")){
+            boolean equilibrada = c.length > 1 && c[1].equals("RaquetaEquilibrada");
+            int campos = equilibrada ? 9 : 7;
+            comprobarCampos(c, campos, campos + 1);
+            bloque.unidadesRaquetas[bloque.raquetas.size()] = c.length > campos ? unidades(c[campos]) : 1;
+            bloque.raquetas.add(crearRaqueta(c));
+        }
+        else{
+            throw new IllegalArgumentException("tipo de fila desconocido: " + c[0]);
+        }
+    }
+
+    private static Zapatilla crearZapatilla(String clase, String modelo, String numero, String valor)
+    {
+        if (clase.equals("ZapatillasAmortiguadas")){
+            return new ZapatillasAmortiguadas(modelo, entero(numero), numero(valor));
+        }
+        if (clase.equals("ZapatillasConAgarre")){
+            return new ZapatillasConAgarre(modelo, entero(numero), numero(valor));
+        }
+        throw new IllegalArgumentException("clase de zapatillas desconocida: " + clase);
+    }
+
+    private static Raqueta crearRaqueta(String[] c)
+    {
+        Encordado encordado;
+        try{
+            encordado = Encordado.valueOf(c[6].toUpperCase(Locale.ROOT));
+        }
+        catch(IllegalArgumentException e){
+            throw new IllegalArgumentException("encordado desconocido: " + c[6]);
+        }
+        switch (c[1]){
+            case "RaquetaPotente":
+                return new RaquetaPotente(c[2], numero(c[3]), numero(c[4]), numero(c[5]), encordado);
+            case "RaquetaControlada":
+                return new RaquetaControlada(c[2], numero(c[3]), numero(c[4]), numero(c[5]), encordado);
+            case "RaquetaEquilibrada":
+                return new RaquetaEquilibrada(c[2], numero(c[3]), numero(c[4]), numero(c[5]), encordado,
+                                              numero(c[7]), numero(c[8]));
+            default:
+                throw new IllegalArgumentException("clase de raqueta desconocida: " + c[1]);
+        }
+    }
+
+    private static void comprobarCampos(String[] c, int minimo, int maximo)
+    {
+        if (c.length < minimo || c.length > maximo){
+            throw new IllegalArgumentException("una fila de tipo " + c[0] + " tiene " + c.length + " campos y se esperaban "
+                                               + (minimo == maximo ? "" + minimo : minimo + " o " + maximo));
+        }
+    }
+
+    private static double numero(String texto)
+    {
+        try{
+            return Double.parseDouble(texto);
+        }
+        catch(NumberFormatException e){
+            throw new IllegalArgumentException("número no válido: " + texto);
+        }
+    }
+
+    private static int entero(String texto)
+    {
+        double n = numero(texto);
+        if (n != Math.rint(n) || Math.abs(n) > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("se esperaba un número entero: " + texto);
+        }
+        return (int) n;
+    }
+
+    private static int unidades(String texto)
+    {
+        int n = entero(texto);
+        if (n <= 0){
+            throw new IllegalArgumentException("el número de unidades debe ser positivo: " + texto);
+        }
+        return n;
+    }
+
+    /**
+     * Separa los campos de una línea CSV. Los campos entre comillas dobles pueden tener
+     * comas, y dos comillas seguidas dentro de ellos son una comilla
+     */
+    static String[] separarCsv(String linea)
+    {
+        List<String> campos = new ArrayList<>(12);
+        StringBuilder campo = new StringBuilder();
+        int i = 0;
+        while (true){
+            while (i < linea.length() && linea.charAt(i) == ' '){
+                i++;
+            }
+            if (i < linea.length() && linea.charAt(i) == '"'){
+                i++;
+                while (true){
+                    if (i >= linea.length()){
+                        throw new IllegalArgumentException("falta la comilla de cierre");
+                    }
+                    char ch = linea.charAt(i++);
+                    if (ch == '"'){
+                        if (i < linea.length() && linea.charAt(i) == '"'){
+                            campo.append('"');
+                            i++;
+                        }
+                        else{
+                            break;
+                        }
+                    }
+                    else{
+                        campo.append(ch);
+                    }
+                }
+                while (i < linea.length() && linea.charAt(i) != ','){
+                    if (linea.charAt(i++) != ' '){
+                        throw new IllegalArgumentException("texto después de las comillas de un campo");
+                    }
+                }
+                campos.add(campo.toString());
+            }
+            else{
+                int coma = linea.indexOf(',', i);
+                int fin = coma < 0 ? linea.length() : coma;
+                campos.add(linea.substring(i, fin).trim());
+                i = fin;
+            }
+            campo.setLength(0);
+            if (i >= linea.length()){
+                break;
+            }
+            i++;
+        }
+        return campos.toArray(new String[0]);
+    }
+
+    /**
+     * Convierte un objeto JSON en los mismos campos que una fila CSV
+     */
+    static String[] camposJson(String linea)
+    {
+        Map<String, Object> objeto = new LectorJson(linea).leerTodo();
+        String tipo = texto(objeto, "tipo");
+        switch (tipo.toLowerCase(Locale.ROOT)){
+            case "tenista":
+                Object z = objeto.get("zapatilla");
+                if (!(z instanceof Map)){
+                    throw new IllegalArgumentException("falta el objeto zapatilla del tenista");
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> zapatilla = (Map<String, Object>) z;
+                return new String[] {tipo, texto(objeto, "clase"), texto(objeto, "nombre"), texto(objeto, "saque"),
+                                     texto(objeto, "resto"), texto(objeto, "ranking"), texto(objeto, "pais"),
+                                     texto(objeto, "pie"), texto(zapatilla, "clase"), texto(zapatilla, "modelo"),
+                                     texto(zapatilla, "numero"), texto(zapatilla, "valor")};
+            case "zapatilla":
+                return conUnidades(objeto, tipo, texto(objeto, "clase"), texto(objeto, "modelo"),
+                                   texto(objeto, "numero"), texto(objeto, "valor"));
+            case "raqueta":
+                String clase = texto(objeto, "clase");
+                if (clase.equals("RaquetaEquilibrada")){
+                    return conUnidades(objeto, tipo, clase, texto(objeto, "modelo"), texto(objeto, "peso"),
+                                       texto(objeto, "longitud"), texto(objeto, "cabeza"), texto(objeto, "encordado"),
+                                       texto(objeto, "potencia"), texto(objeto, "control"));
+                }
+                return conUnidades(objeto, tipo, clase, texto(objeto, "modelo"), texto(objeto, "peso"),
+                                   texto(objeto, "longitud"), texto(objeto, "cabeza"), texto(objeto, "encordado"));
+            default:
+                throw new IllegalArgumentException("tipo de fila desconocido: " + tipo);
+        }
+    }
+
+    private static String[] conUnidades(Map<String, Object> objeto, String... campos)
+    {
+        if (!objeto.containsKey("unidades")){
+            return campos;
+        }
+        String[] conUnidades = Arrays.copyOf(campos, campos.length + 1);
+        conUnidades[campos.length] = texto(objeto, "unidades");
+        return conUnidades;
+    }
+
+    private static String texto(Map<String, Object> objeto, String clave)
+    {
+        Object valor = objeto.get(clave);
+        if (!(valor instanceof String)){
+            throw new IllegalArgumentException(valor == null ? "falta el campo " + clave : "el campo " + clave + " no es un valor simple");
+        }
+        return (String) valor;
+    }
+
+    /**
+     * Lector mínimo de un objeto JSON. Los textos y los números se devuelven como String,
+     * los objetos como Map y null como null; las listas no se admiten
+     */
+    private static final class LectorJson
+    {
+        private final String texto;
+        private int pos;
+
+        private LectorJson(String texto)
+        {
+            this.texto = texto;
+        }
+
+        private Map<String, Object> leerTodo()
+        {
+            espacios();
+            Map<String, Object> objeto = leerObjeto();
+            espacios();
+            if (pos != texto.length()){
+                throw error("texto después del objeto");
+            }
+            return objeto;
+        }
+
+        private Map<String, Object> leerObjeto()
+        {
+            esperar('{');
+            Map<String, Object> objeto = new HashMap<>();
+            espacios();
+            if (siguiente() == '}'){
+                pos++;
+                return objeto;
+            }
+            while (true){
+                espacios();
+                String clave = leerCadena();
+                espacios();
+                esperar(':');
+                espacios();
+                objeto.put(clave, leerValor());
+                espacios();
+                char ch = siguiente();
+                pos++;
+                if (ch == '}'){
+                    return objeto;
+                }
+                if (ch != ','){
+                    throw error("se esperaba ',' o '}'");
+                }
+            }
+        }
+
+        private Object leerValor()
+        {
+            char ch = siguiente();
+            if (ch == '{'){
+                return leerObjeto();
+            }
+            if (ch == '"'){
+                return leerCadena();
+            }
+            int inicio = pos;
+            while (pos < texto.length() && "+-.0123456789eEtrufalsn".indexOf(texto.charAt(pos)) >= 0){
+                pos++;
+            }
+            String valor = texto.substring(inicio, pos);
+            if (valor.isEmpty()){
+                throw error("valor no válido");
+            }
+            if (valor.equals("null")){
+                return null;
+            }
+            return valor;
+        }
+
+        private String leerCadena()
+        {
+            esperar('"');
+            StringBuilder cadena = new StringBuilder();
+            while (true){
+                if (pos >= texto.length()){
+                    throw error("falta la comilla de cierre");
+                }
+                char ch = texto.charAt(pos++);
+                if (ch == '"'){
+                    return cadena.toString();
+                }
+                if (ch != '\\'){
+                    cadena.append(ch);
+                    continue;
+                }
+                if (pos >= texto.length()){
+                    throw error("escape incompleto");
+                }
+                char escape = texto.charAt(pos++);
+                switch (escape){
+                    case 'n': cadena.append('\n'); break;
+                    case 't': cadena.append('\t'); break;
+                    case 'r': cadena.append('\r'); break;
+                    case 'b': cadena.append('\b'); break;
+                    case 'f': cadena.append('\f'); break;
+                    case 'u':
+                        if (pos + 4 > texto.length()){
+                            throw error("escape incompleto");
+                        }
+                        try{
+                            cadena.append((char) Integer.parseInt(texto.substring(pos, pos + 4), 16));
+                        }
+                        catch(NumberFormatException e){
+                            throw error("escape no válido");
+                        }
+                        pos += 4;
+                        break;
+                    default: cadena.append(escape);
+                }
+            }
+        }
+
+        private void esperar(char ch)
+        {
+            if (siguiente() != ch){
+                throw error("se esperaba '" + ch + "'");
+            }
+            pos++;
+        }
+
+        private char siguiente()
+        {
+            if (pos >= texto.length()){
+                throw error("el objeto está incompleto");
+            }
+            return texto.charAt(pos);
+        }
+
+        private void espacios()
+        {
+            while (pos < texto.length() && Character.isWhitespace(texto.charAt(pos))){
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String mensaje)
+        {
+            return new IllegalArgumentException("JSON no válido en la columna " + (pos + 1) + ": " + mensaje);
+        }
+    }
+}
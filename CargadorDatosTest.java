@@ -0,0 +1,149 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pruebas de la carga de datos desde ficheros CSV y JSONL
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class CargadorDatosTest
+{
+    @TempDir
+    Path directorio;
+
+    private Campeonato campeonato;
+    private Campeonato esperado;
+
+    /**
+     * Default constructor for test class CargadorDatosTest
+     */
+    public CargadorDatosTest()
+    {
+    }
+
+    /**
+     * Crea un campeonato vacío en el que cargar los ficheros y otro con los datos de
+     * InitTennisData
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de CargadorDatosTest", null);
+        esperado = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de CargadorDatosTest esperado", null);
+        new InitTennisData(esperado);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        campeonato.reset();
+        esperado.reset();
+    }
+
+    /**
+     * El fichero datos2.csv tiene los mismos datos que InitTennisData, también analizado en
+     * bloques pequeños por varios hilos
+     */
+    @Test
+    public void datosInitTennisDataTest() throws IOException
+    {
+        InformeCarga informe = new CargadorDatos(3, 4).cargar(Paths.get("datos", "datos2.csv"), campeonato);
+        assertEquals(39, informe.getFilas());
+        assertEquals(8, informe.getTenistas());
+        assertEquals(15, informe.getZapatillas());
+        assertEquals(16, informe.getRaquetas());
+        assertEquals(describir(esperado.getCompetidores()), describir(campeonato.getCompetidores()));
+        assertEquals(esperado.getZapatillasCampeonato().toString(), campeonato.getZapatillasCampeonato().toString());
+        assertEquals(esperado.getRaquetasCampeonato().toString(), campeonato.getRaquetasCampeonato().toString());
+    }
+
+    /**
+     * Un fichero JSONL grande se registra en el orden del fichero aunque se analice en
+     * muchos bloques a la vez
+     */
+    @Test
+    public void ordenJsonlTest() throws IOException
+    {
+        Path fichero = directorio.resolve("plantilla.jsonl");
+        try (BufferedWriter escritor = Files.newBufferedWriter(fichero, StandardCharsets.UTF_8)){
+            for (int i = 0; i < 5000; i++){
+                escritor.write("{\"tipo\":\"tenista\",\"clase\":\"" + (i % 2 == 0 ? "Golpeadores" : "Voleadores")
+                               + "\",\"nombre\":\"Tenista " + i + "\",\"saque\":60,\"resto\":70.5,\"ranking\":" + (i + 1)
+                               + ",\"pais\":\"Espa\\u00f1a\",\"pie\":40,\"zapatilla\":{\"clase\":\"ZapatillasConAgarre\","
+                               + "\"modelo\":\"Joma Slam\",\"numero\":40,\"valor\":3}}\n");
+                escritor.write("{\"tipo\":\"zapatilla\",\"clase\":\"ZapatillasAmortiguadas\",\"modelo\":\"Lotto " + i
+                               + "\",\"numero\":40,\"valor\":5}\n");
+            }
+            escritor.write("\n{\"tipo\":\"raqueta\",\"clase\":\"RaquetaEquilibrada\",\"modelo\":\"Class 100L\",\"peso\":320,"
+                           + "\"longitud\":680,\"cabeza\":720,\"encordado\":\"abierto\",\"potencia\":8,\"control\":1,\"unidades\":2500}\n");
+        }
+        InformeCarga informe = new CargadorDatos(37, 4).cargar(fichero, campeonato);
+        assertEquals(10001, informe.getFilas());
+        assertEquals(5000, informe.getTenistas());
+        assertEquals(5000, informe.getZapatillas());
+        assertEquals(2500, informe.getRaquetas());
+        assertTrue(informe.getFilasPorSegundo() > 0);
+
+        List<Tenista> tenistas = campeonato.getCompetidores();
+        assertEquals(5000, tenistas.size());
+        for (int i = 0; i < tenistas.size(); i++){
+            assertEquals("Tenista " + i, tenistas.get(i).getNombre());
+            assertEquals("España", tenistas.get(i).getPais());
+        }
+        for (int i = 0; i < 5000; i++){
+            assertEquals("Lotto " + i, campeonato.getReservaZapatillas().tomar(40).getModelo());
+        }
+        assertEquals(2500, campeonato.getReservaRaquetas().getTamaño());
+        assertEquals(1, campeonato.getReservaRaquetas().getModelos());
+    }
+
+    /**
+     * Los errores indican el fichero y la línea de la fila no válida
+     */
+    @Test
+    public void errorTest() throws IOException
+    {
+        Path fichero = directorio.resolve("error.csv");
+        Files.write(fichero, List.of("# comentario",
+                                     "raqueta,RaquetaPotente,Head Radical,260,680,680,ABIERTO",
+                                     "raqueta,RaquetaPotente,Wilson Blade,260,690,680,ENTRELAZADO"), StandardCharsets.UTF_8);
+        IOException e = assertThrows(IOException.class, () -> new CargadorDatos().cargar(fichero, campeonato));
+        assertTrue(e.getMessage().contains("error.csv:3:"), e.getMessage());
+        assertTrue(e.getMessage().contains("ENTRELAZADO"), e.getMessage());
+    }
+
+    /**
+     * Los campos CSV entre comillas pueden tener comas y comillas
+     */
+    @Test
+    public void comillasCsvTest()
+    {
+        assertArrayEquals(new String[] {"raqueta", "Prince, \"Hornet\"", "220", ""},
+                          CargadorDatos.separarCsv("raqueta, \"Prince, \"\"Hornet\"\"\" ,220,"));
+        assertThrows(IllegalArgumentException.class, () -> CargadorDatos.separarCsv("raqueta,\"Prince"));
+    }
+
+    private static List<String> describir(List<Tenista> tenistas)
+    {
+        List<String> descripciones = new ArrayList<>();
+        for (Tenista t: tenistas){
+            descripciones.add(t.getClass().getName() + " " + t.getNombre() + " " + t.getSaque() + " " + t.getResto()
+                              + " " + t.getRanking() + " " + t.getPais() + " " + t.getNumPie() + " " + t.getZapatilla());
+        }
+        return descripciones;
+    }
+}
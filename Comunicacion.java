@@ -1,6 +1,36 @@
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 /**
  * Clase que representa la comunicacion entre los medios y el campeonato.
+ * Los subscriptores se guardan en un Registro que no cambia: añadir o quitar un medio crea
+ * un registro nuevo, con una copia del array de subscripciones, y lo publica con una
+ * operación compareAndSet, sin cerrojos. Las notificaciones usan el registro que haya al
+ * empezar, así que nunca esperan a quien añade o quita medios ni le hacen esperar; un
+ * medio que se quita mientras se notifica un partido puede recibir todavía ese partido.
+ * 
+ * Cada partido se notifica como un EventoPartido. Los medios añadidos sin más lo reciben
+ * en el mismo hilo que juega el partido; los añadidos con una PoliticaEntrega lo reciben
+ * desde su propia EntregaAsincrona, y notificar solo los encola.
+ * 
+ * Cada medio declara al subscribirse los partidos que le interesan (InteresMedio), y los
+ * intereses de todos los medios se guardan en un IndiceIntereses. Cada registro crea su
+ * índice la primera vez que se notifica un partido, de forma que muchos cambios seguidos
+ * en los subscriptores solo rehacen el índice una vez. Un partido solo llega a los medios
+ * a los que interesa.
+ * 
+ * Los medios subscritos con ModoEntrega.RONDA o ModoEntrega.TORNEO no reciben los partidos
+ * uno a uno: los partidos se van guardando y reciben un ResumenRonda al terminar cada ronda
+ * (notificarRonda) o un ResumenTorneo al terminar el campeonato (notificarTorneo). Los
+ * resúmenes tienen todos los partidos, sin tener en cuenta los intereses del medio.
+ * 
+ * Si la comunicación tiene un BuzonPartidos, cada partido se escribe también en el buzón.
+ * Los medios subscritos con un fichero de posición (ModoEntrega.BUZON) leen de ahí los
+ * partidos que les interesan, cada uno desde su ConsumidorBuzon, y los que se subscriben
+ * tarde o vuelven después de pararse reciben también los que se perdieron.
  * 
  * @author Antonio Javier Hidalgo
  * @author Juan Francisco García
@@ -9,29 +39,391 @@ import java.util.ArrayList;
  */
 public class Comunicacion
 {
-    private ArrayList <MedioGenerico> subscriptores;   
+    private final AtomicReference<Registro> registro;
+    private final ResumenRonda.Acumulador acumulador;
+    private final List<ResumenRonda> rondasTorneo;
+    private volatile BuzonPartidos buzon;
+
+    /**
+     * Subscripciones en un momento dado, en el orden en que se añadieron, con el índice de
+     * sus intereses
+     */
+    private static final class Registro
+    {
+        private static final Registro VACIO = new Registro(new Subscripcion[0]);
+
+        private final Subscripcion[] subscripciones;
+        private final boolean resumenes;
+        private final boolean torneo;
+        private volatile IndiceIntereses indice;
+
+        private Registro(Subscripcion[] subscripciones)
+        {
+            this.subscripciones = subscripciones;
+            boolean r = false;
+            boolean t = false;
+            for (Subscripcion s: subscripciones){
+                r |= s.modo == ModoEntrega.RONDA || s.modo == ModoEntrega.TORNEO;
+                t |= s.modo == ModoEntrega.TORNEO;
+            }
+            this.resumenes = r;
+            this.torneo = t;
+        }
+
+        /**
+         * Devuelve el índice de los intereses, creándolo si todavía no existe. Si dos hilos
+         * lo crean a la vez, los dos índices son iguales
+         */
+        private IndiceIntereses indice()
+        {
+            IndiceIntereses i = indice;
+            if (i == null){
+                i = subscripciones.length == 0 ? IndiceIntereses.VACIO : new IndiceIntereses(Arrays.asList(subscripciones));
+                indice = i;
+            }
+            return i;
+        }
+
+        private Registro con(Subscripcion subscripcion)
+        {
+            Subscripcion[] nuevas = Arrays.copyOf(subscripciones, subscripciones.length + 1);
+            nuevas[subscripciones.length] = subscripcion;
+            return new Registro(nuevas);
+        }
+
+        /**
+         * Devuelve el registro sin las subscripciones de un medio, o el mismo registro si el
+         * medio no está subscrito
+         */
+        private Registro sin(MedioGenerico medio)
+        {
+            Subscripcion[] nuevas = new Subscripcion[subscripciones.length];
+            int n = 0;
+            for (Subscripcion s: subscripciones){
+                if (s.medio != medio){
+                    nuevas[n++] = s;
+                }
+            }
+            return n == subscripciones.length ? this : new Registro(Arrays.copyOf(nuevas, n));
+        }
+    }
+
+    /**
+     * Un medio subscrito, con sus intereses, su modo de entrega y su entrega asíncrona si
+     * la tiene
+     */
+    static final class Subscripcion
+    {
+        private final MedioGenerico medio;
+        private final List<InteresMedio> intereses;
+        private final ModoEntrega modo;
+        private final EntregaAsincrona entrega;
+        private final ConsumidorBuzon consumidor;
+
+        private Subscripcion(MedioGenerico medio, ModoEntrega modo, EntregaAsincrona entrega)
+        {
+            this(medio, modo, entrega, null);
+        }
+
+        private Subscripcion(MedioGenerico medio, ModoEntrega modo, EntregaAsincrona entrega, ConsumidorBuzon consumidor)
+        {
+            this.medio = medio;
+            this.intereses = List.copyOf(medio.getIntereses());
+            this.modo = modo;
+            this.entrega = entrega;
+            this.consumidor = consumidor;
+        }
+
+        /**
+         * Espera a que el medio haya recibido los partidos notificados, si los recibe desde
+         * otro hilo
+         */
+        private void vaciar()
+        {
+            if (entrega != null){
+                entrega.vaciar();
+            }
+            if (consumidor != null){
+                consumidor.vaciar();
+            }
+        }
+
+        /**
+         * Termina el hilo desde el que recibe los partidos el medio, si lo tiene
+         */
+        private void cerrar()
+        {
+            if (entrega != null){
+                entrega.cerrar();
+            }
+            if (consumidor != null){
+                consumidor.cerrar();
+            }
+        }
+
+        /**
+         * Devuelve cómo recibe el medio los partidos
+         * @return el modo de entrega
+         */
+        ModoEntrega getModo()
+        {
+            return modo;
+        }
+
+        /**
+         * Devuelve los intereses que declaró el medio al subscribirse
+         * @return los intereses del medio
+         */
+        List<InteresMedio> getIntereses()
+        {
+            return intereses;
+        }
+
+        /**
+         * Pasa un partido al medio, directamente o a través de su entrega asíncrona
+         * @param evento el partido
+         */
+        void entregar(EventoPartido evento)
+        {
+            if (entrega == null){
+                medio.actualizar(evento);
+            }
+            else{
+                entrega.publicar(evento);
+            }
+        }
+    }
 
     /**
      * Constructor de la clase Comunicacion
      */
     public Comunicacion()
     {
-        subscriptores = new ArrayList <>(); 
+        registro = new AtomicReference<>(Registro.VACIO);
+        acumulador = new ResumenRonda.Acumulador();
+        rondasTorneo = new ArrayList<>();
     }
     
     /**
      * Método para añadir un nuevo medio al ArrayList de subscriptores
      */ 
     public void añadirMedio(MedioGenerico medio){
-        subscriptores.add(medio);
+        añadir(new Subscripcion(medio, ModoEntrega.PARTIDO, null));
+    }
+    
+    /**
+     * Añade un medio que recibe los partidos uno a uno o en resúmenes. Los resúmenes se
+     * entregan en el hilo que disputa el campeonato
+     * @param medio el medio
+     * @param modo cómo recibe el medio los partidos
+     */
+    public void añadirMedio(MedioGenerico medio, ModoEntrega modo){
+        añadir(new Subscripcion(medio, modo, null));
+    }
+    
+    /**
+     * Añade un medio que recibe los partidos de forma asíncrona, desde su propio hilo
+     * @param medio el medio
+     * @param politica qué hacer cuando la cola del medio está llena
+     * @param capacidad el número de partidos que caben en la cola del medio
+     * @return la entrega del medio, para consultar su retraso
+     */
+    public EntregaAsincrona añadirMedio(MedioGenerico medio, PoliticaEntrega politica, int capacidad){
+        EntregaAsincrona entrega = new EntregaAsincrona(medio, politica, capacidad);
+        añadir(new Subscripcion(medio, ModoEntrega.PARTIDO, entrega));
+        return entrega;
+    }
+    
+    /**
+     * Añade un medio que lee los partidos del buzón desde su propio hilo, a partir de la
+     * posición confirmada en su fichero de posición o del primer partido del buzón
+     * @param medio el medio
+     * @param ficheroPosicion el fichero en el que se confirma la posición del medio
+     * @return el consumidor del medio, para consultar su posición
+     * @throws IOException si no se puede abrir el fichero de posición
+     * @throws IllegalArgumentException si el medio no redefine actualizar(EventoPartido)
+     * @throws IllegalStateException si la comunicación no tiene buzón
+     */
+    public ConsumidorBuzon añadirMedio(MedioGenerico medio, Path ficheroPosicion) throws IOException{
+        BuzonPartidos b = buzon;
+        if (b == null){
+            throw new IllegalStateException("No hay buzón de partidos del que leer");
+        }
+        ConsumidorBuzon consumidor = new ConsumidorBuzon(b, medio, ficheroPosicion);
+        añadir(new Subscripcion(medio, ModoEntrega.BUZON, null, consumidor));
+        return consumidor;
+    }
+    
+    /**
+     * Cambia el buzón en el que se escriben los partidos. El buzón anterior no se cierra
+     * @param buzon el buzón, o null para no escribir los partidos
+     */
+    public void setBuzon(BuzonPartidos buzon){
+        this.buzon = buzon;
+    }
+    
+    /**
+     * Devuelve el buzón en el que se escriben los partidos
+     * @return el buzón, o null si no hay
+     */
+    public BuzonPartidos getBuzon(){
+        return buzon;
+    }
+    
+    /**
+     * Publica un registro nuevo con la subscripción
+     */
+    private void añadir(Subscripcion subscripcion){
+        Registro actual;
+        do{
+            actual = registro.get();
+        } while (!registro.compareAndSet(actual, actual.con(subscripcion)));
+    }
+    
+    /**
+     * Quita todas las subscripciones de un medio. Si el medio recibía los partidos de forma
+     * asíncrona, se le entregan los que tenía pendientes y se termina su hilo
+     * @param medio el medio
+     * @return true si el medio estaba subscrito
+     */
+    public boolean quitarMedio(MedioGenerico medio){
+        Registro actual;
+        Registro nuevo;
+        do{
+            actual = registro.get();
+            nuevo = actual.sin(medio);
+            if (nuevo == actual){
+                return false;
+            }
+        } while (!registro.compareAndSet(actual, nuevo));
+        for (Subscripcion s: actual.subscripciones){
+            if (s.medio == medio){
+                s.cerrar();
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Devuelve el número de subscripciones
+     * @return el número de medios subscritos, contando cada vez que se subscribió uno
+     */
+    public int getNumeroSubscriptores(){
+        return registro.get().subscripciones.length;
+    }
+    
+    /**
+     * Devuelve una copia de la lista de subscriptores
+     * @return los medios subscritos, en el orden en que se añadieron
+     */
+    List<MedioGenerico> getSubscriptores(){
+        Subscripcion[] subscripciones = registro.get().subscripciones;
+        List<MedioGenerico> medios = new ArrayList<>(subscripciones.length);
+        for (Subscripcion s: subscripciones){
+            medios.add(s.medio);
+        }
+        return medios;
     }
     
     /**
-     * Notifica a los medios y les pasa el resultado del partido, ganador, perdedor y ronda
+     * Devuelve los consumidores de los medios que leen el buzón
+     * @return los consumidores, en el orden en que se añadieron los medios
      */
-    public void notificar(Tenista ganador, Tenista perdedor, int ronda){
-        for (MedioGenerico medio: subscriptores){
-            medio.actualizar(ganador,perdedor,ronda);
+    public List<ConsumidorBuzon> getConsumidores(){
+        List<ConsumidorBuzon> consumidores = new ArrayList<>();
+        for (Subscripcion s: registro.get().subscripciones){
+            if (s.consumidor != null){
+                consumidores.add(s.consumidor);
+            }
+        }
+        return consumidores;
+    }
+    
+    /**
+     * Devuelve las entregas de los medios asíncronos
+     * @return las entregas, en el orden en que se añadieron los medios
+     */
+    public List<EntregaAsincrona> getEntregas(){
+        List<EntregaAsincrona> entregas = new ArrayList<>();
+        for (Subscripcion s: registro.get().subscripciones){
+            if (s.entrega != null){
+                entregas.add(s.entrega);
+            }
+        }
+        return entregas;
+    }
+    
+    /**
+     * Espera a que los medios asíncronos y los que leen el buzón hayan recibido todos los
+     * partidos notificados
+     */
+    public void esperarMedios(){
+        for (Subscripcion s: registro.get().subscripciones){
+            s.vaciar();
+        }
+    }
+    
+    /**
+     * Entrega los partidos pendientes a los medios asíncronos y a los que leen el buzón y
+     * termina sus hilos
+     */
+    public void cerrarMedios(){
+        for (Subscripcion s: registro.get().subscripciones){
+            s.cerrar();
+        }
+    }
+    
+    /**
+     * Notifica a los medios interesados y les pasa el resultado del partido, ganador,
+     * perdedor y ronda
+     * @return el número de medios que han recibido el partido
+     */
+    public int notificar(Tenista ganador, Tenista perdedor, int ronda){
+        BuzonPartidos b = buzon;
+        if (b != null){
+            b.publicar(ganador, perdedor, ronda);
+        }
+        Registro r = registro.get();
+        if (r.resumenes){
+            acumulador.añadir(ganador, perdedor, ronda);
+        }
+        return r.indice().notificar(ganador, perdedor, ronda);
+    }
+    
+    /**
+     * Entrega el resumen de los partidos notificados desde el último resumen a los medios
+     * que reciben las rondas, y lo guarda para el resumen del campeonato
+     */
+    public void notificarRonda(){
+        ResumenRonda resumen = acumulador.resumir();
+        if (resumen == null){
+            return;
+        }
+        Registro r = registro.get();
+        for (Subscripcion s: r.subscripciones){
+            if (s.modo == ModoEntrega.RONDA){
+                s.medio.actualizar(resumen);
+            }
+        }
+        if (r.torneo){
+            rondasTorneo.add(resumen);
+        }
+    }
+    
+    /**
+     * Entrega el resumen de las rondas guardadas a los medios que reciben el campeonato y
+     * empieza uno nuevo
+     */
+    public void notificarTorneo(){
+        if (rondasTorneo.isEmpty()){
+            return;
+        }
+        ResumenTorneo resumen = new ResumenTorneo(rondasTorneo.get(0).getCampeonato(), new ArrayList<>(rondasTorneo));
+        rondasTorneo.clear();
+        for (Subscripcion s: registro.get().subscripciones){
+            if (s.modo == ModoEntrega.TORNEO){
+                s.medio.actualizar(resumen);
+            }
         }
     }
 }
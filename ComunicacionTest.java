@@ -0,0 +1,249 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pruebas de la notificación de los partidos a los medios según sus intereses
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ComunicacionTest
+{
+    private Comunicacion comunicacion;
+    private Zapatilla z;
+    private List<String> recibidos;
+
+    /**
+     * Default constructor for test class ComunicacionTest
+     */
+    public ComunicacionTest()
+    {
+    }
+
+    @BeforeEach
+    public void setUp()
+    {
+        comunicacion = new Comunicacion();
+        z = new ZapatillasConAgarre("Court Lite", 39, 3);
+        recibidos = new ArrayList<>();
+    }
+
+    /**
+     * Cada medio recibe solo los partidos que cumplen alguno de sus intereses, una sola
+     * vez y en el orden en que se subscribieron los medios
+     */
+    @Test
+    public void interesesTest()
+    {
+        comunicacion.añadirMedio(medio("Todos", List.of(InteresMedio.todos())));
+        comunicacion.añadirMedio(medio("Cabeza", List.of(InteresMedio.todos().conGanador(1, 2),
+                                                         InteresMedio.todos().conPerdedor(1, 2))));
+        comunicacion.añadirMedio(medio("Final", List.of(InteresMedio.todos().enRondas(3, 3))));
+        comunicacion.añadirMedio(medio("Paliza", List.of(InteresMedio.todos().conDiferenciaMinima(50))));
+        comunicacion.añadirMedio(medio("Nada", List.of()));
+
+        assertEquals(3, comunicacion.notificar(tenista(1, 100), tenista(2, 40), 1));
+        assertEquals(List.of("Todos 1", "Cabeza 1", "Paliza 1"), recibidos);
+
+        recibidos.clear();
+        assertEquals(2, comunicacion.notificar(tenista(7, 100), tenista(9, 80), 3));
+        assertEquals(List.of("Todos 3", "Final 3"), recibidos);
+
+        recibidos.clear();
+        assertEquals(1, comunicacion.notificar(tenista(7, 100), tenista(9, 80), 2));
+        assertEquals(List.of("Todos 2"), recibidos);
+    }
+
+    /**
+     * Con miles de medios con franjas al azar, cada partido llega exactamente a los medios
+     * a los que interesa
+     */
+    @Test
+    public void muchosMediosTest()
+    {
+        Random azar = new Random(21);
+        List<List<InteresMedio>> intereses = new ArrayList<>();
+        for (int i = 0; i < 3000; i++){
+            List<InteresMedio> lista = new ArrayList<>();
+            for (int j = azar.nextInt(3); j >= 0; j--){
+                int g = azar.nextInt(200);
+                int p = azar.nextInt(200);
+                int r = 1 + azar.nextInt(8);
+                lista.add(InteresMedio.todos().conGanador(g, g + azar.nextInt(100)).conPerdedor(p, p + azar.nextInt(100))
+                          .enRondas(r, r + azar.nextInt(4)).conDiferenciaMinima(azar.nextInt(30)));
+            }
+            intereses.add(lista);
+            comunicacion.añadirMedio(medio("Medio " + i, lista));
+        }
+        for (int k = 0; k < 200; k++){
+            Tenista ganador = tenista(azar.nextInt(300), 20 + azar.nextInt(20));
+            Tenista perdedor = tenista(azar.nextInt(300), azar.nextInt(20));
+            int ronda = 1 + azar.nextInt(12);
+            EventoPartido evento = new EventoPartido(ganador, perdedor, ronda);
+            List<String> esperados = new ArrayList<>();
+            for (int i = 0; i < intereses.size(); i++){
+                if (intereses.get(i).stream().anyMatch(interes -> interes.acepta(evento))){
+                    esperados.add("Medio " + i + " " + ronda);
+                }
+            }
+            recibidos.clear();
+            assertEquals(esperados.size(), comunicacion.notificar(ganador, perdedor, ronda));
+            assertEquals(esperados, recibidos);
+        }
+    }
+
+    /**
+     * Los medios sensacionalista y generalista solo reciben los partidos de los que escriben
+     */
+    @Test
+    public void interesesMediosTest()
+    {
+        InteresMedio sorpresa = new MedioSensacionalista("Adios").getIntereses().get(0);
+        assertTrue(sorpresa.acepta(4, 3, 1, 0));
+        assertFalse(sorpresa.acepta(3, 1, 1, 0));
+        assertFalse(sorpresa.acepta(5, 4, 1, 0));
+        List<InteresMedio> cabeza = new MedioGeneralista("La Tierrina").getIntereses();
+        assertTrue(cabeza.stream().anyMatch(i -> i.acepta(9, 2, 1, 0)));
+        assertFalse(cabeza.stream().anyMatch(i -> i.acepta(3, 9, 1, 0)));
+        assertThrows(IllegalArgumentException.class, () -> InteresMedio.todos().conGanador(3, 2));
+    }
+
+    /**
+     * Un medio puede quitarse a sí mismo o quitar a otro mientras recibe un partido: el
+     * partido en curso llega a todos los medios que había al empezar y los siguientes ya no
+     */
+    @Test
+    public void quitarDuranteNotificacionTest()
+    {
+        MedioGenerico ultimo = medio("Ultimo", List.of(InteresMedio.todos()));
+        MedioGenerico[] primero = new MedioGenerico[1];
+        primero[0] = new MedioGenerico("Primero"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                recibidos.add(getNombre() + " " + ronda);
+                assertTrue(comunicacion.quitarMedio(primero[0]));
+                assertTrue(comunicacion.quitarMedio(ultimo));
+            }
+        };
+        comunicacion.añadirMedio(primero[0]);
+        comunicacion.añadirMedio(ultimo);
+        assertEquals(2, comunicacion.notificar(tenista(1, 10), tenista(2, 5), 1));
+        assertEquals(List.of("Primero 1", "Ultimo 1"), recibidos);
+        assertEquals(0, comunicacion.notificar(tenista(1, 10), tenista(2, 5), 2));
+        assertFalse(comunicacion.quitarMedio(ultimo));
+        assertEquals(0, comunicacion.getNumeroSubscriptores());
+    }
+
+    /**
+     * Varios hilos añaden y quitan medios mientras otro notifica partidos; no se pierde
+     * ningún cambio y cada partido llega a un número de medios posible
+     */
+    @Test
+    public void cambiosConcurrentesTest() throws InterruptedException
+    {
+        recibidos = Collections.synchronizedList(new ArrayList<>());
+        int hilos = 4;
+        int porHilo = 500;
+        List<MedioGenerico> fijos = new ArrayList<>();
+        for (int i = 0; i < 100; i++){
+            fijos.add(medio("Fijo " + i, List.of(InteresMedio.todos())));
+            comunicacion.añadirMedio(fijos.get(i));
+        }
+        AtomicBoolean terminado = new AtomicBoolean();
+        List<String> errores = Collections.synchronizedList(new ArrayList<>());
+        Thread notificador = new Thread(() -> {
+            while (!terminado.get()){
+                int n = comunicacion.notificar(tenista(1, 10), tenista(2, 5), 1);
+                if (n < 100 || n > 100 + hilos){
+                    errores.add("Medios notificados: " + n);
+                }
+            }
+        });
+        notificador.start();
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Thread> cambiadores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++){
+            Thread t = new Thread(() -> {
+                try{
+                    salida.await();
+                }
+                catch (InterruptedException e){
+                    return;
+                }
+                for (int i = 0; i < porHilo; i++){
+                    MedioGenerico m = medio("Temporal", List.of(InteresMedio.todos()));
+                    comunicacion.añadirMedio(m);
+                    if (!comunicacion.quitarMedio(m)){
+                        errores.add("No se ha quitado un medio");
+                    }
+                }
+            });
+            t.start();
+            cambiadores.add(t);
+        }
+        salida.countDown();
+        for (Thread t: cambiadores){
+            t.join();
+        }
+        terminado.set(true);
+        notificador.join();
+        assertEquals(List.of(), errores);
+        assertEquals(fijos, comunicacion.getSubscriptores());
+    }
+
+    /**
+     * Con diez mil medios, cada uno con una franja distinta del ranking del ganador, cada
+     * partido llega solo a los medios cuya franja cubre al ganador
+     */
+    @Test
+    public void diezMilMediosTest()
+    {
+        int[] contador = new int[1];
+        for (int i = 0; i < 10000; i++){
+            InteresMedio interes = InteresMedio.todos().conGanador(i, i + 9);
+            comunicacion.añadirMedio(new MedioGenerico("Medio " + i){
+                public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                    contador[0]++;
+                }
+
+                public List<InteresMedio> getIntereses(){
+                    return List.of(interes);
+                }
+            });
+        }
+        assertEquals(10000, comunicacion.getNumeroSubscriptores());
+        assertEquals(10, comunicacion.notificar(tenista(5000, 10), tenista(1, 5), 1));
+        assertEquals(1, comunicacion.notificar(tenista(0, 10), tenista(1, 5), 1));
+        assertEquals(5, comunicacion.notificar(tenista(10004, 10), tenista(1, 5), 1));
+        assertEquals(0, comunicacion.notificar(tenista(20000, 10), tenista(1, 5), 1));
+        assertEquals(16, contador[0]);
+    }
+
+    private Tenista tenista(int ranking, double puntos)
+    {
+        Tenista t = new Golpeadores("Tenista " + ranking, z, 80, 80, ranking, "España", 39);
+        t.setPuntosAcumulados(puntos);
+        return t;
+    }
+
+    private MedioGenerico medio(String nombre, List<InteresMedio> intereses)
+    {
+        return new MedioGenerico(nombre){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                recibidos.add(getNombre() + " " + ronda);
+            }
+
+            public List<InteresMedio> getIntereses(){
+                return intereses;
+            }
+        };
+    }
+}
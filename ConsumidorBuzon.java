@@ -0,0 +1,323 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Medio que lee los partidos de un BuzonPartidos desde su propio hilo, a su ritmo, y
+ * recibe los que le interesan con actualizar(EventoPartido). El campeonato solo escribe en
+ * el buzón, así que un medio lento no lo retrasa, y un medio que se queda atrás los lee
+ * después a la velocidad del disco.
+ *
+ * La posición hasta la que el medio ha recibido los partidos se confirma en un fichero
+ * propio cada INTERVALO_CONFIRMACION partidos y cada vez que el medio alcanza el final del
+ * buzón. Un consumidor nuevo del mismo medio y el mismo fichero de posición sigue desde la
+ * última posición confirmada, así que el medio recibe cada partido al menos una vez: los
+ * que recibió después de la última confirmación le llegan otra vez.
+ *
+ * Los partidos leídos del buzón no tienen los tenistas, así que el medio debe recibirlos
+ * con su propio actualizar(EventoPartido) y usar los datos del evento; un medio que solo
+ * tiene actualizar(ganador, perdedor, ronda) no se admite. Si el medio lanza una excepción
+ * al recibir un partido, el consumidor se para sin confirmar ese partido y la excepción
+ * queda en getError; un consumidor nuevo con el mismo fichero de posición empieza por él.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ConsumidorBuzon
+{
+    /** Partidos que recibe el medio entre dos confirmaciones de su posición */
+    public static final int INTERVALO_CONFIRMACION = 1024;
+    /**
+     * Tiempo que espera el hilo antes de volver a mirar el buzón cuando lo ha leído todo. Se
+     * dobla cada vez que no encuentra partidos nuevos, hasta ESPERA_MAXIMA
+     */
+    private static final long ESPERA = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long ESPERA_MAXIMA = TimeUnit.MILLISECONDS.toNanos(64);
+
+    private final BuzonPartidos buzon;
+    private final MedioGenerico medio;
+    private final List<InteresMedio> intereses;
+    private final Path ficheroPosicion;
+    private final FileChannel canalPosicion;
+    private final MappedByteBuffer posicionGuardada;
+    private final BuzonPartidos.Lector lector;
+    private final Thread hilo;
+    private final Object alDia;
+    private volatile long posicion;
+    private volatile long confirmada;
+    private volatile long leidos;
+    private volatile long entregados;
+    private volatile boolean cerrado;
+    private volatile RuntimeException error;
+
+    /**
+     * Constructor de la clase ConsumidorBuzon. Empieza en la posición confirmada en el
+     * fichero de posición, o en el primer partido del buzón si el fichero no existe, y
+     * arranca el hilo que lee el buzón
+     * @param buzon el buzón del que se leen los partidos
+     * @param medio el medio que recibe los partidos
+     * @param ficheroPosicion el fichero en el que se confirma la posición del medio
+     * @throws IOException si no se puede abrir el fichero de posición o su posición está
+     * fuera del buzón
+     * @throws IllegalArgumentException si el medio no redefine actualizar(EventoPartido)
+     */
+    public ConsumidorBuzon(BuzonPartidos buzon, MedioGenerico medio, Path ficheroPosicion) throws IOException
+    {
+        if (!recibeEventos(medio)){
+            throw new IllegalArgumentException("El medio " + medio.getNombre() + " no recibe los partidos con "
+                                               + "actualizar(EventoPartido) y los del buzón no tienen los tenistas");
+        }
+        this.buzon = buzon;
+        this.medio = medio;
+        this.intereses = List.copyOf(medio.getIntereses());
+        this.ficheroPosicion = ficheroPosicion;
+        this.canalPosicion = FileChannel.open(ficheroPosicion, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                              StandardOpenOption.WRITE);
+        try{
+            boolean nuevo = canalPosicion.size() < 8;
+            posicionGuardada = canalPosicion.map(FileChannel.MapMode.READ_WRITE, 0, 8);
+            long inicio = nuevo ? BuzonPartidos.INICIO : posicionGuardada.getLong(0);
+            if (inicio < BuzonPartidos.INICIO || inicio > buzon.getFin()){
+                throw new IOException("La posición " + inicio + " de " + ficheroPosicion + " está fuera del buzón "
+                                      + buzon.getFichero());
+            }
+            lector = buzon.lector(inicio);
+        }
+        catch(IOException | RuntimeException e){
+            canalPosicion.close();
+            throw e;
+        }
+        this.posicion = lector.getPosicion();
+        this.confirmada = posicion;
+        this.alDia = new Object();
+        this.hilo = new Thread(this::consumir, "buzon-" + medio.getNombre());
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    /**
+     * Espera a que el medio haya recibido todos los partidos escritos en el buzón hasta
+     * ahora, o a que el consumidor se pare por un error del medio
+     */
+    public void vaciar()
+    {
+        long objetivo = buzon.getFin();
+        synchronized(alDia){
+            while (posicion < objetivo && hilo.isAlive()){
+                LockSupport.unpark(hilo);
+                try{
+                    alDia.wait(1);
+                }
+                catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Entrega los partidos que quedan en el buzón, confirma la posición y termina el hilo
+     */
+    public void cerrar()
+    {
+        cerrado = true;
+        LockSupport.unpark(hilo);
+        try{
+            hilo.join();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Devuelve el medio que recibe los partidos
+     * @return el medio
+     */
+    public MedioGenerico getMedio()
+    {
+        return medio;
+    }
+
+    /**
+     * Devuelve el fichero en el que se confirma la posición del medio
+     * @return el fichero de posición
+     */
+    public Path getFicheroPosicion()
+    {
+        return ficheroPosicion;
+    }
+
+    /**
+     * Devuelve la posición del buzón hasta la que el medio ha recibido los partidos
+     * @return la posición del siguiente partido que leerá el medio
+     */
+    public long getPosicion()
+    {
+        return posicion;
+    }
+
+    /**
+     * Devuelve la última posición confirmada en el fichero de posición
+     * @return la posición confirmada
+     */
+    public long getPosicionConfirmada()
+    {
+        return confirmada;
+    }
+
+    /**
+     * Devuelve cuántos bytes del buzón le quedan por leer al medio
+     * @return el retraso del medio, en bytes
+     */
+    public long getPendientes()
+    {
+        return Math.max(0, buzon.getFin() - posicion);
+    }
+
+    /**
+     * Devuelve el número de partidos que ha leído el consumidor del buzón
+     * @return los partidos leídos
+     */
+    public long getLeidos()
+    {
+        return leidos;
+    }
+
+    /**
+     * Devuelve el número de partidos que ha recibido el medio, los que le interesan de los
+     * leídos
+     * @return los partidos entregados
+     */
+    public long getEntregados()
+    {
+        return entregados;
+    }
+
+    /**
+     * Devuelve la excepción que lanzó el medio al recibir un partido, por la que el
+     * consumidor se ha parado
+     * @return la excepción, o null si el medio no ha fallado
+     */
+    public RuntimeException getError()
+    {
+        return error;
+    }
+
+    @Override
+    public String toString()
+    {
+        return medio.getNombre() + " (buzón): " + entregados + " entregados de " + leidos + " leídos, "
+               + getPendientes() + " bytes pendientes, posición confirmada " + confirmada;
+    }
+
+    /**
+     * Indica si un medio recibe los partidos con su propio actualizar(EventoPartido). El de
+     * MedioGenerico los pasa a actualizar(ganador, perdedor, ronda), que necesita los
+     * tenistas
+     */
+    private static boolean recibeEventos(MedioGenerico medio)
+    {
+        try{
+            return medio.getClass().getMethod("actualizar", EventoPartido.class).getDeclaringClass() != MedioGenerico.class;
+        }
+        catch(NoSuchMethodException e){
+            return false;
+        }
+    }
+
+    private boolean interesa(EventoPartido evento)
+    {
+        for (InteresMedio interes: intereses){
+            if (interes.acepta(evento)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void confirmar()
+    {
+        if (confirmada != posicion){
+            posicionGuardada.putLong(0, posicion);
+            posicionGuardada.force();
+            confirmada = posicion;
+        }
+    }
+
+    /**
+     * Bucle del hilo del consumidor: pasa al medio los partidos del buzón en orden y, cuando
+     * los ha leído todos, espera a que se escriban más hasta que se cierra el consumidor.
+     * vaciar y cerrar despiertan al hilo para que no espere. Si el medio falla con un
+     * partido, se confirma la posición de ese partido y el hilo termina
+     */
+    private void consumir()
+    {
+        int sinConfirmar = 0;
+        long espera = ESPERA;
+        try{
+            while (true){
+                boolean terminar = cerrado;
+                long inicio = lector.getPosicion();
+                EventoPartido evento = lector.siguiente();
+                if (evento == null){
+                    posicion = lector.getPosicion();
+                    confirmar();
+                    sinConfirmar = 0;
+                    synchronized(alDia){
+                        alDia.notifyAll();
+                    }
+                    if (terminar){
+                        break;
+                    }
+                    LockSupport.parkNanos(espera);
+                    espera = Math.min(2 * espera, ESPERA_MAXIMA);
+                    continue;
+                }
+                espera = ESPERA;
+                leidos++;
+                if (interesa(evento)){
+                    try{
+                        medio.actualizar(evento);
+                    }
+                    catch(RuntimeException e){
+                        System.err.println("Error al entregar un partido al medio " + medio.getNombre()
+                                           + ", que deja de leer el buzón: " + e);
+                        error = e;
+                        posicion = inicio;
+                        confirmar();
+                        break;
+                    }
+                    entregados++;
+                }
+                posicion = lector.getPosicion();
+                if (++sinConfirmar >= INTERVALO_CONFIRMACION){
+                    confirmar();
+                    sinConfirmar = 0;
+                }
+            }
+        }
+        catch(IOException e){
+            System.err.println("Error al leer el buzón del medio " + medio.getNombre() + ": " + e);
+        }
+        finally{
+            try{
+                canalPosicion.close();
+            }
+            catch(IOException e){
+                System.err.println("Error al cerrar la posición del medio " + medio.getNombre() + ": " + e);
+            }
+            synchronized(alDia){
+                alDia.notifyAll();
+            }
+        }
+    }
+}
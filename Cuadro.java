@@ -0,0 +1,181 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cuadro de un campeonato. Guarda a los tenistas que siguen en competición en un array
+ * de plazas: en cada ronda el partido i enfrenta a la plaza i con la plaza n-1-i y el
+ * ganador ocupa la plaza i en la ronda siguiente, por lo que cada partido cuesta O(1)
+ * y cada ronda es lineal en el número de tenistas. Si el número de tenistas es impar,
+ * el de la plaza central pasa de ronda sin jugar.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+class Cuadro implements Iterable<Tenista>
+{
+    private Tenista[] plazas;
+    private int tamaño;
+
+    /**
+     * Constructor de la clase Cuadro
+     * @param capacidad número de plazas que se reservan inicialmente
+     */
+    Cuadro(int capacidad)
+    {
+        plazas = new Tenista[Math.max(capacidad, 1)];
+        tamaño = 0;
+    }
+
+    /**
+     * Añade un tenista en la siguiente plaza libre del cuadro
+     * @param t el tenista
+     */
+    void inscribir(Tenista t)
+    {
+        if (tamaño == plazas.length){
+            plazas = Arrays.copyOf(plazas, plazas.length * 2);
+        }
+        plazas[tamaño++] = t;
+    }
+
+    /**
+     * Añade varios tenistas en las siguientes plazas libres del cuadro, en el orden de la
+     * colección. El cuadro crece una sola vez para todos
+     * @param tenistas los tenistas
+     */
+    void inscribirTodos(Collection<? extends Tenista> tenistas)
+    {
+        Object[] nuevos = tenistas.toArray();
+        if (tamaño + nuevos.length > plazas.length){
+            plazas = Arrays.copyOf(plazas, Math.max(plazas.length * 2, tamaño + nuevos.length));
+        }
+        System.arraycopy(nuevos, 0, plazas, tamaño, nuevos.length);
+        tamaño += nuevos.length;
+    }
+
+    /**
+     * Devuelve el número de tenistas que siguen en el cuadro
+     * @return número de tenistas
+     */
+    int getTamaño()
+    {
+        return tamaño;
+    }
+
+    /**
+     * Devuelve el tenista que ocupa una plaza
+     * @param plaza la plaza
+     * @return el tenista de esa plaza
+     */
+    Tenista get(int plaza)
+    {
+        if (plaza < 0 || plaza >= tamaño){
+            throw new IndexOutOfBoundsException("Plaza " + plaza + " de " + tamaño);
+        }
+        return plazas[plaza];
+    }
+
+    /**
+     * Devuelve el número de partidos de la ronda actual
+     * @return número de partidos
+     */
+    int getNumeroPartidos()
+    {
+        return tamaño / 2;
+    }
+
+    /**
+     * Devuelve el primer tenista de un partido de la ronda actual
+     * @param partido el partido
+     * @return el tenista de la plaza del partido
+     */
+    Tenista getPrimero(int partido)
+    {
+        return plazas[partido];
+    }
+
+    /**
+     * Devuelve el segundo tenista de un partido de la ronda actual
+     * @param partido el partido
+     * @return el tenista de la plaza simétrica a la del partido
+     */
+    Tenista getSegundo(int partido)
+    {
+        return plazas[tamaño - 1 - partido];
+    }
+
+    /**
+     * Indica si en la ronda actual hay un tenista que pasa sin jugar
+     * @return true si el número de tenistas es impar
+     */
+    boolean hayDescanso()
+    {
+        return tamaño % 2 != 0;
+    }
+
+    /**
+     * Devuelve el tenista que pasa de ronda sin jugar
+     * @return el tenista de la plaza central
+     */
+    Tenista getDescanso()
+    {
+        return plazas[tamaño / 2];
+    }
+
+    /**
+     * Coloca al ganador de un partido en la plaza del partido
+     * @param partido el partido
+     * @param ganador el tenista que gana el partido
+     */
+    void ganador(int partido, Tenista ganador)
+    {
+        plazas[partido] = ganador;
+    }
+
+    /**
+     * Termina la ronda actual, dejando en el cuadro solo a los ganadores y al tenista
+     * que ha descansado
+     */
+    void cerrarRonda()
+    {
+        int siguiente = (tamaño + 1) / 2;
+        Arrays.fill(plazas, siguiente, tamaño, null);
+        tamaño = siguiente;
+    }
+
+    /**
+     * Devuelve una lista con los tenistas del cuadro en el orden de sus plazas
+     * @return lista de tenistas
+     */
+    ArrayList<Tenista> toList()
+    {
+        return new ArrayList<Tenista>(Arrays.asList(plazas).subList(0, tamaño));
+    }
+
+    @Override
+    public Iterator<Tenista> iterator()
+    {
+        return new Iterator<Tenista>()
+        {
+            private int siguiente = 0;
+
+            public boolean hasNext()
+            {
+                return siguiente < tamaño;
+            }
+
+            public Tenista next()
+            {
+                if (!hasNext()){
+                    throw new NoSuchElementException();
+                }
+                return plazas[siguiente++];
+            }
+        };
+    }
+}
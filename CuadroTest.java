@@ -0,0 +1,99 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+
+/**
+ * Pruebas del cuadro de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class CuadroTest
+{
+    private Cuadro cuadro;
+    private Tenista[] tenistas;
+
+    /**
+     * Default constructor for test class CuadroTest
+     */
+    public CuadroTest()
+    {
+    }
+
+    /**
+     * Crea un cuadro con 5 tenistas, más de los que caben inicialmente
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        cuadro = new Cuadro(2);
+        tenistas = new Tenista[5];
+        for (int i = 0; i < tenistas.length; i++){
+            tenistas[i] = new Golpeadores("Tenista " + i, new ZapatillasAmortiguadas("Lotto Space", 40, 5),
+                                          60, 60, i + 1, "España", 40);
+            cuadro.inscribir(tenistas[i]);
+        }
+    }
+
+    /**
+     * Con 5 tenistas se juegan 2 partidos, la plaza central descansa y la siguiente ronda
+     * tiene 3 tenistas con los ganadores en las plazas de sus partidos
+     */
+    @Test
+    public void rondaConDescansoTest()
+    {
+        assertEquals(5, cuadro.getTamaño());
+        assertEquals(2, cuadro.getNumeroPartidos());
+        assertSame(tenistas[0], cuadro.getPrimero(0));
+        assertSame(tenistas[4], cuadro.getSegundo(0));
+        assertSame(tenistas[1], cuadro.getPrimero(1));
+        assertSame(tenistas[3], cuadro.getSegundo(1));
+        assertTrue(cuadro.hayDescanso());
+        assertSame(tenistas[2], cuadro.getDescanso());
+
+        cuadro.ganador(0, tenistas[4]);
+        cuadro.cerrarRonda();
+
+        assertEquals(3, cuadro.getTamaño());
+        assertSame(tenistas[4], cuadro.get(0));
+        assertSame(tenistas[1], cuadro.get(1));
+        assertSame(tenistas[2], cuadro.get(2));
+        assertEquals(3, cuadro.toList().size());
+    }
+
+    /**
+     * Cerrando rondas el cuadro acaba con un único tenista
+     */
+    @Test
+    public void cuadroCompletoTest()
+    {
+        int rondas = 0;
+        while (cuadro.getTamaño() > 1){
+            cuadro.cerrarRonda();
+            rondas++;
+        }
+        assertEquals(3, rondas);
+        assertSame(tenistas[0], cuadro.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> cuadro.get(1));
+    }
+
+    /**
+     * Los tenistas inscritos de una vez ocupan las siguientes plazas en su orden, aunque
+     * no quepan en las plazas reservadas
+     */
+    @Test
+    public void inscribirTodosTest()
+    {
+        Cuadro otro = new Cuadro(1);
+        otro.inscribir(tenistas[0]);
+        otro.inscribirTodos(Arrays.asList(tenistas).subList(1, 5));
+        otro.inscribirTodos(Arrays.asList(tenistas));
+        assertEquals(10, otro.getTamaño());
+        for (int i = 0; i < 10; i++){
+            assertSame(tenistas[i % 5], otro.get(i));
+        }
+    }
+}
@@ -0,0 +1,285 @@
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entrega asíncrona de los partidos a un medio. Cada medio tiene su propia cola acotada y
+ * su propio hilo, de forma que el campeonato solo paga por encolar el evento y un medio
+ * lento no retrasa ni al campeonato ni a los demás medios. Lo que pasa cuando la cola se
+ * llena lo decide la PoliticaEntrega.
+ *
+ * El retraso del medio se puede consultar mientras se disputa el campeonato: los eventos
+ * pendientes, los entregados, los descartados, la antigüedad del evento más antiguo de la
+ * cola y el mayor tiempo que ha esperado un evento hasta llegar al medio.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class EntregaAsincrona
+{
+    /** Con MUESTREAR y la cola llena, entra uno de cada tantos partidos */
+    public static final int INTERVALO_MUESTREO = 10;
+
+    private final MedioGenerico medio;
+    private final PoliticaEntrega politica;
+    private final int intervaloMuestreo;
+    private final BlockingQueue<EventoPartido> cola;
+    private final Thread hilo;
+    private final Object vacia;
+    private final AtomicLong pendientes;
+    private final AtomicLong entregados;
+    private final AtomicLong descartados;
+    private volatile long retrasoMaximo;
+    private volatile boolean cerrada;
+    private int saltados;
+
+    /**
+     * Constructor de la clase EntregaAsincrona. Arranca el hilo que entrega los partidos
+     * @param medio el medio que recibe los partidos
+     * @param politica qué hacer cuando la cola está llena
+     * @param capacidad el número de partidos que caben en la cola
+     * @throws IllegalArgumentException si la capacidad no es positiva
+     */
+    public EntregaAsincrona(MedioGenerico medio, PoliticaEntrega politica, int capacidad)
+    {
+        this(medio, politica, capacidad, INTERVALO_MUESTREO);
+    }
+
+    /**
+     * Constructor de la clase EntregaAsincrona. Arranca el hilo que entrega los partidos
+     * @param medio el medio que recibe los partidos
+     * @param politica qué hacer cuando la cola está llena
+     * @param capacidad el número de partidos que caben en la cola
+     * @param intervaloMuestreo con MUESTREAR y la cola llena, entra uno de cada tantos partidos
+     * @throws IllegalArgumentException si la capacidad o el intervalo no son positivos
+     */
+    public EntregaAsincrona(MedioGenerico medio, PoliticaEntrega politica, int capacidad, int intervaloMuestreo)
+    {
+        if (capacidad <= 0 || intervaloMuestreo <= 0){
+            throw new IllegalArgumentException("La capacidad y el intervalo de muestreo deben ser positivos");
+        }
+        this.medio = medio;
+        this.politica = politica;
+        this.intervaloMuestreo = intervaloMuestreo;
+        this.cola = new ArrayBlockingQueue<>(capacidad);
+        this.vacia = new Object();
+        this.pendientes = new AtomicLong();
+        this.entregados = new AtomicLong();
+        this.descartados = new AtomicLong();
+        this.hilo = new Thread(this::entregar, "medio-" + medio.getNombre());
+        hilo.setDaemon(true);
+        hilo.start();
+    }
+
+    /**
+     * Encola un partido para el medio, aplicando la política si la cola está llena
+     * @param evento el partido
+     * @return true si el partido ha entrado en la cola
+     */
+    public synchronized boolean publicar(EventoPartido evento)
+    {
+        if (cerrada){
+            descartados.incrementAndGet();
+            return false;
+        }
+        pendientes.incrementAndGet();
+        if (cola.offer(evento)){
+            saltados = 0;
+            return true;
+        }
+        switch (politica){
+            case BLOQUEAR:
+                try{
+                    cola.put(evento);
+                    return true;
+                }
+                catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            case DESCARTAR_ANTIGUO:
+                while (!cola.offer(evento)){
+                    descartarAntiguo();
+                }
+                return true;
+            case MUESTREAR:
+                if (++saltados >= intervaloMuestreo){
+                    saltados = 0;
+                    while (!cola.offer(evento)){
+                        descartarAntiguo();
+                    }
+                    return true;
+                }
+                break;
+        }
+        descartado();
+        return false;
+    }
+
+    /**
+     * Espera a que el medio haya recibido todos los partidos encolados
+     */
+    public void vaciar()
+    {
+        synchronized(vacia){
+            while (pendientes.get() > 0 && hilo.isAlive()){
+                try{
+                    vacia.wait();
+                }
+                catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Entrega los partidos que quedan y termina el hilo. Los partidos que se publiquen
+     * después se descartan
+     */
+    public void cerrar()
+    {
+        synchronized(this){
+            cerrada = true;
+        }
+        vaciar();
+        hilo.interrupt();
+        try{
+            hilo.join();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Devuelve el medio que recibe los partidos
+     * @return el medio
+     */
+    public MedioGenerico getMedio()
+    {
+        return medio;
+    }
+
+    /**
+     * Devuelve la política que se aplica con la cola llena
+     * @return la política
+     */
+    public PoliticaEntrega getPolitica()
+    {
+        return politica;
+    }
+
+    /**
+     * Devuelve el número de partidos encolados que el medio todavía no ha recibido
+     * @return los partidos pendientes
+     */
+    public long getPendientes()
+    {
+        return pendientes.get();
+    }
+
+    /**
+     * Devuelve el número de partidos que ha recibido el medio
+     * @return los partidos entregados
+     */
+    public long getEntregados()
+    {
+        return entregados.get();
+    }
+
+    /**
+     * Devuelve el número de partidos que se han descartado por la política o porque la
+     * entrega estaba cerrada
+     * @return los partidos descartados
+     */
+    public long getDescartados()
+    {
+        return descartados.get();
+    }
+
+    /**
+     * Devuelve cuánto tiempo lleva esperando el partido más antiguo de la cola
+     * @return el retraso actual del medio, en nanosegundos, o 0 si la cola está vacía
+     */
+    public long getRetraso()
+    {
+        EventoPartido primero = cola.peek();
+        return primero == null ? 0 : Math.max(0, System.nanoTime() - primero.getInstante());
+    }
+
+    /**
+     * Devuelve el mayor tiempo que ha pasado desde que se jugó un partido hasta que el
+     * medio lo ha recibido
+     * @return el retraso máximo, en nanosegundos
+     */
+    public long getRetrasoMaximo()
+    {
+        return retrasoMaximo;
+    }
+
+    @Override
+    public String toString()
+    {
+        return medio.getNombre() + " (" + politica + "): " + entregados.get() + " entregados, " + pendientes.get()
+               + " pendientes, " + descartados.get() + " descartados, retraso máximo " + retrasoMaximo / 1000000 + " ms";
+    }
+
+    private void descartarAntiguo()
+    {
+        if (cola.poll() != null){
+            descartado();
+        }
+    }
+
+    private void descartado()
+    {
+        descartados.incrementAndGet();
+        terminado();
+    }
+
+    private void terminado()
+    {
+        if (pendientes.decrementAndGet() == 0){
+            synchronized(vacia){
+                vacia.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Bucle del hilo de entrega: pasa los partidos al medio en el orden de la cola hasta
+     * que se cierra la entrega
+     */
+    private void entregar()
+    {
+        try{
+            while (true){
+                EventoPartido evento = cola.take();
+                long retraso = System.nanoTime() - evento.getInstante();
+                if (retraso > retrasoMaximo){
+                    retrasoMaximo = retraso;
+                }
+                try{
+                    medio.actualizar(evento);
+                }
+                catch(RuntimeException e){
+                    System.err.println("Error al entregar un partido al medio " + medio.getNombre() + ": " + e);
+                }
+                entregados.incrementAndGet();
+                terminado();
+            }
+        }
+        catch(InterruptedException e){
+            // La entrega se ha cerrado
+        }
+        finally{
+            synchronized(vacia){
+                vacia.notifyAll();
+            }
+        }
+    }
+}
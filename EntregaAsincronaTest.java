@@ -0,0 +1,199 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas de la entrega asíncrona de los partidos a los medios
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class EntregaAsincronaTest
+{
+    private Tenista t1;
+    private Tenista t2;
+    private List<Integer> rondas;
+    private CountDownLatch empezado;
+    private CountDownLatch seguir;
+    private MedioGenerico lento;
+
+    /**
+     * Default constructor for test class EntregaAsincronaTest
+     */
+    public EntregaAsincronaTest()
+    {
+    }
+
+    /**
+     * Crea dos tenistas y un medio que apunta las rondas que recibe y se detiene en el
+     * primer partido hasta que la prueba lo deja seguir
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        Zapatilla z = new ZapatillasConAgarre("Court Lite", 39, 3);
+        t1 = new Golpeadores("Rafael Nadal", z, 85, 85, 2, "España", 39);
+        t2 = new Voleadores("Roger Federer", z, 80, 90, 1, "Suiza", 39);
+        rondas = Collections.synchronizedList(new ArrayList<>());
+        empezado = new CountDownLatch(1);
+        seguir = new CountDownLatch(1);
+        lento = new MedioGenerico("Lento"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                empezado.countDown();
+                try{
+                    seguir.await();
+                }
+                catch(InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+                rondas.add(ronda);
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        seguir.countDown();
+    }
+
+    /**
+     * Con BLOQUEAR el medio recibe todos los partidos en orden aunque la cola sea pequeña
+     */
+    @Test
+    public void bloquearTest()
+    {
+        seguir.countDown();
+        EntregaAsincrona entrega = new EntregaAsincrona(lento, PoliticaEntrega.BLOQUEAR, 2);
+        List<Integer> esperadas = new ArrayList<>();
+        for (int i = 0; i < 100; i++){
+            assertTrue(entrega.publicar(new EventoPartido(t1, t2, i)));
+            esperadas.add(i);
+        }
+        entrega.vaciar();
+        assertEquals(esperadas, rondas);
+        assertEquals(100, entrega.getEntregados());
+        assertEquals(0, entrega.getPendientes());
+        assertEquals(0, entrega.getDescartados());
+        entrega.cerrar();
+        assertFalse(entrega.publicar(new EventoPartido(t1, t2, 100)));
+    }
+
+    /**
+     * Con DESCARTAR_ANTIGUO y el medio detenido, la cola se queda con los últimos partidos
+     */
+    @Test
+    public void descartarAntiguoTest() throws InterruptedException
+    {
+        EntregaAsincrona entrega = new EntregaAsincrona(lento, PoliticaEntrega.DESCARTAR_ANTIGUO, 3);
+        publicarConMedioDetenido(entrega);
+        assertEquals(4, entrega.getPendientes());
+        assertEquals(7, entrega.getDescartados());
+        assertTrue(entrega.getRetraso() > 0);
+        seguir.countDown();
+        entrega.vaciar();
+        assertEquals(List.of(0, 8, 9, 10), rondas);
+        assertTrue(entrega.getRetrasoMaximo() > 0);
+        entrega.cerrar();
+    }
+
+    /**
+     * Con MUESTREAR y el medio detenido, mientras la cola está llena entra uno de cada
+     * tantos partidos en lugar del más antiguo
+     */
+    @Test
+    public void muestrearTest() throws InterruptedException
+    {
+        EntregaAsincrona entrega = new EntregaAsincrona(lento, PoliticaEntrega.MUESTREAR, 3, 3);
+        publicarConMedioDetenido(entrega);
+        assertEquals(7, entrega.getDescartados());
+        seguir.countDown();
+        entrega.cerrar();
+        assertEquals(List.of(0, 3, 6, 9), rondas);
+        assertEquals(4, entrega.getEntregados());
+    }
+
+    /**
+     * Los medios asíncronos de un campeonato publican las mismas noticias que los
+     * síncronos, con los datos que tenían los tenistas al terminar cada partido
+     */
+    @Test
+    public void campeonatoTest() throws ExcepcionRaquetas
+    {
+        List<String> sincronas = noticias(false);
+        List<String> asincronas = noticias(true);
+        assertFalse(sincronas.isEmpty());
+        Collections.sort(sincronas);
+        Collections.sort(asincronas);
+        assertEquals(sincronas, asincronas);
+    }
+
+    /**
+     * Publica once partidos con el medio detenido en el primero
+     */
+    private void publicarConMedioDetenido(EntregaAsincrona entrega) throws InterruptedException
+    {
+        entrega.publicar(new EventoPartido(t1, t2, 0));
+        assertTrue(empezado.await(10, TimeUnit.SECONDS));
+        for (int i = 1; i <= 10; i++){
+            entrega.publicar(new EventoPartido(t1, t2, i));
+        }
+    }
+
+    /**
+     * Disputa el campeonato de InitTennisData con los tres medios de TennisDemo y
+     * devuelve las líneas que escriben
+     */
+    private static List<String> noticias(boolean asincronos) throws ExcepcionRaquetas
+    {
+        Campeonato campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de EntregaAsincronaTest", null);
+        try{
+            new InitTennisData(campeonato);
+            List<String> lineas = Collections.synchronizedList(new ArrayList<>());
+            campeonato.setSalida(new Salida()
+            {
+                public void escribirLinea(String texto)
+                {
+                    if (texto.startsWith("@@@@@@")){
+                        lineas.add(texto);
+                    }
+                }
+
+                public boolean isActiva()
+                {
+                    return true;
+                }
+
+                public void vaciar()
+                {
+                }
+
+                public void cerrar()
+                {
+                }
+            });
+            for (MedioGenerico medio: List.of(new MedioGeneralista("La Tierrina"), new MedioSensacionalista("Adios"),
+                                              new MedioDeportivo("Anota"))){
+                if (asincronos){
+                    campeonato.añadirSubscriptor(medio, PoliticaEntrega.BLOQUEAR, 4);
+                }
+                else{
+                    campeonato.añadirSubscriptor(medio);
+                }
+            }
+            campeonato.controlDeCampeonato();
+            return new ArrayList<>(lineas);
+        }
+        finally{
+            campeonato.reset();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+
+/**
+ * Resultado de un partido tal como se notifica a los medios. Guarda una copia de los
+ * datos de los dos tenistas en el momento del partido, de forma que un medio que recibe
+ * el evento más tarde, desde otro hilo, ve los mismos valores que si lo hubiera recibido
+ * al terminar el partido.
+ *
+ * Los tenistas también se guardan, para los medios que todavía reciben el resultado con
+ * actualizar(ganador, perdedor, ronda), pero sus datos pueden haber cambiado. Los eventos
+ * leídos de un BuzonPartidos no tienen los tenistas, solo sus datos.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class EventoPartido
+{
+    private final Campeonato campeonato;
+    private final int ronda;
+    private final Tenista ganador;
+    private final Tenista perdedor;
+    private final String nombreGanador;
+    private final String nombrePerdedor;
+    private final int rankingGanador;
+    private final int rankingPerdedor;
+    private final double puntosGanador;
+    private final double puntosPerdedor;
+    private final long instante;
+
+    /**
+     * Constructor de la clase EventoPartido. Copia los datos de los tenistas
+     * @param ganador el tenista ganador
+     * @param perdedor el tenista perdedor
+     * @param ronda la ronda en la que se ha jugado el partido
+     */
+    public EventoPartido(Tenista ganador, Tenista perdedor, int ronda)
+    {
+        this.campeonato = ganador.getCampeonato();
+        this.ronda = ronda;
+        this.ganador = ganador;
+        this.perdedor = perdedor;
+        this.nombreGanador = ganador.getNombre();
+        this.nombrePerdedor = perdedor.getNombre();
+        this.rankingGanador = ganador.getRanking();
+        this.rankingPerdedor = perdedor.getRanking();
+        this.puntosGanador = ganador.getPuntosAcumulados();
+        this.puntosPerdedor = perdedor.getPuntosAcumulados();
+        this.instante = System.nanoTime();
+    }
+
+    /**
+     * Constructor de la clase EventoPartido con los datos ya copiados de los tenistas, para
+     * los partidos que se guardan en un ResumenRonda
+     */
+    EventoPartido(Campeonato campeonato, int ronda, Tenista ganador, Tenista perdedor, int rankingGanador,
+                  int rankingPerdedor, double puntosGanador, double puntosPerdedor)
+    {
+        this.campeonato = campeonato;
+        this.ronda = ronda;
+        this.ganador = ganador;
+        this.perdedor = perdedor;
+        this.nombreGanador = ganador.getNombre();
+        this.nombrePerdedor = perdedor.getNombre();
+        this.rankingGanador = rankingGanador;
+        this.rankingPerdedor = rankingPerdedor;
+        this.puntosGanador = puntosGanador;
+        this.puntosPerdedor = puntosPerdedor;
+        this.instante = System.nanoTime();
+    }
+
+    /**
+     * Constructor de la clase EventoPartido sin los tenistas, para los partidos que se leen
+     * de un BuzonPartidos
+     */
+    EventoPartido(Campeonato campeonato, int ronda, String nombreGanador, String nombrePerdedor, int rankingGanador,
+                  int rankingPerdedor, double puntosGanador, double puntosPerdedor)
+    {
+        this.campeonato = campeonato;
+        this.ronda = ronda;
+        this.ganador = null;
+        this.perdedor = null;
+        this.nombreGanador = nombreGanador;
+        this.nombrePerdedor = nombrePerdedor;
+        this.rankingGanador = rankingGanador;
+        this.rankingPerdedor = rankingPerdedor;
+        this.puntosGanador = puntosGanador;
+        this.puntosPerdedor = puntosPerdedor;
+        this.instante = System.nanoTime();
+    }
+
+    /**
+     * Devuelve el campeonato en el que se ha jugado el partido
+     * @return el campeonato del ganador
+     */
+    public Campeonato getCampeonato()
+    {
+        return campeonato;
+    }
+
+    /**
+     * Devuelve la ronda en la que se ha jugado el partido
+     * @return la ronda
+     */
+    public int getRonda()
+    {
+        return ronda;
+    }
+
+    /**
+     * Devuelve el tenista ganador, cuyos datos pueden haber cambiado desde el partido
+     * @return el ganador, o null si el evento se ha leído de un BuzonPartidos
+     */
+    public Tenista getGanador()
+    {
+        return ganador;
+    }
+
+    /**
+     * Devuelve el tenista perdedor, cuyos datos pueden haber cambiado desde el partido
+     * @return el perdedor, o null si el evento se ha leído de un BuzonPartidos
+     */
+    public Tenista getPerdedor()
+    {
+        return perdedor;
+    }
+
+    /**
+     * Devuelve el nombre del ganador
+     * @return el nombre del ganador
+     */
+    public String getNombreGanador()
+    {
+        return nombreGanador;
+    }
+
+    /**
+     * Devuelve el nombre del perdedor
+     * @return el nombre del perdedor
+     */
+    public String getNombrePerdedor()
+    {
+        return nombrePerdedor;
+    }
+
+    /**
+     * Devuelve el ranking del ganador
+     * @return el ranking del ganador
+     */
+    public int getRankingGanador()
+    {
+        return rankingGanador;
+    }
+
+    /**
+     * Devuelve el ranking del perdedor
+     * @return el ranking del perdedor
+     */
+    public int getRankingPerdedor()
+    {
+        return rankingPerdedor;
+    }
+
+    /**
+     * Devuelve los puntos acumulados del ganador al terminar el partido
+     * @return los puntos del ganador
+     */
+    public double getPuntosGanador()
+    {
+        return puntosGanador;
+    }
+
+    /**
+     * Devuelve los puntos acumulados del perdedor al terminar el partido
+     * @return los puntos del perdedor
+     */
+    public double getPuntosPerdedor()
+    {
+        return puntosPerdedor;
+    }
+
+    /**
+     * Devuelve el instante en que se creó el evento, para medir el retraso de los medios
+     * @return el instante, según System.nanoTime
+     */
+    public long getInstante()
+    {
+        return instante;
+    }
+}
@@ -24,8 +24,18 @@ public class Golpeadores extends Tenista
      */
     @Override
     public void golpear(){
-        double puntos = this.getPuntosAcumulados()+this.getRaqueta().calcularVelocidad()*0.1;
+        double puntos = this.getPuntosAcumulados()+getValorGolpe();
         this.setPuntosAcumulados(puntos);
     }
+    
+    /**
+     * Calcula los puntos del golpeo según la velocidad de la raqueta
+     * @param raqueta la raqueta con la que golpea
+     * @return los puntos del golpeo
+     */
+    @Override
+    protected double calcularGolpe(Raqueta raqueta){
+        return raqueta.calcularVelocidad()*0.1;
+    }
 
 }
@@ -56,8 +56,8 @@ public class GolpeadoresTest
          r6 =  new RaquetaControlada("Pure Aero", 340, 680, 720, Encordado.CERRADO);
          campeonato = Campeonato.getInstance("Campeonato de BoliviaTest");
         
-        t1.realizarInscripcion();
-        t2.realizarInscripcion();
+        t1.realizarInscripcion(campeonato);
+        t2.realizarInscripcion(campeonato);
         
         campeonato.añadirZapatilla(z7);
         campeonato.añadirZapatilla(z5);
@@ -108,5 +108,32 @@ public class GolpeadoresTest
         assertEquals(false, z1.equals(t2.getZapatilla()));
         assertEquals(true, z9.equals(t2.getZapatilla()));
     }
-    
+
+    /**
+     * Comprueba que los valores guardados del tenista se vuelven a calcular al cambiar su
+     * saque o su raqueta, y que modificar la raqueta que ya lleva no les afecta hasta que
+     * se le vuelve a asignar
+     */
+    @Test
+    public void perfilActualizadoTest(){
+        t1.jugar(t2, null);
+        double puntos = t1.getPuntosAcumulados();
+
+        t1.resetPuntosAcumulados();
+        t1.setSaque(180);
+        t1.jugar(t2, null);
+        assertTrue(t1.getPuntosAcumulados() > puntos);
+        puntos = t1.getPuntosAcumulados();
+
+        t1.resetPuntosAcumulados();
+        r1.setPeso(340);
+        t1.jugar(t2, null);
+        assertEquals(puntos, t1.getPuntosAcumulados(), 0.0);
+
+        t1.resetPuntosAcumulados();
+        t1.setRaqueta(r1);
+        t1.jugar(t2, null);
+        assertTrue(t1.getPuntosAcumulados() < puntos);
+    }
+
 }
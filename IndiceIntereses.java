@@ -0,0 +1,217 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Índice de los intereses de los medios subscritos a un campeonato. Cada interés tiene un
+ * número, en el orden en que se subscribieron los medios, y cada eje del índice (ranking
+ * del ganador, ranking del perdedor y ronda) se divide en los tramos que forman los
+ * límites de todas las franjas. Los intereses que cubren un tramo se obtienen como un mapa
+ * de bits: cada eje guarda el mapa completo de uno de cada PASO tramos y, para cada tramo,
+ * los intereses que entran o salen en él. Así el índice ocupa memoria proporcional al
+ * número de intereses por el de tramos dividido entre PASO, y no al producto de los dos,
+ * que con miles de medios llega a decenas de megas por eje.
+ *
+ * Para un partido se busca el tramo de cada eje, se copia el último mapa guardado, se
+ * aplican los cambios hasta el tramo y se cruzan los tres mapas palabra a palabra, así que
+ * el coste es un recorrido lineal de una palabra de 64 bits por cada 64 intereses, más los
+ * medios interesados, y no de comprobar las condiciones de todos los medios. La diferencia
+ * de puntos solo se comprueba en los intereses que cumplen el resto.
+ *
+ * Solo se indexan los medios que reciben los partidos uno a uno. El índice no cambia;
+ * Comunicacion crea uno nuevo cada vez que cambian los subscriptores.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+final class IndiceIntereses
+{
+    static final IndiceIntereses VACIO = new IndiceIntereses(List.of());
+    /** Tramos entre dos mapas de bits completos de un eje */
+    private static final int PASO = 64;
+    /** Mapas de bits de cada hilo para los tres ejes, para no crearlos en cada partido */
+    private static final ThreadLocal<long[]> MAPAS = new ThreadLocal<>();
+
+    private final Comunicacion.Subscripcion[] subscripciones;
+    private final double[] diferencias;
+    private final int palabras;
+    private final Eje ganador;
+    private final Eje perdedor;
+    private final Eje rondas;
+
+    /**
+     * Tramos de uno de los ejes con los intereses que cubren cada uno
+     */
+    private static final class Eje
+    {
+        /** Primer valor de cada tramo salvo el primero, que empieza en Integer.MIN_VALUE */
+        private final int[] limites;
+        /** Intereses que cubren los tramos 0, PASO, 2 * PASO... */
+        private final long[][] mapas;
+        /** Los intereses que entran o salen en el tramo t son cambios[inicioCambios[t]..inicioCambios[t + 1]) */
+        private final int[] inicioCambios;
+        private final int[] cambios;
+
+        private Eje(InteresMedio[] intereses, int palabras, ToIntFunction<InteresMedio> minimo,
+                    ToIntFunction<InteresMedio> maximo)
+        {
+            int[] puntos = new int[2 * intereses.length];
+            int n = 0;
+            for (InteresMedio i: intereses){
+                if (minimo.applyAsInt(i) != Integer.MIN_VALUE){
+                    puntos[n++] = minimo.applyAsInt(i);
+                }
+                if (maximo.applyAsInt(i) != Integer.MAX_VALUE){
+                    puntos[n++] = maximo.applyAsInt(i) + 1;
+                }
+            }
+            limites = Arrays.stream(puntos, 0, n).sorted().distinct().toArray();
+            int numeroTramos = limites.length + 1;
+            int[] entra = new int[intereses.length];
+            int[] sale = new int[intereses.length];
+            inicioCambios = new int[numeroTramos + 1];
+            for (int id = 0; id < intereses.length; id++){
+                entra[id] = tramo(minimo.applyAsInt(intereses[id]));
+                inicioCambios[entra[id] + 1]++;
+                int m = maximo.applyAsInt(intereses[id]);
+                sale[id] = m == Integer.MAX_VALUE ? numeroTramos : tramo(m) + 1;
+                if (sale[id] < numeroTramos){
+                    inicioCambios[sale[id] + 1]++;
+                }
+            }
+            for (int t = 0; t < numeroTramos; t++){
+                inicioCambios[t + 1] += inicioCambios[t];
+            }
+            cambios = new int[inicioCambios[numeroTramos]];
+            int[] siguiente = Arrays.copyOf(inicioCambios, numeroTramos);
+            for (int id = 0; id < intereses.length; id++){
+                cambios[siguiente[entra[id]]++] = id;
+                if (sale[id] < numeroTramos){
+                    cambios[siguiente[sale[id]]++] = id;
+                }
+            }
+            mapas = new long[(numeroTramos + PASO - 1) / PASO][];
+            long[] mapa = new long[palabras];
+            for (int t = 0; t < numeroTramos; t++){
+                aplicarCambios(mapa, t, t + 1);
+                if (t % PASO == 0){
+                    mapas[t / PASO] = mapa.clone();
+                }
+            }
+        }
+
+        /**
+         * Devuelve el tramo de un valor: el número de límites menores o iguales que él
+         */
+        private int tramo(int valor)
+        {
+            int i = Arrays.binarySearch(limites, valor);
+            return i >= 0 ? i + 1 : -i - 1;
+        }
+
+        /**
+         * Cada interés entra una vez y sale como mucho una vez, así que cambiar su bit lo
+         * pone o lo quita
+         */
+        private void aplicarCambios(long[] mapa, int desde, int hasta)
+        {
+            for (int k = inicioCambios[desde], fin = inicioCambios[hasta]; k < fin; k++){
+                int id = cambios[k];
+                mapa[id >>> 6] ^= 1L << id;
+            }
+        }
+
+        /**
+         * Escribe en destino, a partir de la posición inicio, el mapa de bits de los
+         * intereses que cubren un valor
+         */
+        private void intereses(int valor, long[] destino, int inicio)
+        {
+            int t = tramo(valor);
+            long[] guardado = mapas[t / PASO];
+            System.arraycopy(guardado, 0, destino, inicio, guardado.length);
+            for (int k = inicioCambios[t - t % PASO + 1], fin = inicioCambios[t + 1]; k < fin; k++){
+                int id = cambios[k];
+                destino[inicio + (id >>> 6)] ^= 1L << id;
+            }
+        }
+    }
+
+    /**
+     * Constructor de la clase IndiceIntereses
+     * @param subscriptores los medios subscritos, en orden
+     */
+    IndiceIntereses(List<Comunicacion.Subscripcion> subscriptores)
+    {
+        List<InteresMedio> intereses = new ArrayList<>();
+        List<Comunicacion.Subscripcion> propietarios = new ArrayList<>();
+        for (Comunicacion.Subscripcion s: subscriptores){
+            if (s.getModo() != ModoEntrega.PARTIDO){
+                continue;
+            }
+            for (InteresMedio i: s.getIntereses()){
+                intereses.add(i);
+                propietarios.add(s);
+            }
+        }
+        InteresMedio[] todos = intereses.toArray(new InteresMedio[0]);
+        subscripciones = propietarios.toArray(new Comunicacion.Subscripcion[0]);
+        diferencias = new double[todos.length];
+        for (int id = 0; id < todos.length; id++){
+            diferencias[id] = todos[id].getDiferenciaMinima();
+        }
+        palabras = (todos.length + 63) >>> 6;
+        ganador = new Eje(todos, palabras, InteresMedio::getRankingGanadorMinimo, InteresMedio::getRankingGanadorMaximo);
+        perdedor = new Eje(todos, palabras, InteresMedio::getRankingPerdedorMinimo, InteresMedio::getRankingPerdedorMaximo);
+        rondas = new Eje(todos, palabras, InteresMedio::getRondaMinima, InteresMedio::getRondaMaxima);
+    }
+
+    /**
+     * Pasa el partido a los medios a los que interesa, una sola vez a cada uno y en el
+     * orden en que se subscribieron. El evento solo se crea si algún medio lo recibe
+     * @param ganador el tenista ganador
+     * @param perdedor el tenista perdedor
+     * @param ronda la ronda del partido
+     * @return el número de medios que han recibido el partido
+     */
+    int notificar(Tenista ganador, Tenista perdedor, int ronda)
+    {
+        if (palabras == 0){
+            return 0;
+        }
+        // Si un medio notifica otro partido desde actualizar, no encuentra los mapas y crea otros
+        long[] mapas = MAPAS.get();
+        MAPAS.set(null);
+        if (mapas == null || mapas.length < 3 * palabras){
+            mapas = new long[3 * palabras];
+        }
+        this.ganador.intereses(ganador.getRanking(), mapas, 0);
+        this.perdedor.intereses(perdedor.getRanking(), mapas, palabras);
+        rondas.intereses(ronda, mapas, 2 * palabras);
+        double diferencia = ganador.getPuntosAcumulados() - perdedor.getPuntosAcumulados();
+        EventoPartido evento = null;
+        Comunicacion.Subscripcion ultima = null;
+        int entregados = 0;
+        for (int w = 0; w < palabras; w++){
+            long bits = mapas[w] & mapas[palabras + w] & mapas[2 * palabras + w];
+            while (bits != 0){
+                int id = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                Comunicacion.Subscripcion s = subscripciones[id];
+                if (s != ultima && diferencia >= diferencias[id]){
+                    if (evento == null){
+                        evento = new EventoPartido(ganador, perdedor, ronda);
+                    }
+                    s.entregar(evento);
+                    ultima = s;
+                    entregados++;
+                }
+            }
+        }
+        MAPAS.set(mapas);
+        return entregados;
+    }
+}
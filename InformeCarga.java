@@ -0,0 +1,90 @@
+import java.util.Locale;
+
+/**
+ * Resultado de una carga de datos de CargadorDatos: cuántas filas se han leído, cuántos
+ * tenistas se han inscrito y cuántas unidades de zapatillas y raquetas se han añadido, y
+ * cuánto ha tardado la carga.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class InformeCarga
+{
+    private final String origen;
+    private final long filas;
+    private final long tenistas;
+    private final long zapatillas;
+    private final long raquetas;
+    private final long nanos;
+
+    /**
+     * Constructor de la clase InformeCarga
+     * @param origen el fichero cargado
+     * @param filas filas con datos leídas, sin contar las vacías y los comentarios
+     * @param tenistas tenistas inscritos
+     * @param zapatillas unidades de zapatillas añadidas
+     * @param raquetas unidades de raquetas añadidas
+     * @param nanos duración de la carga en nanosegundos
+     */
+    public InformeCarga(String origen, long filas, long tenistas, long zapatillas, long raquetas, long nanos)
+    {
+        this.origen = origen;
+        this.filas = filas;
+        this.tenistas = tenistas;
+        this.zapatillas = zapatillas;
+        this.raquetas = raquetas;
+        this.nanos = nanos;
+    }
+
+    public String getOrigen()
+    {
+        return origen;
+    }
+
+    public long getFilas()
+    {
+        return filas;
+    }
+
+    public long getTenistas()
+    {
+        return tenistas;
+    }
+
+    public long getZapatillas()
+    {
+        return zapatillas;
+    }
+
+    public long getRaquetas()
+    {
+        return raquetas;
+    }
+
+    /**
+     * Devuelve la duración de la carga
+     * @return la duración en nanosegundos
+     */
+    public long getNanos()
+    {
+        return nanos;
+    }
+
+    /**
+     * Devuelve la velocidad de la carga
+     * @return las filas leídas por segundo
+     */
+    public double getFilasPorSegundo()
+    {
+        return nanos == 0 ? 0 : filas * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format(Locale.ROOT, "%s: %d filas (%d tenistas, %d zapatillas, %d raquetas) en %.3f s, %.0f filas/s",
+                             origen, filas, tenistas, zapatillas, raquetas, nanos / 1e9, getFilasPorSegundo());
+    }
+}
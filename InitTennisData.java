@@ -1,3 +1,5 @@
+import java.io.IOException;
+import java.nio.file.Path;
 /**
  * Clase que carga los datos con los que simular un campeonato de tenis.
  * 
@@ -22,6 +24,18 @@ public class InitTennisData {
         
     }
     
+    /**
+     * Carga los datos del campeonato desde un fichero CSV o JSONL con CargadorDatos. Los
+     * ficheros datos/datos1.csv y datos/datos2.csv tienen los dos conjuntos de datos de
+     * esta clase
+     * @param campeonato el campeonato en el que se cargan los datos
+     * @param fichero el fichero de datos
+     * @throws IOException si no se puede leer el fichero o alguna fila no es válida
+     */
+    public InitTennisData(Campeonato campeonato, Path fichero) throws IOException {
+        new CargadorDatos().cargar(fichero, campeonato);
+    }
+    
     private void cargarDatos1(Campeonato campeonato) {
         //Instanciamos 8 zapatillas: (Los parámetros están en el orden: tipo, modelo, número y valor)
             Zapatilla z1 = new ZapatillasAmortiguadas("Air Zoom Vapor Pro", 42,  5);
@@ -47,14 +61,14 @@ public class InitTennisData {
          
          //A continuación se inscribirán a los 8 tenistas en el campeonato
          
-                t1.realizarInscripcion();
-                t2.realizarInscripcion();
-                t3.realizarInscripcion();
-                t4.realizarInscripcion();
-                t5.realizarInscripcion();
-                t6.realizarInscripcion();
-                t7.realizarInscripcion();
-                t8.realizarInscripcion();
+                t1.realizarInscripcion(campeonato);
+                t2.realizarInscripcion(campeonato);
+                t3.realizarInscripcion(campeonato);
+                t4.realizarInscripcion(campeonato);
+                t5.realizarInscripcion(campeonato);
+                t6.realizarInscripcion(campeonato);
+                t7.realizarInscripcion(campeonato);
+                t8.realizarInscripcion(campeonato);
                 
         //Instanciamos zapatillas para ser usadas en el campeonato: 
         //(Los parámetros están en el orden: tipo, modelo, número y valor)
@@ -172,14 +186,14 @@ public class InitTennisData {
            Tenista t8 = new Voleadores ("Daniil Medvedev", z4, 79, 68, 2, "Rusia", 42);
                       
            
-                t1.realizarInscripcion();
-                t2.realizarInscripcion();
-                t3.realizarInscripcion();
-                t4.realizarInscripcion();
-                t5.realizarInscripcion();
-                t6.realizarInscripcion();
-                t7.realizarInscripcion();
-                t8.realizarInscripcion();
+                t1.realizarInscripcion(campeonato);
+                t2.realizarInscripcion(campeonato);
+                t3.realizarInscripcion(campeonato);
+                t4.realizarInscripcion(campeonato);
+                t5.realizarInscripcion(campeonato);
+                t6.realizarInscripcion(campeonato);
+                t7.realizarInscripcion(campeonato);
+                t8.realizarInscripcion(campeonato);
 
         //A continuación se inscribirán a los 8 tenistas en el campeonato
          //Instanciamos zapatillas para ser usadas en el campeonato: 
@@ -0,0 +1,762 @@
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Instantánea binaria del estado de un campeonato: el cuadro, con el material que lleva
+ * cada tenista, los tenistas pendientes de entrar en el cuadro, los eliminados con su
+ * posición de eliminado, las reservas de zapatillas y raquetas con sus unidades, la ronda
+ * en la que va el campeonato y los medios subscritos.
+ *
+ * El fichero se escribe y se lee proyectado en memoria. Los textos se guardan una sola vez
+ * en una tabla, y los tenistas, las zapatillas y las raquetas se guardan una vez cada uno
+ * en registros de tamaño fijo y se identifican después por su posición, de forma que las
+ * raquetas y las zapatillas compartidas siguen compartidas al restaurarlas. Las copias
+ * RaquetaInmutable se guardan con la clase de la raqueta original y sus valores ya
+ * calculados, y se restauran iguales, sin volver a calcularlos. Los medios se
+ * guardan por su clase y su nombre; los que no tienen un constructor público que reciba
+ * solo el nombre no se pueden volver a crear y no se guardan.
+ *
+ * Al crear la instantánea se copian los datos de los tenistas que cambian durante el
+ * campeonato (puntos, posición de eliminado, raqueta y zapatillas), de forma que se puede
+ * guardar desde otro hilo mientras el campeonato sigue con la ronda siguiente. La
+ * instantánea guarda también la marca de la salida del campeonato en ese momento, para
+ * poder continuar su fichero de salida al restaurarla.
+ *
+ * Campeonato.guardarInstantanea y Campeonato.restaurarInstantanea usan esta clase, igual
+ * que los puntos de control de cada ronda. Si la instantánea se toma entre dos rondas, el
+ * campeonato restaurado continúa en la ronda siguiente.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class InstantaneaCampeonato
+{
+    static final int MAGICO = 0x544E534E;
+    static final short VERSION = 3;
+
+    private static final String[] TIPOS_TENISTA = {"Golpeadores", "Voleadores"};
+    private static final String[] TIPOS_ZAPATILLA = {"ZapatillaGenerica", "ZapatillasAmortiguadas", "ZapatillasConAgarre"};
+    private static final String[] TIPOS_RAQUETA = {"RaquetaGenerica", "RaquetaPotente", "RaquetaControlada", "RaquetaEquilibrada",
+                                                   "RaquetaInmutable"};
+    private static final int RAQUETA_INMUTABLE = 4;
+
+    private static final int TAMAÑO_ZAPATILLA = 1 + 4 + 8 + 8;
+    private static final int TAMAÑO_RAQUETA = 1 + 4 + 8 + 8 + 8 + 1 + 8 + 8;
+    /** Datos de una RaquetaInmutable que no caben en el registro de raqueta: su clase, su descripción y su velocidad */
+    private static final int TAMAÑO_INMUTABLE = 4 + 4 + 8;
+    private static final int TAMAÑO_TENISTA = 1 + 4 + 4 + 8 + 8 + 8 + 8 + 4 + 4 + 4 + 4;
+
+    private final String nombre;
+    private final List<Tenista> cuadro;
+    private final List<Tenista> pendientes;
+    private final List<Tenista> eliminados;
+    private final List<Zapatilla> zapatillas;
+    private final int[] unidadesZapatillas;
+    private final List<Raqueta> raquetas;
+    private final int[] unidadesRaquetas;
+    private final List<MedioGenerico> medios;
+    private final int ronda;
+    private final boolean rondasParalelas;
+    private final long posicionSalida;
+    private final Valores valoresCuadro;
+    private final Valores valoresPendientes;
+    private final Valores valoresEliminados;
+
+    /**
+     * Datos que cambian durante el campeonato de los tenistas de una lista, copiados al
+     * crear la instantánea
+     */
+    private static final class Valores
+    {
+        private final double[] puntos;
+        private final int[] posEliminado;
+        private final Zapatilla[] zapatillas;
+        private final Raqueta[] raquetas;
+
+        private Valores(List<Tenista> tenistas)
+        {
+            int n = tenistas.size();
+            puntos = new double[n];
+            posEliminado = new int[n];
+            zapatillas = new Zapatilla[n];
+            raquetas = new Raqueta[n];
+            int i = 0;
+            for (Tenista t: tenistas){
+                puntos[i] = t.getPuntosAcumulados();
+                posEliminado[i] = t.getPosEliminado();
+                zapatillas[i] = t.getZapatilla();
+                raquetas[i] = t.getRaqueta();
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Constructor de la clase InstantaneaCampeonato. Las listas no se copian, pero sí los
+     * datos de los tenistas que cambian durante el campeonato
+     * @param nombre nombre del campeonato
+     * @param cuadro los tenistas del cuadro, por orden de plaza
+     * @param pendientes los tenistas inscritos para el siguiente campeonato
+     * @param eliminados los tenistas eliminados, por orden de eliminación
+     * @param zapatillas las zapatillas de la reserva, en el orden en que se entregan
+     * @param unidadesZapatillas las unidades de cada zapatilla de la reserva
+     * @param raquetas las raquetas de la reserva, por orden de potencia
+     * @param unidadesRaquetas las unidades de cada raqueta de la reserva
+     * @param medios los medios subscritos
+     * @param ronda la última ronda disputada, o 0 si no ha empezado ninguna
+     * @param rondasParalelas si los partidos de cada ronda se disputan en paralelo
+     * @param posicionSalida la marca de la salida del campeonato, o -1 si no se conoce
+     */
+    InstantaneaCampeonato(String nombre, List<Tenista> cuadro, List<Tenista> pendientes, List<Tenista> eliminados,
+                          List<Zapatilla> zapatillas, int[] unidadesZapatillas, List<Raqueta> raquetas,
+                          int[] unidadesRaquetas, List<MedioGenerico> medios, int ronda, boolean rondasParalelas,
+                          long posicionSalida)
+    {
+        this(nombre, cuadro, pendientes, eliminados, zapatillas, unidadesZapatillas, raquetas, unidadesRaquetas, medios,
+             ronda, rondasParalelas, posicionSalida, new Valores(cuadro), new Valores(pendientes), new Valores(eliminados));
+    }
+
+    private InstantaneaCampeonato(String nombre, List<Tenista> cuadro, List<Tenista> pendientes, List<Tenista> eliminados,
+                                  List<Zapatilla> zapatillas, int[] unidadesZapatillas, List<Raqueta> raquetas,
+                                  int[] unidadesRaquetas, List<MedioGenerico> medios, int ronda, boolean rondasParalelas,
+                                  long posicionSalida, Valores valoresCuadro, Valores valoresPendientes,
+                                  Valores valoresEliminados)
+    {
+        this.nombre = nombre;
+        this.cuadro = cuadro;
+        this.pendientes = pendientes;
+        this.eliminados = eliminados;
+        this.zapatillas = zapatillas;
+        this.unidadesZapatillas = unidadesZapatillas;
+        this.raquetas = raquetas;
+        this.unidadesRaquetas = unidadesRaquetas;
+        this.medios = medios;
+        this.ronda = ronda;
+        this.rondasParalelas = rondasParalelas;
+        this.posicionSalida = posicionSalida;
+        this.valoresCuadro = valoresCuadro;
+        this.valoresPendientes = valoresPendientes;
+        this.valoresEliminados = valoresEliminados;
+    }
+
+    /**
+     * Devuelve la misma instantánea con otra marca de la salida
+     * @param posicionSalida la marca de la salida, o -1 si no se conoce
+     * @return la instantánea con la marca
+     */
+    InstantaneaCampeonato conPosicionSalida(long posicionSalida)
+    {
+        return new InstantaneaCampeonato(nombre, cuadro, pendientes, eliminados, zapatillas, unidadesZapatillas, raquetas,
+                                         unidadesRaquetas, medios, ronda, rondasParalelas, posicionSalida, valoresCuadro,
+                                         valoresPendientes, valoresEliminados);
+    }
+
+    /**
+     * Escribe la instantánea en un fichero, que se crea o se vacía si ya existe. Al
+     * terminar se fuerza la escritura del fichero en disco
+     * @param fichero el fichero
+     * @throws IOException si no se puede escribir el fichero o algún tenista, zapatilla o
+     * raqueta es de una clase que la instantánea no sabe guardar
+     */
+    public void guardar(Path fichero) throws IOException
+    {
+        Escritor escritor = new Escritor();
+        escritor.preparar(this);
+        long tamaño = escritor.calcularTamaño();
+        if (tamaño > Integer.MAX_VALUE){
+            throw new IOException("La instantánea ocupa demasiado: " + tamaño + " bytes");
+        }
+        try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                  StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)){
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamaño);
+            escritor.escribir(this, buffer);
+            buffer.force();
+        }
+    }
+
+    /**
+     * Lee una instantánea de un fichero. Los tenistas, las zapatillas, las raquetas y los
+     * medios se crean de nuevo y todavía no pertenecen a ningún campeonato
+     * @param fichero el fichero
+     * @return la instantánea
+     * @throws IOException si no se puede leer el fichero o no es una instantánea válida
+     */
+    public static InstantaneaCampeonato leer(Path fichero) throws IOException
+    {
+        try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)){
+            long tamaño = canal.size();
+            if (tamaño > Integer.MAX_VALUE){
+                throw new IOException("La instantánea es demasiado grande: " + fichero);
+            }
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamaño);
+            short version = tamaño < 6 || buffer.getInt() != MAGICO ? 0 : buffer.getShort();
+            if (version < 1 || version > VERSION){
+                throw new IOException("El fichero no es una instantánea de campeonato: " + fichero);
+            }
+            try{
+                return new Lector(buffer, version).leer();
+            }
+            catch(BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e){
+                throw new IOException("Instantánea dañada: " + fichero, e);
+            }
+        }
+    }
+
+    public String getNombre()
+    {
+        return nombre;
+    }
+
+    public List<Tenista> getCuadro()
+    {
+        return cuadro;
+    }
+
+    public List<Tenista> getPendientes()
+    {
+        return pendientes;
+    }
+
+    public List<Tenista> getEliminados()
+    {
+        return eliminados;
+    }
+
+    public List<Zapatilla> getZapatillas()
+    {
+        return zapatillas;
+    }
+
+    public int[] getUnidadesZapatillas()
+    {
+        return unidadesZapatillas;
+    }
+
+    public List<Raqueta> getRaquetas()
+    {
+        return raquetas;
+    }
+
+    public int[] getUnidadesRaquetas()
+    {
+        return unidadesRaquetas;
+    }
+
+    public List<MedioGenerico> getMedios()
+    {
+        return medios;
+    }
+
+    /**
+     * Devuelve la última ronda disputada cuando se tomó la instantánea
+     * @return la ronda, o 0 si no había empezado ninguna
+     */
+    public int getRonda()
+    {
+        return ronda;
+    }
+
+    public boolean isRondasParalelas()
+    {
+        return rondasParalelas;
+    }
+
+    /**
+     * Devuelve la marca de la salida del campeonato cuando se tomó la instantánea
+     * @return la posición del fichero de salida, en bytes, o -1 si no se conoce
+     */
+    public long getPosicionSalida()
+    {
+        return posicionSalida;
+    }
+
+    private static int tipo(String[] tipos, Object o) throws IOException
+    {
+        String clase = o.getClass().getName();
+        for (int i = 0; i < tipos.length; i++){
+            if (tipos[i].equals(clase)){
+                return i;
+            }
+        }
+        throw new IOException("La instantánea no sabe guardar objetos de la clase " + clase);
+    }
+
+    /**
+     * Constructor público de un medio que recibe solo su nombre, si lo tiene
+     */
+    private static Constructor<? extends MedioGenerico> constructorMedio(Class<? extends MedioGenerico> clase)
+    {
+        if (!Modifier.isPublic(clase.getModifiers()) || Modifier.isAbstract(clase.getModifiers())){
+            return null;
+        }
+        try{
+            return clase.getConstructor(String.class);
+        }
+        catch(NoSuchMethodException e){
+            return null;
+        }
+    }
+
+    /**
+     * Numera los objetos y los textos de una instantánea y la escribe. Los números de cada
+     * referencia se apuntan al numerarla, de forma que al escribir no hay que volver a
+     * buscar nada en las tablas
+     */
+    private static final class Escritor
+    {
+        private final HashMap<String, Integer> idTextos = new HashMap<>();
+        private final ArrayList<byte[]> textos = new ArrayList<>();
+        private IdentityHashMap<Zapatilla, Integer> idZapatillas;
+        private final ArrayList<Zapatilla> zapatillas = new ArrayList<>();
+        private final ArrayList<Integer> textosZapatillas = new ArrayList<>();
+        private IdentityHashMap<Raqueta, Integer> idRaquetas;
+        private final ArrayList<Raqueta> raquetas = new ArrayList<>();
+        private final ArrayList<Integer> textosRaquetas = new ArrayList<>();
+        private final ArrayList<Integer> textosInmutables = new ArrayList<>();
+        private final ArrayList<RaquetaInmutable> inmutables = new ArrayList<>();
+        private IdentityHashMap<Tenista, Integer> idTenistas;
+        private final ArrayList<Tenista> tenistas = new ArrayList<>();
+        private int[] referenciasTenistas;
+        private double[] puntosTenistas;
+        private int[] posicionesTenistas;
+        private final ArrayList<MedioGenerico> medios = new ArrayList<>();
+        private int[] cuadro;
+        private int[] pendientes;
+        private int[] eliminados;
+        private int[] reservaZapatillas;
+        private int[] reservaRaquetas;
+        private int[] textosMedios;
+        private long bytesTextos;
+
+        private void preparar(InstantaneaCampeonato i) throws IOException
+        {
+            int personas = i.cuadro.size() + i.pendientes.size() + i.eliminados.size();
+            idTenistas = new IdentityHashMap<>(personas);
+            idZapatillas = new IdentityHashMap<>(personas + i.zapatillas.size());
+            idRaquetas = new IdentityHashMap<>(personas + i.raquetas.size());
+            referenciasTenistas = new int[4 * personas];
+            puntosTenistas = new double[personas];
+            posicionesTenistas = new int[personas];
+            texto(i.nombre);
+            cuadro = prepararTenistas(i.cuadro, i.valoresCuadro);
+            pendientes = prepararTenistas(i.pendientes, i.valoresPendientes);
+            eliminados = prepararTenistas(i.eliminados, i.valoresEliminados);
+            reservaZapatillas = new int[i.zapatillas.size()];
+            for (int j = 0; j < reservaZapatillas.length; j++){
+                reservaZapatillas[j] = zapatilla(i.zapatillas.get(j));
+            }
+            reservaRaquetas = new int[i.raquetas.size()];
+            for (int j = 0; j < reservaRaquetas.length; j++){
+                reservaRaquetas[j] = raqueta(i.raquetas.get(j));
+            }
+            ArrayList<Integer> textosDeMedios = new ArrayList<>();
+            for (MedioGenerico m: i.medios){
+                if (constructorMedio(m.getClass()) != null){
+                    medios.add(m);
+                    textosDeMedios.add(texto(m.getClass().getName()));
+                    textosDeMedios.add(texto(m.getNombre()));
+                }
+            }
+            textosMedios = textosDeMedios.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * Numera los tenistas de una lista que todavía no tienen número
+         * @return el número de cada tenista de la lista
+         */
+        private int[] prepararTenistas(List<Tenista> lista, Valores valores) throws IOException
+        {
+            int[] ids = new int[lista.size()];
+            int j = 0;
+            for (Tenista t: lista){
+                Integer id = idTenistas.putIfAbsent(t, tenistas.size());
+                if (id == null){
+                    id = tenistas.size();
+                    tipo(TIPOS_TENISTA, t);
+                    tenistas.add(t);
+                    referenciasTenistas[4 * id] = texto(t.getNombre());
+                    referenciasTenistas[4 * id + 1] = texto(t.getPais());
+                    referenciasTenistas[4 * id + 2] = zapatilla(valores.zapatillas[j]);
+                    referenciasTenistas[4 * id + 3] = raqueta(valores.raquetas[j]);
+                    puntosTenistas[id] = valores.puntos[j];
+                    posicionesTenistas[id] = valores.posEliminado[j];
+                }
+                ids[j++] = id;
+            }
+            return ids;
+        }
+
+        private int zapatilla(Zapatilla z) throws IOException
+        {
+            if (z == null){
+                return -1;
+            }
+            Integer id = idZapatillas.putIfAbsent(z, zapatillas.size());
+            if (id == null){
+                id = zapatillas.size();
+                tipo(TIPOS_ZAPATILLA, z);
+                zapatillas.add(z);
+                textosZapatillas.add(texto(z.getModelo()));
+            }
+            return id;
+        }
+
+        private int raqueta(Raqueta r) throws IOException
+        {
+            if (r == null){
+                return -1;
+            }
+            Integer id = idRaquetas.putIfAbsent(r, raquetas.size());
+            if (id == null){
+                id = raquetas.size();
+                tipo(TIPOS_RAQUETA, r);
+                raquetas.add(r);
+                textosRaquetas.add(texto(r.getModelo()));
+                if (r instanceof RaquetaInmutable){
+                    RaquetaInmutable copia = (RaquetaInmutable) r;
+                    inmutables.add(copia);
+                    textosInmutables.add(texto(copia.getTipo()));
+                    textosInmutables.add(texto(copia.toString()));
+                }
+            }
+            return id;
+        }
+
+        private int texto(String s)
+        {
+            if (s == null){
+                return -1;
+            }
+            Integer id = idTextos.putIfAbsent(s, textos.size());
+            if (id == null){
+                id = textos.size();
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                textos.add(bytes);
+                bytesTextos += 4 + bytes.length;
+            }
+            return id;
+        }
+
+        private long calcularTamaño()
+        {
+            return 4 + 2
+                   + 4 + bytesTextos
+                   + 4 + (long) TAMAÑO_ZAPATILLA * zapatillas.size()
+                   + 4 + (long) TAMAÑO_RAQUETA * raquetas.size()
+                   + 4 + (long) TAMAÑO_INMUTABLE * inmutables.size()
+                   + 4 + (long) TAMAÑO_TENISTA * tenistas.size()
+                   + 4 + 4L * cuadro.length
+                   + 4 + 4L * pendientes.length
+                   + 4 + 4L * eliminados.length
+                   + 4 + 8L * reservaZapatillas.length
+                   + 4 + 8L * reservaRaquetas.length
+                   + 4 + 8L * medios.size()
+                   + 4 + 4 + 1 + 8;
+        }
+
+        private void escribir(InstantaneaCampeonato i, MappedByteBuffer buffer) throws IOException
+        {
+            buffer.putInt(MAGICO);
+            buffer.putShort(VERSION);
+            buffer.putInt(textos.size());
+            for (byte[] bytes: textos){
+                buffer.putInt(bytes.length);
+                buffer.put(bytes);
+            }
+            buffer.putInt(zapatillas.size());
+            for (int j = 0; j < zapatillas.size(); j++){
+                Zapatilla z = zapatillas.get(j);
+                buffer.put((byte) tipo(TIPOS_ZAPATILLA, z));
+                buffer.putInt(textosZapatillas.get(j));
+                buffer.putDouble(z.getNumero());
+                buffer.putDouble(z.getValor());
+            }
+            buffer.putInt(inmutables.size());
+            for (int j = 0; j < inmutables.size(); j++){
+                buffer.putInt(textosInmutables.get(2 * j));
+                buffer.putInt(textosInmutables.get(2 * j + 1));
+                buffer.putDouble(inmutables.get(j).calcularVelocidad());
+            }
+            buffer.putInt(raquetas.size());
+            for (int j = 0; j < raquetas.size(); j++){
+                Raqueta r = raquetas.get(j);
+                buffer.put((byte) tipo(TIPOS_RAQUETA, r));
+                buffer.putInt(textosRaquetas.get(j));
+                buffer.putDouble(r.getPeso());
+                buffer.putDouble(r.getLongitud());
+                buffer.putDouble(r.getTamañoCabeza());
+                buffer.put((byte) r.getEncordado().ordinal());
+                if (r instanceof RaquetaEquilibrada){
+                    buffer.putDouble(((RaquetaEquilibrada) r).getMultiplicadorPotencia());
+                    buffer.putDouble(((RaquetaEquilibrada) r).getMultiplicadorControl());
+                }
+                else if (r instanceof RaquetaInmutable){
+                    buffer.putDouble(r.calcularPotencia());
+                    buffer.putDouble(r.calcularControl());
+                }
+                else{
+                    buffer.putDouble(0).putDouble(0);
+                }
+            }
+            buffer.putInt(tenistas.size());
+            for (int j = 0; j < tenistas.size(); j++){
+                Tenista t = tenistas.get(j);
+                buffer.put((byte) tipo(TIPOS_TENISTA, t));
+                buffer.putInt(referenciasTenistas[4 * j]);
+                buffer.putInt(referenciasTenistas[4 * j + 1]);
+                buffer.putDouble(t.getSaque());
+                buffer.putDouble(t.getResto());
+                buffer.putDouble(t.getNumPie());
+                buffer.putDouble(puntosTenistas[j]);
+                buffer.putInt(t.getRanking());
+                buffer.putInt(posicionesTenistas[j]);
+                buffer.putInt(referenciasTenistas[4 * j + 2]);
+                buffer.putInt(referenciasTenistas[4 * j + 3]);
+            }
+            escribirNumeros(cuadro, null, buffer);
+            escribirNumeros(pendientes, null, buffer);
+            escribirNumeros(eliminados, null, buffer);
+            escribirNumeros(reservaZapatillas, i.unidadesZapatillas, buffer);
+            escribirNumeros(reservaRaquetas, i.unidadesRaquetas, buffer);
+            buffer.putInt(medios.size());
+            for (int id: textosMedios){
+                buffer.putInt(id);
+            }
+            buffer.putInt(texto(i.nombre));
+            buffer.putInt(i.ronda);
+            buffer.put((byte) (i.rondasParalelas ? 1 : 0));
+            buffer.putLong(i.posicionSalida);
+        }
+
+        /**
+         * Escribe una lista de números de objetos, con las unidades de cada uno si las hay
+         */
+        private static void escribirNumeros(int[] ids, int[] unidades, MappedByteBuffer buffer)
+        {
+            buffer.putInt(ids.length);
+            for (int j = 0; j < ids.length; j++){
+                buffer.putInt(ids[j]);
+                if (unidades != null){
+                    buffer.putInt(unidades[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Crea de nuevo los objetos de una instantánea a partir del fichero proyectado
+     */
+    private static final class Lector
+    {
+        private final MappedByteBuffer buffer;
+        private final short version;
+        private String[] textos;
+        private Zapatilla[] zapatillas;
+        private Raqueta[] raquetas;
+        private Tenista[] tenistas;
+
+        private Lector(MappedByteBuffer buffer, short version)
+        {
+            this.buffer = buffer;
+            this.version = version;
+        }
+
+        private InstantaneaCampeonato leer() throws IOException
+        {
+            textos = new String[contar(4)];
+            byte[] bytes = new byte[64];
+            for (int i = 0; i < textos.length; i++){
+                int n = buffer.getInt();
+                if (n > bytes.length){
+                    bytes = new byte[Math.max(n, 2 * bytes.length)];
+                }
+                buffer.get(bytes, 0, n);
+                textos[i] = new String(bytes, 0, n, StandardCharsets.UTF_8);
+            }
+
+            zapatillas = new Zapatilla[contar(TAMAÑO_ZAPATILLA)];
+            for (int i = 0; i < zapatillas.length; i++){
+                zapatillas[i] = crearZapatilla(buffer.get(), texto(), buffer.getDouble(), buffer.getDouble());
+            }
+
+            int inmutables = version >= 3 ? contar(TAMAÑO_INMUTABLE) : 0;
+            String[] tiposInmutables = new String[inmutables];
+            String[] descripcionesInmutables = new String[inmutables];
+            double[] velocidadesInmutables = new double[inmutables];
+            for (int i = 0; i < inmutables; i++){
+                tiposInmutables[i] = texto();
+                descripcionesInmutables[i] = texto();
+                velocidadesInmutables[i] = buffer.getDouble();
+            }
+            raquetas = new Raqueta[contar(TAMAÑO_RAQUETA)];
+            Encordado[] encordados = Encordado.values();
+            int inmutable = 0;
+            for (int i = 0; i < raquetas.length; i++){
+                byte tipo = buffer.get();
+                String modelo = texto();
+                double peso = buffer.getDouble();
+                double longitud = buffer.getDouble();
+                double cabeza = buffer.getDouble();
+                Encordado encordado = encordados[buffer.get()];
+                double potencia = buffer.getDouble();
+                double control = buffer.getDouble();
+                if (tipo == RAQUETA_INMUTABLE){
+                    if (inmutable >= inmutables){
+                        throw new IOException("Instantánea dañada: faltan los datos de las raquetas inmutables");
+                    }
+                    raquetas[i] = new RaquetaInmutable(tiposInmutables[inmutable], modelo, encordado, peso, longitud, cabeza,
+                                                       potencia, control, velocidadesInmutables[inmutable],
+                                                       descripcionesInmutables[inmutable]);
+                    inmutable++;
+                }
+                else{
+                    raquetas[i] = crearRaqueta(tipo, modelo, peso, longitud, cabeza, encordado, potencia, control);
+                }
+            }
+
+            tenistas = new Tenista[contar(TAMAÑO_TENISTA)];
+            for (int i = 0; i < tenistas.length; i++){
+                byte tipo = buffer.get();
+                String nombre = texto();
+                String pais = texto();
+                double saque = buffer.getDouble();
+                double resto = buffer.getDouble();
+                double pie = buffer.getDouble();
+                double puntos = buffer.getDouble();
+                int ranking = buffer.getInt();
+                int posEliminado = buffer.getInt();
+                Zapatilla z = referencia(zapatillas, buffer.getInt());
+                Raqueta r = referencia(raquetas, buffer.getInt());
+                Tenista t = tipo == 0 ? new Golpeadores(nombre, z, saque, resto, ranking, pais, pie)
+                          : tipo == 1 ? new Voleadores(nombre, z, saque, resto, ranking, pais, pie)
+                          : null;
+                if (t == null){
+                    throw new IOException("Tipo de tenista desconocido: " + tipo);
+                }
+                t.setPuntosAcumulados(puntos);
+                t.setposEliminado(posEliminado);
+                if (r != null){
+                    t.setRaqueta(r);
+                }
+                tenistas[i] = t;
+            }
+
+            List<Tenista> cuadro = leerTenistas();
+            List<Tenista> pendientes = leerTenistas();
+            List<Tenista> eliminados = leerTenistas();
+
+            int n = contar(8);
+            Zapatilla[] reservaZapatillas = new Zapatilla[n];
+            int[] unidadesZapatillas = new int[n];
+            for (int i = 0; i < n; i++){
+                reservaZapatillas[i] = zapatillas[buffer.getInt()];
+                unidadesZapatillas[i] = buffer.getInt();
+            }
+            n = contar(8);
+            Raqueta[] reservaRaquetas = new Raqueta[n];
+            int[] unidadesRaquetas = new int[n];
+            for (int i = 0; i < n; i++){
+                reservaRaquetas[i] = raquetas[buffer.getInt()];
+                unidadesRaquetas[i] = buffer.getInt();
+            }
+
+            n = contar(8);
+            List<MedioGenerico> medios = new ArrayList<>(n);
+            for (int i = 0; i < n; i++){
+                medios.add(crearMedio(texto(), texto()));
+            }
+
+            String nombre = texto();
+            int ronda = buffer.getInt();
+            boolean rondasParalelas = buffer.get() != 0;
+            long posicionSalida = version >= 2 ? buffer.getLong() : -1;
+            return new InstantaneaCampeonato(nombre, cuadro, pendientes, eliminados, Arrays.asList(reservaZapatillas),
+                                             unidadesZapatillas, Arrays.asList(reservaRaquetas), unidadesRaquetas,
+                                             medios, ronda, rondasParalelas, posicionSalida);
+        }
+
+        /**
+         * Lee el número de elementos de una sección y comprueba que caben en lo que queda
+         * del fichero, para no reservar memoria de más con un fichero dañado
+         */
+        private int contar(int tamañoElemento) throws IOException
+        {
+            int n = buffer.getInt();
+            if (n < 0 || (long) n * tamañoElemento > buffer.remaining()){
+                throw new IOException("Instantánea dañada: la sección de " + n + " elementos no cabe en el fichero");
+            }
+            return n;
+        }
+
+        private List<Tenista> leerTenistas() throws IOException
+        {
+            Tenista[] lista = new Tenista[contar(4)];
+            for (int i = 0; i < lista.length; i++){
+                lista[i] = tenistas[buffer.getInt()];
+            }
+            return new ArrayList<>(Arrays.asList(lista));
+        }
+
+        private String texto()
+        {
+            int id = buffer.getInt();
+            return id < 0 ? null : textos[id];
+        }
+
+        private static <T> T referencia(T[] tabla, int id)
+        {
+            return id < 0 ? null : tabla[id];
+        }
+
+        private static Zapatilla crearZapatilla(byte tipo, String modelo, double numero, double valor) throws IOException
+        {
+            switch (tipo){
+                case 0: return new ZapatillaGenerica(modelo, numero, valor);
+                case 1: return new ZapatillasAmortiguadas(modelo, (int) numero, valor);
+                case 2: return new ZapatillasConAgarre(modelo, (int) numero, valor);
+                default: throw new IOException("Tipo de zapatilla desconocido: " + tipo);
+            }
+        }
+
+        private static Raqueta crearRaqueta(byte tipo, String modelo, double peso, double longitud, double cabeza,
+                                            Encordado encordado, double potencia, double control) throws IOException
+        {
+            switch (tipo){
+                case 0: return new RaquetaGenerica(modelo, peso, longitud, cabeza, encordado);
+                case 1: return new RaquetaPotente(modelo, peso, longitud, cabeza, encordado);
+                case 2: return new RaquetaControlada(modelo, peso, longitud, cabeza, encordado);
+                case 3: return new RaquetaEquilibrada(modelo, peso, longitud, cabeza, encordado, potencia, control);
+                default: throw new IOException("Tipo de raqueta desconocido: " + tipo);
+            }
+        }
+
+        private static MedioGenerico crearMedio(String clase, String nombre) throws IOException
+        {
+            try{
+                Constructor<? extends MedioGenerico> constructor =
+                    constructorMedio(Class.forName(clase).asSubclass(MedioGenerico.class));
+                if (constructor == null){
+                    throw new IOException("No se puede crear el medio " + nombre + " de la clase " + clase);
+                }
+                return constructor.newInstance(nombre);
+            }
+            catch(ReflectiveOperationException | ClassCastException e){
+                throw new IOException("No se puede crear el medio " + nombre + " de la clase " + clase, e);
+            }
+        }
+    }
+}
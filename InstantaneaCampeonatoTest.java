@@ -0,0 +1,297 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pruebas de las instantáneas binarias de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class InstantaneaCampeonatoTest
+{
+    @TempDir
+    Path directorio;
+
+    private Campeonato original;
+    private Campeonato restaurado;
+    private Campeonato referencia;
+
+    /**
+     * Default constructor for test class InstantaneaCampeonatoTest
+     */
+    public InstantaneaCampeonatoTest()
+    {
+    }
+
+    /**
+     * Crea dos campeonatos con los datos de InitTennisData y otro vacío en el que restaurar
+     * las instantáneas
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        original = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de InstantaneaCampeonatoTest", null);
+        restaurado = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de InstantaneaCampeonatoTest restaurado", null);
+        referencia = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de InstantaneaCampeonatoTest referencia", null);
+        new InitTennisData(original);
+        new InitTennisData(referencia);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        original.reset();
+        restaurado.reset();
+        referencia.reset();
+    }
+
+    /**
+     * El campeonato restaurado tiene los mismos tenistas, material, unidades y medios
+     */
+    @Test
+    public void guardarRestaurarTest() throws IOException
+    {
+        original.añadirRaquetas(new RaquetaPotente("Head Radical", 260, 680, 680, Encordado.ABIERTO), 4);
+        original.añadirZapatilla(new ZapatillasConAgarre("Court Lite", 39, 3), 7);
+        original.añadirSubscriptor(new MedioDeportivo("Anota"));
+        original.añadirSubscriptor(new MedioGenerico("Anónimo"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+            }
+        });
+        assertTrue(original.asignarRaquetas());
+        Path fichero = directorio.resolve("campeonato.bin");
+        original.guardarInstantanea(fichero);
+        restaurado.restaurarInstantanea(fichero);
+
+        assertEquals(describir(original.getCompetidores()), describir(restaurado.getCompetidores()));
+        assertEquals(porNumero(original), porNumero(restaurado));
+        assertEquals(original.getRaquetasCampeonato().toString(), restaurado.getRaquetasCampeonato().toString());
+        assertEquals(original.getReservaRaquetas().getTamaño(), restaurado.getReservaRaquetas().getTamaño());
+        assertEquals(original.getReservaZapatillas().getTamaño(), restaurado.getReservaZapatillas().getTamaño());
+        for (Tenista t: restaurado.getCompetidores()){
+            assertSame(restaurado, t.getCampeonato());
+        }
+
+        InstantaneaCampeonato instantanea = InstantaneaCampeonato.leer(fichero);
+        assertEquals(original.getNombre(), instantanea.getNombre());
+        assertEquals(1, instantanea.getMedios().size());
+        assertEquals("Anota", instantanea.getMedios().get(0).getNombre());
+        assertTrue(instantanea.getMedios().get(0) instanceof MedioDeportivo);
+    }
+
+    /**
+     * Un campeonato restaurado desde una instantánea tomada entre dos rondas continúa en la
+     * ronda siguiente y termina igual que el campeonato disputado de una vez
+     */
+    @Test
+    public void reanudarTest() throws IOException, ExcepcionRaquetas
+    {
+        List<String> lineasReferencia = capturar(referencia);
+        referencia.controlDeCampeonato();
+
+        original.setSalida(new SalidaAsincrona(null, false));
+        assertTrue(original.asignarRaquetas());
+        original.partidos(1);
+        Path fichero = directorio.resolve("ronda1.bin");
+        original.guardarInstantanea(fichero);
+        assertEquals(1, InstantaneaCampeonato.leer(fichero).getRonda());
+        assertEquals(4, InstantaneaCampeonato.leer(fichero).getEliminados().size());
+
+        restaurado.restaurarInstantanea(fichero);
+        List<String> lineasRestaurado = capturar(restaurado);
+        restaurado.controlDeCampeonato();
+
+        assertTrue(lineasRestaurado.get(0).startsWith("***** Reanudación del campeonato"), lineasRestaurado.get(0));
+        int ronda2 = lineasReferencia.indexOf("***** Ronda---->>>: 2");
+        assertTrue(ronda2 > 0);
+        assertEquals(lineasReferencia.subList(ronda2, lineasReferencia.size()),
+                     lineasRestaurado.subList(lineasRestaurado.indexOf("***** Ronda---->>>: 2"), lineasRestaurado.size()));
+        assertEquals(describir(referencia.getEliminados()), describir(restaurado.getEliminados()));
+    }
+
+    /**
+     * Con un solo modelo de raqueta con varias unidades, los tenistas que no reciben la
+     * raqueta del modelo llevan copias RaquetaInmutable, que se guardan y se restauran con
+     * la misma clase y los mismos datos
+     */
+    @Test
+    public void raquetasInmutablesTest() throws IOException
+    {
+        Campeonato unidades = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de InstantaneaCampeonatoTest unidades", null);
+        try{
+            ZapatillasConAgarre z = new ZapatillasConAgarre("Court Lite", 39, 3);
+            for (int i = 0; i < 4; i++){
+                new Golpeadores("Tenista " + i, z, 80, 70, i + 1, "España", 39).realizarInscripcion(unidades);
+            }
+            unidades.añadirRaquetas(new RaquetaEquilibrada("Head Graphene", 320, 690, 630, Encordado.ABIERTO, 6, 2), 8);
+            assertTrue(unidades.asignarRaquetas());
+            long copias = unidades.getCompetidores().stream().filter(t -> t.getRaqueta() instanceof RaquetaInmutable).count();
+            assertEquals(3, copias);
+
+            Path fichero = directorio.resolve("unidades.bin");
+            unidades.guardarInstantanea(fichero);
+            restaurado.restaurarInstantanea(fichero);
+            assertEquals(describir(unidades.getCompetidores()), describir(restaurado.getCompetidores()));
+            for (int i = 0; i < 4; i++){
+                Raqueta antes = unidades.getCompetidores().get(i).getRaqueta();
+                Raqueta despues = restaurado.getCompetidores().get(i).getRaqueta();
+                assertEquals(antes.getClass(), despues.getClass());
+                assertEquals(antes.mostrarRaquetaCambiada(), despues.mostrarRaquetaCambiada());
+                assertEquals(antes.calcularPotencia(), despues.calcularPotencia());
+                assertEquals(antes.calcularControl(), despues.calcularControl());
+            }
+            assertEquals(4, restaurado.getReservaRaquetas().getTamaño());
+        }
+        finally{
+            unidades.reset();
+        }
+    }
+
+    /**
+     * Desde otro hilo, guardar la instantánea de un campeonato que se está disputando solo
+     * espera a que termine la ronda en curso, y restaurarlo falla
+     */
+    @Test
+    public void otroHiloTest() throws Exception
+    {
+        Path fichero = directorio.resolve("ronda1.bin");
+        Path otro = directorio.resolve("referencia.bin");
+        referencia.guardarInstantanea(otro);
+        CountDownLatch terminados = new CountDownLatch(2);
+        AtomicReference<Throwable> errorGuardar = new AtomicReference<>();
+        AtomicReference<Throwable> errorRestaurar = new AtomicReference<>();
+        AtomicBoolean esperado = new AtomicBoolean();
+        Thread guardar = new Thread(() -> {
+            try{
+                original.guardarInstantanea(fichero);
+            }
+            catch (Throwable e){
+                errorGuardar.set(e);
+            }
+            terminados.countDown();
+        });
+        Thread restaurar = new Thread(() -> {
+            try{
+                original.restaurarInstantanea(otro);
+            }
+            catch (Throwable e){
+                errorRestaurar.set(e);
+            }
+            terminados.countDown();
+        });
+        original.setSalida(new SalidaAsincrona(null, false));
+        original.añadirSubscriptor(new MedioGenerico("Rondas"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+            }
+
+            public void actualizar(ResumenRonda resumen){
+                try{
+                    if (resumen.getRonda() == 1){
+                        guardar.start();
+                        restaurar.start();
+                        while (guardar.getState() != Thread.State.WAITING || restaurar.getState() != Thread.State.WAITING){
+                            Thread.sleep(1);
+                        }
+                    }
+                    else if (resumen.getRonda() == 2){
+                        esperado.set(terminados.await(10, TimeUnit.SECONDS));
+                    }
+                }
+                catch (InterruptedException e){
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, ModoEntrega.RONDA);
+        original.controlDeCampeonato();
+        guardar.join();
+        restaurar.join();
+
+        assertTrue(esperado.get());
+        assertNull(errorGuardar.get());
+        assertTrue(errorRestaurar.get() instanceof IllegalStateException, String.valueOf(errorRestaurar.get()));
+        assertEquals(1, InstantaneaCampeonato.leer(fichero).getRonda());
+        assertEquals(4, InstantaneaCampeonato.leer(fichero).getEliminados().size());
+    }
+
+    /**
+     * Un fichero que no es una instantánea, o que está cortado, no se restaura
+     */
+    @Test
+    public void danadaTest() throws IOException
+    {
+        Path otro = directorio.resolve("otro.bin");
+        Files.write(otro, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IOException.class, () -> InstantaneaCampeonato.leer(otro));
+
+        Path fichero = directorio.resolve("campeonato.bin");
+        original.guardarInstantanea(fichero);
+        byte[] bytes = Files.readAllBytes(fichero);
+        Path cortado = directorio.resolve("cortado.bin");
+        Files.write(cortado, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> restaurado.restaurarInstantanea(cortado));
+        assertTrue(restaurado.getCompetidores().isEmpty());
+    }
+
+    /**
+     * Las zapatillas de la reserva ordenadas por número, en el orden de entrega de cada uno
+     */
+    private static String porNumero(Campeonato campeonato)
+    {
+        List<Zapatilla> zapatillas = campeonato.getZapatillasCampeonato();
+        zapatillas.sort(Comparator.comparingDouble(Zapatilla::getNumero));
+        return zapatillas.toString();
+    }
+
+    private static List<String> capturar(Campeonato campeonato)
+    {
+        List<String> lineas = new ArrayList<>();
+        campeonato.setSalida(new Salida()
+        {
+            public void escribirLinea(String texto)
+            {
+                lineas.add(texto);
+            }
+
+            public boolean isActiva()
+            {
+                return true;
+            }
+
+            public void vaciar()
+            {
+            }
+
+            public void cerrar()
+            {
+            }
+        });
+        return lineas;
+    }
+
+    private static List<String> describir(List<Tenista> tenistas)
+    {
+        List<String> descripciones = new ArrayList<>();
+        for (Tenista t: tenistas){
+            descripciones.add(t.getClass().getName() + " " + t.getNombre() + " " + t.getSaque() + " " + t.getResto()
+                              + " " + t.getRanking() + " " + t.getPais() + " " + t.getNumPie() + " " + t.getZapatilla()
+                              + " " + t.getRaqueta() + " " + t.getPuntosAcumulados() + " " + t.getPosEliminado());
+        }
+        return descripciones;
+    }
+}
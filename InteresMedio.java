@@ -0,0 +1,201 @@
+
+/**
+ * Partidos que interesan a un medio: una franja del ranking para el ganador, otra para el
+ * perdedor, una franja de rondas y una diferencia mínima de puntos. Un partido interesa si
+ * cumple todas las condiciones; un medio con varios intereses recibe los partidos que
+ * cumplen cualquiera de ellos.
+ *
+ * Los intereses no cambian: cada método devuelve un interés nuevo con una condición más.
+ * Comunicacion indexa los intereses de los medios por franjas, de forma que un partido solo
+ * llega a los medios a los que interesa.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class InteresMedio
+{
+    private static final InteresMedio TODOS = new InteresMedio(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE,
+                                                               Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                                                               Double.NEGATIVE_INFINITY);
+
+    private final int rankingGanadorMinimo;
+    private final int rankingGanadorMaximo;
+    private final int rankingPerdedorMinimo;
+    private final int rankingPerdedorMaximo;
+    private final int rondaMinima;
+    private final int rondaMaxima;
+    private final double diferenciaMinima;
+
+    private InteresMedio(int rankingGanadorMinimo, int rankingGanadorMaximo, int rankingPerdedorMinimo,
+                         int rankingPerdedorMaximo, int rondaMinima, int rondaMaxima, double diferenciaMinima)
+    {
+        this.rankingGanadorMinimo = rankingGanadorMinimo;
+        this.rankingGanadorMaximo = rankingGanadorMaximo;
+        this.rankingPerdedorMinimo = rankingPerdedorMinimo;
+        this.rankingPerdedorMaximo = rankingPerdedorMaximo;
+        this.rondaMinima = rondaMinima;
+        this.rondaMaxima = rondaMaxima;
+        this.diferenciaMinima = diferenciaMinima;
+    }
+
+    /**
+     * Devuelve el interés por todos los partidos
+     * @return el interés sin condiciones
+     */
+    public static InteresMedio todos()
+    {
+        return TODOS;
+    }
+
+    /**
+     * Añade la condición de que el ranking del ganador esté en una franja
+     * @param minimo el primer puesto de la franja
+     * @param maximo el último puesto de la franja
+     * @return el nuevo interés
+     * @throws IllegalArgumentException si la franja está vacía
+     */
+    public InteresMedio conGanador(int minimo, int maximo)
+    {
+        comprobarFranja(minimo, maximo);
+        return new InteresMedio(minimo, maximo, rankingPerdedorMinimo, rankingPerdedorMaximo, rondaMinima, rondaMaxima,
+                                diferenciaMinima);
+    }
+
+    /**
+     * Añade la condición de que el ranking del perdedor esté en una franja
+     * @param minimo el primer puesto de la franja
+     * @param maximo el último puesto de la franja
+     * @return el nuevo interés
+     * @throws IllegalArgumentException si la franja está vacía
+     */
+    public InteresMedio conPerdedor(int minimo, int maximo)
+    {
+        comprobarFranja(minimo, maximo);
+        return new InteresMedio(rankingGanadorMinimo, rankingGanadorMaximo, minimo, maximo, rondaMinima, rondaMaxima,
+                                diferenciaMinima);
+    }
+
+    /**
+     * Añade la condición de que el partido se juegue en una franja de rondas
+     * @param minima la primera ronda
+     * @param maxima la última ronda
+     * @return el nuevo interés
+     * @throws IllegalArgumentException si la franja está vacía
+     */
+    public InteresMedio enRondas(int minima, int maxima)
+    {
+        comprobarFranja(minima, maxima);
+        return new InteresMedio(rankingGanadorMinimo, rankingGanadorMaximo, rankingPerdedorMinimo, rankingPerdedorMaximo,
+                                minima, maxima, diferenciaMinima);
+    }
+
+    /**
+     * Añade la condición de que el ganador saque al perdedor al menos una diferencia de
+     * puntos acumulados
+     * @param diferencia la diferencia mínima
+     * @return el nuevo interés
+     */
+    public InteresMedio conDiferenciaMinima(double diferencia)
+    {
+        return new InteresMedio(rankingGanadorMinimo, rankingGanadorMaximo, rankingPerdedorMinimo, rankingPerdedorMaximo,
+                                rondaMinima, rondaMaxima, diferencia);
+    }
+
+    /**
+     * Indica si un partido cumple todas las condiciones del interés
+     * @param rankingGanador el ranking del ganador
+     * @param rankingPerdedor el ranking del perdedor
+     * @param ronda la ronda del partido
+     * @param diferencia los puntos del ganador menos los del perdedor
+     * @return true si el partido interesa
+     */
+    public boolean acepta(int rankingGanador, int rankingPerdedor, int ronda, double diferencia)
+    {
+        return rankingGanador >= rankingGanadorMinimo && rankingGanador <= rankingGanadorMaximo
+               && rankingPerdedor >= rankingPerdedorMinimo && rankingPerdedor <= rankingPerdedorMaximo
+               && ronda >= rondaMinima && ronda <= rondaMaxima && diferencia >= diferenciaMinima;
+    }
+
+    /**
+     * Indica si un partido cumple todas las condiciones del interés
+     * @param evento el partido
+     * @return true si el partido interesa
+     */
+    public boolean acepta(EventoPartido evento)
+    {
+        return acepta(evento.getRankingGanador(), evento.getRankingPerdedor(), evento.getRonda(),
+                      evento.getPuntosGanador() - evento.getPuntosPerdedor());
+    }
+
+    /**
+     * Devuelve el primer puesto de la franja del ganador
+     * @return el ranking mínimo del ganador
+     */
+    public int getRankingGanadorMinimo()
+    {
+        return rankingGanadorMinimo;
+    }
+
+    /**
+     * Devuelve el último puesto de la franja del ganador
+     * @return el ranking máximo del ganador
+     */
+    public int getRankingGanadorMaximo()
+    {
+        return rankingGanadorMaximo;
+    }
+
+    /**
+     * Devuelve el primer puesto de la franja del perdedor
+     * @return el ranking mínimo del perdedor
+     */
+    public int getRankingPerdedorMinimo()
+    {
+        return rankingPerdedorMinimo;
+    }
+
+    /**
+     * Devuelve el último puesto de la franja del perdedor
+     * @return el ranking máximo del perdedor
+     */
+    public int getRankingPerdedorMaximo()
+    {
+        return rankingPerdedorMaximo;
+    }
+
+    /**
+     * Devuelve la primera ronda de la franja
+     * @return la ronda mínima
+     */
+    public int getRondaMinima()
+    {
+        return rondaMinima;
+    }
+
+    /**
+     * Devuelve la última ronda de la franja
+     * @return la ronda máxima
+     */
+    public int getRondaMaxima()
+    {
+        return rondaMaxima;
+    }
+
+    /**
+     * Devuelve la diferencia mínima de puntos entre el ganador y el perdedor
+     * @return la diferencia mínima
+     */
+    public double getDiferenciaMinima()
+    {
+        return diferenciaMinima;
+    }
+
+    private static void comprobarFranja(int minimo, int maximo)
+    {
+        if (minimo > maximo){
+            throw new IllegalArgumentException("La franja está vacía: " + minimo + "-" + maximo);
+        }
+    }
+}
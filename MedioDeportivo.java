@@ -9,6 +9,11 @@
  */
 public class MedioDeportivo extends MedioGenerico
 {
+    private static final PlantillaMensaje NOTICIA = new PlantillaMensaje(
+        "@@@@@@ El medio deportivo {medio} destaca que en el campeonato {campeonato} en la ronda {ronda} se ha impuesto "
+        + "{ganador} que ocupa la posición {rankingGanador} en el ranking a {perdedor} que ocupa la posicion "
+        + "{rankingPerdedor} con un marcador de {puntosGanador}-{puntosPerdedor}.");
+
     /**
      * Constructor de la clase MedioSensacionalista
      */
@@ -22,8 +27,16 @@ public class MedioDeportivo extends MedioGenerico
      * el nombre del perdedor, el ranking del perdedor y el resultado del partido siempre después de cada partido.
      */
     public void actualizar (Tenista ganador, Tenista perdedor, int ronda){
-        Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("@@@@@@ El medio deportivo "+getNombre()+" destaca que en el campeonato "+Campeonato.getInstance("Campeonato de Extremadura").getNombre()+
-            " en la ronda "+ronda+" se ha impuesto "+ganador.getNombre()+" que ocupa la posición "+ganador.getRanking()+" en el ranking a "+perdedor.getNombre()+ " que ocupa la posicion "+
-            perdedor.getRanking()+" con un marcador de "+ganador.getPuntosAcumulados()+"-"+perdedor.getPuntosAcumulados()+".");
+        actualizar(new EventoPartido(ganador, perdedor, ronda));
+    }
+    
+    /**
+     * Escribe la noticia del partido con los datos que tenían los tenistas al terminarlo.
+     * Si la salida del campeonato no está activa, la noticia no se compone
+     * @param evento el resultado del partido
+     */
+    @Override
+    public void actualizar (EventoPartido evento){
+        NOTICIA.escribir(getNombre(), evento);
     }
 }
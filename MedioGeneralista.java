@@ -1,3 +1,4 @@
+import java.util.List;
 
 /**
  * Clase que representa al medio generalista.
@@ -9,6 +10,9 @@
  */
 public class MedioGeneralista extends MedioGenerico
 {
+    private static final PlantillaMensaje NOTICIA = new PlantillaMensaje(
+        "@@@@@@ El medio generalista {medio} destaca en Deportes que en el {campeonato} en la ronda {ronda} se ha impuesto "
+        + "{ganador} a {perdedor} por una diferencia {diferenciaPuntos} puntos.");
 
     /**
      * Constructor de la clase MedioSensacionalista
@@ -18,16 +22,36 @@ public class MedioGeneralista extends MedioGenerico
         super(nombre);
     }
 
+    /**
+     * Al medio generalista le interesan los partidos en los que alguno de los dos tenistas
+     * está entre los 2 primeros del ranking
+     * @return los intereses del medio
+     */
+    @Override
+    public List<InteresMedio> getIntereses()
+    {
+        return List.of(InteresMedio.todos().conGanador(Integer.MIN_VALUE, 2),
+                       InteresMedio.todos().conPerdedor(Integer.MIN_VALUE, 2));
+    }
+    
     /**
      * Imprime por pantalla el nombre del medio, el nombre del campeonato, la ronda, el nombre del ganador, el nombre del perdedor 
      * y la diferencia de puntos del ganador con el perdedor después de cada partido cuando cualquiera de los dos tenistas se encuentre
      * entre las 3 primeras posiciones del ranking.
      */
     public void actualizar (Tenista ganador, Tenista perdedor, int ronda){
-        if (ganador.getRanking()<=2 || perdedor.getRanking()<=2){
-            Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("@@@@@@ El medio generalista "+getNombre()+" destaca en Deportes que en el "+
-            Campeonato.getInstance("Campeonato de Extremadura").getNombre()+" en la ronda "+ronda+" se ha impuesto "+ganador.getNombre()+" a "+perdedor.getNombre()+
-            " por una diferencia "+(ganador.getPuntosAcumulados()-perdedor.getPuntosAcumulados())+" puntos.");
+        actualizar(new EventoPartido(ganador, perdedor, ronda));
+    }
+    
+    /**
+     * Escribe la noticia del partido con los datos que tenían los tenistas al terminarlo.
+     * Si la salida del campeonato no está activa, la noticia no se compone
+     * @param evento el resultado del partido
+     */
+    @Override
+    public void actualizar (EventoPartido evento){
+        if (evento.getRankingGanador()<=2 || evento.getRankingPerdedor()<=2){
+            NOTICIA.escribir(getNombre(), evento);
         }
     }
 }
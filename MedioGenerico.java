@@ -1,3 +1,4 @@
+import java.util.List;
 
 /**
  * Clase que representa la superclase MedioGenerico.
@@ -29,6 +30,52 @@ public abstract class MedioGenerico
      */
     public abstract void actualizar(Tenista ganador, Tenista perdedor, int ronda);
     
+    /**
+     * Recibe el resultado de un partido. Por defecto lo pasa a actualizar(ganador, perdedor,
+     * ronda); los medios que lo reciben de forma asíncrona deberían usar los datos del
+     * evento, porque los de los tenistas pueden haber cambiado desde el partido
+     * @param evento el resultado del partido
+     */
+    public void actualizar(EventoPartido evento)
+    {
+        actualizar(evento.getGanador(), evento.getPerdedor(), evento.getRonda());
+    }
+    
+    /**
+     * Recibe los partidos de una ronda, si el medio se subscribió con ModoEntrega.RONDA.
+     * Por defecto pasa cada partido a actualizar(EventoPartido); los medios que procesan
+     * muchos partidos pueden recorrer los arrays del resumen directamente
+     * @param resumen los partidos de la ronda
+     */
+    public void actualizar(ResumenRonda resumen)
+    {
+        for (int i = 0; i < resumen.getNumeroPartidos(); i++){
+            actualizar(resumen.getPartido(i));
+        }
+    }
+    
+    /**
+     * Recibe todos los partidos del campeonato, si el medio se subscribió con
+     * ModoEntrega.TORNEO. Por defecto pasa cada ronda a actualizar(ResumenRonda)
+     * @param resumen los partidos del campeonato
+     */
+    public void actualizar(ResumenTorneo resumen)
+    {
+        for (ResumenRonda ronda: resumen.getRondas()){
+            actualizar(ronda);
+        }
+    }
+    
+    /**
+     * Devuelve los partidos que interesan al medio. Se consultan al subscribirlo, y el
+     * medio solo recibe los partidos que cumplen alguno. Por defecto le interesan todos
+     * @return los intereses del medio
+     */
+    public List<InteresMedio> getIntereses()
+    {
+        return List.of(InteresMedio.todos());
+    }
+    
     /**
      * Devuelve el nombre del medio 
      * @return el nombre del medio
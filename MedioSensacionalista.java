@@ -1,3 +1,5 @@
+import java.util.List;
+
 import java.lang.Math;
 /**
  * Clase que representa al medio sensacionalista.
@@ -9,6 +11,9 @@ import java.lang.Math;
  */
 public class MedioSensacionalista extends MedioGenerico
 {
+    private static final PlantillaMensaje NOTICIA = new PlantillaMensaje(
+        "@@@@@@ El medio sensacionalista {medio} destaca en Deportes que ha habido sorpresa en el {campeonato} en la ronda "
+        + "{ronda} porque se ha impuesto {ganador} a {perdedor} cuando les separan {diferenciaRanking} puestos en el ranking.");
 
     /**
      * Constructor de la clase MedioSensacionalista
@@ -18,16 +23,35 @@ public class MedioSensacionalista extends MedioGenerico
         super(nombre);
     }
 
+    /**
+     * Al medio sensacionalista solo le interesan las sorpresas: partidos en los que el
+     * ganador no está entre los 3 primeros del ranking y el perdedor sí
+     * @return los intereses del medio
+     */
+    @Override
+    public List<InteresMedio> getIntereses()
+    {
+        return List.of(InteresMedio.todos().conGanador(4, Integer.MAX_VALUE).conPerdedor(Integer.MIN_VALUE, 3));
+    }
+    
     /**
      * Imprime por pantalla el nombre del medio, el nombre del campeonato, la ronda, el nombre del ganador, el nombre del perdedor y
      * la diferencia de puestos en el ranking después de cada partido, si el ganador del partido no está entre las 3 primeras posiciones
      * y el ranking del perdedor sí está entre las 3 primeras posiciones.
      */
     public void actualizar (Tenista ganador, Tenista perdedor, int ronda){
-        if (ganador.getRanking()>3 && perdedor.getRanking()<=3){
-            Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("@@@@@@ El medio sensacionalista "+getNombre()+" destaca en Deportes que ha habido sorpresa en el "+Campeonato.getInstance("Campeonato de Extremadura").getNombre()+
-            " en la ronda "+ronda+" porque se ha impuesto "+ganador.getNombre()+" a "+perdedor.getNombre()+" cuando les separan "+Math.abs(ganador.getRanking()-perdedor.getRanking())+
-            " puestos en el ranking.");
+        actualizar(new EventoPartido(ganador, perdedor, ronda));
+    }
+    
+    /**
+     * Escribe la noticia del partido con los datos que tenían los tenistas al terminarlo.
+     * Si la salida del campeonato no está activa, la noticia no se compone
+     * @param evento el resultado del partido
+     */
+    @Override
+    public void actualizar (EventoPartido evento){
+        if (evento.getRankingGanador()>3 && evento.getRankingPerdedor()<=3){
+            NOTICIA.escribir(getNombre(), evento);
         }
     }
     
@@ -0,0 +1,21 @@
+/**
+ * Cómo recibe un medio los partidos del campeonato: uno a uno, en un resumen al terminar
+ * cada ronda o al terminar el campeonato, o leyéndolos del buzón del campeonato
+ * 
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+
+public enum ModoEntrega
+{
+    /** Cada partido, al terminarlo, con actualizar(EventoPartido) */
+    PARTIDO,
+    /** Todos los partidos de cada ronda, al terminarla, con actualizar(ResumenRonda) */
+    RONDA,
+    /** Todos los partidos del campeonato, al terminarlo, con actualizar(ResumenTorneo) */
+    TORNEO,
+    /** Cada partido, leído del BuzonPartidos del campeonato desde el hilo del medio */
+    BUZON
+}
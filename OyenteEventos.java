@@ -0,0 +1,84 @@
+
+/**
+ * Interfaz de quien recibe los eventos de un registro binario de campeonato al
+ * reproducirlo con ReproductorEventos. Los tenistas, zapatillas y raquetas llegan
+ * como identificadores; su texto se obtiene del propio reproductor.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public interface OyenteEventos
+{
+    /**
+     * Comienza una ronda
+     * @param ronda la ronda
+     */
+    public void ronda(int ronda);
+
+    /**
+     * Comienza un partido
+     * @param ronda la ronda del partido
+     * @param partido la posición del partido dentro de la ronda
+     * @param numeroPartido el número del partido dentro del campeonato
+     * @param t1 el primer tenista
+     * @param t2 el segundo tenista
+     */
+    public void partido(int ronda, int partido, int numeroPartido, int t1, int t2);
+
+    /**
+     * Un tenista cambia de zapatillas
+     * @param tenista el tenista
+     * @param zapatilla las zapatillas nuevas
+     */
+    public void cambioZapatilla(int tenista, int zapatilla);
+
+    /**
+     * Un tenista cambia de raqueta
+     * @param tenista el tenista
+     * @param raqueta la raqueta nueva, o -1 si no cambia
+     */
+    public void cambioRaqueta(int tenista, int raqueta);
+
+    /**
+     * Termina un partido y se elimina al perdedor
+     * @param ronda la ronda del partido
+     * @param partido la posición del partido dentro de la ronda
+     * @param ganador el tenista que gana
+     * @param perdedor el tenista eliminado
+     * @param puntosGanador los puntos acumulados del ganador
+     * @param puntosPerdedor los puntos acumulados del perdedor
+     * @param posEliminado la posición de eliminado del perdedor
+     */
+    public void resultado(int ronda, int partido, int ganador, int perdedor,
+                          double puntosGanador, double puntosPerdedor, int posEliminado);
+
+    /**
+     * Un tenista pasa de ronda sin jugar
+     * @param ronda la ronda
+     * @param tenista el tenista
+     */
+    public void descanso(int ronda, int tenista);
+
+    /**
+     * Un medio escribe un mensaje sobre un partido. El texto se obtiene con
+     * ReproductorEventos.componerMensaje
+     * @param mensaje el mensaje, que identifica al medio y su plantilla
+     * @param evento el partido, sin los tenistas ni el campeonato
+     */
+    public void mensaje(int mensaje, EventoPartido evento);
+
+    /**
+     * Una línea de texto que no es de ningún partido: la cabecera, los listados de
+     * competidores, raquetas y eliminados y la del ganador
+     * @param texto el texto de la línea
+     */
+    public void texto(String texto);
+
+    /**
+     * Termina el campeonato
+     * @param tenista el ganador
+     */
+    public void campeon(int tenista);
+}
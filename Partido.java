@@ -0,0 +1,90 @@
+
+/**
+ * Partido de una ronda disputada en paralelo. Guarda el emparejamiento y el material
+ * que se ha elegido para cada tenista antes de jugarlo, de forma que los puntos se
+ * puedan calcular a la vez que los del resto de partidos de la ronda.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+class Partido
+{
+    private final int indice;
+    private final Tenista t1;
+    private final Tenista t2;
+    private boolean zapatillaT1;
+    private boolean zapatillaT2;
+    private Raqueta raquetaT1;
+    private Raqueta raquetaT2;
+
+    /**
+     * Constructor de la clase Partido
+     * @param indice posición del partido dentro de la ronda
+     * @param t1 el primer tenista
+     * @param t2 el segundo tenista
+     */
+    Partido(int indice, Tenista t1, Tenista t2)
+    {
+        this.indice = indice;
+        this.t1 = t1;
+        this.t2 = t2;
+    }
+
+    /**
+     * Elige las zapatillas y las raquetas nuevas de ambos tenistas en el mismo orden
+     * en que lo haría el partido secuencial. Debe llamarse en el orden de los partidos
+     */
+    void prepararMaterial()
+    {
+        zapatillaT1 = t1.elegirZapatillaTenista();
+        zapatillaT2 = t2.elegirZapatillaTenista();
+        raquetaT1 = t1.elegirNuevaRaqueta();
+        raquetaT2 = t2.elegirNuevaRaqueta();
+    }
+
+    /**
+     * Juega el partido con el material ya elegido. Solo modifica a sus dos tenistas
+     */
+    void jugar()
+    {
+        t1.jugar(t2, raquetaT1);
+        t2.jugar(t1, raquetaT2);
+    }
+
+    int getIndice()
+    {
+        return indice;
+    }
+
+    Tenista getT1()
+    {
+        return t1;
+    }
+
+    Tenista getT2()
+    {
+        return t2;
+    }
+
+    boolean cambiaZapatillaT1()
+    {
+        return zapatillaT1;
+    }
+
+    boolean cambiaZapatillaT2()
+    {
+        return zapatillaT2;
+    }
+
+    Raqueta getRaquetaT1()
+    {
+        return raquetaT1;
+    }
+
+    Raqueta getRaquetaT2()
+    {
+        return raquetaT2;
+    }
+}
@@ -0,0 +1,167 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plantilla de los mensajes que escriben los medios sobre un partido. El formato se
+ * compila una sola vez, al crear la plantilla, en una lista de trozos de texto fijo y de
+ * campos del partido, y cada mensaje se compone directamente en un StringBuilder que cada
+ * hilo reutiliza, sin crear cadenas intermedias. Si la salida del campeonato no está
+ * activa, el mensaje ni siquiera se compone.
+ *
+ * Los campos se escriben entre llaves: {medio}, {campeonato}, {ronda}, {ganador},
+ * {perdedor}, {rankingGanador}, {rankingPerdedor}, {puntosGanador}, {puntosPerdedor},
+ * {diferenciaPuntos} (puntos del ganador menos los del perdedor) y {diferenciaRanking}
+ * (distancia entre los dos puestos del ranking). Los números se escriben igual que al
+ * concatenarlos a una cadena.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class PlantillaMensaje
+{
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    /**
+     * Campos del partido que se pueden usar en una plantilla
+     */
+    private enum Campo
+    {
+        MEDIO("medio"), CAMPEONATO("campeonato"), RONDA("ronda"), GANADOR("ganador"), PERDEDOR("perdedor"),
+        RANKING_GANADOR("rankingGanador"), RANKING_PERDEDOR("rankingPerdedor"), PUNTOS_GANADOR("puntosGanador"),
+        PUNTOS_PERDEDOR("puntosPerdedor"), DIFERENCIA_PUNTOS("diferenciaPuntos"), DIFERENCIA_RANKING("diferenciaRanking");
+
+        private final String nombre;
+
+        Campo(String nombre)
+        {
+            this.nombre = nombre;
+        }
+    }
+
+    private final String formato;
+    private final String[] textos;
+    private final Campo[] campos;
+
+    /**
+     * Constructor de la clase PlantillaMensaje. Compila el formato
+     * @param formato el texto del mensaje con los campos entre llaves
+     * @throws IllegalArgumentException si el formato tiene una llave sin cerrar o un campo
+     * que no existe
+     */
+    public PlantillaMensaje(String formato)
+    {
+        this.formato = formato;
+        List<String> trozos = new ArrayList<>();
+        List<Campo> lista = new ArrayList<>();
+        int desde = 0;
+        int abre;
+        while ((abre = formato.indexOf('{', desde)) >= 0){
+            int cierra = formato.indexOf('}', abre);
+            if (cierra < 0){
+                throw new IllegalArgumentException("Falta cerrar la llave en la posición " + abre + ": " + formato);
+            }
+            trozos.add(formato.substring(desde, abre));
+            lista.add(campo(formato.substring(abre + 1, cierra)));
+            desde = cierra + 1;
+        }
+        trozos.add(formato.substring(desde));
+        textos = trozos.toArray(new String[0]);
+        campos = lista.toArray(new Campo[0]);
+    }
+
+    /**
+     * Escribe el mensaje de un partido en la salida de su campeonato, salvo que la salida
+     * no esté activa. Si el campeonato tiene un registro de eventos, el mensaje se guarda
+     * en él sin componerlo, con la plantilla y los datos del partido
+     * @param medio el nombre del medio
+     * @param evento el partido
+     */
+    public void escribir(String medio, EventoPartido evento)
+    {
+        Campeonato campeonato = evento.getCampeonato();
+        if (campeonato == null){
+            return;
+        }
+        RegistroEventos eventos = campeonato.getRegistroEventos();
+        if (eventos != null){
+            eventos.mensaje(this, medio, evento);
+        }
+        if (!campeonato.isSalidaActiva()){
+            return;
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        componer(buffer, medio, evento);
+        campeonato.escribirFicheroPantalla(buffer);
+    }
+
+    /**
+     * Compone el mensaje de un partido al final de un StringBuilder
+     * @param destino donde se compone el mensaje
+     * @param medio el nombre del medio
+     * @param evento el partido
+     */
+    public void componer(StringBuilder destino, String medio, EventoPartido evento)
+    {
+        componer(destino, medio, evento.getCampeonato() == null ? null : evento.getCampeonato().getNombre(), evento);
+    }
+
+    /**
+     * Compone el mensaje de un partido con el nombre del campeonato, para los partidos que
+     * se leen de un registro de eventos y no tienen el campeonato
+     */
+    void componer(StringBuilder destino, String medio, String campeonato, EventoPartido evento)
+    {
+        for (int i = 0; i < campos.length; i++){
+            destino.append(textos[i]);
+            switch (campos[i]){
+                case MEDIO: destino.append(medio); break;
+                case CAMPEONATO: destino.append(campeonato); break;
+                case RONDA: destino.append(evento.getRonda()); break;
+                case GANADOR: destino.append(evento.getNombreGanador()); break;
+                case PERDEDOR: destino.append(evento.getNombrePerdedor()); break;
+                case RANKING_GANADOR: destino.append(evento.getRankingGanador()); break;
+                case RANKING_PERDEDOR: destino.append(evento.getRankingPerdedor()); break;
+                case PUNTOS_GANADOR: destino.append(evento.getPuntosGanador()); break;
+                case PUNTOS_PERDEDOR: destino.append(evento.getPuntosPerdedor()); break;
+                case DIFERENCIA_PUNTOS: destino.append(evento.getPuntosGanador() - evento.getPuntosPerdedor()); break;
+                case DIFERENCIA_RANKING: destino.append(Math.abs(evento.getRankingGanador() - evento.getRankingPerdedor())); break;
+            }
+        }
+        destino.append(textos[campos.length]);
+    }
+
+    /**
+     * Devuelve el mensaje de un partido como una cadena nueva
+     * @param medio el nombre del medio
+     * @param evento el partido
+     * @return el mensaje
+     */
+    public String componer(String medio, EventoPartido evento)
+    {
+        StringBuilder destino = new StringBuilder(formato.length() + 64);
+        componer(destino, medio, evento);
+        return destino.toString();
+    }
+
+    /**
+     * Devuelve el formato de la plantilla
+     * @return el formato, con los campos entre llaves
+     */
+    public String getFormato()
+    {
+        return formato;
+    }
+
+    private static Campo campo(String nombre)
+    {
+        for (Campo c: Campo.values()){
+            if (c.nombre.equals(nombre)){
+                return c;
+            }
+        }
+        throw new IllegalArgumentException("Campo desconocido en la plantilla: {" + nombre + "}");
+    }
+}
@@ -0,0 +1,123 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pruebas de las plantillas de los mensajes de los medios
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PlantillaMensajeTest
+{
+    private Campeonato campeonato;
+    private Tenista ganador;
+    private Tenista perdedor;
+    private List<String> lineas;
+    private boolean activa;
+
+    /**
+     * Default constructor for test class PlantillaMensajeTest
+     */
+    public PlantillaMensajeTest()
+    {
+    }
+
+    /**
+     * Crea un campeonato con dos tenistas y una salida que guarda las líneas y se puede
+     * desactivar
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de PlantillaMensajeTest", null);
+        Zapatilla z = new ZapatillasConAgarre("Court Lite", 39, 3);
+        ganador = new Golpeadores("Carlos Alcaraz", z, 85, 85, 5, "España", 39);
+        perdedor = new Voleadores("Roger Federer", z, 80, 90, 1, "Suiza", 39);
+        ganador.realizarInscripcion(campeonato);
+        perdedor.realizarInscripcion(campeonato);
+        ganador.setPuntosAcumulados(102.5);
+        perdedor.setPuntosAcumulados(87.25);
+        lineas = new ArrayList<>();
+        activa = true;
+        campeonato.setSalida(new Salida()
+        {
+            public void escribirLinea(String texto)
+            {
+                lineas.add(texto);
+            }
+
+            public boolean isActiva()
+            {
+                return activa;
+            }
+
+            public void vaciar()
+            {
+            }
+
+            public void cerrar()
+            {
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        campeonato.reset();
+    }
+
+    /**
+     * Los medios escriben el mismo mensaje que al concatenar los datos del partido
+     */
+    @Test
+    public void mensajesTest()
+    {
+        new MedioDeportivo("Anota").actualizar(ganador, perdedor, 2);
+        new MedioSensacionalista("Adios").actualizar(ganador, perdedor, 2);
+        new MedioGeneralista("La Tierrina").actualizar(ganador, perdedor, 2);
+        assertEquals(List.of("@@@@@@ El medio deportivo Anota destaca que en el campeonato " + campeonato.getNombre()
+                             + " en la ronda 2 se ha impuesto Carlos Alcaraz que ocupa la posición 5 en el ranking a"
+                             + " Roger Federer que ocupa la posicion 1 con un marcador de 102.5-87.25.",
+                             "@@@@@@ El medio sensacionalista Adios destaca en Deportes que ha habido sorpresa en el "
+                             + campeonato.getNombre() + " en la ronda 2 porque se ha impuesto Carlos Alcaraz a Roger Federer"
+                             + " cuando les separan 4 puestos en el ranking.",
+                             "@@@@@@ El medio generalista La Tierrina destaca en Deportes que en el " + campeonato.getNombre()
+                             + " en la ronda 2 se ha impuesto Carlos Alcaraz a Roger Federer por una diferencia 15.25 puntos."),
+                     lineas);
+    }
+
+    /**
+     * Con la salida desactivada los medios no escriben nada
+     */
+    @Test
+    public void salidaInactivaTest()
+    {
+        activa = false;
+        new MedioDeportivo("Anota").actualizar(ganador, perdedor, 2);
+        assertTrue(lineas.isEmpty());
+    }
+
+    /**
+     * Una plantilla compone los campos en orden y rechaza los formatos mal escritos
+     */
+    @Test
+    public void componerTest()
+    {
+        PlantillaMensaje plantilla = new PlantillaMensaje("{ganador} ({rankingGanador}) {diferenciaPuntos} {perdedor}");
+        EventoPartido evento = new EventoPartido(ganador, perdedor, 1);
+        assertEquals("Carlos Alcaraz (5) 15.25 Roger Federer", plantilla.componer("Anota", evento));
+        StringBuilder destino = new StringBuilder("> ");
+        new PlantillaMensaje("{medio}: ronda {ronda}").componer(destino, "Anota", evento);
+        assertEquals("> Anota: ronda 1", destino.toString());
+        assertEquals("sin campos", new PlantillaMensaje("sin campos").componer("Anota", evento));
+        assertThrows(IllegalArgumentException.class, () -> new PlantillaMensaje("{ganador"));
+        assertThrows(IllegalArgumentException.class, () -> new PlantillaMensaje("{tenista}"));
+    }
+}
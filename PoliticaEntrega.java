@@ -0,0 +1,22 @@
+/**
+ * Qué hace la entrega asíncrona de un medio cuando su cola está llena porque el medio no
+ * procesa los partidos tan rápido como se juegan
+ * 
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+
+public enum PoliticaEntrega
+{
+    /** El campeonato espera a que haya sitio en la cola; el medio recibe todos los partidos */
+    BLOQUEAR,
+    /** Se descarta el partido más antiguo de la cola para dejar sitio al nuevo */
+    DESCARTAR_ANTIGUO,
+    /**
+     * Mientras la cola está llena solo entra uno de cada varios partidos, que ocupa el
+     * sitio del más antiguo; el resto se descarta
+     */
+    MUESTREAR
+}
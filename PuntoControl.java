@@ -0,0 +1,178 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Punto de control de un campeonato: guarda en un fichero una instantánea al terminar cada
+ * ronda, para que un campeonato interrumpido pueda continuar desde la última ronda
+ * completa sin repetir las anteriores.
+ *
+ * Las instantáneas se escriben desde un hilo propio, así que la ronda siguiente empieza
+ * sin esperar al disco. Cada instantánea espera antes a que la salida del campeonato haya
+ * escrito todo lo de su ronda, y guarda su marca junto con el estado. El fichero se
+ * escribe primero con otro nombre y después se renombra, de forma que siempre contiene una
+ * instantánea completa. Si el escritor se retrasa, las instantáneas que esperan se
+ * sustituyen por la más reciente. Si no se puede escribir una instantánea, el error queda
+ * en getError y el punto de control sigue con las siguientes.
+ *
+ * El hilo del escritor se para al cerrar o borrar el punto de control, y después ya no
+ * se pueden guardar más instantáneas.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PuntoControl
+{
+    private final Path fichero;
+    private final Path temporal;
+    private final ExecutorService escritor;
+    private final AtomicReference<Pendiente> pendiente;
+    private volatile Future<?> ultima;
+    private volatile Exception error;
+
+    /**
+     * Instantánea que espera a ser escrita, con la marca de la salida de su ronda
+     */
+    private static final class Pendiente
+    {
+        private final InstantaneaCampeonato instantanea;
+        private final CompletableFuture<Long> marca;
+
+        private Pendiente(InstantaneaCampeonato instantanea, CompletableFuture<Long> marca)
+        {
+            this.instantanea = instantanea;
+            this.marca = marca;
+        }
+    }
+
+    /**
+     * Constructor de la clase PuntoControl
+     * @param fichero el fichero en el que se guardan las instantáneas
+     */
+    public PuntoControl(Path fichero)
+    {
+        this.fichero = fichero;
+        this.temporal = Paths.get(fichero + ".tmp");
+        this.pendiente = new AtomicReference<>();
+        this.escritor = Executors.newSingleThreadExecutor(r -> {
+            Thread hilo = new Thread(r, "puntos-control");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Devuelve el fichero en el que se guardan las instantáneas
+     * @return el fichero del punto de control
+     */
+    public Path getFichero()
+    {
+        return fichero;
+    }
+
+    /**
+     * Pide que se escriba una instantánea cuando la salida del campeonato llegue a la marca
+     * @param instantanea la instantánea, que no debe compartir datos que vayan a cambiar
+     * @param marca la marca de la salida al tomar la instantánea
+     * @throws IllegalStateException si el punto de control está cerrado
+     */
+    public void guardar(InstantaneaCampeonato instantanea, CompletableFuture<Long> marca)
+    {
+        if (pendiente.getAndSet(new Pendiente(instantanea, marca)) == null){
+            try{
+                ultima = escritor.submit(this::escribirPendiente);
+            }
+            catch(RejectedExecutionException e){
+                pendiente.set(null);
+                throw new IllegalStateException("El punto de control " + fichero + " está cerrado");
+            }
+        }
+    }
+
+    /**
+     * Espera a que se hayan escrito todas las instantáneas pedidas
+     */
+    public void esperar()
+    {
+        Future<?> tarea = ultima;
+        if (tarea == null){
+            return;
+        }
+        try{
+            tarea.get();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        catch(ExecutionException e){
+            System.err.println("Error al guardar el punto de control: " + e.getCause());
+            error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Devuelve el error de la última instantánea que no se pudo escribir
+     * @return la excepción, o null si todas se han escrito
+     */
+    public Exception getError()
+    {
+        return error;
+    }
+
+    /**
+     * Espera a las instantáneas pedidas y para el hilo del escritor. El fichero del punto
+     * de control se queda como está
+     */
+    public void cerrar()
+    {
+        esperar();
+        escritor.shutdown();
+    }
+
+    /**
+     * Espera a las instantáneas pedidas, para el hilo del escritor y borra el fichero del
+     * punto de control, para que un campeonato terminado no se reanude
+     */
+    public void borrar()
+    {
+        cerrar();
+        try{
+            Files.deleteIfExists(fichero);
+            Files.deleteIfExists(temporal);
+        }
+        catch(IOException e){
+            System.err.println("Error al borrar el punto de control: " + e.getMessage());
+        }
+    }
+
+    private void escribirPendiente()
+    {
+        Pendiente p = pendiente.getAndSet(null);
+        if (p == null){
+            return;
+        }
+        try{
+            long posicion = p.marca.get();
+            p.instantanea.conPosicionSalida(posicion).guardar(temporal);
+            Files.move(temporal, fichero, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        catch(ExecutionException | IOException e){
+            System.err.println("Error al guardar el punto de control: " + e);
+            error = e;
+        }
+    }
+}
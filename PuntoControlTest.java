@@ -0,0 +1,127 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pruebas de los puntos de control de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PuntoControlTest
+{
+    @TempDir
+    Path directorio;
+
+    private Campeonato interrumpido;
+    private Campeonato reanudado;
+    private Campeonato referencia;
+
+    /**
+     * Default constructor for test class PuntoControlTest
+     */
+    public PuntoControlTest()
+    {
+    }
+
+    @BeforeEach
+    public void setUp()
+    {
+        interrumpido = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de PuntoControlTest", null);
+        reanudado = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de PuntoControlTest reanudado", null);
+        referencia = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de PuntoControlTest referencia", null);
+        new InitTennisData(interrumpido);
+        new InitTennisData(referencia);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        interrumpido.reset();
+        reanudado.reset();
+        referencia.reset();
+    }
+
+    /**
+     * Un campeonato que se interrumpe en la final se reanuda desde el punto de control de
+     * la ronda anterior: no repite rondas, su fichero de salida continúa donde terminó esa
+     * ronda y el resultado es el del campeonato disputado de una vez. Al terminar, el punto
+     * de control se borra. La salida se lee con la codificación por defecto, que es la que
+     * usa SalidaAsincrona
+     */
+    @Test
+    public void reanudarTest() throws IOException, ExcepcionRaquetas
+    {
+        Path salidaReferencia = directorio.resolve("referencia.txt");
+        referencia.setSalida(new SalidaAsincrona(salidaReferencia.toString(), false));
+        referencia.controlDeCampeonato();
+        List<String> lineasReferencia = Files.readAllLines(salidaReferencia, Charset.defaultCharset());
+
+        Path salida = directorio.resolve("salida.txt");
+        Path punto = directorio.resolve("campeonato.ckpt");
+        interrumpido.setSalida(new SalidaAsincrona(salida.toString(), false));
+        interrumpido.setPuntoControl(punto);
+        interrumpido.añadirSubscriptor(new MedioGenerico("Interrupción"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                if (ronda == 3){
+                    throw new IllegalStateException("Interrupción en la ronda 3");
+                }
+            }
+        });
+        assertThrows(IllegalStateException.class, () -> interrumpido.controlDeCampeonato());
+        interrumpido.getPuntoControl().esperar();
+        interrumpido.getSalida().cerrar();
+        assertEquals(2, InstantaneaCampeonato.leer(punto).getRonda());
+
+        reanudado.setSalida(new SalidaAsincrona(salida.toString(), false));
+        assertTrue(reanudado.restaurarPuntoControl(punto));
+        reanudado.setPuntoControl(punto);
+        reanudado.controlDeCampeonato();
+        assertNull(reanudado.getPuntoControl());
+        assertFalse(Files.exists(punto));
+        assertFalse(reanudado.restaurarPuntoControl(punto));
+
+        List<String> lineas = Files.readAllLines(salida, Charset.defaultCharset());
+        int reanudacion = 0;
+        while (reanudacion < lineas.size() && !lineas.get(reanudacion).startsWith("***** Reanudaci")){
+            reanudacion++;
+        }
+        assertTrue(lineas.get(reanudacion).endsWith(reanudado.getNombre() + " en la ronda 3 *****"));
+        assertEquals(lineasReferencia.subList(1, reanudacion), lineas.subList(1, reanudacion));
+        int ronda3 = lineas.indexOf("***** Ronda---->>>: 3");
+        assertEquals(ronda3, lineas.lastIndexOf("***** Ronda---->>>: 3"));
+        int ronda3Referencia = lineasReferencia.indexOf("***** Ronda---->>>: 3");
+        assertEquals(lineasReferencia.subList(ronda3Referencia, lineasReferencia.size()),
+                     lineas.subList(ronda3, lineas.size()));
+    }
+
+    /**
+     * Si una instantánea no se puede escribir, el error queda en el punto de control, y un
+     * punto de control cerrado ya no guarda instantáneas
+     */
+    @Test
+    public void errorTest() throws IOException
+    {
+        Path fichero = directorio.resolve("referencia.bin");
+        referencia.guardarInstantanea(fichero);
+        InstantaneaCampeonato instantanea = InstantaneaCampeonato.leer(fichero);
+
+        PuntoControl punto = new PuntoControl(directorio.resolve("no existe").resolve("campeonato.ckpt"));
+        assertNull(punto.getError());
+        punto.guardar(instantanea, CompletableFuture.completedFuture(0L));
+        punto.esperar();
+        assertTrue(punto.getError() instanceof IOException, String.valueOf(punto.getError()));
+        punto.cerrar();
+        assertThrows(IllegalStateException.class, () -> punto.guardar(instantanea, CompletableFuture.completedFuture(0L)));
+    }
+}
@@ -29,10 +29,10 @@ public class RaquetaControlada extends RaquetaGenerica
      * @return control asociado a la raqueta según su tamaño de cabeza
      */
     @Override
-    public double calcularControl ()
+    protected double calcularControlPerfil ()
     {
         double control = super.getEncordado().getMultiplicadorControl();
-        double resultado = super.calcularControl();
+        double resultado = super.calcularControlPerfil();
         return control*resultado;
     }
     
@@ -41,9 +41,9 @@ public class RaquetaControlada extends RaquetaGenerica
      * @return velocidad asociada a la raqueta según su peso
      */
     @Override
-    public double calcularVelocidad ()
+    protected double calcularVelocidadPerfil ()
     {
-        double resultado = super.calcularVelocidad();
+        double resultado = super.calcularVelocidadPerfil();
         return multiplicadorVelocidad*resultado;
     }
     
@@ -63,6 +63,7 @@ public class RaquetaControlada extends RaquetaGenerica
     public void setMultiplicadorVelocidad(double multiplicadorVelocidad)
     {
         this.multiplicadorVelocidad = multiplicadorVelocidad;
+        invalidarPerfil();
     }
     
     /**
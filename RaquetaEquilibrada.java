@@ -32,9 +32,9 @@ public class RaquetaEquilibrada extends RaquetaGenerica
      * @return la potencia asociada a la raqueta según su longitud
      */
     @Override
-    public double calcularPotencia ()
+    protected double calcularPotenciaPerfil ()
     {
-        double resultado = super.calcularPotencia();
+        double resultado = super.calcularPotenciaPerfil();
         return multiplicadorPotencia*resultado;
     }
     
@@ -43,9 +43,9 @@ public class RaquetaEquilibrada extends RaquetaGenerica
      * @return control asociado a la raqueta según su tamaño de cabeza
      */
     @Override
-    public double calcularControl ()
+    protected double calcularControlPerfil ()
     {
-        double resultado = super.calcularControl();
+        double resultado = super.calcularControlPerfil();
         return multiplicadorControl*resultado;
     }
     
@@ -65,6 +65,7 @@ public class RaquetaEquilibrada extends RaquetaGenerica
     public void setMultiplicadorControl(double multiplicadorControl)
     {
         this.multiplicadorControl = multiplicadorControl;
+        invalidarPerfil();
     }
     
     /**
@@ -83,6 +84,7 @@ public class RaquetaEquilibrada extends RaquetaGenerica
     public void setMultiplicadorPotencia(double multiplicadorPotencia)
     {
         this.multiplicadorPotencia = multiplicadorPotencia;
+        invalidarPerfil();
     }
     
     /**
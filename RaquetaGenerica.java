@@ -4,6 +4,12 @@ import java.util.Iterator;
  * Esta clase representa la superclase de las subclases: RaquetaPotente, RaquetaEquilibrada y 
  * RaquetaControlada
  * 
+ * La potencia, el control y la velocidad se calculan la primera vez que se piden y se
+ * guardan en un perfil inmutable, de forma que las siguientes consultas solo leen un campo.
+ * Las subclases cambian el cálculo redefiniendo calcularPotenciaPerfil, calcularControlPerfil
+ * y calcularVelocidadPerfil, y deben llamar a invalidarPerfil cuando cambie algún dato del
+ * que dependan.
+ * 
  * @author David Bonilla
  * @author Antonio Javier Hidalgo
  * @author Juan Francisco García
@@ -18,6 +24,7 @@ public class RaquetaGenerica implements Raqueta
     private double peso;
     private double longitud;
     private double tamañoCabeza;
+    private Perfil perfil;
     
     /**
      * Constructor parametrizado de la clase RaquetaGenerica
@@ -49,6 +56,7 @@ public class RaquetaGenerica implements Raqueta
     public void setPeso(double peso)
     {
         this.peso = peso;
+        invalidarPerfil();
     }
      
     public double getLongitud()
@@ -59,6 +67,7 @@ public class RaquetaGenerica implements Raqueta
     public void setLongitud(double longitud)
     {
         this.longitud = longitud;
+        invalidarPerfil();
     }
     
     public double getTamañoCabeza()
@@ -69,6 +78,7 @@ public class RaquetaGenerica implements Raqueta
     public void setTamañoCabeza(double tamañoCabeza)
     {
         this.tamañoCabeza = tamañoCabeza;
+        invalidarPerfil();
     }
     
     public Encordado getEncordado()
@@ -79,26 +89,77 @@ public class RaquetaGenerica implements Raqueta
     public void setEncordado(Encordado encordado)
     {
         this.encordado = encordado;
+        invalidarPerfil();
     }
     
     public double calcularPotencia()
     {
-        double potencia=(double)TablasRaquetas.getMapaLongitudPotencia(longitud);
-        return potencia;
+        return getPerfil().potencia;
     }
 
     public double calcularControl()
     {
-        double control=(double)TablasRaquetas.getMapaCabezaControl(tamañoCabeza);
-        return control;
+        return getPerfil().control;
     }
     
     public double calcularVelocidad()
     {
-        double velocidad=(double)TablasRaquetas.getMapaPesoVelocidad(peso);
+        return getPerfil().velocidad;
+    }
+    
+    /**
+     * Calcula la potencia de la raqueta según su longitud, sin usar el perfil guardado
+     * @return potencia asociada a la raqueta según su longitud
+     */
+    protected double calcularPotenciaPerfil()
+    {
+        double potencia=TablasRaquetas.potencia(longitud);
+        return potencia;
+    }
+
+    /**
+     * Calcula el control de la raqueta según su tamaño de cabeza, sin usar el perfil guardado
+     * @return control asociado a la raqueta según su tamaño de cabeza
+     */
+    protected double calcularControlPerfil()
+    {
+        double control=TablasRaquetas.control(tamañoCabeza);
+        return control;
+    }
+    
+    /**
+     * Calcula la velocidad de la raqueta según su peso, sin usar el perfil guardado
+     * @return velocidad asociada a la raqueta según su peso
+     */
+    protected double calcularVelocidadPerfil()
+    {
+        double velocidad=TablasRaquetas.velocidad(peso);
         return velocidad;
     }
     
+    /**
+     * Descarta el perfil guardado, que se volverá a calcular en la siguiente consulta
+     */
+    protected void invalidarPerfil()
+    {
+        perfil = null;
+    }
+    
+    /**
+     * Devuelve el perfil de la raqueta, calculándolo si no está guardado. Si dos hilos
+     * lo calculan a la vez ambos obtienen los mismos valores, y al ser un objeto con
+     * campos final ningún hilo puede ver un perfil a medio construir
+     */
+    private Perfil getPerfil()
+    {
+        Perfil p = perfil;
+        if (p == null){
+            p = new Perfil(calcularPotenciaPerfil(), calcularControlPerfil(), calcularVelocidadPerfil());
+            perfil = p;
+        }
+        return p;
+    }
+    
     public String mostrarRaquetaCambiada(){
         return getClass().getName()+" modelo="+getModelo()+" velocidad="+calcularVelocidad();
     }
@@ -155,4 +216,21 @@ public class RaquetaGenerica implements Raqueta
                 getPeso()==other.getPeso() && getLongitud()==other.getLongitud() && 
                 getTamañoCabeza()==other.getTamañoCabeza();
     }
+    
+    /**
+     * Valores calculados de una raqueta
+     */
+    private static final class Perfil
+    {
+        private final double potencia;
+        private final double control;
+        private final double velocidad;
+        
+        Perfil(double potencia, double control, double velocidad)
+        {
+            this.potencia = potencia;
+            this.control = control;
+            this.velocidad = velocidad;
+        }
+    }
 }
@@ -0,0 +1,177 @@
+
+/**
+ * Copia inmutable de una raqueta. Todos sus datos, incluidos la potencia, el control y la
+ * velocidad, se calculan al crearla y se guardan en campos final, de forma que consultar
+ * sus valores es siempre leer un campo y la raqueta se puede compartir entre hilos sin
+ * ningún cuidado. Sus métodos set lanzan UnsupportedOperationException.
+ *
+ * La copia se muestra igual que la raqueta original, con el nombre de su clase.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class RaquetaInmutable implements Raqueta
+{
+    private final String tipo;
+    private final String modelo;
+    private final Encordado encordado;
+    private final double peso;
+    private final double longitud;
+    private final double tamañoCabeza;
+    private final double potencia;
+    private final double control;
+    private final double velocidad;
+    private final String descripcion;
+
+    /**
+     * Constructor de la clase RaquetaInmutable
+     * @param original la raqueta que se copia. Si es a su vez inmutable, se copian sus datos
+     */
+    public RaquetaInmutable(Raqueta original)
+    {
+        this.tipo = original instanceof RaquetaInmutable ? ((RaquetaInmutable)original).tipo
+                                                          : original.getClass().getName();
+        this.modelo = original.getModelo();
+        this.encordado = original.getEncordado();
+        this.peso = original.getPeso();
+        this.longitud = original.getLongitud();
+        this.tamañoCabeza = original.getTamañoCabeza();
+        this.potencia = original.calcularPotencia();
+        this.control = original.calcularControl();
+        this.velocidad = original.calcularVelocidad();
+        this.descripcion = original.toString();
+    }
+
+    /**
+     * Constructor de la clase RaquetaInmutable con todos sus datos, para las copias que se
+     * leen de una InstantaneaCampeonato
+     */
+    RaquetaInmutable(String tipo, String modelo, Encordado encordado, double peso, double longitud, double tamañoCabeza,
+                     double potencia, double control, double velocidad, String descripcion)
+    {
+        this.tipo = tipo;
+        this.modelo = modelo;
+        this.encordado = encordado;
+        this.peso = peso;
+        this.longitud = longitud;
+        this.tamañoCabeza = tamañoCabeza;
+        this.potencia = potencia;
+        this.control = control;
+        this.velocidad = velocidad;
+        this.descripcion = descripcion;
+    }
+
+    /**
+     * Devuelve el nombre de la clase de la raqueta original
+     * @return la clase de la raqueta que se copió
+     */
+    String getTipo()
+    {
+        return tipo;
+    }
+
+    public double calcularPotencia()
+    {
+        return potencia;
+    }
+
+    public double calcularControl()
+    {
+        return control;
+    }
+
+    public double calcularVelocidad()
+    {
+        return velocidad;
+    }
+
+    public String getModelo()
+    {
+        return modelo;
+    }
+
+    public void setModelo(String modelo)
+    {
+        throw new UnsupportedOperationException("La raqueta " + this.modelo + " es inmutable");
+    }
+
+    public double getPeso()
+    {
+        return peso;
+    }
+
+    public void setPeso(double peso)
+    {
+        throw new UnsupportedOperationException("La raqueta " + modelo + " es inmutable");
+    }
+
+    public double getLongitud()
+    {
+        return longitud;
+    }
+
+    public void setLongitud(double longitud)
+    {
+        throw new UnsupportedOperationException("La raqueta " + modelo + " es inmutable");
+    }
+
+    public double getTamañoCabeza()
+    {
+        return tamañoCabeza;
+    }
+
+    public void setTamañoCabeza(double tamañoCabeza)
+    {
+        throw new UnsupportedOperationException("La raqueta " + modelo + " es inmutable");
+    }
+
+    public Encordado getEncordado()
+    {
+        return encordado;
+    }
+
+    public void setEncordado(Encordado encordado)
+    {
+        throw new UnsupportedOperationException("La raqueta " + modelo + " es inmutable");
+    }
+
+    public String mostrarRaquetaCambiada()
+    {
+        return tipo+" modelo="+modelo+" velocidad="+velocidad;
+    }
+
+    @Override
+    public String toString()
+    {
+        return descripcion;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = 7;
+        result = 3 * result + modelo.hashCode();
+        result = 5 * result + encordado.hashCode();
+        result = 7 * result + Double.hashCode(peso);
+        result = 13 * result + Double.hashCode(longitud);
+        result = 17 * result + Double.hashCode(tamañoCabeza);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        if(this == obj){
+            return true;
+        }
+        if(!(obj instanceof RaquetaInmutable)){
+            return false;
+        }
+        RaquetaInmutable other = (RaquetaInmutable) obj;
+        return tipo.equals(other.tipo) && modelo.equals(other.modelo) && encordado.equals(other.encordado) &&
+                peso==other.peso && longitud==other.longitud && tamañoCabeza==other.tamañoCabeza &&
+                potencia==other.potencia && control==other.control && velocidad==other.velocidad;
+    }
+}
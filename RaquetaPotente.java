@@ -30,10 +30,10 @@ public class RaquetaPotente extends RaquetaGenerica
      * @return potencia asociada a la raqueta según su longitud
      */
     @Override
-    public double calcularPotencia ()
+    protected double calcularPotenciaPerfil ()
     {
         double potencia = super.getEncordado().getMultiplicadorPotencia();
-        double resultado = super.calcularPotencia();
+        double resultado = super.calcularPotenciaPerfil();
         return potencia*resultado;
     }
     /**
@@ -41,9 +41,9 @@ public class RaquetaPotente extends RaquetaGenerica
      * @return velocidad asociada a la raqueta según su peso
      */
     @Override
-    public double calcularVelocidad ()
+    protected double calcularVelocidadPerfil ()
     {
-        double resultado = super.calcularVelocidad();
+        double resultado = super.calcularVelocidadPerfil();
         return multiplicadorVelocidad*resultado;
     }
 
@@ -63,6 +63,7 @@ public class RaquetaPotente extends RaquetaGenerica
     public void setMultiplicadorVelocidad(double multiplicadorVelocidad)
     {
         this.multiplicadorVelocidad = multiplicadorVelocidad;
+        invalidarPerfil();
     }
     
     /**
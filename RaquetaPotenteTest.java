@@ -84,7 +84,36 @@ public class RaquetaPotenteTest
         assertEquals(8.0, raquetaP1.calcularControl(), 0.1);
         assertEquals(8.0, raquetaP2.calcularControl(), 0.1);
     }
+    /**
+     * Los valores guardados de la raqueta se recalculan al cambiar sus datos
+     */
+    @Test
+    public void perfilActualizadoTest()
+    {
+        assertEquals(12, raquetaP1.calcularPotencia(), 0.1);
+        raquetaP1.setLongitud(740.0);
+        assertEquals(20, raquetaP1.calcularPotencia(), 0.1);
+        raquetaP1.setEncordado(Encordado.CERRADO);
+        assertEquals(18, raquetaP1.calcularPotencia(), 0.1);
+        raquetaP1.setPeso(220.0);
+        assertEquals(15, raquetaP1.calcularVelocidad(), 0.1);
+        ((RaquetaPotente)raquetaP1).setMultiplicadorVelocidad(2);
+        assertEquals(20, raquetaP1.calcularVelocidad(), 0.1);
+    }
+    /**
+     * La copia inmutable tiene los mismos valores y no se puede modificar
+     */
+    @Test
+    public void raquetaInmutableTest()
+    {
+        Raqueta copia = new RaquetaInmutable(raquetaP1);
+        assertEquals(raquetaP1.calcularPotencia(), copia.calcularPotencia());
+        assertEquals(raquetaP1.calcularControl(), copia.calcularControl());
+        assertEquals(raquetaP1.calcularVelocidad(), copia.calcularVelocidad());
+        assertEquals(raquetaP1.mostrarRaquetaCambiada(), copia.mostrarRaquetaCambiada());
+        assertEquals(raquetaP1.toString(), copia.toString());
+        assertThrows(UnsupportedOperationException.class, () -> copia.setPeso(220.0));
+        raquetaP1.setLongitud(740.0);
+        assertEquals(12, copia.calcularPotencia(), 0.1);
+    }
 }
-
-
-
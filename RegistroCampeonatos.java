@@ -0,0 +1,148 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Registro de todos los campeonatos de la aplicación, indexados por su nombre.
+ * Cada campeonato es independiente del resto (competidores, raquetas, zapatillas,
+ * subscriptores y salida propios) y puede disputarse en paralelo con los demás
+ * sobre un ejecutor compartido.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class RegistroCampeonatos
+{
+    private static final RegistroCampeonatos registro = new RegistroCampeonatos();
+
+    private final ConcurrentHashMap <String, Campeonato> campeonatos;
+    private final ExecutorService ejecutor;
+
+    /**
+     * Constructor de la clase RegistroCampeonatos
+     * El ejecutor usa tantos hilos como procesadores tenga la máquina
+     */
+    private RegistroCampeonatos()
+    {
+        campeonatos = new ConcurrentHashMap <>();
+        ejecutor = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Devuelve el registro de campeonatos de la aplicación
+     * @return el registro de campeonatos
+     */
+    public static RegistroCampeonatos getInstance()
+    {
+        return registro;
+    }
+
+    /**
+     * Devuelve el campeonato con el nombre indicado, creándolo si no existe. Los
+     * campeonatos creados así solo escriben su salida por pantalla; para que la escriban
+     * también en un fichero hay que crearlos con crearCampeonato
+     * @param nombre nombre del campeonato
+     * @return el campeonato con ese nombre
+     */
+    public Campeonato getCampeonato(String nombre)
+    {
+        return campeonatos.computeIfAbsent(nombre, n -> new Campeonato(n, null));
+    }
+
+    /**
+     * Crea un nuevo campeonato con su propio fichero de salida. Si el nombre ya existe no
+     * se crea el campeonato, así que el fichero no se abre ni se vacía
+     * @param nombre nombre del campeonato
+     * @param fichero fichero de salida del campeonato, o null si no se escribe en fichero
+     * @return el campeonato creado
+     * @throws IllegalArgumentException si ya existe un campeonato con ese nombre
+     */
+    public Campeonato crearCampeonato(String nombre, String fichero)
+    {
+        boolean[] creado = new boolean[1];
+        Campeonato nuevo = campeonatos.computeIfAbsent(nombre, n -> {
+            creado[0] = true;
+            return new Campeonato(n, fichero);
+        });
+        if (!creado[0]){
+            throw new IllegalArgumentException("Ya existe el campeonato " + nombre);
+        }
+        return nuevo;
+    }
+
+    /**
+     * Indica si hay un campeonato registrado con ese nombre
+     * @param nombre nombre del campeonato
+     * @return true si existe el campeonato
+     */
+    public boolean existeCampeonato(String nombre)
+    {
+        return campeonatos.containsKey(nombre);
+    }
+
+    /**
+     * Retira un campeonato del registro. Si después se pide uno con el mismo nombre
+     * se creará uno nuevo
+     * @param campeonato el campeonato a retirar
+     */
+    public void eliminarCampeonato(Campeonato campeonato)
+    {
+        campeonatos.remove(campeonato.getNombre(), campeonato);
+    }
+
+    /**
+     * Devuelve el número de campeonatos registrados
+     * @return número de campeonatos
+     */
+    public int getNumeroCampeonatos()
+    {
+        return campeonatos.size();
+    }
+
+    /**
+     * Disputa el campeonato indicado en el ejecutor compartido
+     * @param nombre nombre del campeonato
+     * @return futuro que se completa con el campeonato una vez terminado, o de forma
+     * excepcional con ExcepcionRaquetas si no hay raquetas suficientes
+     */
+    public CompletableFuture<Campeonato> lanzar(String nombre)
+    {
+        Campeonato campeonato = campeonatos.get(nombre);
+        if (campeonato == null){
+            throw new IllegalArgumentException("No existe el campeonato " + nombre);
+        }
+        return lanzar(campeonato);
+    }
+
+    /**
+     * Disputa en paralelo todos los campeonatos registrados
+     * @return un futuro por campeonato
+     */
+    public List<CompletableFuture<Campeonato>> lanzarTodos()
+    {
+        List<CompletableFuture<Campeonato>> futuros = new ArrayList <>(campeonatos.size());
+        for (Campeonato campeonato: campeonatos.values()){
+            futuros.add(lanzar(campeonato));
+        }
+        return futuros;
+    }
+
+    private CompletableFuture<Campeonato> lanzar(Campeonato campeonato)
+    {
+        return CompletableFuture.supplyAsync(() -> {
+            try{
+                campeonato.controlDeCampeonato();
+            }
+            catch(ExcepcionRaquetas e){
+                throw new CompletionException(e);
+            }
+            return campeonato;
+        }, ejecutor);
+    }
+}
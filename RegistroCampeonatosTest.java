@@ -0,0 +1,140 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pruebas del registro de campeonatos
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class RegistroCampeonatosTest
+{
+    @TempDir
+    Path directorio;
+
+    private RegistroCampeonatos registro;
+    private Campeonato campeonato1;
+    private Campeonato campeonato2;
+
+    /**
+     * Default constructor for test class RegistroCampeonatosTest
+     */
+    public RegistroCampeonatosTest()
+    {
+    }
+
+    /**
+     * Crea dos campeonatos sin fichero de salida, cada uno con dos tenistas y sus raquetas
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        registro = RegistroCampeonatos.getInstance();
+        campeonato1 = registro.crearCampeonato("Campeonato de PeruTest", null);
+        campeonato2 = registro.crearCampeonato("Campeonato de ChileTest", null);
+        cargar(campeonato1, "Novak Djokovic", "Ashleigh Barty");
+        cargar(campeonato2, "Stefanos Tsitsipas", "Karolina Pliskova");
+    }
+
+    private void cargar(Campeonato campeonato, String nombre1, String nombre2)
+    {
+        Tenista t1 = new Golpeadores(nombre1, new ZapatillasAmortiguadas("Air Zoom Vapor Pro", 42, 5), 90, 80, 1, "Serbia", 42);
+        Tenista t2 = new Voleadores(nombre2, new ZapatillasConAgarre("Court Vapor React", 40, 5), 70, 80, 2, "Australia", 40);
+        t1.realizarInscripcion(campeonato);
+        t2.realizarInscripcion(campeonato);
+        campeonato.añadirRaquetas(new RaquetaPotente("Head Radical", 260, 680, 680, Encordado.ABIERTO));
+        campeonato.añadirRaquetas(new RaquetaPotente("Wilson Blade", 260, 690, 680, Encordado.ABIERTO));
+        campeonato.añadirRaquetas(new RaquetaControlada("Babolat Drive", 340, 740, 600, Encordado.CERRADO));
+        campeonato.añadirRaquetas(new RaquetaEquilibrada("Head Graphene", 320, 690, 630, Encordado.ABIERTO, 6, 2));
+    }
+
+    /**
+     * Retira los campeonatos del registro
+     */
+    @AfterEach
+    public void tearDown()
+    {
+        campeonato1.reset();
+        campeonato2.reset();
+    }
+
+    /**
+     * Cada nombre tiene su propio campeonato y no se pueden crear dos con el mismo nombre
+     */
+    @Test
+    public void campeonatosIndependientesTest()
+    {
+        assertSame(campeonato1, Campeonato.getInstance("Campeonato de PeruTest"));
+        assertSame(campeonato2, Campeonato.getInstance("Campeonato de ChileTest"));
+        assertNotSame(campeonato1, campeonato2);
+        assertEquals(2, campeonato1.getCompetidores().size());
+        assertEquals(2, campeonato2.getCompetidores().size());
+        assertThrows(IllegalArgumentException.class,
+            () -> registro.crearCampeonato("Campeonato de PeruTest", null));
+    }
+
+    /**
+     * Un campeonato con un nombre repetido no llega a abrir su fichero de salida
+     */
+    @Test
+    public void nombreRepetidoSinFicheroTest()
+    {
+        Path fichero = directorio.resolve("repetido.txt");
+        assertThrows(IllegalArgumentException.class,
+            () -> registro.crearCampeonato("Campeonato de PeruTest", fichero.toString()));
+        assertFalse(Files.exists(fichero));
+        assertSame(campeonato1, Campeonato.getInstance("Campeonato de PeruTest"));
+    }
+
+    /**
+     * Los campeonatos creados solo con su nombre no abren ningún fichero, de forma que no
+     * escriben unos encima de otros
+     */
+    @Test
+    public void sinFicheroPorDefectoTest()
+    {
+        Campeonato porNombre = registro.getCampeonato("Campeonato de UruguayTest");
+        try{
+            assertFalse(((SalidaAsincrona) porNombre.getSalida()).isFicheroActivo());
+        }
+        finally{
+            porNombre.reset();
+        }
+    }
+
+    /**
+     * Tras el reset el campeonato deja de estar en el registro
+     */
+    @Test
+    public void resetTest()
+    {
+        campeonato1.reset();
+        assertFalse(registro.existeCampeonato("Campeonato de PeruTest"));
+        assertTrue(registro.existeCampeonato("Campeonato de ChileTest"));
+    }
+
+    /**
+     * Los dos campeonatos se disputan en paralelo y cada uno tiene su propio ganador
+     */
+    @Test
+    public void lanzarTest()
+    {
+        CompletableFuture<Campeonato> f1 = registro.lanzar("Campeonato de PeruTest");
+        CompletableFuture<Campeonato> f2 = registro.lanzar("Campeonato de ChileTest");
+        Tenista ganador1 = f1.join().getCompetidores().get(0);
+        Tenista ganador2 = f2.join().getCompetidores().get(0);
+        assertEquals(1, campeonato1.getCompetidores().size());
+        assertEquals(1, campeonato2.getCompetidores().size());
+        assertSame(campeonato1, ganador1.getCampeonato());
+        assertSame(campeonato2, ganador2.getCampeonato());
+    }
+}
@@ -0,0 +1,344 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Registro binario de los eventos de un campeonato. Cada evento ocupa un registro de
+ * tamaño fijo con el tipo, la ronda, el partido, los tenistas implicados y los puntos,
+ * de forma que el motor no tiene que dar formato a ningún texto. Los tenistas, las
+ * zapatillas y las raquetas se identifican con un número; la primera vez que aparece
+ * cada uno se escribe antes su definición, con el texto necesario para mostrarlo.
+ *
+ * Los mensajes que los medios escriben con una PlantillaMensaje se guardan sin componer,
+ * con los datos del partido y el número de la plantilla, que se define igual que los
+ * tenistas. Las líneas que no son de ningún partido (la cabecera, los listados de
+ * competidores, raquetas y eliminados y la del ganador) se guardan como texto, porque
+ * solo se escriben una vez por campeonato.
+ *
+ * ReproductorEventos lee el registro y lo convierte al mismo texto de salida.txt. Solo
+ * faltan las líneas que un medio escriba directamente con escribirFicheroPantalla, sin
+ * plantilla.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class RegistroEventos
+{
+    static final int MAGICO = 0x544E4556;
+    static final short VERSION = 2;
+    static final int TAMAÑO_EVENTO = 40;
+
+    static final byte RONDA = 1;
+    static final byte PARTIDO = 2;
+    static final byte ZAPATILLA = 3;
+    static final byte RAQUETA = 4;
+    static final byte RESULTADO = 5;
+    static final byte DESCANSO = 6;
+    static final byte CAMPEON = 7;
+    static final byte MENSAJE = 8;
+    static final byte TEXTO = 9;
+    static final byte DEF_TENISTA = 20;
+    static final byte DEF_ZAPATILLA = 21;
+    static final byte DEF_RAQUETA = 22;
+    static final byte DEF_MENSAJE = 23;
+
+    private static final int TAMAÑO_BUFFER = 256 * 1024;
+
+    private final FileChannel canal;
+    private final ByteBuffer buffer;
+    private final IdentityHashMap<Tenista, Integer> tenistas;
+    private final IdentityHashMap<Zapatilla, Integer> zapatillas;
+    private final IdentityHashMap<Raqueta, Integer> raquetas;
+    private final IdentityHashMap<PlantillaMensaje, HashMap<String, Integer>> mensajes;
+    private int numeroMensajes;
+    private int numeroPartido;
+
+    /**
+     * Constructor de la clase RegistroEventos. Crea el fichero, o lo vacía si ya existe
+     * @param fichero fichero del registro
+     * @throws IOException si no se puede crear el fichero
+     */
+    public RegistroEventos(Path fichero) throws IOException
+    {
+        canal = FileChannel.open(fichero, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                 StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocate(TAMAÑO_BUFFER);
+        tenistas = new IdentityHashMap<>();
+        zapatillas = new IdentityHashMap<>();
+        raquetas = new IdentityHashMap<>();
+        mensajes = new IdentityHashMap<>();
+        buffer.putInt(MAGICO);
+        buffer.putShort(VERSION);
+    }
+
+    /**
+     * Registra el comienzo de una ronda
+     * @param ronda la ronda
+     */
+    public synchronized void ronda(int ronda)
+    {
+        evento(RONDA, ronda, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Registra el comienzo de un partido
+     * @param ronda la ronda del partido
+     * @param partido la posición del partido dentro de la ronda
+     * @param t1 el primer tenista
+     * @param t2 el segundo tenista
+     */
+    public synchronized void partido(int ronda, int partido, Tenista t1, Tenista t2)
+    {
+        int id1 = idTenista(t1);
+        int id2 = idTenista(t2);
+        evento(PARTIDO, ronda, partido, id1, id2, numeroPartido++, 0, 0);
+    }
+
+    /**
+     * Registra que un tenista cambia de zapatillas
+     * @param t el tenista, que ya lleva las zapatillas nuevas
+     */
+    public synchronized void cambioZapatilla(Tenista t)
+    {
+        int idT = idTenista(t);
+        int idZ = idZapatilla(t.getZapatilla());
+        evento(ZAPATILLA, 0, 0, idT, idZ, 0, 0, 0);
+    }
+
+    /**
+     * Registra el cambio de raqueta de un tenista
+     * @param t el tenista
+     * @param r la raqueta nueva, o null si no ha cambiado
+     */
+    public synchronized void cambioRaqueta(Tenista t, Raqueta r)
+    {
+        int idT = idTenista(t);
+        int idR = r == null ? -1 : idRaqueta(r);
+        evento(RAQUETA, 0, 0, idT, idR, 0, 0, 0);
+    }
+
+    /**
+     * Registra el resultado de un partido y la eliminación del perdedor
+     * @param ronda la ronda del partido
+     * @param partido la posición del partido dentro de la ronda
+     * @param ganador el tenista que gana
+     * @param perdedor el tenista eliminado, con su posición de eliminado ya asignada
+     */
+    public synchronized void resultado(int ronda, int partido, Tenista ganador, Tenista perdedor)
+    {
+        int idG = idTenista(ganador);
+        int idP = idTenista(perdedor);
+        evento(RESULTADO, ronda, partido, idG, idP, perdedor.getPosEliminado(),
+               ganador.getPuntosAcumulados(), perdedor.getPuntosAcumulados());
+    }
+
+    /**
+     * Registra que un tenista pasa de ronda sin jugar
+     * @param ronda la ronda
+     * @param t el tenista
+     */
+    public synchronized void descanso(int ronda, Tenista t)
+    {
+        int idT = idTenista(t);
+        evento(DESCANSO, ronda, 0, idT, 0, 0, 0, 0);
+    }
+
+    /**
+     * Registra el ganador del campeonato
+     * @param t el tenista ganador
+     */
+    public synchronized void campeon(Tenista t)
+    {
+        int idT = idTenista(t);
+        evento(CAMPEON, 0, 0, idT, 0, 0, 0, 0);
+    }
+
+    /**
+     * Registra el mensaje que escribe un medio sobre un partido, sin componerlo
+     * @param plantilla la plantilla del mensaje
+     * @param medio el nombre del medio
+     * @param evento el partido
+     * @throws IllegalArgumentException si los nombres de los tenistas son demasiado largos
+     */
+    public synchronized void mensaje(PlantillaMensaje plantilla, String medio, EventoPartido evento)
+    {
+        String ganador = evento.getNombreGanador();
+        String perdedor = evento.getNombrePerdedor();
+        if (ganador.length() > Short.MAX_VALUE || perdedor.length() > Short.MAX_VALUE){
+            throw new IllegalArgumentException("Los nombres del partido son demasiado largos: " + ganador + ", " + perdedor);
+        }
+        int id = idMensaje(plantilla, medio, evento.getCampeonato());
+        reservar(37 + 2 * (ganador.length() + perdedor.length()));
+        buffer.put(MENSAJE);
+        buffer.putInt(id);
+        buffer.putInt(evento.getRonda());
+        buffer.putInt(evento.getRankingGanador());
+        buffer.putInt(evento.getRankingPerdedor());
+        buffer.putDouble(evento.getPuntosGanador());
+        buffer.putDouble(evento.getPuntosPerdedor());
+        nombre(ganador);
+        nombre(perdedor);
+    }
+
+    /**
+     * Registra una línea de texto que no pertenece a ningún partido
+     * @param texto el texto de la línea
+     */
+    public synchronized void texto(String texto)
+    {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        reservar(5 + bytes.length);
+        buffer.put(TEXTO);
+        buffer.putInt(bytes.length);
+        escribirBytes(bytes);
+    }
+
+    /**
+     * Escribe en el fichero los eventos que quedan en memoria
+     */
+    public synchronized void vaciar()
+    {
+        try{
+            buffer.flip();
+            while (buffer.hasRemaining()){
+                canal.write(buffer);
+            }
+            buffer.clear();
+        }
+        catch(IOException e){
+            System.err.println("Error al escribir el registro de eventos");
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Vacía el registro y cierra el fichero
+     */
+    public synchronized void cerrar()
+    {
+        if (!canal.isOpen()){
+            return;
+        }
+        vaciar();
+        try{
+            canal.close();
+        }
+        catch(IOException e){
+            e.printStackTrace();
+        }
+    }
+
+    private void evento(byte tipo, int ronda, int partido, int a, int b, int c, double x, double y)
+    {
+        reservar(TAMAÑO_EVENTO);
+        buffer.put(tipo);
+        buffer.put((byte)0).put((byte)0).put((byte)0);
+        buffer.putInt(ronda);
+        buffer.putInt(partido);
+        buffer.putInt(a);
+        buffer.putInt(b);
+        buffer.putInt(c);
+        buffer.putDouble(x);
+        buffer.putDouble(y);
+    }
+
+    private int idTenista(Tenista t)
+    {
+        Integer id = tenistas.get(t);
+        if (id == null){
+            id = tenistas.size();
+            tenistas.put(t, id);
+            definicion(DEF_TENISTA, id, t.getClass().getName() + "\n" + t.getNombre());
+        }
+        return id;
+    }
+
+    private int idZapatilla(Zapatilla z)
+    {
+        Integer id = zapatillas.get(z);
+        if (id == null){
+            id = zapatillas.size();
+            zapatillas.put(z, id);
+            definicion(DEF_ZAPATILLA, id, z.toString());
+        }
+        return id;
+    }
+
+    private int idRaqueta(Raqueta r)
+    {
+        Integer id = raquetas.get(r);
+        if (id == null){
+            id = raquetas.size();
+            raquetas.put(r, id);
+            definicion(DEF_RAQUETA, id, r.mostrarRaquetaCambiada());
+        }
+        return id;
+    }
+
+    private int idMensaje(PlantillaMensaje plantilla, String medio, Campeonato campeonato)
+    {
+        HashMap<String, Integer> medios = mensajes.computeIfAbsent(plantilla, p -> new HashMap<>());
+        Integer id = medios.get(medio);
+        if (id == null){
+            id = numeroMensajes++;
+            medios.put(medio, id);
+            definicion(DEF_MENSAJE, id, medio + "\n" + (campeonato == null ? null : campeonato.getNombre()) + "\n"
+                       + plantilla.getFormato());
+        }
+        return id;
+    }
+
+    private void nombre(String nombre)
+    {
+        buffer.putShort((short) nombre.length());
+        for (int i = 0; i < nombre.length(); i++){
+            buffer.putChar(nombre.charAt(i));
+        }
+    }
+
+    private void definicion(byte tipo, int id, String texto)
+    {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        reservar(9 + bytes.length);
+        buffer.put(tipo);
+        buffer.putInt(id);
+        buffer.putInt(bytes.length);
+        escribirBytes(bytes);
+    }
+
+    /**
+     * Escribe los bytes del texto de un registro, directamente en el fichero si no caben
+     * en el buffer
+     */
+    private void escribirBytes(byte[] bytes)
+    {
+        if (bytes.length <= buffer.remaining()){
+            buffer.put(bytes);
+            return;
+        }
+        vaciar();
+        try{
+            ByteBuffer grande = ByteBuffer.wrap(bytes);
+            while (grande.hasRemaining()){
+                canal.write(grande);
+            }
+        }
+        catch(IOException e){
+            System.err.println("Error al escribir el registro de eventos");
+        }
+    }
+
+    private void reservar(int bytes)
+    {
+        if (buffer.remaining() < bytes){
+            vaciar();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Pruebas del registro binario de eventos y de su reproducción
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class RegistroEventosTest
+{
+    @TempDir
+    Path directorio;
+
+    /**
+     * Default constructor for test class RegistroEventosTest
+     */
+    public RegistroEventosTest()
+    {
+    }
+
+    /**
+     * Se registra un partido y al reproducirlo se obtiene el texto de salida.txt
+     */
+    @Test
+    public void reproducirPartidoTest() throws IOException
+    {
+        Tenista t1 = new Golpeadores("Novak Djokovic", new ZapatillasAmortiguadas("Air Zoom Vapor Pro", 42, 5), 90, 80, 1, "Serbia", 42);
+        Tenista t2 = new Voleadores("Daniil Medvedev", new ZapatillasAmortiguadas("Vapor Lite", 42, 3), 79, 68, 2, "Rusia", 42);
+        Raqueta r = new RaquetaPotente("Wilson Blade", 260, 690, 680, Encordado.ABIERTO);
+        Path fichero = directorio.resolve("eventos.bin");
+
+        RegistroEventos eventos = new RegistroEventos(fichero);
+        eventos.ronda(1);
+        eventos.partido(1, 0, t1, t2);
+        eventos.cambioZapatilla(t1);
+        eventos.cambioRaqueta(t1, r);
+        eventos.cambioRaqueta(t2, null);
+        t1.setPuntosAcumulados(100.5);
+        t2.setPuntosAcumulados(20);
+        t2.setposEliminado(1);
+        eventos.resultado(1, 0, t1, t2);
+        eventos.campeon(t1);
+        eventos.cerrar();
+
+        StringWriter texto = new StringWriter();
+        ReproductorEventos reproductor = new ReproductorEventos();
+        reproductor.reproducir(fichero, reproductor.renderizadorTexto(texto));
+
+        String esperado = "\n\n***** Ronda---->>>: 1\n"
+            + "  #### Juego ------------>>>: 0\n"
+            + "    ## Tenista1 (Golpeadores) ---->>>: Novak Djokovic\n"
+            + "       Zapatillas asignadas: " + t1.getZapatilla().toString() + "\n"
+            + "    ## Tenista2 (Voleadores) ---->>>: Daniil Medvedev\n"
+            + "       Novak Djokovic cambia su raqueta por: " + r.mostrarRaquetaCambiada() + "\n"
+            + "       Daniil Medvedev no cambia de raqueta \n"
+            + "    ## Gana este juego: Novak Djokovic con: 100.5 puntos acumulados.\n"
+            + "    ## Se elimina: Daniil Medvedev con: 20.0 puntos acumulados. Tenista eliminado num: 1\n\n";
+        assertEquals(esperado, texto.toString());
+        assertEquals("Novak Djokovic", reproductor.getNombreTenista(0));
+        assertEquals("Voleadores", reproductor.getClaseTenista(1));
+    }
+
+    /**
+     * Se disputa un campeonato con medios que escribe a la vez salida.txt y el registro, y
+     * al reproducir el registro se obtiene salida.txt línea a línea: la cabecera, las
+     * raquetas asignadas, los listados, los partidos, los mensajes de los medios, el
+     * ganador y los eliminados. El texto reproducido se pasa por la codificación por
+     * defecto, que es la que usa SalidaAsincrona
+     */
+    @Test
+    public void reproducirCampeonatoTest() throws IOException, ExcepcionRaquetas
+    {
+        Campeonato campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de RegistroEventosTest", null);
+        try{
+            new InitTennisData(campeonato);
+            campeonato.añadirSubscriptor(new MedioGeneralista("La Tierrina"));
+            campeonato.añadirSubscriptor(new MedioSensacionalista("Adios"));
+            campeonato.añadirSubscriptor(new MedioDeportivo("Anota"));
+            Path salida = directorio.resolve("salida.txt");
+            Path fichero = directorio.resolve("eventos.bin");
+            campeonato.setSalida(new SalidaAsincrona(salida.toString(), false));
+            campeonato.setRegistroEventos(new RegistroEventos(fichero));
+            campeonato.controlDeCampeonato();
+            List<String> lineas = Files.readAllLines(salida, Charset.defaultCharset());
+
+            StringWriter texto = new StringWriter();
+            ReproductorEventos reproductor = new ReproductorEventos();
+            reproductor.reproducir(fichero, reproductor.renderizadorTexto(texto));
+            Charset codificacion = Charset.defaultCharset();
+            List<String> reproducidas = new String(texto.toString().getBytes(codificacion), codificacion).lines()
+                                                                                                  .collect(Collectors.toList());
+            assertTrue(lineas.stream().anyMatch(l -> l.startsWith("@@@@@@ El medio deportivo Anota")));
+            assertTrue(lineas.stream().anyMatch(l -> l.startsWith("---->>>>  Gana la competici")));
+            assertEquals(lineas.size(), reproducidas.size());
+            for (int i = 0; i < lineas.size(); i++){
+                assertEquals(lineas.get(i), reproducidas.get(i), "línea " + (i + 1));
+            }
+        }
+        finally{
+            campeonato.reset();
+        }
+    }
+
+    /**
+     * Un fichero que no es un registro de eventos no se reproduce
+     */
+    @Test
+    public void ficheroNoValidoTest() throws IOException
+    {
+        Path fichero = directorio.resolve("vacio.bin");
+        java.nio.file.Files.write(fichero, new byte[] {1, 2, 3});
+        ReproductorEventos reproductor = new ReproductorEventos();
+        assertThrows(IOException.class,
+            () -> reproductor.reproducir(fichero, reproductor.renderizadorTexto(new StringWriter())));
+    }
+}
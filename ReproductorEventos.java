@@ -0,0 +1,411 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * Reproduce un registro binario escrito por RegistroEventos, enviando cada evento a un
+ * OyenteEventos. El oyente por defecto vuelve a generar el mismo texto que salida.txt,
+ * línea a línea, de forma que el texto solo se produce cuando se pide. Solo faltan las
+ * líneas que un medio escriba directamente, sin una PlantillaMensaje.
+ *
+ * Uso: java ReproductorEventos registro [fichero de texto]
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ReproductorEventos
+{
+    private static final int TAMAÑO_BUFFER = 256 * 1024;
+
+    private final ArrayList<String> tenistas;
+    private final ArrayList<String> clasesTenistas;
+    private final ArrayList<String> zapatillas;
+    private final ArrayList<String> raquetas;
+    private final ArrayList<String> medios;
+    private final ArrayList<String> campeonatos;
+    private final ArrayList<PlantillaMensaje> plantillas;
+
+    /**
+     * Constructor de la clase ReproductorEventos
+     */
+    public ReproductorEventos()
+    {
+        tenistas = new ArrayList<>();
+        clasesTenistas = new ArrayList<>();
+        zapatillas = new ArrayList<>();
+        raquetas = new ArrayList<>();
+        medios = new ArrayList<>();
+        campeonatos = new ArrayList<>();
+        plantillas = new ArrayList<>();
+    }
+
+    /**
+     * Lee el registro completo y envía sus eventos al oyente, en orden
+     * @param fichero fichero del registro
+     * @param oyente quien recibe los eventos
+     * @throws IOException si no se puede leer el fichero o no es un registro de eventos
+     */
+    public void reproducir(Path fichero, OyenteEventos oyente) throws IOException
+    {
+        try (FileChannel canal = FileChannel.open(fichero, StandardOpenOption.READ)){
+            ByteBuffer buffer = ByteBuffer.allocate(TAMAÑO_BUFFER);
+            buffer.flip();
+            buffer = leer(canal, buffer, 6);
+            if (buffer.remaining() < 6 || buffer.getInt() != RegistroEventos.MAGICO || buffer.getShort() != RegistroEventos.VERSION){
+                throw new IOException("El fichero no es un registro de eventos: " + fichero);
+            }
+            buffer = leer(canal, buffer, 1);
+            while (buffer.hasRemaining()){
+                byte tipo = buffer.get();
+                if (tipo >= RegistroEventos.DEF_TENISTA){
+                    buffer = leer(canal, buffer, 8);
+                    int id = buffer.getInt();
+                    int longitud = buffer.getInt();
+                    buffer = leer(canal, buffer, longitud);
+                    byte[] bytes = new byte[longitud];
+                    buffer.get(bytes);
+                    definir(tipo, id, new String(bytes, StandardCharsets.UTF_8));
+                }
+                else if (tipo == RegistroEventos.TEXTO){
+                    buffer = leer(canal, buffer, 4);
+                    int longitud = buffer.getInt();
+                    buffer = leer(canal, buffer, longitud);
+                    byte[] bytes = new byte[longitud];
+                    buffer.get(bytes);
+                    oyente.texto(new String(bytes, StandardCharsets.UTF_8));
+                }
+                else if (tipo == RegistroEventos.MENSAJE){
+                    buffer = leer(canal, buffer, 36);
+                    int mensaje = buffer.getInt();
+                    int ronda = buffer.getInt();
+                    int rankingGanador = buffer.getInt();
+                    int rankingPerdedor = buffer.getInt();
+                    double puntosGanador = buffer.getDouble();
+                    double puntosPerdedor = buffer.getDouble();
+                    buffer = leer(canal, buffer, 2 + 2 * Math.max(0, buffer.getShort(buffer.position())));
+                    String ganador = leerNombre(buffer, fichero);
+                    buffer = leer(canal, buffer, 2);
+                    buffer = leer(canal, buffer, 2 + 2 * Math.max(0, buffer.getShort(buffer.position())));
+                    String perdedor = leerNombre(buffer, fichero);
+                    oyente.mensaje(mensaje, new EventoPartido(null, ronda, ganador, perdedor, rankingGanador,
+                                                              rankingPerdedor, puntosGanador, puntosPerdedor));
+                }
+                else{
+                    buffer = leer(canal, buffer, RegistroEventos.TAMAÑO_EVENTO - 1);
+                    buffer.position(buffer.position() + 3);
+                    int ronda = buffer.getInt();
+                    int partido = buffer.getInt();
+                    int a = buffer.getInt();
+                    int b = buffer.getInt();
+                    int c = buffer.getInt();
+                    double x = buffer.getDouble();
+                    double y = buffer.getDouble();
+                    enviar(oyente, tipo, ronda, partido, a, b, c, x, y);
+                }
+                buffer = leer(canal, buffer, 1);
+            }
+        }
+    }
+
+    /**
+     * Devuelve el nombre de un tenista del registro
+     * @param id identificador del tenista
+     * @return el nombre del tenista
+     */
+    public String getNombreTenista(int id)
+    {
+        return tenistas.get(id);
+    }
+
+    /**
+     * Devuelve el nombre de la clase de un tenista del registro
+     * @param id identificador del tenista
+     * @return la clase del tenista
+     */
+    public String getClaseTenista(int id)
+    {
+        return clasesTenistas.get(id);
+    }
+
+    /**
+     * Devuelve la descripción de unas zapatillas del registro
+     * @param id identificador de las zapatillas
+     * @return la descripción de las zapatillas
+     */
+    public String getZapatilla(int id)
+    {
+        return zapatillas.get(id);
+    }
+
+    /**
+     * Devuelve la descripción de una raqueta del registro
+     * @param id identificador de la raqueta
+     * @return la descripción de la raqueta
+     */
+    public String getRaqueta(int id)
+    {
+        return raquetas.get(id);
+    }
+
+    /**
+     * Compone el mensaje que escribió un medio sobre un partido
+     * @param mensaje identificador del mensaje
+     * @param evento el partido, tal como lo recibe el oyente
+     * @return el texto del mensaje
+     */
+    public String componerMensaje(int mensaje, EventoPartido evento)
+    {
+        StringBuilder destino = new StringBuilder(256);
+        plantillas.get(mensaje).componer(destino, medios.get(mensaje), campeonatos.get(mensaje), evento);
+        return destino.toString();
+    }
+
+    /**
+     * Crea un oyente que escribe los eventos con el formato de texto de salida.txt
+     * @param destino donde se escribe el texto
+     * @return el oyente
+     */
+    public OyenteEventos renderizadorTexto(Writer destino)
+    {
+        return new RenderizadorTexto(new PrintWriter(destino));
+    }
+
+    /**
+     * Convierte un registro binario en texto
+     * @param args el registro y, opcionalmente, el fichero de texto. Sin él, el texto
+     * se muestra por pantalla
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length < 1){
+            System.err.println("Uso: java ReproductorEventos registro [fichero de texto]");
+            return;
+        }
+        Writer destino;
+        if (args.length > 1){
+            destino = Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8);
+        }
+        else{
+            destino = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        }
+        try (Writer w = destino){
+            ReproductorEventos reproductor = new ReproductorEventos();
+            reproductor.reproducir(Paths.get(args[0]), reproductor.renderizadorTexto(w));
+        }
+    }
+
+    /**
+     * Se asegura de que el buffer tiene al menos los bytes indicados, leyendo más del
+     * canal si hace falta. Si el fichero se acaba antes, el buffer queda vacío
+     */
+    private ByteBuffer leer(FileChannel canal, ByteBuffer buffer, int bytes) throws IOException
+    {
+        if (buffer.remaining() >= bytes){
+            return buffer;
+        }
+        if (bytes > buffer.capacity()){
+            ByteBuffer mayor = ByteBuffer.allocate(bytes);
+            mayor.put(buffer);
+            mayor.flip();
+            buffer = mayor;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes && canal.read(buffer) >= 0){
+        }
+        buffer.flip();
+        if (buffer.remaining() < bytes){
+            buffer.position(buffer.limit());
+        }
+        return buffer;
+    }
+
+    private void definir(byte tipo, int id, String texto)
+    {
+        if (tipo == RegistroEventos.DEF_TENISTA){
+            int salto = texto.indexOf('\n');
+            poner(clasesTenistas, id, texto.substring(0, salto));
+            poner(tenistas, id, texto.substring(salto + 1));
+        }
+        else if (tipo == RegistroEventos.DEF_ZAPATILLA){
+            poner(zapatillas, id, texto);
+        }
+        else if (tipo == RegistroEventos.DEF_RAQUETA){
+            poner(raquetas, id, texto);
+        }
+        else if (tipo == RegistroEventos.DEF_MENSAJE){
+            String[] partes = texto.split("\n", 3);
+            poner(medios, id, partes[0]);
+            poner(campeonatos, id, partes[1]);
+            while (plantillas.size() <= id){
+                plantillas.add(null);
+            }
+            plantillas.set(id, new PlantillaMensaje(partes[2]));
+        }
+    }
+
+    /**
+     * Lee un nombre de un registro de mensaje, precedido de su longitud. El buffer debe
+     * tener ya todos sus caracteres
+     */
+    private static String leerNombre(ByteBuffer buffer, Path fichero) throws IOException
+    {
+        int n = buffer.getShort();
+        if (n < 0){
+            throw new IOException("Registro de eventos dañado: " + fichero);
+        }
+        char[] letras = new char[n];
+        for (int i = 0; i < n; i++){
+            letras[i] = buffer.getChar();
+        }
+        return new String(letras);
+    }
+
+    private static void poner(ArrayList<String> lista, int id, String texto)
+    {
+        while (lista.size() <= id){
+            lista.add(null);
+        }
+        lista.set(id, texto);
+    }
+
+    private static void enviar(OyenteEventos oyente, byte tipo, int ronda, int partido,
+                               int a, int b, int c, double x, double y)
+    {
+        switch (tipo){
+            case RegistroEventos.RONDA:
+                oyente.ronda(ronda);
+                break;
+            case RegistroEventos.PARTIDO:
+                oyente.partido(ronda, partido, c, a, b);
+                break;
+            case RegistroEventos.ZAPATILLA:
+                oyente.cambioZapatilla(a, b);
+                break;
+            case RegistroEventos.RAQUETA:
+                oyente.cambioRaqueta(a, b);
+                break;
+            case RegistroEventos.RESULTADO:
+                oyente.resultado(ronda, partido, a, b, x, y, c);
+                break;
+            case RegistroEventos.DESCANSO:
+                oyente.descanso(ronda, a);
+                break;
+            case RegistroEventos.CAMPEON:
+                oyente.campeon(a);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Oyente que escribe los eventos con el formato de texto de salida.txt
+     */
+    private class RenderizadorTexto implements OyenteEventos
+    {
+        private final PrintWriter destino;
+        private int segundoPendiente = -1;
+
+        RenderizadorTexto(PrintWriter destino)
+        {
+            this.destino = destino;
+        }
+
+        public void ronda(int ronda)
+        {
+            linea("\n");
+            linea("***** Ronda---->>>: " + ronda);
+        }
+
+        public void partido(int ronda, int partido, int numeroPartido, int t1, int t2)
+        {
+            linea("  #### Juego ------------>>>: " + partido);
+            linea("    ## Tenista1 (" + getClaseTenista(t1) + ") ---->>>: " + getNombreTenista(t1));
+            segundoPendiente = t2;
+        }
+
+        public void cambioZapatilla(int tenista, int zapatilla)
+        {
+            if (tenista == segundoPendiente){
+                mostrarSegundo();
+            }
+            linea("       Zapatillas asignadas: " + getZapatilla(zapatilla));
+        }
+
+        public void cambioRaqueta(int tenista, int raqueta)
+        {
+            mostrarSegundo();
+            if (raqueta < 0){
+                linea("       " + getNombreTenista(tenista) + " no cambia de raqueta ");
+            }
+            else{
+                linea("       " + getNombreTenista(tenista) + " cambia su raqueta por: " + getRaqueta(raqueta));
+            }
+        }
+
+        public void resultado(int ronda, int partido, int ganador, int perdedor,
+                              double puntosGanador, double puntosPerdedor, int posEliminado)
+        {
+            mostrarSegundo();
+            linea("    ## Gana este juego: " + getNombreTenista(ganador) + " con: "
+                  + puntosGanador + " puntos acumulados.");
+            linea("    ## Se elimina: " + getNombreTenista(perdedor) + " con: "
+                  + puntosPerdedor + " puntos acumulados. Tenista eliminado num: "
+                  + posEliminado + "\n");
+        }
+
+        public void descanso(int ronda, int tenista)
+        {
+            linea("  #### Pasa de ronda sin jugar ------------>>>: " + getNombreTenista(tenista) + "\n");
+        }
+
+        public void mensaje(int mensaje, EventoPartido evento)
+        {
+            linea(componerMensaje(mensaje, evento));
+        }
+
+        public void texto(String texto)
+        {
+            linea(texto);
+        }
+
+        /**
+         * La línea del ganador, con todos sus datos, ya llega como texto
+         */
+        public void campeon(int tenista)
+        {
+            destino.flush();
+        }
+
+        /**
+         * La línea del segundo tenista va después de las zapatillas del primero, así que
+         * se muestra con el primer evento que ya no es del primer tenista
+         */
+        private void mostrarSegundo()
+        {
+            if (segundoPendiente >= 0){
+                linea("    ## Tenista2 (" + getClaseTenista(segundoPendiente) + ") ---->>>: "
+                      + getNombreTenista(segundoPendiente));
+                segundoPendiente = -1;
+            }
+        }
+
+        private void linea(String texto)
+        {
+            destino.print(texto);
+            destino.print('\n');
+        }
+    }
+}
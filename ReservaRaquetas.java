@@ -0,0 +1,532 @@
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Reserva de las raquetas de un campeonato, ordenadas por potencia con PotenciaComparator
+ * y, a igual potencia y modelo, por el resto de sus datos.
+ * Está construida sobre una skip list concurrente: tomar la mejor raqueta o la primera que
+ * cumpla una condición cuesta O(log n), sin copiar la reserva, y varios partidos pueden
+ * tomar raquetas a la vez sin que dos tenistas se queden con la misma unidad.
+ *
+ * La reserva es un inventario: guarda cada modelo una sola vez, con el número de unidades
+ * que quedan. Dos raquetas son el mismo modelo si tienen la misma clase, modelo, encordado,
+ * peso, longitud y cabeza y los mismos valores calculados, es decir, si son iguales según
+ * equals. Añadir una raqueta igual a otra suma una unidad a la que ya estaba, en lugar de
+ * perderse, y tomar una raqueta resta una unidad; el modelo sale de la reserva cuando se
+ * toma su última unidad. La primera unidad que se toma de un modelo es la raqueta con la
+ * que se añadió, y las demás son copias RaquetaInmutable, así que dos tenistas nunca
+ * comparten la misma raqueta modificable. El número total de unidades y de modelos se
+ * lleva en contadores, así que consultarlo no recorre la reserva.
+ *
+ * Además guarda un índice de los modelos por velocidad, con los de cada velocidad
+ * ordenados también por potencia, para encontrar la primera raqueta más rápida que una
+ * dada mirando solo la primera de cada velocidad mayor, en lugar de todos los modelos. Las unidades de cada modelo son las que deciden qué
+ * raquetas quedan: una unidad es de quien consigue restarla del contador, y los modelos
+ * que siguen en el índice después de agotarse se descartan cuando se intenta tomarlos.
+ * Las raquetas no deben modificarse mientras están en la reserva.
+ *
+ * Un lote de raquetas añadido a una reserva vacía se ordena y se agrupa de una vez, y se
+ * inserta en orden ascendente en skip lists nuevas que ningún otro hilo ve todavía, sin
+ * competir con otros hilos ni pasar por un mapa intermedio. Sigue costando O(n log n),
+ * como insertarlas una a una. La reserva nueva sustituye a la vacía, y las raquetas que
+ * otros hilos añadan a la vacía mientras tanto se pasan a la nueva.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ReservaRaquetas implements Iterable<Raqueta>
+{
+    /** Valor del contador de un modelo agotado que ya no admite más unidades */
+    private static final int RETIRADA = -1;
+
+    private final Comparator<Raqueta> orden;
+    private final AtomicReference<Estructura> estructura;
+    private final AtomicInteger unidades;
+    private final AtomicInteger modelos;
+
+    /**
+     * Los modelos con sus unidades y el índice por velocidad. Cada operación lee la
+     * estructura una vez y trabaja siempre sobre la misma
+     */
+    private static final class Estructura
+    {
+        private final ConcurrentSkipListMap<Raqueta, Existencias> raquetas;
+        private final ConcurrentSkipListMap<Double, ConcurrentSkipListMap<Raqueta, Boolean>> porVelocidad;
+
+        private Estructura(ConcurrentSkipListMap<Raqueta, Existencias> raquetas,
+                           ConcurrentSkipListMap<Double, ConcurrentSkipListMap<Raqueta, Boolean>> porVelocidad)
+        {
+            this.raquetas = raquetas;
+            this.porVelocidad = porVelocidad;
+        }
+    }
+
+    /**
+     * Unidades que quedan de un modelo. Solo la primera unidad que se toma es la raqueta
+     * con la que se añadió el modelo
+     */
+    private static final class Existencias
+    {
+        private final AtomicInteger unidades;
+        private final AtomicBoolean entregada;
+
+        private Existencias(int unidades)
+        {
+            this.unidades = new AtomicInteger(unidades);
+            this.entregada = new AtomicBoolean();
+        }
+
+        /**
+         * Devuelve la raqueta de una unidad que se acaba de tomar: la del modelo la primera
+         * vez y una copia inmutable las siguientes
+         */
+        private Raqueta unidad(Raqueta modelo)
+        {
+            if (modelo instanceof RaquetaInmutable || entregada.compareAndSet(false, true)){
+                return modelo;
+            }
+            return new RaquetaInmutable(modelo);
+        }
+    }
+
+    /**
+     * Constructor de la clase ReservaRaquetas. La reserva empieza vacía
+     */
+    public ReservaRaquetas()
+    {
+        orden = new PotenciaComparator().thenComparing((Raqueta r) -> r.getClass().getName())
+                                        .thenComparing(Raqueta::getEncordado)
+                                        .thenComparingDouble(Raqueta::getPeso)
+                                        .thenComparingDouble(Raqueta::getLongitud)
+                                        .thenComparingDouble(Raqueta::getTamañoCabeza)
+                                        .thenComparingDouble(Raqueta::calcularControl)
+                                        .thenComparingDouble(Raqueta::calcularVelocidad);
+        estructura = new AtomicReference<>(new Estructura(new ConcurrentSkipListMap<>(orden), new ConcurrentSkipListMap<>()));
+        unidades = new AtomicInteger();
+        modelos = new AtomicInteger();
+    }
+
+    /**
+     * Añade una unidad de una raqueta a la reserva
+     * @param r la raqueta
+     * @return false si ya había una raqueta igual, a la que se ha
+     * sumado la unidad
+     */
+    public boolean añadir(Raqueta r)
+    {
+        return añadir(r, 1);
+    }
+
+    /**
+     * Añade varias unidades de una raqueta a la reserva
+     * @param r la raqueta
+     * @param cantidad el número de unidades
+     * @return false si ya había una raqueta igual, a la que se han
+     * sumado las unidades
+     * @throws IllegalArgumentException si el número de unidades no es positivo
+     */
+    public boolean añadir(Raqueta r, int cantidad)
+    {
+        if (cantidad <= 0){
+            throw new IllegalArgumentException("El número de unidades debe ser positivo: " + cantidad);
+        }
+        Estructura e = estructura.get();
+        Existencias contador;
+        boolean nueva;
+        while (true){
+            contador = e.raquetas.get(r);
+            if (contador == null){
+                contador = new Existencias(cantidad);
+                if (e.raquetas.putIfAbsent(r, contador) == null){
+                    modelos.incrementAndGet();
+                    unidades.addAndGet(cantidad);
+                    e.porVelocidad.computeIfAbsent(r.calcularVelocidad(), v -> new ConcurrentSkipListMap<>(orden))
+                                  .put(r, Boolean.TRUE);
+                    nueva = true;
+                    break;
+                }
+                continue;
+            }
+            int n = contador.unidades.get();
+            if (n == RETIRADA){
+                // El modelo se acaba de agotar: se termina de retirar y se vuelve a añadir
+                e.raquetas.remove(r, contador);
+            }
+            else if (contador.unidades.compareAndSet(n, n + cantidad)){
+                unidades.addAndGet(cantidad);
+                nueva = false;
+                break;
+            }
+        }
+        if (estructura.get() != e){
+            // Un lote ha sustituido la estructura mientras tanto
+            mudar(e, r, contador);
+        }
+        return nueva;
+    }
+
+    /**
+     * Añade un lote de raquetas a la reserva, una unidad de cada una
+     * @param lote las raquetas
+     */
+    public void añadirTodas(Collection<? extends Raqueta> lote)
+    {
+        añadirTodas(new ArrayList<>(lote), null);
+    }
+
+    /**
+     * Añade un lote de raquetas a la reserva. El lote se ordena y las raquetas iguales se
+     * juntan antes de añadirlo; si la reserva está vacía, se construye directamente a partir
+     * del lote ordenado
+     * @param lote las raquetas
+     * @param cantidades las unidades de cada raqueta del lote, o null para una de cada una
+     * @throws IllegalArgumentException si falta el número de unidades de alguna raqueta o no
+     * es positivo
+     */
+    public void añadirTodas(List<? extends Raqueta> lote, int[] cantidades)
+    {
+        int n = lote.size();
+        if (cantidades != null && cantidades.length < n){
+            throw new IllegalArgumentException("Faltan las unidades de " + (n - cantidades.length) + " raquetas");
+        }
+        if (n == 0){
+            return;
+        }
+        List<Map.Entry<Raqueta, Existencias>> ordenadas = new ArrayList<>(n);
+        for (int i = 0; i < n; i++){
+            int cantidad = cantidades == null ? 1 : cantidades[i];
+            if (cantidad <= 0){
+                throw new IllegalArgumentException("El número de unidades debe ser positivo: " + cantidad);
+            }
+            ordenadas.add(new AbstractMap.SimpleImmutableEntry<>(lote.get(i), new Existencias(cantidad)));
+        }
+        ordenadas.sort(Map.Entry.comparingByKey(orden));
+        int distintas = 0;
+        long total = 0;
+        for (Map.Entry<Raqueta, Existencias> m: ordenadas){
+            total += m.getValue().unidades.get();
+            if (distintas > 0 && orden.compare(ordenadas.get(distintas - 1).getKey(), m.getKey()) == 0){
+                ordenadas.get(distintas - 1).getValue().unidades.addAndGet(m.getValue().unidades.get());
+            }
+            else{
+                ordenadas.set(distintas++, m);
+            }
+        }
+        ordenadas = ordenadas.subList(0, distintas);
+
+        while (true){
+            Estructura vieja = estructura.get();
+            if (!vieja.raquetas.isEmpty()){
+                for (Map.Entry<Raqueta, Existencias> m: ordenadas){
+                    añadir(m.getKey(), m.getValue().unidades.get());
+                }
+                return;
+            }
+            Estructura nueva = construir(ordenadas);
+            if (estructura.compareAndSet(vieja, nueva)){
+                modelos.addAndGet(distintas);
+                unidades.addAndGet((int) total);
+                for (Map.Entry<Raqueta, Existencias> m: vieja.raquetas.entrySet()){
+                    mudar(vieja, m.getKey(), m.getValue());
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Retira de la reserva una unidad de la raqueta de mayor potencia
+     * @return la raqueta retirada, o null si la reserva está vacía
+     */
+    public Raqueta tomarMejor()
+    {
+        Estructura e = estructura.get();
+        for (Map.Entry<Raqueta, Existencias> m: e.raquetas.entrySet()){
+            if (tomarUnidad(e, m.getKey(), m.getValue())){
+                return m.getValue().unidad(m.getKey());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retira de la reserva una unidad de la primera raqueta, por orden de potencia, cuya
+     * velocidad es mayor que la indicada. Es lo mismo que tomarPrimera con esa condición,
+     * pero solo consulta la primera raqueta de cada velocidad mayor, en lugar de recorrer
+     * la reserva: cuesta O(k + log n), siendo k el número de velocidades distintas mayores
+     * que la indicada, frente a los O(n) modelos que puede recorrer tomarPrimera. No es
+     * O(log n) cuando casi todos los modelos tienen velocidades distintas
+     * @param velocidad la velocidad que debe superar la raqueta
+     * @return la raqueta retirada, o null si no hay ninguna más rápida
+     */
+    public Raqueta tomarMasRapidaQue(double velocidad)
+    {
+        Estructura e = estructura.get();
+        while (true){
+            Raqueta mejor = null;
+            ConcurrentSkipListMap<Raqueta, Boolean> grupoMejor = null;
+            for (ConcurrentSkipListMap<Raqueta, Boolean> grupo: e.porVelocidad.tailMap(velocidad, false).values()){
+                Map.Entry<Raqueta, Boolean> primera = grupo.firstEntry();
+                if (primera != null && (mejor == null || orden.compare(primera.getKey(), mejor) < 0)){
+                    mejor = primera.getKey();
+                    grupoMejor = grupo;
+                }
+            }
+            if (mejor == null){
+                return null;
+            }
+            Map.Entry<Raqueta, Existencias> m = e.raquetas.ceilingEntry(mejor);
+            if (m != null && orden.compare(m.getKey(), mejor) == 0 && tomarUnidad(e, m.getKey(), m.getValue())){
+                return m.getValue().unidad(m.getKey());
+            }
+            // El modelo está agotado. Si entretanto se ha vuelto a añadir, sigue en el índice
+            grupoMejor.remove(mejor);
+            if (e.raquetas.containsKey(mejor)){
+                grupoMejor.put(mejor, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Retira de la reserva una unidad de la primera raqueta, por orden de potencia, que
+     * cumple la condición. Si otro hilo se lleva la última unidad antes, se sigue buscando
+     * @param condicion la condición que debe cumplir la raqueta
+     * @return la raqueta retirada, o null si ninguna cumple la condición
+     */
+    public Raqueta tomarPrimera(Predicate<Raqueta> condicion)
+    {
+        Estructura e = estructura.get();
+        for (Map.Entry<Raqueta, Existencias> m: e.raquetas.entrySet()){
+            if (condicion.test(m.getKey()) && tomarUnidad(e, m.getKey(), m.getValue())){
+                return m.getValue().unidad(m.getKey());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retira de la reserva una unidad de una raqueta concreta
+     * @param r la raqueta
+     * @return true si quedaba alguna unidad de la raqueta en la reserva
+     */
+    public boolean quitar(Raqueta r)
+    {
+        Estructura e = estructura.get();
+        Map.Entry<Raqueta, Existencias> m = e.raquetas.ceilingEntry(r);
+        return m != null && orden.compare(m.getKey(), r) == 0 && tomarUnidad(e, m.getKey(), m.getValue());
+    }
+
+    /**
+     * Devuelve la raqueta de mayor potencia sin retirarla
+     * @return la raqueta, o null si la reserva está vacía
+     */
+    public Raqueta getMejor()
+    {
+        for (Map.Entry<Raqueta, Existencias> m: estructura.get().raquetas.entrySet()){
+            if (m.getValue().unidades.get() > 0){
+                return m.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Devuelve el número de unidades que quedan de una raqueta
+     * @param r la raqueta
+     * @return las unidades de la raqueta, o 0 si no está en la reserva
+     */
+    public int getUnidades(Raqueta r)
+    {
+        Existencias contador = estructura.get().raquetas.get(r);
+        return contador == null ? 0 : Math.max(0, contador.unidades.get());
+    }
+
+    /**
+     * Devuelve el número total de unidades de la reserva. Con otros hilos tomando
+     * raquetas el valor es solo aproximado
+     * @return el número de raquetas
+     */
+    public int getTamaño()
+    {
+        return unidades.get();
+    }
+
+    /**
+     * Devuelve el número de modelos distintos que quedan en la reserva. Con otros hilos
+     * tomando raquetas el valor es solo aproximado
+     * @return el número de modelos
+     */
+    public int getModelos()
+    {
+        return modelos.get();
+    }
+
+    /**
+     * Indica si la reserva está vacía
+     * @return true si no quedan raquetas
+     */
+    public boolean isEmpty()
+    {
+        return unidades.get() <= 0;
+    }
+
+    /**
+     * Devuelve una copia de los modelos de la reserva, ordenados por potencia. La copia
+     * se construye a partir del orden de la reserva, sin volver a comparar las raquetas, y
+     * tiene una sola raqueta por modelo
+     * @return la copia
+     */
+    public TreeSet<Raqueta> copia()
+    {
+        return new TreeSet<>(estructura.get().raquetas.keySet());
+    }
+
+    /**
+     * Recorre los modelos que quedan por orden de potencia, una vez cada uno. El recorrido
+     * no falla si otros hilos modifican la reserva a la vez
+     * @return el iterador
+     */
+    public Iterator<Raqueta> iterator()
+    {
+        Iterator<Map.Entry<Raqueta, Existencias>> entradas = estructura.get().raquetas.entrySet().iterator();
+        return new Iterator<Raqueta>()
+        {
+            private Raqueta siguiente = avanzar();
+
+            private Raqueta avanzar()
+            {
+                while (entradas.hasNext()){
+                    Map.Entry<Raqueta, Existencias> m = entradas.next();
+                    if (m.getValue().unidades.get() > 0){
+                        return m.getKey();
+                    }
+                }
+                return null;
+            }
+
+            public boolean hasNext()
+            {
+                return siguiente != null;
+            }
+
+            public Raqueta next()
+            {
+                if (siguiente == null){
+                    throw new NoSuchElementException();
+                }
+                Raqueta r = siguiente;
+                siguiente = avanzar();
+                return r;
+            }
+        };
+    }
+
+    /**
+     * Recorre los modelos que quedan con sus unidades, por orden de potencia
+     * @param accion recibe cada modelo y sus unidades
+     */
+    void recorrer(ObjIntConsumer<Raqueta> accion)
+    {
+        for (Map.Entry<Raqueta, Existencias> m: estructura.get().raquetas.entrySet()){
+            int n = m.getValue().unidades.get();
+            if (n > 0){
+                accion.accept(m.getKey(), n);
+            }
+        }
+    }
+
+    /**
+     * Resta una unidad del contador de un modelo. Quien se lleva la última unidad marca el
+     * modelo como retirado, salvo que otro hilo haya añadido unidades entretanto, y lo
+     * quita de la reserva y del índice
+     * @return true si se ha conseguido la unidad
+     */
+    private boolean tomarUnidad(Estructura e, Raqueta r, Existencias contador)
+    {
+        int n;
+        while ((n = contador.unidades.get()) > 0){
+            if (contador.unidades.compareAndSet(n, n - 1)){
+                unidades.decrementAndGet();
+                if (n == 1 && contador.unidades.compareAndSet(0, RETIRADA)){
+                    modelos.decrementAndGet();
+                    e.raquetas.remove(r, contador);
+                    quitarDelIndice(e, r);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Quita un modelo retirado del índice. Si entretanto se ha vuelto a añadir, se deja
+     */
+    private static void quitarDelIndice(Estructura e, Raqueta r)
+    {
+        ConcurrentSkipListMap<Raqueta, Boolean> grupo = e.porVelocidad.get(r.calcularVelocidad());
+        if (grupo != null){
+            grupo.remove(r);
+            if (e.raquetas.containsKey(r)){
+                grupo.put(r, Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Pasa a la estructura actual las unidades que quedan de un modelo de una estructura
+     * que ya se ha sustituido. El modelo se retira de la vieja, de forma que solo un hilo
+     * pasa sus unidades
+     */
+    private void mudar(Estructura vieja, Raqueta r, Existencias contador)
+    {
+        int n;
+        while ((n = contador.unidades.get()) > 0){
+            if (contador.unidades.compareAndSet(n, RETIRADA)){
+                unidades.addAndGet(-n);
+                modelos.decrementAndGet();
+                vieja.raquetas.remove(r, contador);
+                añadir(r, n);
+                if (contador.entregada.get()){
+                    // La raqueta del modelo ya se ha entregado: las unidades que quedan son copias
+                    Existencias nuevas = estructura.get().raquetas.get(r);
+                    if (nuevas != null){
+                        nuevas.entregada.set(true);
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Construye una estructura a partir de un lote ordenado por potencia y sin repetidos.
+     * Las raquetas se insertan directamente en las skip lists, en orden ascendente, de
+     * forma que las de cada grupo del índice también llegan en orden
+     */
+    private Estructura construir(List<Map.Entry<Raqueta, Existencias>> ordenadas)
+    {
+        ConcurrentSkipListMap<Raqueta, Existencias> raquetas = new ConcurrentSkipListMap<>(orden);
+        ConcurrentSkipListMap<Double, ConcurrentSkipListMap<Raqueta, Boolean>> indice = new ConcurrentSkipListMap<>();
+        for (Map.Entry<Raqueta, Existencias> m: ordenadas){
+            raquetas.put(m.getKey(), m.getValue());
+            indice.computeIfAbsent(m.getKey().calcularVelocidad(), v -> new ConcurrentSkipListMap<>(orden))
+                  .put(m.getKey(), Boolean.TRUE);
+        }
+        return new Estructura(raquetas, indice);
+    }
+}
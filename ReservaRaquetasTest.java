@@ -0,0 +1,323 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Pruebas de la reserva de raquetas de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ReservaRaquetasTest
+{
+    private ReservaRaquetas reserva;
+    private Raqueta r1;
+    private Raqueta r2;
+    private Raqueta r3;
+
+    /**
+     * Default constructor for test class ReservaRaquetasTest
+     */
+    public ReservaRaquetasTest()
+    {
+    }
+
+    /**
+     * Crea una reserva con tres raquetas de distinta potencia y velocidad
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        reserva = new ReservaRaquetas();
+        r1 = new RaquetaPotente("Head Radical", 260, 680, 680, Encordado.ABIERTO);
+        r2 = new RaquetaControlada("Babolat Drive", 340, 740, 600, Encordado.CERRADO);
+        r3 = new RaquetaEquilibrada("Class 100L", 320, 680, 720, Encordado.ABIERTO, 8, 1);
+        reserva.añadir(r1);
+        reserva.añadir(r2);
+        reserva.añadir(r3);
+    }
+
+    /**
+     * Las raquetas se toman de mayor a menor potencia, igual que con first() en la copia
+     */
+    @Test
+    public void tomarMejorTest()
+    {
+        Raqueta esperada = reserva.copia().first();
+        assertSame(esperada, reserva.tomarMejor());
+        assertEquals(2, reserva.getTamaño());
+        reserva.tomarMejor();
+        reserva.tomarMejor();
+        assertNull(reserva.tomarMejor());
+        assertTrue(reserva.isEmpty());
+    }
+
+    /**
+     * Se toma la primera raqueta, por orden de potencia, que cumple la condición
+     */
+    @Test
+    public void tomarPrimeraTest()
+    {
+        double velocidad = Math.min(r1.calcularVelocidad(), Math.min(r2.calcularVelocidad(), r3.calcularVelocidad()));
+        Raqueta esperada = null;
+        for (Raqueta r: reserva.copia()){
+            if (esperada == null && velocidad < r.calcularVelocidad()){
+                esperada = r;
+            }
+        }
+        assertSame(esperada, reserva.tomarPrimera(r -> velocidad < r.calcularVelocidad()));
+        assertNull(reserva.tomarPrimera(r -> false));
+        assertEquals(2, reserva.getTamaño());
+    }
+
+    /**
+     * Varios hilos toman raquetas a la vez y ninguna raqueta se entrega dos veces
+     */
+    @Test
+    public void tomarConcurrenteTest()
+    {
+        ReservaRaquetas grande = new ReservaRaquetas();
+        double[] pesos = {220, 260, 300, 320, 340};
+        double[] longitudes = {680, 690, 700, 740};
+        for (int i = 0; i < 2000; i++){
+            grande.añadir(new RaquetaPotente("Modelo " + i, pesos[i % pesos.length],
+                                             longitudes[i % longitudes.length], 680, Encordado.ABIERTO));
+        }
+        int total = grande.getTamaño();
+        Set<Raqueta> tomadas = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        IntStream.range(0, total).parallel().forEach(i -> {
+            Raqueta r = i % 2 == 0 ? grande.tomarMejor() : grande.tomarPrimera(x -> true);
+            assertNotNull(r);
+            assertTrue(tomadas.add(r));
+        });
+        assertEquals(total, tomadas.size());
+        assertTrue(grande.isEmpty());
+    }
+
+    /**
+     * El índice por velocidad elige las mismas raquetas que recorrer la reserva por orden
+     * de potencia, también después de tomar raquetas de otras formas
+     */
+    @Test
+    public void tomarMasRapidaQueTest()
+    {
+        ReservaRaquetas indice = new ReservaRaquetas();
+        ReservaRaquetas recorrido = new ReservaRaquetas();
+        double[] pesos = {220, 240, 260, 280, 300, 320, 340};
+        double[] longitudes = {680, 690, 700, 720, 740};
+        for (int i = 0; i < 300; i++){
+            Raqueta r = new RaquetaPotente("Modelo " + i, pesos[i % pesos.length],
+                                           longitudes[i % longitudes.length], 680, Encordado.ABIERTO);
+            indice.añadir(r);
+            recorrido.añadir(r);
+        }
+        for (int i = 0; i < 300; i++){
+            if (i % 5 == 0){
+                assertSame(recorrido.tomarMejor(), indice.tomarMejor());
+            }
+            else{
+                double velocidad = 2 + i % 9;
+                assertSame(recorrido.tomarPrimera(r -> velocidad < r.calcularVelocidad()),
+                           indice.tomarMasRapidaQue(velocidad));
+            }
+        }
+        assertEquals(recorrido.getTamaño(), indice.getTamaño());
+    }
+
+    /**
+     * Varios hilos toman raquetas por velocidad y por potencia a la vez y ninguna raqueta
+     * se entrega dos veces
+     */
+    @Test
+    public void tomarMasRapidaQueConcurrenteTest()
+    {
+        ReservaRaquetas grande = new ReservaRaquetas();
+        double[] pesos = {220, 260, 300, 320, 340};
+        for (int i = 0; i < 2000; i++){
+            grande.añadir(new RaquetaPotente("Modelo " + i, pesos[i % pesos.length], 700, 680, Encordado.ABIERTO));
+        }
+        int total = grande.getTamaño();
+        Set<Raqueta> tomadas = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        IntStream.range(0, total).parallel().forEach(i -> {
+            Raqueta r = i % 2 == 0 ? grande.tomarMejor() : grande.tomarMasRapidaQue(0);
+            assertNotNull(r);
+            assertTrue(tomadas.add(r));
+        });
+        assertEquals(total, tomadas.size());
+        assertNull(grande.tomarMasRapidaQue(0));
+    }
+
+    /**
+     * Las raquetas iguales se guardan como unidades del mismo modelo, que sale de la
+     * reserva al tomar su última unidad
+     */
+    @Test
+    public void unidadesTest()
+    {
+        Raqueta copia = new RaquetaPotente("Head Radical", 260, 680, 680, Encordado.ABIERTO);
+        assertFalse(reserva.añadir(copia, 3000));
+        assertEquals(3003, reserva.getTamaño());
+        assertEquals(3, reserva.getModelos());
+        assertEquals(3001, reserva.getUnidades(r1));
+        assertSame(r1, reserva.tomarPrimera(r -> r.getModelo().equals("Head Radical")));
+        assertEquals(3000, reserva.getUnidades(copia));
+        for (int i = 0; i < 3000; i++){
+            assertTrue(reserva.quitar(r1));
+        }
+        assertFalse(reserva.quitar(r1));
+        assertEquals(0, reserva.getUnidades(r1));
+        assertEquals(2, reserva.getModelos());
+        assertEquals(2, reserva.getTamaño());
+        assertFalse(reserva.copia().contains(r1));
+        assertTrue(reserva.añadir(r1));
+        assertEquals(3, reserva.getModelos());
+        assertThrows(IllegalArgumentException.class, () -> reserva.añadir(r1, 0));
+    }
+
+    /**
+     * Las raquetas del mismo modelo y potencia pero con otros datos son modelos distintos, y
+     * cada unidad que se toma es una raqueta distinta: la primera, la del modelo, y las
+     * demás, copias inmutables
+     */
+    @Test
+    public void modelosDistintosTest()
+    {
+        ReservaRaquetas otra = new ReservaRaquetas();
+        Raqueta ligera = new RaquetaGenerica("Pure Drive", 220, 680, 650, Encordado.ABIERTO);
+        Raqueta pesada = new RaquetaGenerica("Pure Drive", 340, 680, 650, Encordado.ABIERTO);
+        assertEquals(ligera.calcularPotencia(), pesada.calcularPotencia());
+        assertTrue(otra.añadir(ligera));
+        assertTrue(otra.añadir(pesada));
+        assertEquals(2, otra.getModelos());
+        Raqueta primera = otra.tomarMejor();
+        Raqueta segunda = otra.tomarMejor();
+        assertNotSame(primera, segunda);
+        assertEquals(Set.of(ligera, pesada), Set.of(primera, segunda));
+
+        assertTrue(otra.añadir(ligera));
+        assertFalse(otra.añadir(new RaquetaGenerica("Pure Drive", 220, 680, 650, Encordado.ABIERTO), 2));
+        assertEquals(1, otra.getModelos());
+        Raqueta unidad1 = otra.tomarMejor();
+        assertSame(ligera, unidad1);
+        Raqueta unidad2 = otra.tomarMejor();
+        Raqueta unidad3 = otra.tomarMejor();
+        assertNotSame(unidad1, unidad2);
+        assertNotSame(unidad2, unidad3);
+        assertInstanceOf(RaquetaInmutable.class, unidad2);
+        assertEquals(ligera.toString(), unidad3.toString());
+        assertTrue(otra.isEmpty());
+    }
+
+    /**
+     * Varios hilos toman a la vez unidades de pocos modelos y se entregan exactamente las
+     * unidades que había
+     */
+    @Test
+    public void tomarUnidadesConcurrenteTest()
+    {
+        ReservaRaquetas grande = new ReservaRaquetas();
+        double[] pesos = {220, 260, 300, 320, 340};
+        for (int i = 0; i < pesos.length; i++){
+            grande.añadir(new RaquetaPotente("Modelo " + i, pesos[i], 700, 680, Encordado.ABIERTO), 2000);
+        }
+        assertEquals(10000, grande.getTamaño());
+        IntStream.range(0, 10000).parallel().forEach(i -> {
+            Raqueta r = i % 3 == 0 ? grande.tomarMejor()
+                      : i % 3 == 1 ? grande.tomarMasRapidaQue(0) : grande.tomarPrimera(x -> true);
+            assertNotNull(r);
+        });
+        assertTrue(grande.isEmpty());
+        assertEquals(0, grande.getModelos());
+        assertNull(grande.tomarMejor());
+        assertNull(grande.tomarMasRapidaQue(0));
+    }
+
+    /**
+     * Un lote añadido a una reserva vacía da la misma reserva que añadir sus raquetas una
+     * a una, con las raquetas iguales juntas como unidades del mismo modelo
+     */
+    @Test
+    public void añadirTodasTest()
+    {
+        double[] pesos = {220, 260, 300, 320, 340};
+        List<Raqueta> lote = new ArrayList<>();
+        int[] unidades = new int[3000];
+        ReservaRaquetas unaAUna = new ReservaRaquetas();
+        for (int i = 0; i < unidades.length; i++){
+            lote.add(new RaquetaPotente("Modelo " + (i % 1000), pesos[i % pesos.length], 700 + i % 7 * 10, 680, Encordado.ABIERTO));
+            unidades[i] = 1 + i % 3;
+            unaAUna.añadir(lote.get(i), unidades[i]);
+        }
+        ReservaRaquetas lotes = new ReservaRaquetas();
+        lotes.añadirTodas(lote, unidades);
+        assertEquals(unaAUna.getTamaño(), lotes.getTamaño());
+        assertEquals(unaAUna.getModelos(), lotes.getModelos());
+        assertEquals(new ArrayList<>(unaAUna.copia()), new ArrayList<>(lotes.copia()));
+        for (Raqueta r: unaAUna){
+            assertEquals(unaAUna.getUnidades(r), lotes.getUnidades(r));
+        }
+        while (!unaAUna.isEmpty()){
+            assertEquals(unaAUna.tomarMasRapidaQue(700), lotes.tomarMasRapidaQue(700));
+            assertEquals(unaAUna.tomarMejor(), lotes.tomarMejor());
+        }
+        assertTrue(lotes.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> lotes.añadirTodas(List.of(r1), new int[] {0}));
+    }
+
+    /**
+     * Un lote añadido a una reserva que ya tiene raquetas suma sus unidades a las de los
+     * modelos que ya estaban
+     */
+    @Test
+    public void añadirTodasNoVaciaTest()
+    {
+        Raqueta copia = new RaquetaPotente("Head Radical", 260, 680, 680, Encordado.ABIERTO);
+        Raqueta r4 = new RaquetaPotente("Wilson Blade", 300, 700, 680, Encordado.ABIERTO);
+        reserva.añadirTodas(List.of(copia, r4, copia));
+        assertEquals(6, reserva.getTamaño());
+        assertEquals(4, reserva.getModelos());
+        assertEquals(3, reserva.getUnidades(r1));
+        assertEquals(1, reserva.getUnidades(r4));
+    }
+
+    /**
+     * Las raquetas que otros hilos añaden mientras se construye la reserva a partir de un
+     * lote no se pierden
+     */
+    @Test
+    public void añadirTodasConcurrenteTest()
+    {
+        double[] pesos = {220, 260, 300, 320, 340};
+        for (int vuelta = 0; vuelta < 20; vuelta++){
+            ReservaRaquetas grande = new ReservaRaquetas();
+            List<Raqueta> lote = new ArrayList<>();
+            for (int i = 0; i < 2000; i++){
+                lote.add(new RaquetaPotente("Lote " + i, pesos[i % pesos.length], 700, 680, Encordado.ABIERTO));
+            }
+            IntStream.range(0, 1001).parallel().forEach(i -> {
+                if (i == 500){
+                    grande.añadirTodas(lote);
+                }
+                else{
+                    grande.añadir(new RaquetaPotente("Suelta " + i % 100, pesos[i % pesos.length], 700, 680, Encordado.ABIERTO));
+                }
+            });
+            assertEquals(3000, grande.getTamaño());
+            assertEquals(2100, grande.getModelos());
+            int tomadas = 0;
+            while (grande.tomarMasRapidaQue(0) != null){
+                tomadas++;
+            }
+            assertEquals(3000, tomadas);
+            assertEquals(0, grande.getModelos());
+        }
+    }
+}
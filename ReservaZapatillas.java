@@ -0,0 +1,295 @@
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Reserva de las zapatillas de un campeonato, agrupadas por número. Cada número tiene su
+ * propia cola concurrente, de forma que asignar unas zapatillas a un tenista cuesta O(1)
+ * sea cual sea el tamaño de la reserva. Dentro de cada número las zapatillas se entregan
+ * en el orden en que se añadieron, igual que al recorrer la antigua lista.
+ *
+ * La reserva es un inventario: cada elemento de una cola es un modelo de zapatillas con el
+ * número de unidades que quedan, y tomar unas zapatillas resta una unidad. Las unidades de
+ * un modelo que se añaden justo después de él se suman a las suyas, así que un lote de
+ * zapatillas iguales ocupa un solo elemento. La primera unidad que se entrega de un modelo
+ * es el propio modelo y las siguientes son copias suyas, así que dos tenistas nunca
+ * comparten unas zapatillas. El número total de unidades se lleva en un contador, así que
+ * consultarlo no recorre la reserva.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ReservaZapatillas
+{
+    /** Valor del contador de un modelo agotado que ya no admite más unidades */
+    private static final int RETIRADO = -1;
+
+    private final ConcurrentHashMap<Double, Deque<Existencias>> zapatillas;
+    private final AtomicInteger unidades;
+
+    /**
+     * Unidades que quedan de un modelo de zapatillas
+     */
+    private static final class Existencias
+    {
+        private final Zapatilla modelo;
+        private final AtomicInteger unidades;
+        private final AtomicBoolean entregada;
+
+        private Existencias(Zapatilla modelo, int unidades)
+        {
+            this.modelo = modelo;
+            this.unidades = new AtomicInteger(unidades);
+            this.entregada = new AtomicBoolean();
+        }
+
+        /**
+         * Devuelve la unidad que se entrega: el modelo la primera vez y una copia suya las
+         * siguientes
+         */
+        private Zapatilla unidad()
+        {
+            return entregada.compareAndSet(false, true) ? modelo : modelo.copiar();
+        }
+
+        /**
+         * Suma unidades si el modelo no se ha retirado
+         */
+        private boolean sumar(int cantidad)
+        {
+            int n;
+            while ((n = unidades.get()) != RETIRADO){
+                if (unidades.compareAndSet(n, n + cantidad)){
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Resta una unidad. Quien se lleva la última marca el modelo como retirado, salvo
+         * que otro hilo haya sumado unidades entretanto
+         * @return 1 si ha conseguido una unidad y quedan más, 0 si ha conseguido la última
+         * y -1 si no quedaban
+         */
+        private int restar()
+        {
+            int n;
+            while ((n = unidades.get()) > 0){
+                if (unidades.compareAndSet(n, n - 1)){
+                    return n == 1 && unidades.compareAndSet(0, RETIRADO) ? 0 : 1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Constructor de la clase ReservaZapatillas. La reserva empieza vacía
+     */
+    public ReservaZapatillas()
+    {
+        zapatillas = new ConcurrentHashMap<>();
+        unidades = new AtomicInteger();
+    }
+
+    /**
+     * Añade unas zapatillas al final de la cola de su número
+     * @param z las zapatillas
+     */
+    public void añadir(Zapatilla z)
+    {
+        añadir(z, 1);
+    }
+
+    /**
+     * Añade varias unidades de unas zapatillas al final de la cola de su número. Si el
+     * último modelo de la cola es igual, las unidades se suman a las suyas
+     * @param z las zapatillas
+     * @param cantidad el número de unidades
+     * @throws IllegalArgumentException si el número de unidades no es positivo
+     */
+    public void añadir(Zapatilla z, int cantidad)
+    {
+        if (cantidad <= 0){
+            throw new IllegalArgumentException("El número de unidades debe ser positivo: " + cantidad);
+        }
+        Deque<Existencias> cola = zapatillas.computeIfAbsent(z.getNumero(), n -> new ConcurrentLinkedDeque<>());
+        Existencias ultima = cola.peekLast();
+        if (ultima == null || !ultima.modelo.equals(z) || !ultima.sumar(cantidad)){
+            cola.addLast(new Existencias(z, cantidad));
+        }
+        unidades.addAndGet(cantidad);
+    }
+
+    /**
+     * Añade un lote de zapatillas al final de las colas de sus números, en el orden del
+     * lote. Las zapatillas iguales seguidas se juntan antes de añadirlas, y las de cada
+     * número se enlazan en su cola de una sola vez
+     * @param lote las zapatillas
+     * @param cantidades las unidades de cada zapatilla del lote, o null para una de cada una
+     * @throws IllegalArgumentException si falta el número de unidades de alguna zapatilla o
+     * no es positivo
+     */
+    public void añadirTodas(List<? extends Zapatilla> lote, int[] cantidades)
+    {
+        int n = lote.size();
+        if (cantidades != null && cantidades.length < n){
+            throw new IllegalArgumentException("Faltan las unidades de " + (n - cantidades.length) + " zapatillas");
+        }
+        HashMap<Double, List<Existencias>> porNumero = new HashMap<>();
+        long total = 0;
+        for (int i = 0; i < n; i++){
+            Zapatilla z = lote.get(i);
+            int cantidad = cantidades == null ? 1 : cantidades[i];
+            if (cantidad <= 0){
+                throw new IllegalArgumentException("El número de unidades debe ser positivo: " + cantidad);
+            }
+            List<Existencias> grupo = porNumero.computeIfAbsent(z.getNumero(), k -> new ArrayList<>());
+            Existencias ultima = grupo.isEmpty() ? null : grupo.get(grupo.size() - 1);
+            if (ultima != null && ultima.modelo.equals(z)){
+                ultima.unidades.addAndGet(cantidad);
+            }
+            else{
+                grupo.add(new Existencias(z, cantidad));
+            }
+            total += cantidad;
+        }
+        for (Map.Entry<Double, List<Existencias>> g: porNumero.entrySet()){
+            Deque<Existencias> cola = zapatillas.computeIfAbsent(g.getKey(), k -> new ConcurrentLinkedDeque<>());
+            List<Existencias> grupo = g.getValue();
+            Existencias primera = grupo.get(0);
+            Existencias ultima = cola.peekLast();
+            if (ultima != null && ultima.modelo.equals(primera.modelo) && ultima.sumar(primera.unidades.get())){
+                grupo = grupo.subList(1, grupo.size());
+            }
+            cola.addAll(grupo);
+        }
+        unidades.addAndGet((int) total);
+    }
+
+    /**
+     * Retira de la reserva una unidad de las primeras zapatillas de un número
+     * @param numero el número de las zapatillas
+     * @return las zapatillas retiradas, el modelo si es su primera unidad y si no una copia
+     * suya, o null si no quedan de ese número
+     */
+    public Zapatilla tomar(double numero)
+    {
+        Deque<Existencias> cola = zapatillas.get(numero);
+        if (cola == null){
+            return null;
+        }
+        for (Existencias e: cola){
+            if (tomarUnidad(cola, e)){
+                return e.unidad();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retira de la reserva una unidad de unas zapatillas concretas
+     * @param z las zapatillas
+     * @return true si quedaba alguna unidad de las zapatillas en la reserva
+     */
+    public boolean quitar(Zapatilla z)
+    {
+        Deque<Existencias> cola = zapatillas.get(z.getNumero());
+        if (cola == null){
+            return false;
+        }
+        for (Existencias e: cola){
+            if (e.modelo.equals(z) && tomarUnidad(cola, e)){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Devuelve el número total de unidades de la reserva. Con otros hilos tomando
+     * zapatillas el valor es solo aproximado
+     * @return el número de zapatillas
+     */
+    public int getTamaño()
+    {
+        return unidades.get();
+    }
+
+    /**
+     * Devuelve el número de unidades que quedan de unas zapatillas
+     * @param z las zapatillas
+     * @return las unidades de las zapatillas, o 0 si no están en la reserva
+     */
+    public int getUnidades(Zapatilla z)
+    {
+        Deque<Existencias> cola = zapatillas.get(z.getNumero());
+        int total = 0;
+        if (cola != null){
+            for (Existencias e: cola){
+                if (e.modelo.equals(z)){
+                    total += Math.max(0, e.unidades.get());
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Devuelve una copia de las zapatillas de la reserva, agrupadas por número, con un
+     * elemento por cada unidad
+     * @return la copia
+     */
+    public ArrayList<Zapatilla> copia()
+    {
+        ArrayList<Zapatilla> copia = new ArrayList<>();
+        for (Deque<Existencias> cola: zapatillas.values()){
+            for (Existencias e: cola){
+                for (int i = e.unidades.get(); i > 0; i--){
+                    copia.add(e.modelo);
+                }
+            }
+        }
+        return copia;
+    }
+
+    /**
+     * Recorre los modelos que quedan con sus unidades, en el orden en que se entregan
+     * dentro de cada número
+     * @param accion recibe cada modelo y sus unidades
+     */
+    void recorrer(ObjIntConsumer<Zapatilla> accion)
+    {
+        for (Deque<Existencias> cola: zapatillas.values()){
+            for (Existencias e: cola){
+                int n = e.unidades.get();
+                if (n > 0){
+                    accion.accept(e.modelo, n);
+                }
+            }
+        }
+    }
+
+    private boolean tomarUnidad(Deque<Existencias> cola, Existencias e)
+    {
+        int resultado = e.restar();
+        if (resultado < 0){
+            return false;
+        }
+        unidades.decrementAndGet();
+        if (resultado == 0){
+            cola.remove(e);
+        }
+        return true;
+    }
+}
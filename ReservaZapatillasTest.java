@@ -0,0 +1,144 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+/**
+ * Pruebas de la reserva de zapatillas de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ReservaZapatillasTest
+{
+    private ReservaZapatillas reserva;
+    private Zapatilla z1;
+    private Zapatilla z2;
+    private Zapatilla z3;
+
+    /**
+     * Default constructor for test class ReservaZapatillasTest
+     */
+    public ReservaZapatillasTest()
+    {
+    }
+
+    /**
+     * Crea una reserva con dos zapatillas del 40 y una del 42
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        reserva = new ReservaZapatillas();
+        z1 = new ZapatillasAmortiguadas("Lotto Space", 40, 5);
+        z2 = new ZapatillasAmortiguadas("K-Swiss Express", 42, 3);
+        z3 = new ZapatillasConAgarre("Court Vapor React", 40, 5);
+        reserva.añadir(z1);
+        reserva.añadir(z2);
+        reserva.añadir(z3);
+    }
+
+    /**
+     * Las zapatillas de cada número se entregan en el orden en que se añadieron
+     */
+    @Test
+    public void tomarTest()
+    {
+        assertSame(z1, reserva.tomar(40));
+        assertSame(z3, reserva.tomar(40));
+        assertNull(reserva.tomar(40));
+        assertNull(reserva.tomar(39));
+        assertSame(z2, reserva.tomar(42));
+        assertEquals(0, reserva.getTamaño());
+    }
+
+    /**
+     * Se pueden retirar unas zapatillas concretas
+     */
+    @Test
+    public void quitarTest()
+    {
+        assertTrue(reserva.quitar(z1));
+        assertFalse(reserva.quitar(z1));
+        assertEquals(2, reserva.getTamaño());
+        assertSame(z3, reserva.tomar(40));
+    }
+
+    /**
+     * Las unidades de unas zapatillas añadidas seguidas se suman y se entregan antes que
+     * las zapatillas añadidas después
+     */
+    @Test
+    public void unidadesTest()
+    {
+        Zapatilla z4 = new ZapatillasConAgarre("Court Lite", 40, 3);
+        reserva.añadir(z4, 500);
+        reserva.añadir(new ZapatillasConAgarre("Court Lite", 40, 3), 500);
+        assertEquals(1003, reserva.getTamaño());
+        assertEquals(1000, reserva.getUnidades(z4));
+        assertSame(z1, reserva.tomar(40));
+        assertSame(z3, reserva.tomar(40));
+        assertSame(z4, reserva.tomar(40));
+        for (int i = 1; i < 1000; i++){
+            assertEquals(z4, reserva.tomar(40));
+        }
+        assertNull(reserva.tomar(40));
+        assertEquals(1, reserva.getTamaño());
+        assertEquals(1, reserva.copia().size());
+        assertThrows(IllegalArgumentException.class, () -> reserva.añadir(z4, -1));
+    }
+
+    /**
+     * Un lote se entrega en su orden detrás de lo que ya había, y las zapatillas iguales
+     * seguidas se suman a las anteriores
+     */
+    @Test
+    public void añadirTodasTest()
+    {
+        Zapatilla z4 = new ZapatillasConAgarre("Court Lite", 42, 3);
+        Zapatilla z5 = new ZapatillasAmortiguadas("Lotto Mirage", 40, 4);
+        reserva.añadirTodas(List.of(new ZapatillasConAgarre("Court Vapor React", 40, 5), z4, z5, z4), new int[] {2, 1, 3, 5});
+        assertEquals(14, reserva.getTamaño());
+        assertEquals(3, reserva.getUnidades(z3));
+        assertEquals(6, reserva.getUnidades(z4));
+        assertSame(z1, reserva.tomar(40));
+        assertSame(z3, reserva.tomar(40));
+        for (int i = 1; i < 3; i++){
+            assertEquals(z3, reserva.tomar(40));
+        }
+        assertSame(z5, reserva.tomar(40));
+        for (int i = 1; i < 3; i++){
+            assertEquals(z5, reserva.tomar(40));
+        }
+        assertNull(reserva.tomar(40));
+        assertSame(z2, reserva.tomar(42));
+        assertSame(z4, reserva.tomar(42));
+        assertThrows(IllegalArgumentException.class, () -> reserva.añadirTodas(List.of(z1, z2), new int[] {1}));
+    }
+
+    /**
+     * Cada unidad de un modelo es unas zapatillas distintas de la misma clase, y cambiar
+     * unas no cambia las de otro tenista
+     */
+    @Test
+    public void unidadesDistintasTest()
+    {
+        ZapatillasAmortiguadas z4 = new ZapatillasAmortiguadas("Lotto Mirage", 41, 4);
+        z4.setMultiplicadorSaque(2);
+        reserva.añadir(z4, 3);
+        Zapatilla primera = reserva.tomar(41);
+        Zapatilla segunda = reserva.tomar(41);
+        Zapatilla tercera = reserva.tomar(41);
+        assertSame(z4, primera);
+        assertNotSame(primera, segunda);
+        assertNotSame(segunda, tercera);
+        assertEquals(ZapatillasAmortiguadas.class, segunda.getClass());
+        assertEquals(z4, segunda);
+        assertEquals(z4.calcularValorSaque(), segunda.calcularValorSaque());
+        segunda.setValor(9);
+        assertEquals(4, primera.getValor());
+        assertEquals(4, tercera.getValor());
+    }
+}
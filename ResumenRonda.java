@@ -0,0 +1,234 @@
+import java.util.Arrays;
+
+/**
+ * Resumen de los partidos de una ronda, para los medios que los reciben todos juntos al
+ * terminarla. Los resultados se guardan en arrays, un elemento por partido en el orden en
+ * que se jugaron, con los datos que tenían los tenistas al terminar cada partido, de forma
+ * que un medio los puede recorrer en un bucle sin crear un objeto por partido.
+ *
+ * El resumen no cambia una vez creado: sus arrays solo se leen, y pueden ser más largos que
+ * el número de partidos. Los nombres se consultan a través de los tenistas, que se guardan
+ * también.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class ResumenRonda
+{
+    private final Campeonato campeonato;
+    private final int ronda;
+    private final int partidos;
+    private final Tenista[] ganadores;
+    private final Tenista[] perdedores;
+    private final int[] rankingGanadores;
+    private final int[] rankingPerdedores;
+    private final double[] puntosGanadores;
+    private final double[] puntosPerdedores;
+
+    private ResumenRonda(Acumulador a)
+    {
+        this.campeonato = a.campeonato;
+        this.ronda = a.ronda;
+        this.partidos = a.partidos;
+        this.ganadores = a.ganadores;
+        this.perdedores = a.perdedores;
+        this.rankingGanadores = a.rankingGanadores;
+        this.rankingPerdedores = a.rankingPerdedores;
+        this.puntosGanadores = a.puntosGanadores;
+        this.puntosPerdedores = a.puntosPerdedores;
+    }
+
+    /**
+     * Va guardando los partidos de una ronda a medida que se notifican. Al crear el resumen
+     * le pasa sus arrays sin copiarlos y empieza con otros
+     */
+    static final class Acumulador
+    {
+        private Campeonato campeonato;
+        private int ronda;
+        private int partidos;
+        private Tenista[] ganadores;
+        private Tenista[] perdedores;
+        private int[] rankingGanadores;
+        private int[] rankingPerdedores;
+        private double[] puntosGanadores;
+        private double[] puntosPerdedores;
+
+        Acumulador()
+        {
+            reservar(16);
+        }
+
+        /**
+         * Crea arrays nuevos para los partidos
+         */
+        private void reservar(int capacidad)
+        {
+            ganadores = new Tenista[capacidad];
+            perdedores = new Tenista[capacidad];
+            rankingGanadores = new int[capacidad];
+            rankingPerdedores = new int[capacidad];
+            puntosGanadores = new double[capacidad];
+            puntosPerdedores = new double[capacidad];
+        }
+
+        /**
+         * Guarda un partido. Si es de otra ronda, primero se descartan los guardados
+         * @param ganador el tenista ganador
+         * @param perdedor el tenista perdedor
+         * @param ronda la ronda del partido
+         */
+        void añadir(Tenista ganador, Tenista perdedor, int ronda)
+        {
+            if (partidos > 0 && ronda != this.ronda){
+                partidos = 0;
+            }
+            if (partidos == 0){
+                this.campeonato = ganador.getCampeonato();
+                this.ronda = ronda;
+            }
+            if (partidos == ganadores.length){
+                int n = 2 * partidos;
+                ganadores = Arrays.copyOf(ganadores, n);
+                perdedores = Arrays.copyOf(perdedores, n);
+                rankingGanadores = Arrays.copyOf(rankingGanadores, n);
+                rankingPerdedores = Arrays.copyOf(rankingPerdedores, n);
+                puntosGanadores = Arrays.copyOf(puntosGanadores, n);
+                puntosPerdedores = Arrays.copyOf(puntosPerdedores, n);
+            }
+            ganadores[partidos] = ganador;
+            perdedores[partidos] = perdedor;
+            rankingGanadores[partidos] = ganador.getRanking();
+            rankingPerdedores[partidos] = perdedor.getRanking();
+            puntosGanadores[partidos] = ganador.getPuntosAcumulados();
+            puntosPerdedores[partidos] = perdedor.getPuntosAcumulados();
+            partidos++;
+        }
+
+        /**
+         * Crea el resumen de los partidos guardados y empieza de nuevo, con sitio para la
+         * mitad de partidos, que son los de la ronda siguiente
+         * @return el resumen, o null si no hay partidos guardados
+         */
+        ResumenRonda resumir()
+        {
+            if (partidos == 0){
+                return null;
+            }
+            ResumenRonda resumen = new ResumenRonda(this);
+            reservar(Math.max(16, partidos / 2 + 1));
+            partidos = 0;
+            return resumen;
+        }
+    }
+
+    /**
+     * Devuelve el campeonato en el que se ha jugado la ronda
+     * @return el campeonato
+     */
+    public Campeonato getCampeonato()
+    {
+        return campeonato;
+    }
+
+    /**
+     * Devuelve la ronda
+     * @return la ronda
+     */
+    public int getRonda()
+    {
+        return ronda;
+    }
+
+    /**
+     * Devuelve el número de partidos de la ronda
+     * @return el número de partidos
+     */
+    public int getNumeroPartidos()
+    {
+        return partidos;
+    }
+
+    /**
+     * Devuelve el ganador de un partido
+     * @param i la posición del partido en la ronda
+     * @return el ganador
+     */
+    public Tenista getGanador(int i)
+    {
+        return ganadores[comprobar(i)];
+    }
+
+    /**
+     * Devuelve el perdedor de un partido
+     * @param i la posición del partido en la ronda
+     * @return el perdedor
+     */
+    public Tenista getPerdedor(int i)
+    {
+        return perdedores[comprobar(i)];
+    }
+
+    /**
+     * Devuelve el ranking del ganador de un partido
+     * @param i la posición del partido en la ronda
+     * @return el ranking del ganador
+     */
+    public int getRankingGanador(int i)
+    {
+        return rankingGanadores[comprobar(i)];
+    }
+
+    /**
+     * Devuelve el ranking del perdedor de un partido
+     * @param i la posición del partido en la ronda
+     * @return el ranking del perdedor
+     */
+    public int getRankingPerdedor(int i)
+    {
+        return rankingPerdedores[comprobar(i)];
+    }
+
+    /**
+     * Devuelve los puntos acumulados del ganador al terminar un partido
+     * @param i la posición del partido en la ronda
+     * @return los puntos del ganador
+     */
+    public double getPuntosGanador(int i)
+    {
+        return puntosGanadores[comprobar(i)];
+    }
+
+    /**
+     * Devuelve los puntos acumulados del perdedor al terminar un partido
+     * @param i la posición del partido en la ronda
+     * @return los puntos del perdedor
+     */
+    public double getPuntosPerdedor(int i)
+    {
+        return puntosPerdedores[comprobar(i)];
+    }
+
+    /**
+     * Devuelve un partido de la ronda como un evento, para los medios que lo procesan
+     * igual que si lo hubieran recibido solo
+     * @param i la posición del partido en la ronda
+     * @return el partido
+     */
+    public EventoPartido getPartido(int i)
+    {
+        comprobar(i);
+        return new EventoPartido(campeonato, ronda, ganadores[i], perdedores[i], rankingGanadores[i],
+                                 rankingPerdedores[i], puntosGanadores[i], puntosPerdedores[i]);
+    }
+
+    private int comprobar(int i)
+    {
+        if (i < 0 || i >= partidos){
+            throw new IndexOutOfBoundsException("La ronda " + ronda + " tiene " + partidos + " partidos: " + i);
+        }
+        return i;
+    }
+}
@@ -0,0 +1,132 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pruebas de los resúmenes de ronda y de campeonato que reciben los medios
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class ResumenRondaTest
+{
+    private Campeonato campeonato;
+    private List<String> partidos;
+    private List<ResumenRonda> rondas;
+    private List<ResumenTorneo> torneos;
+
+    /**
+     * Default constructor for test class ResumenRondaTest
+     */
+    public ResumenRondaTest()
+    {
+    }
+
+    /**
+     * Crea el campeonato de InitTennisData con un medio de cada modo de entrega
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de ResumenRondaTest", null);
+        new InitTennisData(campeonato);
+        campeonato.setSalida(new SalidaAsincrona(null, false));
+        partidos = new ArrayList<>();
+        rondas = new ArrayList<>();
+        torneos = new ArrayList<>();
+        campeonato.añadirSubscriptor(new MedioGenerico("Partidos"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+            }
+
+            public void actualizar(EventoPartido e){
+                partidos.add(describir(e));
+            }
+        });
+        campeonato.añadirSubscriptor(new MedioGenerico("Rondas"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                fail("El medio de rondas no recibe partidos sueltos");
+            }
+
+            public void actualizar(ResumenRonda resumen){
+                rondas.add(resumen);
+            }
+        }, ModoEntrega.RONDA);
+        campeonato.añadirSubscriptor(new MedioGenerico("Torneo"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+                fail("El medio del torneo no recibe partidos sueltos");
+            }
+
+            public void actualizar(ResumenTorneo resumen){
+                torneos.add(resumen);
+            }
+        }, ModoEntrega.TORNEO);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        campeonato.reset();
+    }
+
+    /**
+     * El medio de rondas recibe un resumen por ronda y el del torneo uno al final, con los
+     * mismos partidos y datos que recibe uno a uno el medio de partidos
+     */
+    @Test
+    public void resumenesTest() throws ExcepcionRaquetas
+    {
+        campeonato.controlDeCampeonato();
+
+        assertEquals(3, rondas.size());
+        List<String> resumidos = new ArrayList<>();
+        for (int r = 0; r < rondas.size(); r++){
+            ResumenRonda resumen = rondas.get(r);
+            assertEquals(r + 1, resumen.getRonda());
+            assertEquals(4 >> r, resumen.getNumeroPartidos());
+            assertSame(campeonato, resumen.getCampeonato());
+            for (int i = 0; i < resumen.getNumeroPartidos(); i++){
+                resumidos.add(resumen.getRonda() + " " + resumen.getGanador(i).getNombre() + " "
+                              + resumen.getRankingGanador(i) + " " + resumen.getPuntosGanador(i) + " "
+                              + resumen.getPerdedor(i).getNombre() + " " + resumen.getRankingPerdedor(i) + " "
+                              + resumen.getPuntosPerdedor(i));
+            }
+        }
+        assertEquals(partidos, resumidos);
+        assertThrows(IndexOutOfBoundsException.class, () -> rondas.get(2).getGanador(1));
+
+        assertEquals(1, torneos.size());
+        assertEquals(rondas, torneos.get(0).getRondas());
+        assertEquals(7, torneos.get(0).getNumeroPartidos());
+    }
+
+    /**
+     * Un medio de rondas que no procesa el resumen recibe sus partidos uno a uno, con los
+     * datos que tenían los tenistas al terminar cada partido
+     */
+    @Test
+    public void resumenPorDefectoTest() throws ExcepcionRaquetas
+    {
+        List<String> porDefecto = new ArrayList<>();
+        campeonato.añadirSubscriptor(new MedioGenerico("Por defecto"){
+            public void actualizar(Tenista ganador, Tenista perdedor, int ronda){
+            }
+
+            public void actualizar(EventoPartido e){
+                porDefecto.add(describir(e));
+            }
+        }, ModoEntrega.RONDA);
+        campeonato.controlDeCampeonato();
+        assertEquals(partidos, porDefecto);
+    }
+
+    private static String describir(EventoPartido e)
+    {
+        return e.getRonda() + " " + e.getNombreGanador() + " " + e.getRankingGanador() + " " + e.getPuntosGanador() + " "
+               + e.getNombrePerdedor() + " " + e.getRankingPerdedor() + " " + e.getPuntosPerdedor();
+    }
+}
@@ -0,0 +1,61 @@
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resumen de todos los partidos de un campeonato, ronda a ronda, para los medios que los
+ * reciben juntos al terminar el campeonato. El resumen no cambia una vez creado.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class ResumenTorneo
+{
+    private final Campeonato campeonato;
+    private final List<ResumenRonda> rondas;
+    private final int partidos;
+
+    /**
+     * Constructor de la clase ResumenTorneo
+     * @param campeonato el campeonato
+     * @param rondas los resúmenes de las rondas, en orden
+     */
+    ResumenTorneo(Campeonato campeonato, List<ResumenRonda> rondas)
+    {
+        this.campeonato = campeonato;
+        this.rondas = Collections.unmodifiableList(rondas);
+        int total = 0;
+        for (ResumenRonda r: rondas){
+            total += r.getNumeroPartidos();
+        }
+        this.partidos = total;
+    }
+
+    /**
+     * Devuelve el campeonato
+     * @return el campeonato, o null si no se ha jugado ningún partido
+     */
+    public Campeonato getCampeonato()
+    {
+        return campeonato;
+    }
+
+    /**
+     * Devuelve los resúmenes de las rondas, en el orden en que se jugaron
+     * @return las rondas
+     */
+    public List<ResumenRonda> getRondas()
+    {
+        return rondas;
+    }
+
+    /**
+     * Devuelve el número total de partidos del campeonato
+     * @return el número de partidos
+     */
+    public int getNumeroPartidos()
+    {
+        return partidos;
+    }
+}
@@ -0,0 +1,71 @@
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interfaz de la salida de un campeonato, a la que se envían todas las líneas que
+ * se muestran por pantalla y se escriben en el fichero.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public interface Salida
+{
+    /**
+     * Escribe una línea en la salida
+     * @param texto el texto de la línea, sin el salto de línea final
+     */
+    public void escribirLinea(String texto);
+
+    /**
+     * Escribe una línea que se ha compuesto en un buffer. La salida copia el texto antes de
+     * volver, así que quien llama puede reutilizar el buffer. Por defecto lo convierte en
+     * una cadena
+     * @param texto el texto de la línea, sin el salto de línea final
+     */
+    public default void escribirLinea(CharSequence texto)
+    {
+        escribirLinea(texto.toString());
+    }
+
+    /**
+     * Indica si las líneas escritas llegan a algún destino
+     * @return true si la salida está activa
+     */
+    public boolean isActiva();
+
+    /**
+     * Espera a que todas las líneas escritas hasta ahora hayan llegado a su destino
+     */
+    public void vaciar();
+
+    /**
+     * Vacía la salida y libera sus recursos. Las líneas que se escriban después ya no
+     * llegan al fichero
+     */
+    public void cerrar();
+
+    /**
+     * Marca el punto de la salida al que han llegado las líneas escritas hasta ahora. Los
+     * puntos de control del campeonato guardan la marca para poder continuar la salida
+     * desde ella. Por defecto la salida no tiene fichero y la marca es -1
+     * @return la posición del fichero de salida, en bytes, cuando ya tiene escritas todas
+     * las líneas anteriores, o -1 si la salida no escribe en fichero
+     */
+    public default CompletableFuture<Long> marcar()
+    {
+        return CompletableFuture.completedFuture(-1L);
+    }
+
+    /**
+     * Continúa el fichero de salida desde una marca, descartando lo que se escribió
+     * después. Hay que llamarlo antes de escribir ninguna línea. Por defecto no hace nada
+     * @param posicion la marca, en bytes
+     * @throws IOException si el fichero es más corto que la marca
+     */
+    public default void continuarEn(long posicion) throws IOException
+    {
+    }
+}
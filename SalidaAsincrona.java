@@ -0,0 +1,390 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Salida de un campeonato que agrupa las líneas en lotes grandes y los escribe desde un
+ * hilo propio, de forma que el hilo que simula el campeonato solo paga por copiar el
+ * texto en memoria. Los lotes pasan al hilo escritor por una cola acotada: si el
+ * escritor se retrasa, quien escribe espera a que haya sitio en la cola.
+ *
+ * La pantalla y el fichero se pueden activar y desactivar por separado; el cambio
+ * afecta a las líneas escritas a partir de ese momento.
+ *
+ * El fichero se abre al crear la salida, pero su contenido anterior no se descarta hasta
+ * escribir el primer lote, de forma que un campeonato que se reanuda desde un punto de
+ * control puede continuar el fichero desde la marca guardada en lugar de empezarlo de
+ * nuevo.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class SalidaAsincrona implements Salida
+{
+    private static final int TAMAÑO_LOTE = 64 * 1024;
+    private static final int LOTES_EN_COLA = 16;
+    private static final Lote FIN = new Lote("", false, false, null, null);
+
+    private final BlockingQueue<Lote> cola;
+    private final PrintStream pantalla;
+    private FileChannel canal;
+    private Writer fichero;
+    private long inicio;
+    private boolean preparado;
+    private StringBuilder buffer;
+    private boolean pantallaActiva;
+    private boolean ficheroActivo;
+    private boolean cerrada;
+    private Thread escritor;
+
+    /**
+     * Constructor de la clase SalidaAsincrona
+     * @param nombreFichero fichero en el que se escribe, o null para no escribir en fichero
+     * @param pantallaActiva true si las líneas también se muestran por pantalla
+     */
+    public SalidaAsincrona(String nombreFichero, boolean pantallaActiva)
+    {
+        this.cola = new ArrayBlockingQueue<Lote>(LOTES_EN_COLA);
+        this.pantalla = System.out;
+        this.buffer = new StringBuilder(TAMAÑO_LOTE);
+        this.pantallaActiva = pantallaActiva;
+        if (nombreFichero != null){
+            try{
+                canal = FileChannel.open(Paths.get(nombreFichero), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                fichero = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(canal), Charset.defaultCharset()),
+                                             TAMAÑO_LOTE);
+                ficheroActivo = true;
+            }
+            catch(IOException e)
+            {
+                System.err.println("Hubo un error abriendo en el fichero");
+            }
+        }
+    }
+
+    /**
+     * Añade la línea al lote actual y lo envía al escritor cuando está lleno
+     * @param texto el texto de la línea
+     */
+    public void escribirLinea(String texto)
+    {
+        escribirLinea((CharSequence) texto);
+    }
+
+    /**
+     * Copia la línea al lote actual sin convertirla en una cadena y envía el lote al
+     * escritor cuando está lleno
+     * @param texto el texto de la línea
+     */
+    public synchronized void escribirLinea(CharSequence texto)
+    {
+        if (cerrada){
+            if (pantallaActiva){
+                pantalla.println(texto);
+            }
+            return;
+        }
+        if (!isActiva()){
+            return;
+        }
+        buffer.append(texto).append('\n');
+        if (buffer.length() >= TAMAÑO_LOTE){
+            enviarLote(null, null);
+        }
+    }
+
+    /**
+     * Envía el lote actual y espera a que el escritor lo haya escrito todo
+     */
+    public void vaciar()
+    {
+        CountDownLatch escrito = new CountDownLatch(1);
+        synchronized(this){
+            if (cerrada || escritor == null && buffer.length() == 0){
+                return;
+            }
+            enviarLote(escrito, null);
+        }
+        try{
+            escrito.await();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Vacía la salida, termina el hilo escritor y cierra el fichero
+     */
+    public void cerrar()
+    {
+        vaciar();
+        Thread hilo;
+        synchronized(this){
+            if (cerrada){
+                return;
+            }
+            cerrada = true;
+            hilo = escritor;
+            if (hilo != null){
+                poner(FIN);
+            }
+        }
+        try{
+            if (hilo != null){
+                hilo.join();
+            }
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        if (fichero != null){
+            try{
+                prepararFichero();
+                fichero.close();
+            }
+            catch(IOException ioe){
+                ioe.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Envía el lote actual y devuelve la posición del fichero cuando el escritor lo haya
+     * escrito. Antes de dar la posición se vacía el fichero y se fuerza su escritura en
+     * disco, para que la marca nunca apunte a datos que se puedan perder
+     * @return la posición del fichero, en bytes, o -1 si la salida no escribe en fichero
+     */
+    public CompletableFuture<Long> marcar()
+    {
+        CompletableFuture<Long> posicion = new CompletableFuture<>();
+        synchronized(this){
+            if (cerrada || fichero == null){
+                posicion.complete(-1L);
+            }
+            else{
+                enviarLote(null, posicion);
+            }
+        }
+        return posicion;
+    }
+
+    /**
+     * Continúa el fichero desde una marca en lugar de empezarlo de nuevo: lo que haya
+     * después de la marca se descarta al escribir el primer lote
+     * @param posicion la marca, en bytes
+     * @throws IOException si el fichero es más corto que la marca
+     * @throws IllegalStateException si ya se ha escrito alguna línea
+     */
+    public synchronized void continuarEn(long posicion) throws IOException
+    {
+        if (fichero == null){
+            return;
+        }
+        if (escritor != null || buffer.length() > 0 || cerrada){
+            throw new IllegalStateException("La salida ya se ha empezado a escribir");
+        }
+        if (canal.size() < posicion){
+            throw new IOException("El fichero de salida tiene " + canal.size() + " bytes y la marca está en " + posicion);
+        }
+        inicio = posicion;
+    }
+
+    /**
+     * Indica si alguno de los destinos de la salida está activo
+     * @return true si las líneas llegan a la pantalla o al fichero
+     */
+    public synchronized boolean isActiva()
+    {
+        return pantallaActiva || ficheroActivo;
+    }
+
+    /**
+     * Indica si las líneas se muestran por pantalla
+     * @return true si la pantalla está activa
+     */
+    public synchronized boolean isPantallaActiva()
+    {
+        return pantallaActiva;
+    }
+
+    /**
+     * Activa o desactiva la pantalla para las líneas que se escriban a partir de ahora
+     * @param pantallaActiva true para mostrar las líneas por pantalla
+     */
+    public synchronized void setPantallaActiva(boolean pantallaActiva)
+    {
+        if (buffer.length() > 0){
+            enviarLote(null, null);
+        }
+        this.pantallaActiva = pantallaActiva;
+    }
+
+    /**
+     * Indica si las líneas se escriben en el fichero
+     * @return true si el fichero está activo
+     */
+    public synchronized boolean isFicheroActivo()
+    {
+        return ficheroActivo;
+    }
+
+    /**
+     * Activa o desactiva el fichero para las líneas que se escriban a partir de ahora.
+     * No tiene efecto si la salida se creó sin fichero
+     * @param ficheroActivo true para escribir las líneas en el fichero
+     */
+    public synchronized void setFicheroActivo(boolean ficheroActivo)
+    {
+        if (buffer.length() > 0){
+            enviarLote(null, null);
+        }
+        this.ficheroActivo = ficheroActivo && fichero != null;
+    }
+
+    /**
+     * Pasa el lote actual a la cola del escritor, arrancándolo si todavía no existe
+     * @param escrito cerrojo que el escritor abre tras escribir el lote, o null
+     * @param marca recibe la posición del fichero tras escribir el lote, o null
+     */
+    private void enviarLote(CountDownLatch escrito, CompletableFuture<Long> marca)
+    {
+        if (escritor == null){
+            escritor = new Thread(this::escribirLotes, "salida-campeonato");
+            escritor.setDaemon(true);
+            escritor.start();
+        }
+        poner(new Lote(buffer.toString(), pantallaActiva, ficheroActivo, escrito, marca));
+        buffer.setLength(0);
+    }
+
+    private void poner(Lote lote)
+    {
+        try{
+            cola.put(lote);
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Bucle del hilo escritor: escribe los lotes en orden hasta recibir el de fin
+     */
+    private void escribirLotes()
+    {
+        try{
+            Lote lote = cola.take();
+            while (lote != FIN){
+                if (lote.pantalla){
+                    pantalla.print(lote.texto);
+                }
+                if (lote.fichero){
+                    escribirFichero(lote.texto);
+                }
+                if (lote.escrito != null){
+                    pantalla.flush();
+                    vaciarFichero();
+                    lote.escrito.countDown();
+                }
+                if (lote.marca != null){
+                    marcarFichero(lote.marca);
+                }
+                lote = cola.take();
+            }
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void escribirFichero(String texto)
+    {
+        try
+        {
+            prepararFichero();
+            fichero.write(texto);
+        }
+        catch(IOException e)
+        {
+            System.err.println("Error al escribir en fichero");
+        }
+    }
+
+    private void vaciarFichero()
+    {
+        if (fichero == null){
+            return;
+        }
+        try
+        {
+            fichero.flush();
+        }
+        catch(IOException e)
+        {
+            System.err.println("Error al escribir en fichero");
+        }
+    }
+
+    /**
+     * Descarta lo que hay en el fichero después de la posición en la que empieza la
+     * salida. Se hace una sola vez, antes de escribir el primer lote
+     */
+    private void prepararFichero() throws IOException
+    {
+        if (!preparado){
+            canal.truncate(inicio);
+            canal.position(inicio);
+            preparado = true;
+        }
+    }
+
+    private void marcarFichero(CompletableFuture<Long> marca)
+    {
+        try
+        {
+            prepararFichero();
+            fichero.flush();
+            canal.force(false);
+            marca.complete(canal.position());
+        }
+        catch(IOException e)
+        {
+            marca.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Lote de líneas junto con los destinos activos cuando se escribieron
+     */
+    private static class Lote
+    {
+        private final String texto;
+        private final boolean pantalla;
+        private final boolean fichero;
+        private final CountDownLatch escrito;
+        private final CompletableFuture<Long> marca;
+
+        Lote(String texto, boolean pantalla, boolean fichero, CountDownLatch escrito, CompletableFuture<Long> marca)
+        {
+            this.texto = texto;
+            this.pantalla = pantalla;
+            this.fichero = fichero;
+            this.escrito = escrito;
+            this.marca = marca;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Pruebas de la salida asíncrona de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class SalidaAsincronaTest
+{
+    @TempDir
+    Path directorio;
+
+    /**
+     * Default constructor for test class SalidaAsincronaTest
+     */
+    public SalidaAsincronaTest()
+    {
+    }
+
+    /**
+     * Las líneas llegan al fichero en orden al vaciar la salida, y las escritas con el
+     * fichero desactivado no llegan
+     */
+    @Test
+    public void escribirFicheroTest() throws IOException
+    {
+        Path fichero = directorio.resolve("salida.txt");
+        SalidaAsincrona salida = new SalidaAsincrona(fichero.toString(), false);
+        salida.escribirLinea("***** Ronda---->>>: 1");
+        salida.escribirLinea("  #### Juego ------------>>>: 0");
+        salida.vaciar();
+        assertEquals("***** Ronda---->>>: 1\n  #### Juego ------------>>>: 0\n",
+                     Files.readString(fichero, StandardCharsets.UTF_8));
+
+        salida.setFicheroActivo(false);
+        assertFalse(salida.isActiva());
+        salida.escribirLinea("no se escribe");
+        salida.setFicheroActivo(true);
+        salida.escribirLinea("***** Ronda---->>>: 2");
+        salida.cerrar();
+        assertEquals("***** Ronda---->>>: 1\n  #### Juego ------------>>>: 0\n***** Ronda---->>>: 2\n",
+                     Files.readString(fichero, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Muchas líneas ocupan varios lotes y llegan todas al fichero
+     */
+    @Test
+    public void variosLotesTest() throws IOException
+    {
+        Path fichero = directorio.resolve("lotes.txt");
+        SalidaAsincrona salida = new SalidaAsincrona(fichero.toString(), false);
+        for (int i = 0; i < 100000; i++){
+            salida.escribirLinea("Linea " + i);
+        }
+        salida.cerrar();
+        assertEquals(100000, Files.readAllLines(fichero, StandardCharsets.UTF_8).size());
+    }
+
+    /**
+     * Sin fichero ni pantalla la salida no está activa
+     */
+    @Test
+    public void sinDestinoTest()
+    {
+        SalidaAsincrona salida = new SalidaAsincrona(null, false);
+        assertFalse(salida.isActiva());
+        salida.setFicheroActivo(true);
+        assertFalse(salida.isFicheroActivo());
+        salida.escribirLinea("no se escribe");
+        salida.cerrar();
+    }
+
+    /**
+     * La marca da la posición del fichero tras las líneas escritas, y una salida nueva que
+     * continúa en la marca descarta lo que había después
+     */
+    @Test
+    public void marcarContinuarTest() throws IOException
+    {
+        Path fichero = directorio.resolve("marca.txt");
+        SalidaAsincrona salida = new SalidaAsincrona(fichero.toString(), false);
+        salida.escribirLinea("Ronda 1");
+        long marca = salida.marcar().join();
+        assertEquals(8, marca);
+        salida.escribirLinea("Ronda 2 a medias");
+        salida.cerrar();
+
+        SalidaAsincrona continuacion = new SalidaAsincrona(fichero.toString(), false);
+        assertEquals("Ronda 1\nRonda 2 a medias\n", Files.readString(fichero, StandardCharsets.UTF_8));
+        continuacion.continuarEn(marca);
+        continuacion.escribirLinea("Ronda 2");
+        continuacion.cerrar();
+        assertEquals("Ronda 1\nRonda 2\n", Files.readString(fichero, StandardCharsets.UTF_8));
+
+        SalidaAsincrona corta = new SalidaAsincrona(fichero.toString(), false);
+        assertThrows(IOException.class, () -> corta.continuarEn(1000));
+        corta.escribirLinea("Nuevo");
+        assertThrows(IllegalStateException.class, () -> corta.continuarEn(0));
+        corta.cerrar();
+        assertEquals("Nuevo\n", Files.readString(fichero, StandardCharsets.UTF_8));
+        assertEquals(-1, new SalidaAsincrona(null, false).marcar().join());
+    }
+}
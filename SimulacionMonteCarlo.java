@@ -0,0 +1,388 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Simulación de Monte Carlo de un campeonato. En lugar de disputar un único campeonato
+ * determinista, se disputan muchos campeonatos independientes en paralelo, cada uno con un
+ * orden del cuadro aleatorio, el saque y el resto de cada tenista perturbados y las
+ * raquetas repartidas al azar. Al final se obtiene, para cada tenista, la probabilidad de
+ * llegar a cada ronda y de ganar el campeonato, con su intervalo de confianza del 95%.
+ *
+ * Los partidos se calculan con las mismas fórmulas que Tenista.jugar y el mismo criterio
+ * de desempate que el campeonato, pero sin modificar a los tenistas, sin escribir nada y
+ * sin cambios de raqueta ni de zapatillas durante el campeonato: cada tenista juega con
+ * sus zapatillas actuales y con la raqueta que le toca en el sorteo.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class SimulacionMonteCarlo
+{
+    private static final int SIMULACIONES_POR_TAREA = 4096;
+    private static final double Z_95 = 1.959963984540054;
+
+    private final List<Tenista> tenistas;
+    private final int numeroTenistas;
+    private final int numeroRondas;
+    private final double perturbacion;
+    private final double[] saque;
+    private final double[] resto;
+    private final double[] zapatillaSaque;
+    private final double[] zapatillaResto;
+    private final int[] tipo;
+    private final double[] velocidadPotencia;
+    private final double[] velocidadControl;
+    private final double[][] golpe;
+    private final LongAdder[] llegadas;
+    private long simulaciones;
+
+    /**
+     * Constructor de la clase SimulacionMonteCarlo a partir de los competidores y las
+     * raquetas de un campeonato. Cada unidad de la reserva de raquetas cuenta como una
+     * raqueta que se puede repartir
+     * @param campeonato el campeonato
+     * @param perturbacion variación relativa máxima del saque y el resto, entre 0 y 1
+     */
+    public SimulacionMonteCarlo(Campeonato campeonato, double perturbacion)
+    {
+        this(campeonato.getCompetidores(), unidades(campeonato.getReservaRaquetas()), perturbacion);
+    }
+
+    /**
+     * Constructor de la clase SimulacionMonteCarlo
+     * @param tenistas los tenistas que se inscriben en cada simulación
+     * @param raquetas las raquetas que se reparten entre los tenistas
+     * @param perturbacion variación relativa máxima del saque y el resto, entre 0 y 1
+     */
+    public SimulacionMonteCarlo(List<Tenista> tenistas, Collection<Raqueta> raquetas, double perturbacion)
+    {
+        if (tenistas.isEmpty() || raquetas.isEmpty()){
+            throw new IllegalArgumentException("Hacen falta tenistas y raquetas para simular");
+        }
+        if (perturbacion < 0 || perturbacion > 1){
+            throw new IllegalArgumentException("La perturbación debe estar entre 0 y 1: " + perturbacion);
+        }
+        this.tenistas = new ArrayList<>(tenistas);
+        this.perturbacion = perturbacion;
+        numeroTenistas = tenistas.size();
+        int rondas = 0;
+        for (int n = numeroTenistas; n > 1; n = (n + 1) / 2){
+            rondas++;
+        }
+        numeroRondas = rondas;
+
+        saque = new double[numeroTenistas];
+        resto = new double[numeroTenistas];
+        zapatillaSaque = new double[numeroTenistas];
+        zapatillaResto = new double[numeroTenistas];
+        tipo = new int[numeroTenistas];
+        HashMap<Class<?>, Integer> tipos = new HashMap<>();
+        ArrayList<Tenista> representantes = new ArrayList<>();
+        for (int i = 0; i < numeroTenistas; i++){
+            Tenista t = this.tenistas.get(i);
+            saque[i] = t.getSaque();
+            resto[i] = t.getResto();
+            zapatillaSaque[i] = t.getZapatilla().calcularValorSaque();
+            zapatillaResto[i] = t.getZapatilla().calcularValorResto();
+            Integer id = tipos.get(t.getClass());
+            if (id == null){
+                id = representantes.size();
+                tipos.put(t.getClass(), id);
+                representantes.add(t);
+            }
+            tipo[i] = id;
+        }
+
+        Raqueta[] r = raquetas.toArray(new Raqueta[0]);
+        velocidadPotencia = new double[r.length];
+        velocidadControl = new double[r.length];
+        golpe = new double[representantes.size()][r.length];
+        for (int j = 0; j < r.length; j++){
+            velocidadPotencia[j] = r[j].calcularVelocidad() * r[j].calcularPotencia();
+            velocidadControl[j] = r[j].calcularVelocidad() * r[j].calcularControl();
+            for (int k = 0; k < representantes.size(); k++){
+                golpe[k][j] = representantes.get(k).calcularGolpe(r[j]);
+            }
+        }
+
+        llegadas = new LongAdder[numeroTenistas * (numeroRondas + 1)];
+        for (int i = 0; i < llegadas.length; i++){
+            llegadas[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Disputa los campeonatos en paralelo y acumula sus resultados a los de las
+     * simulaciones anteriores. Con la misma semilla se obtienen los mismos resultados
+     * @param numeroSimulaciones el número de campeonatos que se disputan
+     * @param semilla la semilla del generador de números aleatorios
+     */
+    public void simular(long numeroSimulaciones, long semilla)
+    {
+        int tareas = (int)((numeroSimulaciones + SIMULACIONES_POR_TAREA - 1) / SIMULACIONES_POR_TAREA);
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        SplittableRandom[] generadores = new SplittableRandom[tareas];
+        for (int i = 0; i < tareas; i++){
+            generadores[i] = raiz.split();
+        }
+        IntStream.range(0, tareas).parallel().forEach(i -> {
+            long desde = (long)i * SIMULACIONES_POR_TAREA;
+            int cuantas = (int)Math.min(SIMULACIONES_POR_TAREA, numeroSimulaciones - desde);
+            simularTarea(generadores[i], cuantas);
+        });
+        synchronized (this){
+            simulaciones += numeroSimulaciones;
+        }
+    }
+
+    /**
+     * Devuelve el número de campeonatos simulados hasta ahora
+     * @return el número de simulaciones
+     */
+    public synchronized long getSimulaciones()
+    {
+        return simulaciones;
+    }
+
+    /**
+     * Devuelve el número de rondas de cada campeonato
+     * @return el número de rondas
+     */
+    public int getNumeroRondas()
+    {
+        return numeroRondas;
+    }
+
+    /**
+     * Devuelve un tenista de la simulación
+     * @param tenista posición del tenista en la lista de la simulación
+     * @return el tenista
+     */
+    public Tenista getTenista(int tenista)
+    {
+        return tenistas.get(tenista);
+    }
+
+    /**
+     * Devuelve la probabilidad estimada de que un tenista llegue a una ronda. La ronda
+     * siguiente a la última corresponde a ganar el campeonato
+     * @param tenista posición del tenista en la lista de la simulación
+     * @param ronda la ronda, empezando en 1
+     * @return la probabilidad estimada
+     */
+    public double getProbabilidadRonda(int tenista, int ronda)
+    {
+        long n = getSimulaciones();
+        return n == 0 ? 0 : (double)getLlegadas(tenista, ronda) / n;
+    }
+
+    /**
+     * Devuelve la probabilidad estimada de que un tenista gane el campeonato
+     * @param tenista posición del tenista en la lista de la simulación
+     * @return la probabilidad estimada
+     */
+    public double getProbabilidadCampeon(int tenista)
+    {
+        return getProbabilidadRonda(tenista, numeroRondas + 1);
+    }
+
+    /**
+     * Devuelve el intervalo de confianza del 95% de la probabilidad de que un tenista
+     * llegue a una ronda, calculado con el intervalo de Wilson
+     * @param tenista posición del tenista en la lista de la simulación
+     * @param ronda la ronda, empezando en 1
+     * @return los extremos inferior y superior del intervalo
+     */
+    public double[] getIntervaloConfianza(int tenista, int ronda)
+    {
+        long n = getSimulaciones();
+        if (n == 0){
+            return new double[] {0, 1};
+        }
+        double p = (double)getLlegadas(tenista, ronda) / n;
+        double z2 = Z_95 * Z_95;
+        double centro = (p + z2 / (2 * n)) / (1 + z2 / n);
+        double margen = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n)) / (1 + z2 / n);
+        return new double[] {Math.max(0, centro - margen), Math.min(1, centro + margen)};
+    }
+
+    /**
+     * Devuelve un informe con la probabilidad de ganar de cada tenista, de mayor a menor,
+     * y la probabilidad de llegar a cada ronda
+     * @return el informe
+     */
+    public String informe()
+    {
+        Integer[] orden = new Integer[numeroTenistas];
+        for (int i = 0; i < numeroTenistas; i++){
+            orden[i] = i;
+        }
+        Arrays.sort(orden, (a, b) -> Long.compare(getLlegadas(b, numeroRondas + 1), getLlegadas(a, numeroRondas + 1)));
+        StringBuilder builder = new StringBuilder();
+        builder.append("***** Simulación de Monte Carlo: ").append(getSimulaciones()).append(" campeonatos *****\n");
+        for (int i: orden){
+            double[] intervalo = getIntervaloConfianza(i, numeroRondas + 1);
+            builder.append(String.format("  %-25s gana: %7.4f%%  [%7.4f%%, %7.4f%%]  rondas:",
+                                         tenistas.get(i).getNombre(), 100 * getProbabilidadCampeon(i),
+                                         100 * intervalo[0], 100 * intervalo[1]));
+            for (int ronda = 2; ronda <= numeroRondas; ronda++){
+                builder.append(String.format(" %6.2f%%", 100 * getProbabilidadRonda(i, ronda)));
+            }
+            builder.append("\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Simula el campeonato de InitTennisData
+     * @param args el número de simulaciones, la perturbación y la semilla, todos opcionales
+     */
+    public static void main(String[] args)
+    {
+        long numero = args.length > 0 ? Long.parseLong(args[0]) : 1000000;
+        double perturbacion = args.length > 1 ? Double.parseDouble(args[1]) : 0.1;
+        long semilla = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        Campeonato campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Simulación de Monte Carlo", null);
+        new InitTennisData(campeonato);
+        SimulacionMonteCarlo simulacion = new SimulacionMonteCarlo(campeonato, perturbacion);
+        long inicio = System.nanoTime();
+        simulacion.simular(numero, semilla);
+        long nanos = System.nanoTime() - inicio;
+        System.out.print(simulacion.informe());
+        System.out.printf("%d campeonatos en %.2f s%n", numero, nanos / 1e9);
+        campeonato.reset();
+    }
+
+    private long getLlegadas(int tenista, int ronda)
+    {
+        return llegadas[tenista * (numeroRondas + 1) + ronda - 1].sum();
+    }
+
+    /**
+     * Disputa un bloque de campeonatos con su propio generador y contadores locales, que
+     * se suman a los compartidos al terminar
+     */
+    private void simularTarea(SplittableRandom aleatorio, int cuantas)
+    {
+        int niveles = numeroRondas + 1;
+        long[] cuenta = new long[numeroTenistas * niveles];
+        int[] cuadro = new int[numeroTenistas];
+        int[] reparto = new int[velocidadPotencia.length];
+        double[] puntosSaque = new double[numeroTenistas];
+        double[] puntosResto = new double[numeroTenistas];
+        double[] puntosGolpe = new double[numeroTenistas];
+        double[] desempate = new double[numeroTenistas];
+        for (int j = 0; j < reparto.length; j++){
+            reparto[j] = j;
+        }
+
+        for (int s = 0; s < cuantas; s++){
+            sortearMaterial(aleatorio, reparto, puntosSaque, puntosResto, puntosGolpe, desempate);
+            for (int i = 0; i < numeroTenistas; i++){
+                cuadro[i] = i;
+            }
+            barajar(aleatorio, cuadro, numeroTenistas);
+
+            int tamaño = numeroTenistas;
+            for (int ronda = 0; ronda < numeroRondas; ronda++){
+                for (int i = 0; i < tamaño; i++){
+                    cuenta[cuadro[i] * niveles + ronda]++;
+                }
+                int partidos = tamaño / 2;
+                for (int i = 0; i < partidos; i++){
+                    int a = cuadro[i];
+                    int b = cuadro[tamaño - 1 - i];
+                    cuadro[i] = gana(a, b, puntosSaque, puntosResto, puntosGolpe, desempate) ? a : b;
+                }
+                // Con un número impar, el tenista del centro pasa sin jugar y ya está en su sitio
+                tamaño = (tamaño + 1) / 2;
+            }
+            cuenta[cuadro[0] * niveles + numeroRondas]++;
+        }
+
+        for (int i = 0; i < cuenta.length; i++){
+            if (cuenta[i] != 0){
+                llegadas[i].add(cuenta[i]);
+            }
+        }
+    }
+
+    /**
+     * Reparte las raquetas al azar, sin repetir si hay suficientes, y calcula el saque,
+     * el resto y el golpeo perturbados de cada tenista
+     */
+    private void sortearMaterial(SplittableRandom aleatorio, int[] reparto, double[] puntosSaque,
+                                 double[] puntosResto, double[] puntosGolpe, double[] desempate)
+    {
+        boolean sinRepetir = reparto.length >= numeroTenistas;
+        if (sinRepetir){
+            barajar(aleatorio, reparto, numeroTenistas);
+        }
+        for (int i = 0; i < numeroTenistas; i++){
+            int r = sinRepetir ? reparto[i] : aleatorio.nextInt(reparto.length);
+            double s = saque[i] * (1 + perturbacion * (2 * aleatorio.nextDouble() - 1));
+            double re = resto[i] * (1 + perturbacion * (2 * aleatorio.nextDouble() - 1));
+            puntosSaque[i] = velocidadPotencia[r] * zapatillaSaque[i] * s;
+            puntosResto[i] = velocidadControl[r] * zapatillaResto[i] * re;
+            puntosGolpe[i] = golpe[tipo[i]][r];
+            desempate[i] = s + re;
+        }
+    }
+
+    /**
+     * Devuelve una lista con una raqueta por cada unidad de la reserva
+     */
+    private static List<Raqueta> unidades(ReservaRaquetas reserva)
+    {
+        List<Raqueta> lista = new ArrayList<>(reserva.getTamaño());
+        for (Raqueta r: reserva){
+            for (int i = reserva.getUnidades(r); i > 0; i--){
+                lista.add(r);
+            }
+        }
+        return lista;
+    }
+
+    /**
+     * Decide el partido igual que Campeonato.resultadoPartido: gana quien suma más puntos
+     * y, con empate, el primero si su saque más su resto es menor que los del segundo
+     */
+    private static boolean gana(int a, int b, double[] puntosSaque, double[] puntosResto,
+                                double[] puntosGolpe, double[] desempate)
+    {
+        double puntosA = puntosSaque[a] + puntosGolpe[a];
+        double puntosB = puntosSaque[b] + puntosGolpe[b];
+        if (puntosResto[a] > puntosSaque[b]){
+            puntosA += puntosResto[a];
+        }
+        if (puntosResto[b] > puntosSaque[a]){
+            puntosB += puntosResto[b];
+        }
+        if (puntosA == puntosB){
+            return desempate[a] < desempate[b];
+        }
+        return puntosA > puntosB;
+    }
+
+    /**
+     * Baraja los primeros elementos de un array con el algoritmo de Fisher-Yates. Con
+     * menos elementos que el array, los elegidos quedan al principio
+     */
+    private static void barajar(SplittableRandom aleatorio, int[] valores, int elegidos)
+    {
+        for (int i = 0; i < elegidos && i < valores.length - 1; i++){
+            int j = i + aleatorio.nextInt(valores.length - i);
+            int aux = valores[i];
+            valores[i] = valores[j];
+            valores[j] = aux;
+        }
+    }
+}
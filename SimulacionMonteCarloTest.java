@@ -0,0 +1,76 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de la simulación de Monte Carlo de un campeonato
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class SimulacionMonteCarloTest
+{
+    private Campeonato campeonato;
+
+    /**
+     * Default constructor for test class SimulacionMonteCarloTest
+     */
+    public SimulacionMonteCarloTest()
+    {
+    }
+
+    /**
+     * Carga los datos de InitTennisData en un campeonato sin salida a fichero
+     */
+    @BeforeEach
+    public void setUp()
+    {
+        campeonato = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de MonteCarloTest", null);
+        new InitTennisData(campeonato);
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        campeonato.reset();
+    }
+
+    /**
+     * Todos los tenistas juegan la primera ronda y exactamente uno gana cada campeonato
+     */
+    @Test
+    public void probabilidadesTest()
+    {
+        SimulacionMonteCarlo simulacion = new SimulacionMonteCarlo(campeonato, 0.1);
+        simulacion.simular(20000, 1);
+        assertEquals(20000, simulacion.getSimulaciones());
+        assertEquals(3, simulacion.getNumeroRondas());
+        double total = 0;
+        for (int i = 0; i < campeonato.getCompetidores().size(); i++){
+            assertEquals(1.0, simulacion.getProbabilidadRonda(i, 1));
+            double p = simulacion.getProbabilidadCampeon(i);
+            double[] intervalo = simulacion.getIntervaloConfianza(i, simulacion.getNumeroRondas() + 1);
+            assertTrue(intervalo[0] <= p && p <= intervalo[1]);
+            total += p;
+        }
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    /**
+     * Con la misma semilla se obtienen los mismos resultados, aunque se simule en paralelo
+     */
+    @Test
+    public void mismaSemillaTest()
+    {
+        SimulacionMonteCarlo a = new SimulacionMonteCarlo(campeonato, 0.2);
+        SimulacionMonteCarlo b = new SimulacionMonteCarlo(campeonato, 0.2);
+        a.simular(50000, 99);
+        b.simular(50000, 99);
+        for (int i = 0; i < campeonato.getCompetidores().size(); i++){
+            assertEquals(a.getProbabilidadCampeon(i), b.getProbabilidadCampeon(i));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+import java.util.Arrays;
+
+/**
+ * Tabla inmutable que asocia un valor a cada medida de una raqueta. Guarda los puntos de
+ * la tabla en dos arrays de double ordenados por medida, de forma que consultar un valor
+ * es una búsqueda binaria sin crear objetos. Las medidas que no están en la tabla se
+ * interpolan entre los dos puntos más cercanos, de forma lineal o por escalones, y las
+ * que quedan fuera se ajustan al primer o al último punto.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public final class TablaInterpolada
+{
+    /**
+     * Forma de calcular el valor de una medida que está entre dos puntos de la tabla
+     */
+    public enum Interpolacion
+    {
+        /** Recta entre los dos puntos */
+        LINEAL,
+        /** Valor del punto anterior */
+        ESCALON
+    }
+
+    private final double[] medidas;
+    private final double[] valores;
+    private final Interpolacion interpolacion;
+
+    /**
+     * Constructor de la clase TablaInterpolada
+     * @param medidas las medidas de los puntos, en orden estrictamente creciente
+     * @param valores el valor de cada medida
+     * @param interpolacion cómo se calculan las medidas que no están en la tabla
+     * @throws IllegalArgumentException si la tabla está vacía, los arrays no tienen la
+     * misma longitud o las medidas no están ordenadas
+     */
+    public TablaInterpolada(double[] medidas, double[] valores, Interpolacion interpolacion)
+    {
+        if (medidas.length == 0 || medidas.length != valores.length){
+            throw new IllegalArgumentException("La tabla necesita el mismo número, no nulo, de medidas y valores");
+        }
+        for (int i = 1; i < medidas.length; i++){
+            if (!(medidas[i - 1] < medidas[i])){
+                throw new IllegalArgumentException("Las medidas de la tabla deben estar ordenadas: " + medidas[i]);
+            }
+        }
+        this.medidas = medidas.clone();
+        this.valores = valores.clone();
+        this.interpolacion = interpolacion;
+    }
+
+    /**
+     * Devuelve el valor asociado a una medida
+     * @param medida la medida
+     * @return el valor de la tabla si la medida está en ella, o el valor interpolado
+     */
+    public double valor(double medida)
+    {
+        int i = Arrays.binarySearch(medidas, medida);
+        if (i >= 0){
+            return valores[i];
+        }
+        int siguiente = -i - 1;
+        if (siguiente == 0){
+            return valores[0];
+        }
+        if (siguiente == medidas.length){
+            return valores[medidas.length - 1];
+        }
+        int anterior = siguiente - 1;
+        if (interpolacion == Interpolacion.ESCALON){
+            return valores[anterior];
+        }
+        double proporcion = (medida - medidas[anterior]) / (medidas[siguiente] - medidas[anterior]);
+        return valores[anterior] + proporcion * (valores[siguiente] - valores[anterior]);
+    }
+
+    /**
+     * Indica si una medida es uno de los puntos de la tabla
+     * @param medida la medida
+     * @return true si la medida está en la tabla
+     */
+    public boolean contiene(double medida)
+    {
+        return Arrays.binarySearch(medidas, medida) >= 0;
+    }
+
+    /**
+     * Devuelve el número de puntos de la tabla
+     * @return el número de puntos
+     */
+    public int getTamaño()
+    {
+        return medidas.length;
+    }
+
+    /**
+     * Devuelve la forma de interpolar de la tabla
+     * @return la interpolación
+     */
+    public Interpolacion getInterpolacion()
+    {
+        return interpolacion;
+    }
+}
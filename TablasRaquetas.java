@@ -1,9 +1,28 @@
-import java.util.HashMap;
-import java.util.Map;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
 /**
  * Tablas inmutables que contienen los valores de potencia, control y longitud
  * de las raquetas según su longitud, tamaño de cabeza y peso respectivamente.
- * 
+ *
+ * Cada tabla es una TablaInterpolada, así que las consultas no crean objetos y las
+ * medidas que no están en la tabla se interpolan en lugar de fallar. Las tablas por
+ * defecto se pueden sustituir por las de un fichero con cargar; el fichero tiene una
+ * sección por tabla (potencia, control y velocidad) con su interpolación, seguida de una
+ * línea por punto con la medida y el valor:
+ *
+ *     # longitud (mm) -> potencia
+ *     [potencia] lineal
+ *     680 2
+ *     690 4
+ *
+ * Las raquetas guardan sus valores la primera vez que los calculan, así que las tablas
+ * deben cargarse antes de usar las raquetas.
+ *
  * @author David Bonilla
  * @author Antonio Javier Hidalgo
  * @author Juan Francisco García
@@ -11,45 +30,61 @@ import java.util.Map;
  */
 public class TablasRaquetas
 {
-    private static final Map<Double, Double> mapaLongitudPotencia = Map.of(
-        680.0, 2.0, 
-        690.0, 4.0, 
-        700.0, 6.0, 
-        720.0, 8.0, 
-        740.0, 10.0
-    );
-    private static final Map<Double, Double> mapaCabezaControl = Map.of(
-        600.0, 10.0, 
-        630.0, 8.0, 
-        650.0, 6.0, 
-        680.0, 4.0, 
-        720.0, 2.0
-    );
-    private static final Map<Double, Double> mapaPesoVelocidad = Map.of(
-        220.0, 10.0, 
-        260.0, 8.0, 
-        300.0, 6.0, 
-        320.0, 4.0, 
-        340.0, 2.0
-    );
-    
-    
+    private static final TablaInterpolada LONGITUD_POTENCIA = new TablaInterpolada(
+        new double[] {680.0, 690.0, 700.0, 720.0, 740.0},
+        new double[] {  2.0,   4.0,   6.0,   8.0,  10.0},
+        TablaInterpolada.Interpolacion.LINEAL);
+    private static final TablaInterpolada CABEZA_CONTROL = new TablaInterpolada(
+        new double[] {600.0, 630.0, 650.0, 680.0, 720.0},
+        new double[] { 10.0,   8.0,   6.0,   4.0,   2.0},
+        TablaInterpolada.Interpolacion.LINEAL);
+    private static final TablaInterpolada PESO_VELOCIDAD = new TablaInterpolada(
+        new double[] {220.0, 260.0, 300.0, 320.0, 340.0},
+        new double[] { 10.0,   8.0,   6.0,   4.0,   2.0},
+        TablaInterpolada.Interpolacion.LINEAL);
+
+    private static volatile TablaInterpolada longitudPotencia = LONGITUD_POTENCIA;
+    private static volatile TablaInterpolada cabezaControl = CABEZA_CONTROL;
+    private static volatile TablaInterpolada pesoVelocidad = PESO_VELOCIDAD;
+
+    /**
+     * Devuelve la potencia asociada a la raqueta según su longitud
+     * @return potencia asociada a la raqueta según su longitud
+     */
+    public static double potencia(double longitud){
+        return longitudPotencia.valor(longitud);
+    }
+
+    /**
+     * Devuelve el control asociado a la raqueta según su tamaño de cabeza
+     * @return control asociado a la raqueta según su tamaño de cabeza
+     */
+    public static double control(double tamcabeza){
+        return cabezaControl.valor(tamcabeza);
+    }
+
+    /**
+     * Devuelve la velocidad asociada a la raqueta según su peso
+     * @return velocidad asociada a la raqueta según su peso
+     */
+    public static double velocidad(double peso){
+        return pesoVelocidad.valor(peso);
+    }
+
     /**
      * Devuelve la potencia asociada a la raqueta según su longitud
      * @return potencia asociada a la raqueta según su longitud
      */
     public static Double getMapaLongitudPotencia(double longitud){
-        Double potencia = mapaLongitudPotencia.get(longitud);
-        return potencia;
+        return potencia(longitud);
     }
-    
+
     /**
      * Devuelve el control asociado a la raqueta según su tamaño de cabeza
      * @return control asociado a la raqueta según su tamaño de cabeza
      */
     public static Double getMapaCabezaControl(double tamcabeza){
-        Double control = mapaCabezaControl.get(tamcabeza);
-        return control;
+        return control(tamcabeza);
     }
 
     /**
@@ -57,8 +92,151 @@ public class TablasRaquetas
      * @return velocidad asociada a la raqueta según su peso
      */
     public static Double getMapaPesoVelocidad(double peso){
-        Double velocidad = mapaPesoVelocidad.get(peso);
-        return velocidad;
+        return velocidad(peso);
+    }
+
+    /**
+     * Sustituye las tablas por las de un fichero. Las tablas que no aparecen en el
+     * fichero se quedan como estaban
+     * @param fichero el fichero de tablas
+     * @throws IOException si no se puede leer el fichero o su formato no es válido
+     */
+    public static synchronized void cargar(Path fichero) throws IOException
+    {
+        TablaInterpolada potencia = longitudPotencia;
+        TablaInterpolada control = cabezaControl;
+        TablaInterpolada velocidad = pesoVelocidad;
+
+        String seccion = null;
+        TablaInterpolada.Interpolacion interpolacion = null;
+        double[] medidas = new double[16];
+        double[] valores = new double[16];
+        int puntos = 0;
+        int numeroLinea = 0;
+        try (BufferedReader lector = Files.newBufferedReader(fichero, StandardCharsets.UTF_8)){
+            String linea;
+            while (true){
+                linea = lector.readLine();
+                numeroLinea++;
+                String texto = linea == null ? null : quitarComentario(linea);
+                if (linea != null && texto.isEmpty()){
+                    continue;
+                }
+                if (linea == null || texto.startsWith("[")){
+                    if (seccion != null){
+                        TablaInterpolada tabla = crearTabla(fichero, seccion, medidas, valores, puntos, interpolacion);
+                        if (seccion.equals("potencia")){
+                            potencia = tabla;
+                        }
+                        else if (seccion.equals("control")){
+                            control = tabla;
+                        }
+                        else{
+                            velocidad = tabla;
+                        }
+                    }
+                    if (linea == null){
+                        break;
+                    }
+                    int cierre = texto.indexOf(']');
+                    if (cierre < 0){
+                        throw new IOException(fichero + ":" + numeroLinea + ": falta el ']' de la sección");
+                    }
+                    seccion = texto.substring(1, cierre).trim().toLowerCase(Locale.ROOT);
+                    if (!seccion.equals("potencia") && !seccion.equals("control") && !seccion.equals("velocidad")){
+                        throw new IOException(fichero + ":" + numeroLinea + ": tabla desconocida: " + seccion);
+                    }
+                    interpolacion = leerInterpolacion(fichero, numeroLinea, texto.substring(cierre + 1).trim());
+                    puntos = 0;
+                }
+                else{
+                    if (seccion == null){
+                        throw new IOException(fichero + ":" + numeroLinea + ": punto fuera de una sección");
+                    }
+                    String[] campos = texto.split("[\\s,;]+");
+                    if (campos.length != 2){
+                        throw new IOException(fichero + ":" + numeroLinea + ": se esperaba 'medida valor'");
+                    }
+                    if (puntos == medidas.length){
+                        medidas = Arrays.copyOf(medidas, 2 * puntos);
+                        valores = Arrays.copyOf(valores, 2 * puntos);
+                    }
+                    try{
+                        medidas[puntos] = Double.parseDouble(campos[0]);
+                        valores[puntos] = Double.parseDouble(campos[1]);
+                    }
+                    catch(NumberFormatException e){
+                        throw new IOException(fichero + ":" + numeroLinea + ": número no válido", e);
+                    }
+                    puntos++;
+                }
+            }
+        }
+        longitudPotencia = potencia;
+        cabezaControl = control;
+        pesoVelocidad = velocidad;
+    }
+
+    /**
+     * Vuelve a las tablas por defecto
+     */
+    public static synchronized void restablecer()
+    {
+        longitudPotencia = LONGITUD_POTENCIA;
+        cabezaControl = CABEZA_CONTROL;
+        pesoVelocidad = PESO_VELOCIDAD;
+    }
+
+    private static String quitarComentario(String linea)
+    {
+        int almohadilla = linea.indexOf('#');
+        return (almohadilla < 0 ? linea : linea.substring(0, almohadilla)).trim();
+    }
+
+    private static TablaInterpolada.Interpolacion leerInterpolacion(Path fichero, int numeroLinea, String texto)
+        throws IOException
+    {
+        if (texto.isEmpty() || texto.equalsIgnoreCase("lineal")){
+            return TablaInterpolada.Interpolacion.LINEAL;
+        }
+        if (texto.equalsIgnoreCase("escalon") || texto.equalsIgnoreCase("escalón")){
+            return TablaInterpolada.Interpolacion.ESCALON;
+        }
+        throw new IOException(fichero + ":" + numeroLinea + ": interpolación desconocida: " + texto);
+    }
+
+    private static TablaInterpolada crearTabla(Path fichero, String seccion, double[] medidas, double[] valores,
+                                               int puntos, TablaInterpolada.Interpolacion interpolacion)
+        throws IOException
+    {
+        double[] m = Arrays.copyOf(medidas, puntos);
+        double[] v = Arrays.copyOf(valores, puntos);
+        ordenarPorMedida(m, v);
+        try{
+            return new TablaInterpolada(m, v, interpolacion);
+        }
+        catch(IllegalArgumentException e){
+            throw new IOException(fichero + ": tabla " + seccion + " no válida: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ordena los puntos por medida, para que el fichero no tenga que estar ordenado. Con
+     * un fichero ya ordenado solo recorre los puntos una vez
+     */
+    private static void ordenarPorMedida(double[] medidas, double[] valores)
+    {
+        for (int i = 1; i < medidas.length; i++){
+            double m = medidas[i];
+            double v = valores[i];
+            int j = i - 1;
+            while (j >= 0 && medidas[j] > m){
+                medidas[j + 1] = medidas[j];
+                valores[j + 1] = valores[j];
+                j--;
+            }
+            medidas[j + 1] = m;
+            valores[j + 1] = v;
+        }
     }
-    
 }
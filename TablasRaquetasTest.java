@@ -0,0 +1,87 @@
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Pruebas de las tablas de las raquetas y de su interpolación
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class TablasRaquetasTest
+{
+    @TempDir
+    Path directorio;
+
+    /**
+     * Default constructor for test class TablasRaquetasTest
+     */
+    public TablasRaquetasTest()
+    {
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        TablasRaquetas.restablecer();
+    }
+
+    /**
+     * Las medidas de las tablas originales devuelven los mismos valores
+     */
+    @Test
+    public void medidasOriginalesTest()
+    {
+        assertEquals(2.0, TablasRaquetas.potencia(680));
+        assertEquals(8.0, TablasRaquetas.potencia(720));
+        assertEquals(10.0, TablasRaquetas.control(600));
+        assertEquals(2.0, TablasRaquetas.control(720));
+        assertEquals(8.0, TablasRaquetas.velocidad(260));
+        assertEquals(2.0, TablasRaquetas.velocidad(340));
+        assertEquals(Double.valueOf(4.0), TablasRaquetas.getMapaLongitudPotencia(690));
+    }
+
+    /**
+     * Las medidas que no están en la tabla se interpolan y las de fuera se ajustan a
+     * los extremos
+     */
+    @Test
+    public void interpolacionTest()
+    {
+        assertEquals(5.0, TablasRaquetas.potencia(695), 1e-12);
+        assertEquals(9.0, TablasRaquetas.velocidad(240), 1e-12);
+        assertEquals(2.0, TablasRaquetas.potencia(600));
+        assertEquals(2.0, TablasRaquetas.velocidad(400));
+
+        TablaInterpolada escalon = new TablaInterpolada(new double[] {1, 2, 3}, new double[] {10, 20, 30},
+                                                        TablaInterpolada.Interpolacion.ESCALON);
+        assertEquals(10, escalon.valor(1.9));
+        assertEquals(20, escalon.valor(2));
+        assertThrows(IllegalArgumentException.class,
+            () -> new TablaInterpolada(new double[] {2, 1}, new double[] {1, 2}, TablaInterpolada.Interpolacion.LINEAL));
+    }
+
+    /**
+     * Se cargan tablas de un fichero y las que no aparecen se quedan como estaban
+     */
+    @Test
+    public void cargarTest() throws IOException
+    {
+        Path fichero = directorio.resolve("tablas.txt");
+        Files.writeString(fichero, "# pruebas\n[potencia] escalon\n700 1\n650 0.5  # desordenado\n\n[control]\n600 3\n");
+        TablasRaquetas.cargar(fichero);
+        assertEquals(0.5, TablasRaquetas.potencia(690));
+        assertEquals(3.0, TablasRaquetas.control(650));
+        assertEquals(8.0, TablasRaquetas.velocidad(260));
+
+        Files.writeString(fichero, "[peso]\n1 2\n");
+        assertThrows(IOException.class, () -> TablasRaquetas.cargar(fichero));
+        assertEquals(0.5, TablasRaquetas.potencia(690));
+    }
+}
@@ -23,6 +23,11 @@ public abstract class Tenista
     private int posEliminado;
     private double numPie;
     private Raqueta raqueta;
+    private Campeonato campeonato;
+    private boolean perfilValido;
+    private double valorSaque;
+    private double valorResto;
+    private double valorGolpe;
 
     /**
      * Constructor parametrizado de la clase Tenista
@@ -48,7 +53,16 @@ public abstract class Tenista
      */
     public void realizarInscripcion()
     {
-        Campeonato.getInstance("Campeonato de Extremadura").inscripcionCompetidores(this);
+        realizarInscripcion(Campeonato.getInstance("Campeonato de Extremadura"));
+    }
+    
+    /**
+     * Metodo encargado de la inscripcion del jugador en el campeonato indicado
+     * @param campeonato el campeonato en el que se inscribe el tenista
+     */
+    public void realizarInscripcion(Campeonato campeonato)
+    {
+        campeonato.inscripcionCompetidores(this);
     }
     
     /**
@@ -73,21 +87,53 @@ public abstract class Tenista
     }
     
     /**
-     * Calcula el valor de resto del tenista según su zapatilla y raqueta
+     * Devuelve el valor de resto del tenista según su zapatilla y raqueta
      * @return valor del resto de un tenista según su zapatilla y raqueta
      */
     private double calcularResto (){
-        return zapatilla.calcularValorResto()*raqueta.calcularVelocidad()*
-            raqueta.calcularControl()*resto;
+        if (!perfilValido){
+            calcularPerfil();
+        }
+        return valorResto;
     }
 
     /**
-     * Calcula el valor de saque del tenista según su zapatilla y raqueta
+     * Devuelve el valor de saque del tenista según su zapatilla y raqueta
      * @return valor de saque del tenista según su zapatilla y raqueta
      */
     private double calcularSaque (){
-        return raqueta.calcularVelocidad()*raqueta.calcularPotencia()*
+        if (!perfilValido){
+            calcularPerfil();
+        }
+        return valorSaque;
+    }
+
+    /**
+     * Devuelve los puntos que suma el golpeo del tenista con su raqueta actual
+     * @return los puntos del golpeo
+     */
+    protected final double getValorGolpe(){
+        if (!perfilValido){
+            calcularPerfil();
+        }
+        return valorGolpe;
+    }
+
+    /**
+     * Calcula de una vez el saque, el resto y el golpeo del tenista con su material
+     * actual, para que cada partido solo tenga que leer tres campos en lugar de llamar
+     * a la raqueta y a la zapatilla, que pueden ser de cualquier tipo. Los valores se
+     * vuelven a calcular cuando cambian el saque, el resto, la raqueta o la zapatilla
+     * del tenista; si se modifica la raqueta o la zapatilla que ya lleva, hay que
+     * volver a asignársela con setRaqueta o setZapatilla
+     */
+    private void calcularPerfil(){
+        valorSaque = raqueta.calcularVelocidad()*raqueta.calcularPotencia()*
             zapatilla.calcularValorSaque()*saque;
+        valorResto = zapatilla.calcularValorResto()*raqueta.calcularVelocidad()*
+            raqueta.calcularControl()*resto;
+        valorGolpe = calcularGolpe(raqueta);
+        perfilValido = true;
     }
     
     /**
@@ -95,11 +141,34 @@ public abstract class Tenista
      * @param t2 el tenista contrincante
      */
     public final void jugar(Tenista t2)
+    {
+        sumarPuntos(t2);
+        cambiarRaqueta();
+    }
+    
+    /**
+     * Simula un partido entre dos tenistas con la raqueta nueva ya elegida de antemano,
+     * sin acceder a las raquetas del campeonato. Lo usan las rondas paralelas
+     * @param t2 el tenista contrincante
+     * @param nueva la raqueta que pasa a usar el tenista, o null si no cambia
+     */
+    final void jugar(Tenista t2, Raqueta nueva)
+    {
+        sumarPuntos(t2);
+        if (nueva != null){
+            this.setRaqueta(nueva);
+        }
+    }
+    
+    /**
+     * Suma los puntos del saque, del resto del contrincante y del golpeo
+     * @param t2 el tenista contrincante
+     */
+    private void sumarPuntos(Tenista t2)
     {
         sacar();
         t2.restar(this);
         golpear();
-        cambiarRaqueta();
     }
     
     /**
@@ -107,20 +176,52 @@ public abstract class Tenista
      */
     protected abstract void golpear();
     
+    /**
+     * Calcula los puntos que suma el golpeo del tenista con una raqueta
+     * @param raqueta la raqueta con la que golpea
+     * @return los puntos del golpeo
+     */
+    protected abstract double calcularGolpe(Raqueta raqueta);
+    
     /**
      * Metodo encargado de cambiar la raqueta del tenista cada vez que empiece 
      * una nueva ronda del torneo.
      */
     protected void cambiarRaqueta(){
-        Raqueta r = Campeonato.getInstance("Campeonato de Extremadura").getRaquetasCampeonato().first();
+        Raqueta r = elegirNuevaRaqueta();
+        if (r != null){
+            this.setRaqueta(r);
+        }
+        mostrarCambioRaqueta(r);
+    }
+    
+    /**
+     * Elige la raqueta por la que el tenista cambia la suya y la retira de las 
+     * raquetas del campeonato. Por defecto se elige la de mayor potencia
+     * @return la raqueta elegida, o null si no hay ninguna
+     */
+    protected Raqueta elegirNuevaRaqueta(){
+        return campeonato.getReservaRaquetas().tomarMejor();
+    }
+    
+    /**
+     * Muestra y registra si el tenista ha cambiado de raqueta
+     * @param r la raqueta nueva del tenista, o null si no ha cambiado
+     */
+    void mostrarCambioRaqueta(Raqueta r){
+        RegistroEventos eventos = campeonato.getRegistroEventos();
+        if (eventos != null){
+            eventos.cambioRaqueta(this, r);
+        }
+        if (!campeonato.isSalidaActiva()){
+            return;
+        }
         if (r==null)
         {
-            Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("       "+this.getNombre()+" no cambia de raqueta ");
+            campeonato.escribirFicheroPantalla("       "+this.getNombre()+" no cambia de raqueta ");
         }
         else{
-            this.setRaqueta(r);
-            Campeonato.getInstance("Campeonato de Extremadura").borrarRaqueta(r);
-            Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("       "+this.getNombre()+" cambia su raqueta por: "+
+            campeonato.escribirFicheroPantalla("       "+this.getNombre()+" cambia su raqueta por: "+
                                this.getRaqueta().mostrarRaquetaCambiada());
         }
     }
@@ -161,15 +262,11 @@ public abstract class Tenista
      */  
     public boolean elegirZapatillaTenista (){
         boolean bandera = false;
-        Iterator <Zapatilla> it = Campeonato.getInstance("Campeonato de Extremadura").getZapatillasCampeonato().iterator();
-        while(it.hasNext() && !bandera){
-                Zapatilla z = it.next();
-                if (this.getNumPie()==z.getNumero()){
-                        this.setZapatilla(z);
-                        Campeonato.getInstance("Campeonato de Extremadura").borrarZapatilla(z);
-                        bandera=true;
-                }
-            }
+        Zapatilla z = campeonato.getReservaZapatillas().tomar(this.getNumPie());
+        if (z != null){
+                this.setZapatilla(z);
+                bandera=true;
+        }
         return bandera;
     }
     
@@ -215,6 +312,7 @@ public abstract class Tenista
     public void setResto(double resto)
     {
         this.resto = resto;
+        this.perfilValido = false;
     }
     
     /**
@@ -233,6 +331,7 @@ public abstract class Tenista
     public void setSaque(double saque)
     {
         this.saque = saque;
+        this.perfilValido = false;
     }
     
     /**
@@ -320,6 +419,7 @@ public abstract class Tenista
     public void setZapatilla (Zapatilla zapatilla)
     {
         this.zapatilla = zapatilla;
+        this.perfilValido = false;
     }    
     
     /**
@@ -338,6 +438,25 @@ public abstract class Tenista
     public void setRaqueta (Raqueta raqueta)
     {
         this.raqueta = raqueta;
+        this.perfilValido = false;
+    }
+    
+    /**
+     * Devuelve el campeonato en el que está inscrito el tenista
+     * @return el campeonato del tenista, o null si no está inscrito
+     */  
+    public Campeonato getCampeonato()
+    {
+        return this.campeonato;
+    }
+    
+    /**
+     * Permite cambiar el campeonato en el que está inscrito el tenista
+     * @param campeonato el campeonato del tenista
+     */  
+    public void setCampeonato(Campeonato campeonato)
+    {
+        this.campeonato = campeonato;
     }
     
     /**
@@ -1,3 +1,6 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Clase que lanza la simulación del campeonato de tenis.
@@ -11,25 +14,33 @@
 public class TennisDemo {
     /**
      * Main que se encarga de instanciar una variable campeonato, llama a la carga de datos y 
-     * simula el campeonato
+     * simula el campeonato. Si se indica un punto de control y su fichero existe, el
+     * campeonato se reanuda desde la última ronda completa en lugar de cargar los datos
+     * @param args opcionalmente, el fichero CSV o JSONL del que se cargan los datos y el
+     * fichero del punto de control
      */
-    public static void main(String[] args) throws ExcepcionRaquetas {
+    public static void main(String[] args) throws ExcepcionRaquetas, IOException {
         //Creación del campeonato
         //Se instancia una variable de tipo Campeonato;
-        Campeonato Campeonato1 = Campeonato.getInstance("Campeonato de Extremadura");
+        Campeonato Campeonato1 = RegistroCampeonatos.getInstance().crearCampeonato("Campeonato de Extremadura", "salida.txt");
         
-        //Carga de datos iniciales del campeonato
-        //Se instancia una variable de tipo InitTennisData pasando la variable instanciada 
-        //de tipo campeonato como parámetro;
-        InitTennisData data = new InitTennisData(Campeonato1);
-        
-        MedioGenerico generalista = new MedioGeneralista("La Tierrina");
-        MedioGenerico deportivo = new MedioDeportivo("Anota");
-        MedioGenerico sensacionalista = new MedioSensacionalista("Adios");
-        
-        Campeonato1.añadirSubscriptor(generalista);
-        Campeonato1.añadirSubscriptor(sensacionalista);
-        Campeonato1.añadirSubscriptor(deportivo);
+        Path puntoControl = args.length > 1 ? Paths.get(args[1]) : null;
+        if (puntoControl == null || !Campeonato1.restaurarPuntoControl(puntoControl)){
+            //Carga de datos iniciales del campeonato
+            //Se instancia una variable de tipo InitTennisData pasando la variable instanciada 
+            //de tipo campeonato como parámetro;
+            InitTennisData data = args.length > 0 ? new InitTennisData(Campeonato1, Paths.get(args[0]))
+                                                  : new InitTennisData(Campeonato1);
+            
+            MedioGenerico generalista = new MedioGeneralista("La Tierrina");
+            MedioGenerico deportivo = new MedioDeportivo("Anota");
+            MedioGenerico sensacionalista = new MedioSensacionalista("Adios");
+            
+            Campeonato1.añadirSubscriptor(generalista);
+            Campeonato1.añadirSubscriptor(sensacionalista);
+            Campeonato1.añadirSubscriptor(deportivo);
+        }
+        Campeonato1.setPuntoControl(puntoControl);
 
         
         //Llamada al método que inicia la simulación del campeonato
@@ -1,6 +1,4 @@
 
-import java.util.Iterator;
-
 /**
  * La clase Voleadores representa los tenistas de tipo Voleadores
  * 
@@ -24,9 +22,20 @@ public class Voleadores extends Tenista
      */
     @Override
     public void golpear(){
-        double puntos = this.getPuntosAcumulados()+this.getRaqueta().calcularPotencia()*0.15;
+        double puntos = this.getPuntosAcumulados()+getValorGolpe();
         this.setPuntosAcumulados(puntos);
     }
+    
+    /**
+     * Calcula los puntos del golpeo según la potencia de la raqueta
+     * @param raqueta la raqueta con la que golpea
+     * @return los puntos del golpeo
+     */
+    @Override
+    protected double calcularGolpe(Raqueta raqueta){
+        return raqueta.calcularPotencia()*0.15;
+    }
+    
     /**
      * Metodo que llama al metodo cambiarRaquetaVelocidad
      */
@@ -40,21 +49,17 @@ public class Voleadores extends Tenista
      * raqueta con mayor velocidad que la que tiene el tenista hasta ahora
      */
     public void cambiarRaquetaVelocidad(){
-        boolean bandera = false;
-        Iterator <Raqueta> it = Campeonato.getInstance("Campeonato de Extremadura").getRaquetasCampeonato().iterator();
-        while(it.hasNext() && !bandera){
-            Raqueta r = it.next();
-                  if (this.getRaqueta().calcularVelocidad()<r.calcularVelocidad()){
-                    this.setRaqueta(r);
-                    Campeonato.getInstance("Campeonato de Extremadura").borrarRaqueta(r);
-                    Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("       "+this.getNombre()+" cambia su raqueta por: "+
-                                       this.getRaqueta().mostrarRaquetaCambiada());
-                    bandera=true;
-                 }
-            }
-        
-        if (!bandera){
-            Campeonato.getInstance("Campeonato de Extremadura").escribirFicheroPantalla("       "+this.getNombre()+" no cambia de raqueta ");
-        }
+        super.cambiarRaqueta();
+    }
+    
+    /**
+     * Elige la primera raqueta del campeonato, por orden de potencia, con mayor velocidad
+     * que la que tiene el tenista y la retira del campeonato
+     * @return la raqueta elegida, o null si no hay ninguna más rápida
+     */
+    @Override
+    protected Raqueta elegirNuevaRaqueta(){
+        double velocidad = this.getRaqueta().calcularVelocidad();
+        return getCampeonato().getReservaRaquetas().tomarMasRapidaQue(velocidad);
     }
 }
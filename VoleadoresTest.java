@@ -55,8 +55,8 @@ public class VoleadoresTest
          r6 =  new RaquetaControlada("Pure Aero", 340, 680, 720, Encordado.CERRADO);
          campeonato = Campeonato.getInstance("Campeonato de BoliviaTest");
         
-        t3.realizarInscripcion();
-        t4.realizarInscripcion();
+        t3.realizarInscripcion(campeonato);
+        t4.realizarInscripcion(campeonato);
         
         campeonato.añadirZapatilla(z7);
         campeonato.añadirZapatilla(z5);
@@ -59,5 +59,12 @@ public interface Zapatilla
      * @param valor El numero de pie de la zapatilla
      */  
     public void setNumero(double numero);
+    
+    /**
+     * Devuelve otras zapatillas de la misma clase e iguales a estas, para entregar como
+     * una unidad más del mismo modelo sin que los tenistas las compartan
+     * @return la copia de las zapatillas
+     */
+    public Zapatilla copiar();
 
 }
\ No newline at end of file
@@ -83,6 +83,11 @@ public class ZapatillaGenerica implements Zapatilla
         this.numero=numero;
     }
     
+    public ZapatillaGenerica copiar()
+    {
+        return new ZapatillaGenerica(modelo, numero, valor);
+    }
+    
     public String toString()
     {
         StringBuilder builder = new StringBuilder();
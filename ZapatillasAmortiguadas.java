@@ -66,6 +66,18 @@ public class ZapatillasAmortiguadas extends ZapatillaGenerica
     {
         this.multiplicadorSaque = multiplicadorSaque;
     }
+    /**
+     * Devuelve unas zapatillas amortiguadas iguales a estas
+     * @return la copia de las zapatillas
+     */
+    @Override
+    public ZapatillasAmortiguadas copiar()
+    {
+        ZapatillasAmortiguadas copia = new ZapatillasAmortiguadas(getModelo(), 0, getValor());
+        copia.setNumero(getNumero());
+        copia.setMultiplicadorSaque(multiplicadorSaque);
+        return copia;
+    }
     
     @Override
     public int hashCode()
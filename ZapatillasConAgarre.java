@@ -65,6 +65,18 @@ public class ZapatillasConAgarre extends ZapatillaGenerica
     {
         this.multiplicadorResto = multiplicadorResto;
     }
+    /**
+     * Devuelve unas zapatillas con agarre iguales a estas
+     * @return la copia de las zapatillas
+     */
+    @Override
+    public ZapatillasConAgarre copiar()
+    {
+        ZapatillasConAgarre copia = new ZapatillasConAgarre(getModelo(), 0, getValor());
+        copia.setNumero(getNumero());
+        copia.setMultiplicadorResto(multiplicadorResto);
+        return copia;
+    }
     
     @Override
     public int hashCode()
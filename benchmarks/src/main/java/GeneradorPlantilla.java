@@ -0,0 +1,115 @@
+import java.util.SplittableRandom;
+
+/**
+ * Genera tenistas, raquetas y zapatillas para los benchmarks. Las medidas de las raquetas
+ * se eligen entre las que aparecen en TablasRaquetas y los modelos se numeran para que
+ * PotenciaComparator no considere iguales dos raquetas distintas.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class GeneradorPlantilla
+{
+    private static final double[] PESOS = {220, 260, 300, 320, 340};
+    private static final double[] LONGITUDES = {680, 690, 700, 720, 740};
+    private static final double[] CABEZAS = {600, 630, 650, 680, 720};
+    private static final int[] NUMEROS = {39, 40, 41, 42, 43};
+
+    private final SplittableRandom aleatorio;
+
+    /**
+     * Constructor de la clase GeneradorPlantilla
+     * @param semilla semilla de los valores generados, para que todas las ejecuciones
+     * midan lo mismo
+     */
+    public GeneradorPlantilla(long semilla)
+    {
+        aleatorio = new SplittableRandom(semilla);
+    }
+
+    /**
+     * Genera una raqueta de cualquiera de los tres tipos
+     * @param i número de la raqueta, que forma parte de su modelo
+     * @return la raqueta
+     */
+    public Raqueta raqueta(int i)
+    {
+        double peso = elegir(PESOS);
+        double longitud = elegir(LONGITUDES);
+        double cabeza = elegir(CABEZAS);
+        Encordado encordado = aleatorio.nextBoolean() ? Encordado.ABIERTO : Encordado.CERRADO;
+        switch (i % 3){
+            case 0:
+                return new RaquetaPotente("Potente " + i, peso, longitud, cabeza, encordado);
+            case 1:
+                return new RaquetaControlada("Controlada " + i, peso, longitud, cabeza, encordado);
+            default:
+                return new RaquetaEquilibrada("Equilibrada " + i, peso, longitud, cabeza, encordado,
+                                              1 + aleatorio.nextInt(8), 1 + aleatorio.nextInt(8));
+        }
+    }
+
+    /**
+     * Genera unas zapatillas de cualquiera de los dos tipos
+     * @param i número de las zapatillas, que forma parte de su modelo
+     * @return las zapatillas
+     */
+    public Zapatilla zapatilla(int i)
+    {
+        int numero = NUMEROS[aleatorio.nextInt(NUMEROS.length)];
+        double valor = 1 + aleatorio.nextInt(6);
+        if (i % 2 == 0){
+            return new ZapatillasAmortiguadas("Amortiguadas " + i, numero, valor);
+        }
+        return new ZapatillasConAgarre("Agarre " + i, numero, valor);
+    }
+
+    /**
+     * Genera un tenista golpeador o voleador con sus zapatillas y su raqueta
+     * @param i número del tenista, que forma parte de su nombre
+     * @return el tenista
+     */
+    public Tenista tenista(int i)
+    {
+        Zapatilla z = zapatilla(i);
+        double saque = 40 + aleatorio.nextInt(60);
+        double resto = 40 + aleatorio.nextInt(60);
+        Tenista t;
+        if (i % 2 == 0){
+            t = new Golpeadores("Golpeador " + i, z, saque, resto, i + 1, "España", z.getNumero());
+        }
+        else{
+            t = new Voleadores("Voleador " + i, z, saque, resto, i + 1, "España", z.getNumero());
+        }
+        t.setRaqueta(raqueta(i));
+        return t;
+    }
+
+    /**
+     * Crea un campeonato sin salida con el número de tenistas indicado, el doble de
+     * raquetas y tantas zapatillas como tenistas
+     * @param nombre nombre del campeonato
+     * @param jugadores número de tenistas
+     * @return el campeonato, listo para llamar a controlDeCampeonato
+     */
+    public Campeonato campeonato(String nombre, int jugadores)
+    {
+        Campeonato campeonato = RegistroCampeonatos.getInstance().crearCampeonato(nombre, null);
+        campeonato.setSalida(new SalidaAsincrona(null, false));
+        for (int i = 0; i < jugadores; i++){
+            tenista(i).realizarInscripcion(campeonato);
+            campeonato.añadirZapatilla(zapatilla(i));
+        }
+        for (int i = 0; i < 2 * jugadores; i++){
+            campeonato.añadirRaquetas(raqueta(i));
+        }
+        return campeonato;
+    }
+
+    private double elegir(double[] valores)
+    {
+        return valores[aleatorio.nextInt(valores.length)];
+    }
+}
@@ -0,0 +1,33 @@
+import benchmarks.EscenarioCampeonato;
+
+/**
+ * Prepara y disputa el campeonato de BenchmarkCampeonato.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PreparacionCampeonato implements EscenarioCampeonato
+{
+    private static int numero;
+
+    private Campeonato campeonato;
+
+    public void preparar(int jugadores, boolean rondasParalelas, long semilla)
+    {
+        campeonato = new GeneradorPlantilla(semilla).campeonato("Benchmark " + numero++, jugadores);
+        campeonato.setRondasParalelas(rondasParalelas);
+    }
+
+    public Object disputar() throws ExcepcionRaquetas
+    {
+        campeonato.controlDeCampeonato();
+        return campeonato;
+    }
+
+    public void terminar()
+    {
+        campeonato.reset();
+    }
+}
@@ -0,0 +1,31 @@
+import benchmarks.EscenarioPartido;
+
+/**
+ * Prepara y juega el partido de BenchmarkPartido.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PreparacionPartido implements EscenarioPartido
+{
+    private Tenista golpeador;
+    private Tenista voleador;
+
+    public void preparar(long semilla)
+    {
+        GeneradorPlantilla generador = new GeneradorPlantilla(semilla);
+        golpeador = generador.tenista(0);
+        voleador = generador.tenista(1);
+    }
+
+    public double jugar()
+    {
+        golpeador.resetPuntosAcumulados();
+        voleador.resetPuntosAcumulados();
+        golpeador.jugar(voleador, null);
+        voleador.jugar(golpeador, null);
+        return golpeador.getPuntosAcumulados() - voleador.getPuntosAcumulados();
+    }
+}
@@ -0,0 +1,64 @@
+import benchmarks.EscenarioRaquetas;
+import java.util.Arrays;
+
+/**
+ * Prepara las raquetas de BenchmarkRaquetas y hace sus cálculos.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PreparacionRaquetas implements EscenarioRaquetas
+{
+    private Raqueta raqueta;
+    private Raqueta[] raquetas;
+    private PotenciaComparator comparador;
+    private double peso;
+    private double longitud;
+    private double cabeza;
+
+    public void preparar(String tipo, int raquetasOrdenadas, long semilla)
+    {
+        GeneradorPlantilla generador = new GeneradorPlantilla(semilla);
+        int i = tipo.equals("Potente") ? 0 : tipo.equals("Controlada") ? 1 : 2;
+        raqueta = generador.raqueta(i);
+        peso = raqueta.getPeso();
+        longitud = raqueta.getLongitud();
+        cabeza = raqueta.getTamañoCabeza();
+        raquetas = new Raqueta[raquetasOrdenadas];
+        for (int j = 0; j < raquetas.length; j++){
+            raquetas[j] = generador.raqueta(j);
+        }
+        comparador = new PotenciaComparator();
+    }
+
+    public double calcularPotencia()
+    {
+        return raqueta.calcularPotencia();
+    }
+
+    public double calcularControl()
+    {
+        return raqueta.calcularControl();
+    }
+
+    public double calcularVelocidad()
+    {
+        return raqueta.calcularVelocidad();
+    }
+
+    public double consultarTablas()
+    {
+        return TablasRaquetas.potencia(longitud)
+             + TablasRaquetas.control(cabeza)
+             + TablasRaquetas.velocidad(peso);
+    }
+
+    public Object ordenarPorPotencia()
+    {
+        Raqueta[] copia = raquetas.clone();
+        Arrays.sort(copia, comparador);
+        return copia;
+    }
+}
@@ -0,0 +1,39 @@
+import benchmarks.EscenarioRonda;
+
+/**
+ * Prepara y juega la ronda de BenchmarkRonda.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public class PreparacionRonda implements EscenarioRonda
+{
+    private Tenista[] tenistas;
+
+    public void preparar(int jugadores, long semilla)
+    {
+        GeneradorPlantilla generador = new GeneradorPlantilla(semilla);
+        tenistas = new Tenista[jugadores];
+        for (int i = 0; i < jugadores; i++){
+            tenistas[i] = generador.tenista(i);
+        }
+    }
+
+    public double jugarRonda()
+    {
+        double total = 0;
+        int n = tenistas.length;
+        for (int i = 0; i < n / 2; i++){
+            Tenista t1 = tenistas[i];
+            Tenista t2 = tenistas[n - 1 - i];
+            t1.resetPuntosAcumulados();
+            t2.resetPuntosAcumulados();
+            t1.jugar(t2, null);
+            t2.jugar(t1, null);
+            total += t1.getPuntosAcumulados() - t2.getPuntosAcumulados();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide un campeonato completo, con controlDeCampeonato, sobre plantillas generadas de
+ * distintos tamaños. Cada medida disputa un campeonato nuevo, que se prepara fuera de
+ * la medida, y la salida está desactivada para medir solo el motor.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class BenchmarkCampeonato
+{
+    @Param({"8", "1000", "100000"})
+    public int jugadores;
+
+    @Param({"false", "true"})
+    public boolean rondasParalelas;
+
+    private EscenarioCampeonato escenario;
+
+    @Setup(Level.Invocation)
+    public void preparar()
+    {
+        escenario = Escenarios.cargar("PreparacionCampeonato", EscenarioCampeonato.class);
+        escenario.preparar(jugadores, rondasParalelas, 3);
+    }
+
+    @TearDown(Level.Invocation)
+    public void terminar()
+    {
+        escenario.terminar();
+    }
+
+    @Benchmark
+    public Object controlDeCampeonato() throws Exception
+    {
+        return escenario.disputar();
+    }
+}
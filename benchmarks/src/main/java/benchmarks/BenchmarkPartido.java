@@ -0,0 +1,49 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide un partido entre dos tenistas: Tenista.jugar con sacar, restar, golpear y los
+ * cálculos de saque y resto, sin el cambio de raqueta que depende del campeonato.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkPartido
+{
+    private EscenarioPartido escenario;
+
+    @Setup
+    public void preparar()
+    {
+        escenario = Escenarios.cargar("PreparacionPartido", EscenarioPartido.class);
+        escenario.preparar(1);
+    }
+
+    /**
+     * Un partido completo: cada tenista saca, el otro resta y ambos golpean
+     */
+    @Benchmark
+    public double jugar()
+    {
+        return escenario.jugar();
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide los cálculos de las raquetas de cada tipo, las consultas a TablasRaquetas y la
+ * ordenación de raquetas con PotenciaComparator.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRaquetas
+{
+    @Param({"Potente", "Controlada", "Equilibrada"})
+    public String tipo;
+
+    @Param({"1000"})
+    public int raquetasOrdenadas;
+
+    private EscenarioRaquetas escenario;
+
+    @Setup
+    public void preparar()
+    {
+        escenario = Escenarios.cargar("PreparacionRaquetas", EscenarioRaquetas.class);
+        escenario.preparar(tipo, raquetasOrdenadas, 2);
+    }
+
+    @Benchmark
+    public double calcularPotencia()
+    {
+        return escenario.calcularPotencia();
+    }
+
+    @Benchmark
+    public double calcularControl()
+    {
+        return escenario.calcularControl();
+    }
+
+    @Benchmark
+    public double calcularVelocidad()
+    {
+        return escenario.calcularVelocidad();
+    }
+
+    @Benchmark
+    public double tablasRaquetas()
+    {
+        return escenario.consultarTablas();
+    }
+
+    @Benchmark
+    public Object ordenarPorPotencia()
+    {
+        return escenario.ordenarPorPotencia();
+    }
+}
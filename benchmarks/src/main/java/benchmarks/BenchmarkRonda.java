@@ -0,0 +1,51 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mide una ronda completa de partidos sobre un cuadro grande, con tenistas que llevan
+ * raquetas y zapatillas de todos los tipos, de forma que las llamadas al material no se
+ * pueden resolver con un único tipo.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRonda
+{
+    @Param({"1000", "100000"})
+    public int jugadores;
+
+    private EscenarioRonda escenario;
+
+    @Setup
+    public void preparar()
+    {
+        escenario = Escenarios.cargar("PreparacionRonda", EscenarioRonda.class);
+        escenario.preparar(jugadores, 4);
+    }
+
+    @Benchmark
+    public double jugarRonda()
+    {
+        return escenario.jugarRonda();
+    }
+}
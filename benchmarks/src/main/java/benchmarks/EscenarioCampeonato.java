@@ -0,0 +1,32 @@
+package benchmarks;
+
+/**
+ * Escenario de un campeonato completo, implementado por PreparacionCampeonato.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public interface EscenarioCampeonato
+{
+    /**
+     * Crea un campeonato sin salida con una plantilla generada
+     * @param jugadores número de tenistas
+     * @param rondasParalelas si las rondas se disputan en paralelo
+     * @param semilla semilla de los datos generados
+     */
+    public void preparar(int jugadores, boolean rondasParalelas, long semilla);
+
+    /**
+     * Disputa el campeonato con controlDeCampeonato
+     * @return el campeonato disputado
+     * @throws Exception si el campeonato no se puede disputar
+     */
+    public Object disputar() throws Exception;
+
+    /**
+     * Elimina el campeonato del registro
+     */
+    public void terminar();
+}
@@ -0,0 +1,24 @@
+package benchmarks;
+
+/**
+ * Escenario de un partido entre dos tenistas, implementado por PreparacionPartido.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public interface EscenarioPartido
+{
+    /**
+     * Genera los dos tenistas del partido
+     * @param semilla semilla de los datos generados
+     */
+    public void preparar(long semilla);
+
+    /**
+     * Juega el partido con Tenista.jugar, sin cambio de raqueta
+     * @return la diferencia de puntos entre los tenistas
+     */
+    public double jugar();
+}
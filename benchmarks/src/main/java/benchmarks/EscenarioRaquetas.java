@@ -0,0 +1,38 @@
+package benchmarks;
+
+/**
+ * Escenario de los cálculos de las raquetas, implementado por PreparacionRaquetas.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public interface EscenarioRaquetas
+{
+    /**
+     * Genera la raqueta medida y las raquetas que se ordenan
+     * @param tipo tipo de la raqueta medida: Potente, Controlada o Equilibrada
+     * @param raquetasOrdenadas número de raquetas que se ordenan por potencia
+     * @param semilla semilla de los datos generados
+     */
+    public void preparar(String tipo, int raquetasOrdenadas, long semilla);
+
+    public double calcularPotencia();
+
+    public double calcularControl();
+
+    public double calcularVelocidad();
+
+    /**
+     * Hace las tres consultas a TablasRaquetas que necesita la raqueta medida
+     * @return la suma de los valores consultados
+     */
+    public double consultarTablas();
+
+    /**
+     * Ordena una copia de las raquetas con PotenciaComparator
+     * @return la copia ordenada
+     */
+    public Object ordenarPorPotencia();
+}
@@ -0,0 +1,25 @@
+package benchmarks;
+
+/**
+ * Escenario de una ronda con muchos partidos, implementado por PreparacionRonda.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+public interface EscenarioRonda
+{
+    /**
+     * Genera los tenistas de la ronda, con raquetas y zapatillas de todos los tipos
+     * @param jugadores número de tenistas
+     * @param semilla semilla de los datos generados
+     */
+    public void preparar(int jugadores, long semilla);
+
+    /**
+     * Juega todos los partidos de la ronda con Tenista.jugar, sin cambio de raqueta
+     * @return la suma de las diferencias de puntos de los partidos
+     */
+    public double jugarRonda();
+}
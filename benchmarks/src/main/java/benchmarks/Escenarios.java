@@ -0,0 +1,35 @@
+package benchmarks;
+
+/**
+ * Carga las clases que preparan los escenarios de los benchmarks. El proyecto está en el
+ * paquete por defecto, que no se puede importar desde un paquete con nombre, y JMH exige
+ * que los benchmarks tengan paquete; por eso cada escenario es una interfaz de este
+ * paquete implementada por una clase del paquete por defecto, que se carga por su nombre.
+ *
+ * @author Antonio Javier Hidalgo
+ * @author Juan Francisco García
+ * @author David Bonilla
+ * @version 17-10-2026
+ */
+final class Escenarios
+{
+    private Escenarios()
+    {
+    }
+
+    /**
+     * Crea una instancia de la clase del paquete por defecto que implementa un escenario
+     * @param clase nombre de la clase
+     * @param tipo interfaz del escenario
+     * @return la instancia
+     */
+    static <T> T cargar(String clase, Class<T> tipo)
+    {
+        try{
+            return tipo.cast(Class.forName(clase).getDeclaredConstructor().newInstance());
+        }
+        catch(ReflectiveOperationException e){
+            throw new IllegalStateException("No se puede cargar el escenario " + clase, e);
+        }
+    }
+}